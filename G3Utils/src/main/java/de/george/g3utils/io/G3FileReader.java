@@ -1,14 +1,11 @@
 package de.george.g3utils.io;
 
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.RandomAccessFile;
 import java.lang.reflect.Array;
+import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
-import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -18,73 +15,54 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
-import org.objenesis.Objenesis;
-import org.objenesis.ObjenesisStd;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import de.george.g3utils.structure.Guid;
 import de.george.g3utils.structure.bCBox;
 import de.george.g3utils.structure.bCVector;
 import de.george.g3utils.util.Converter;
+import de.george.g3utils.util.InstanceFactories;
 import de.george.g3utils.util.Misc;
-import sun.nio.ch.DirectBuffer;
 
 public abstract class G3FileReader extends G3FileBase implements AutoCloseable {
 	static final Logger logger = LoggerFactory.getLogger(G3FileReader.class);
 
-	private static Objenesis objenesis = new ObjenesisStd(true);
-
 	protected String fileName = "<Quelle ist keine Datei>";
 
+	private final ReaderBackend backend;
+
 	public G3FileReader(String hex) {
 		this(Misc.asByte(hex));
 	}
 
 	public G3FileReader(byte[] bytes) {
-		buffer = ByteBuffer.wrap(bytes);
-		buffer.order(ByteOrder.LITTLE_ENDIAN);
+		this(ReaderBackend.wrap(bytes));
 	}
 
+	/**
+	 * Liest ab der aktuellen Position von {@code buffer}, ohne diese zu verändern.
+	 */
 	public G3FileReader(ByteBuffer buffer) {
-		this.buffer = buffer;
-		buffer.order(ByteOrder.LITTLE_ENDIAN);
+		this(ReaderBackend.wrap(buffer));
 	}
 
 	public G3FileReader(File file) throws IOException {
+		this(ReaderBackend.open(file));
 		fileName = file.getName();
-		try (RandomAccessFile rfile = new RandomAccessFile(file, "r")) {
-			fromChannel(rfile.getChannel());
-		}
 	}
 
 	public G3FileReader(InputStream is) throws IOException {
-		fromInputStream(is);
+		this(ReaderBackend.read(is, -1));
 	}
 
 	public G3FileReader(FileChannel fileChannel) throws IOException {
-		fromChannel(fileChannel);
+		this(ReaderBackend.map(fileChannel));
 	}
 
-	protected void fromChannel(FileChannel channel) throws IOException {
-		buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
-		buffer.order(ByteOrder.LITTLE_ENDIAN);
-	}
-
-	protected void fromInputStream(InputStream is) throws IOException {
-		try {
-			ByteArrayOutputStream tmpBuffer = new ByteArrayOutputStream();
-			int nRead;
-			byte[] data = new byte[2048];
-			while ((nRead = is.read(data, 0, data.length)) != -1) {
-				tmpBuffer.write(data, 0, nRead);
-			}
-			tmpBuffer.flush();
-
-			buffer = ByteBuffer.wrap(tmpBuffer.toByteArray());
-			buffer.order(ByteOrder.LITTLE_ENDIAN);
-		} catch (IOException e) {
-			throw e;
-		}
+	public G3FileReader(ReaderBackend backend) {
+		this.backend = backend;
+		buffer = backend.getBuffer();
 	}
 
 	public String read(int length) {
@@ -104,6 +82,26 @@ public abstract class G3FileReader extends G3FileBase implements AutoCloseable {
 		return bytes;
 	}
 
+	/**
+	 * Liefert die nächsten {@code length} Bytes als eigenständigen Buffer (Little Endian) und springt
+	 * dahinter. Liegt die Datei im Heap, teilt sich der Buffer den Speicher mit dem Reader. Bei
+	 * gemappten Dateien wird kopiert, da das Mapping beim Schließen des Readers freigegeben wird.
+	 */
+	public ByteBuffer readSlice(int length) {
+		ByteBuffer slice = backend.share(getPos(), length);
+		skip(length);
+		return slice;
+	}
+
+	/**
+	 * Sicht auf die Bytes {@code offset} bis {@code offset + length}, z.B. um eingebettete Daten mit
+	 * einem eigenen Reader zu lesen. Die Sicht ist nur gültig, solange dieser Reader nicht
+	 * geschlossen ist.
+	 */
+	public ReaderBackend slice(int offset, int length) {
+		return backend.slice(offset, length);
+	}
+
 	public String readString(int length) {
 		return Converter.byteArrayToString(readByteArray(length));
 	}
@@ -127,6 +125,53 @@ public abstract class G3FileReader extends G3FileBase implements AutoCloseable {
 		}
 	}
 
+	/**
+	 * Prüft, ob die nächsten Bytes mit {@code expected} übereinstimmen, und setzt die Position
+	 * anschließend hinter diese.
+	 *
+	 * @param expected Erwartete Bytefolge, z.B. eine Signatur
+	 * @return {@code true}, wenn die Bytes übereinstimmen
+	 */
+	public boolean readMatches(byte[] expected) {
+		boolean matches = matchesSilent(0, expected);
+		skip(Math.min(expected.length, buffer.remaining()));
+		return matches;
+	}
+
+	/**
+	 * Prüft, ob die nächsten Bytes mit {@code expected} übereinstimmen, ohne die Position zu
+	 * verändern.
+	 *
+	 * @param expected Erwartete Bytefolge, z.B. eine Signatur
+	 * @return {@code true}, wenn die Bytes übereinstimmen
+	 */
+	public boolean matchesSilent(byte[] expected) {
+		return matchesSilent(0, expected);
+	}
+
+	/**
+	 * Prüft, ob die Bytes ab der aktuellen Position + {@code off} mit {@code expected}
+	 * übereinstimmen, ohne die Position zu verändern. Es wird kein Zwischenobjekt angelegt.
+	 *
+	 * @param off Offset relativ zur aktuellen Position
+	 * @param expected Erwartete Bytefolge, z.B. eine Signatur
+	 * @return {@code true}, wenn die Bytes übereinstimmen, {@code false} auch dann, wenn nicht mehr
+	 *         genügend Bytes vorhanden sind
+	 */
+	public boolean matchesSilent(int off, byte[] expected) {
+		int start = buffer.position() + off;
+		if (start < 0 || start + expected.length > buffer.limit()) {
+			return false;
+		}
+
+		for (int i = 0; i < expected.length; i++) {
+			if (buffer.get(start + i) != expected[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	public String readWord() {
 		return read(2);
 	}
@@ -136,7 +181,39 @@ public abstract class G3FileReader extends G3FileBase implements AutoCloseable {
 	}
 
 	public String readGUID() {
-		return read(20);
+		if (buffer.remaining() < 20) {
+			warn(logger, "Fehler bei readGUID(): Nicht genügend Daten.");
+			throw new BufferUnderflowException();
+		}
+		String guid = Misc.asHex(buffer, buffer.position(), 20);
+		skip(20);
+		return guid;
+	}
+
+	/**
+	 * Liest die Guid direkt aus dem Buffer, ohne den Umweg über die hexadezimale Darstellung.
+	 */
+	public Guid readGuidValue() {
+		if (buffer.remaining() < Guid.SIZE) {
+			warn(logger, "Fehler bei readGuidValue(): Nicht genügend Daten.");
+			throw new BufferUnderflowException();
+		}
+		return Guid.read(buffer);
+	}
+
+	/**
+	 * Liest eine Guid ohne Counter (16 Byte), siehe {@link Guid#readWithoutCounter(ByteBuffer)}.
+	 */
+	public Guid readGuidValueWithoutCounter() {
+		if (buffer.remaining() < Guid.SIZE_WITHOUT_COUNTER) {
+			warn(logger, "Fehler bei readGuidValueWithoutCounter(): Nicht genügend Daten.");
+			throw new BufferUnderflowException();
+		}
+		return Guid.readWithoutCounter(buffer);
+	}
+
+	public void skipGUID() {
+		skip(20);
 	}
 
 	public boolean readBool() {
@@ -162,6 +239,10 @@ public abstract class G3FileReader extends G3FileBase implements AutoCloseable {
 		return buffer.getInt();
 	}
 
+	public long readLong() {
+		return buffer.getLong();
+	}
+
 	public int readUnsignedByte() {
 		return Byte.toUnsignedInt(buffer.get());
 	}
@@ -180,17 +261,15 @@ public abstract class G3FileReader extends G3FileBase implements AutoCloseable {
 
 	public int[] readIntArray(int entries) {
 		int[] result = new int[entries];
-		for (int i = 0; i < entries; i++) {
-			result[i] = buffer.getInt();
-		}
+		buffer.asIntBuffer().get(result);
+		skip(entries * 4);
 		return result;
 	}
 
 	public float[] readFloatArray(int entries) {
 		float[] result = new float[entries];
-		for (int i = 0; i < entries; i++) {
-			result[i] = buffer.getFloat();
-		}
+		buffer.asFloatBuffer().get(result);
+		skip(entries * 4);
 		return result;
 	}
 
@@ -213,7 +292,11 @@ public abstract class G3FileReader extends G3FileBase implements AutoCloseable {
 	}
 
 	public String getData() {
-		return Misc.asHex(buffer.array());
+		ByteBuffer data = buffer.duplicate();
+		data.clear();
+		byte[] bytes = new byte[data.remaining()];
+		data.get(bytes);
+		return Misc.asHex(bytes);
 	}
 
 	@Override
@@ -300,20 +383,17 @@ public abstract class G3FileReader extends G3FileBase implements AutoCloseable {
 
 	@Override
 	public void close() throws IOException {
-		if (buffer != null && buffer instanceof MappedByteBuffer) {
-			sun.misc.Cleaner cleaner = ((DirectBuffer) buffer).cleaner();
-			cleaner.clean();
-		}
+		backend.close();
 	}
 
 	public <T extends G3Serializable> T read(Class<T> type) {
-		T instance = objenesis.getInstantiatorOf(type).newInstance();
+		T instance = InstanceFactories.instanceFactory(type).get();
 		instance.read(this);
 		return instance;
 	}
 
 	public <T extends G3Serializable> T read(Class<T> type, int size) {
-		T instance = objenesis.getInstantiatorOf(type).newInstance();
+		T instance = InstanceFactories.instanceFactory(type).get();
 		instance.read(this, size);
 		return instance;
 	}
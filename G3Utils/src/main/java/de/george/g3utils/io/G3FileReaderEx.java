@@ -5,10 +5,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.channels.FileChannel;
 
+import de.george.g3utils.structure.StringPool;
 import de.george.g3utils.structure.Stringtable;
 
 public class G3FileReaderEx extends G3FileReader {
 	protected Stringtable table;
+	private StringPool stringPool = StringPool.shared();
 
 	public G3FileReaderEx(String hex) {
 		super(hex);
@@ -30,6 +32,10 @@ public class G3FileReaderEx extends G3FileReader {
 		super(fileChannel);
 	}
 
+	public G3FileReaderEx(ReaderBackend backend) {
+		super(backend);
+	}
+
 	public void readStringtable(int deadbeefOffset) {
 		readStringtable(deadbeefOffset, true);
 	}
@@ -44,7 +50,13 @@ public class G3FileReaderEx extends G3FileReader {
 		if (readBool()) {
 			int stEntryCount = readInt();
 			for (int i = 0; i < stEntryCount; i++) {
-				stringtable.addEntry(readString(readShort()));
+				short length = readShort();
+				if (stringPool != null) {
+					stringtable.addEntry(stringPool.intern(buffer, getPos(), length));
+					skip(length);
+				} else {
+					stringtable.addEntry(readString(length));
+				}
 			}
 		}
 
@@ -55,6 +67,14 @@ public class G3FileReaderEx extends G3FileReader {
 		}
 	}
 
+	/**
+	 * Legt fest, über welchen Pool die Einträge der Stringtable aufgelöst werden. Standardmäßig wird
+	 * {@link StringPool#shared()} verwendet, mit {@code null} wird jeder Eintrag neu erzeugt.
+	 */
+	public void setStringPool(StringPool stringPool) {
+		this.stringPool = stringPool;
+	}
+
 	public void setStringtable(Stringtable table) {
 		this.table = table;
 	}
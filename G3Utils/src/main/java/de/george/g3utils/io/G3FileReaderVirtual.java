@@ -23,6 +23,10 @@ public class G3FileReaderVirtual extends G3FileReader {
 		super(fileChannel);
 	}
 
+	public G3FileReaderVirtual(ReaderBackend backend) {
+		super(backend);
+	}
+
 	public G3FileReaderVirtual(InputStream is) throws IOException {
 		super(is);
 	}
@@ -4,9 +4,11 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.channels.WritableByteChannel;
 import java.util.Collection;
 import java.util.function.BiConsumer;
@@ -14,6 +16,7 @@ import java.util.function.BiConsumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import de.george.g3utils.structure.Guid;
 import de.george.g3utils.structure.bCBox;
 import de.george.g3utils.structure.bCVector;
 import de.george.g3utils.util.Converter;
@@ -26,6 +29,11 @@ public abstract class G3FileWriter extends G3FileBase {
 
 	private byte[] tmpData;
 
+	// Nur beim direkten Schreiben in eine Datei gesetzt
+	private FileChannel channel;
+	// Anzahl der bereits in channel geschriebenen Bytes
+	private long flushedBytes;
+
 	public G3FileWriter() {
 		buffer = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
 		buffer.order(ByteOrder.LITTLE_ENDIAN);
@@ -36,6 +44,21 @@ public abstract class G3FileWriter extends G3FileBase {
 		buffer.order(ByteOrder.LITTLE_ENDIAN);
 	}
 
+	/**
+	 * Schreibt direkt in {@code channel}, statt die gesamte Datei im Speicher aufzubauen. Ist der
+	 * Buffer voll, wird sein Inhalt mit {@link #flush()} an {@code channel} übergeben. Nachträgliche
+	 * Änderungen über {@link #replaceInt(int, int)} sind auch für bereits geschriebene Bytes möglich,
+	 * {@link #startInsert(int)} und {@link #getData()} dagegen nur, solange die betroffenen Bytes noch
+	 * im Buffer liegen.
+	 * <p>
+	 * Die Position von {@code channel} muss zu Beginn 0 sein, am Ende muss {@link #flush()}
+	 * aufgerufen werden.
+	 */
+	public G3FileWriter(FileChannel channel, int bufferSize) {
+		this(bufferSize);
+		this.channel = channel;
+	}
+
 	public G3FileWriter(byte[] data) {
 		this();
 		write(data);
@@ -57,16 +80,37 @@ public abstract class G3FileWriter extends G3FileBase {
 	}
 
 	public G3FileWriter write(byte[] data) {
-		ensureCapacity(buffer.position() + data.length);
+		ensureRemaining(data.length);
 		buffer.put(data);
 		return this;
 	}
 
+	/**
+	 * Schreibt die verbleibenden Bytes von {@code data}, ohne dessen Position zu verändern.
+	 */
+	public G3FileWriter write(ByteBuffer data) {
+		ensureRemaining(data.remaining());
+		buffer.put(data.duplicate());
+		return this;
+	}
+
 	public G3FileWriter write(String data) {
 		write(Misc.asByte(data));
 		return this;
 	}
 
+	public G3FileWriter writeGuid(Guid guid) {
+		ensureRemaining(Guid.SIZE);
+		guid.write(buffer);
+		return this;
+	}
+
+	public G3FileWriter writeGuidWithoutCounter(Guid guid) {
+		ensureRemaining(Guid.SIZE_WITHOUT_COUNTER);
+		guid.writeWithoutCounter(buffer);
+		return this;
+	}
+
 	public G3FileWriter writeBool(boolean bool) {
 
 		writeByte((byte) (bool ? 0x01 : 0x00));
@@ -74,7 +118,7 @@ public abstract class G3FileWriter extends G3FileBase {
 	}
 
 	public G3FileWriter writeByte(byte data) {
-		ensureCapacity(buffer.position() + 1);
+		ensureRemaining(1);
 		buffer.put(data);
 		return this;
 	}
@@ -84,25 +128,30 @@ public abstract class G3FileWriter extends G3FileBase {
 	}
 
 	public G3FileWriter writeShort(short data) {
-		ensureCapacity(buffer.position() + 2);
+		ensureRemaining(2);
 		buffer.putShort(data);
 		return this;
 	}
 
 	public G3FileWriter writeInt(int offset, int data) {
-		ensureCapacity(offset + 4);
-		buffer.putInt(offset, data);
+		putIntAt(offset, data);
 		return this;
 	}
 
 	public G3FileWriter writeInt(int data) {
-		ensureCapacity(buffer.position() + 4);
+		ensureRemaining(4);
 		buffer.putInt(data);
 		return this;
 	}
 
+	public G3FileWriter writeLong(long data) {
+		ensureRemaining(8);
+		buffer.putLong(data);
+		return this;
+	}
+
 	public G3FileWriter writeFloat(float data) {
-		ensureCapacity(buffer.position() + 4);
+		ensureRemaining(4);
 		buffer.putFloat(data);
 		return this;
 	}
@@ -123,9 +172,9 @@ public abstract class G3FileWriter extends G3FileBase {
 	}
 
 	public G3FileWriter writeFloatArray(float... data) {
-		for (float flot : data) {
-			writeFloat(flot);
-		}
+		ensureRemaining(data.length * 4);
+		buffer.asFloatBuffer().put(data);
+		skip(data.length * 4);
 		return this;
 	}
 
@@ -144,9 +193,9 @@ public abstract class G3FileWriter extends G3FileBase {
 	}
 
 	public G3FileWriter writeIntArray(int... data) {
-		for (int value : data) {
-			writeInt(value);
-		}
+		ensureRemaining(data.length * 4);
+		buffer.asIntBuffer().put(data);
+		skip(data.length * 4);
 		return this;
 	}
 
@@ -252,15 +301,21 @@ public abstract class G3FileWriter extends G3FileBase {
 	public abstract G3FileWriter writeEntry(String entry);
 
 	public G3FileWriter startInsert(int pos) {
-		tmpData = new byte[getSize() - pos];
-		buffer.position(pos);
+		if (pos < flushedBytes) {
+			throw new IllegalStateException("Einfügen an Position " + pos + " nicht möglich, da bereits " + flushedBytes
+					+ " Bytes geschrieben wurden.");
+		}
+
+		int bufferPos = (int) (pos - flushedBytes);
+		tmpData = new byte[buffer.position() - bufferPos];
+		buffer.position(bufferPos);
 		buffer.get(tmpData);
-		buffer.position(pos);
+		buffer.position(bufferPos);
 		return this;
 	}
 
 	public G3FileWriter finishInsert() {
-		ensureCapacity(buffer.position() + tmpData.length);
+		ensureRemaining(tmpData.length);
 		buffer.put(tmpData);
 		tmpData = null;
 		return this;
@@ -275,13 +330,58 @@ public abstract class G3FileWriter extends G3FileBase {
 	}
 
 	public G3FileWriter replaceInt(int data, int pos) {
-		int savePos = buffer.position();
-		buffer.putInt(pos, data);
-		buffer.position(savePos);
+		putIntAt(pos, data);
 		return this;
 	}
 
+	private void putIntAt(int pos, int data) {
+		if (pos >= flushedBytes) {
+			int bufferPos = (int) (pos - flushedBytes);
+			ensureCapacity(bufferPos + 4);
+			buffer.putInt(bufferPos, data);
+			return;
+		}
+
+		try {
+			if (pos + 4 > flushedBytes) {
+				// Liegt teilweise noch im Buffer
+				flush();
+			}
+
+			ByteBuffer bytes = ByteBuffer.allocate(4).order(buffer.order());
+			bytes.putInt(data).flip();
+			long channelPos = pos;
+			while (bytes.hasRemaining()) {
+				channelPos += channel.write(bytes, channelPos);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Übergibt den Inhalt des Buffers an den beim Erstellen angegebenen {@link FileChannel}. Ohne
+	 * {@code FileChannel} hat der Aufruf keine Wirkung.
+	 */
+	public void flush() throws IOException {
+		if (channel == null) {
+			return;
+		}
+
+		int length = buffer.position();
+		buffer.flip();
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		buffer.clear();
+		flushedBytes += length;
+	}
+
 	public byte[] getData() {
+		if (flushedBytes > 0) {
+			throw new IllegalStateException("Daten wurden bereits in den FileChannel geschrieben.");
+		}
+
 		byte[] data = new byte[buffer.position()];
 		int posSave = buffer.position();
 		buffer.position(0);
@@ -291,7 +391,7 @@ public abstract class G3FileWriter extends G3FileBase {
 	}
 
 	public int getSize() {
-		return buffer.position();
+		return (int) (flushedBytes + buffer.position());
 	}
 
 	public void save(File file) throws IOException {
@@ -307,6 +407,21 @@ public abstract class G3FileWriter extends G3FileBase {
 		channel.write(buffer);
 	}
 
+	/**
+	 * Stellt sicher, dass ab der aktuellen Position noch {@code length} Bytes geschrieben werden
+	 * können. Beim Schreiben in einen {@link FileChannel} wird dazu zunächst der Buffer geleert.
+	 */
+	private void ensureRemaining(int length) {
+		if (channel != null && length > buffer.remaining() && buffer.position() > 0) {
+			try {
+				flush();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+		ensureCapacity(buffer.position() + length);
+	}
+
 	/**
 	 * Increases the capacity if necessary to ensure that it can hold at least the number of
 	 * elements specified by the minimum capacity argument.
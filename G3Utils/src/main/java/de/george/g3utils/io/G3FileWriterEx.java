@@ -1,5 +1,7 @@
 package de.george.g3utils.io;
 
+import java.nio.channels.FileChannel;
+
 import de.george.g3utils.structure.Stringtable;
 
 public class G3FileWriterEx extends G3FileWriter {
@@ -14,6 +16,10 @@ public class G3FileWriterEx extends G3FileWriter {
 		super(initialSize);
 	}
 
+	public G3FileWriterEx(FileChannel channel, int bufferSize) {
+		super(channel, bufferSize);
+	}
+
 	public G3FileWriterEx(byte[] data) {
 		super(data);
 	}
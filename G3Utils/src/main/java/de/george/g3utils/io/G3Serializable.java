@@ -1,5 +1,8 @@
 package de.george.g3utils.io;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
 public interface G3Serializable {
 	public void read(G3FileReader reader);
 
@@ -8,4 +11,29 @@ public interface G3Serializable {
 	}
 
 	public void write(G3FileWriter writer);
+
+	/**
+	 * Erzeugt eine tiefe Kopie, die dieselbe Klasse wie dieses Objekt hat.
+	 * <p>
+	 * Die Standardimplementierung serialisiert das Objekt und liest es wieder ein. Klassen, die sich
+	 * direkt kopieren lassen, überschreiben die Methode.
+	 */
+	public default G3Serializable copy() {
+		G3FileWriterVirtual writer = new G3FileWriterVirtual(256);
+		write(writer);
+		byte[] data = writer.getData();
+		try (G3FileReaderVirtual reader = new G3FileReaderVirtual(data)) {
+			return reader.read(getClass(), data.length);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * @return Tiefe Kopie von {@code value}, siehe {@link #copy()}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T extends G3Serializable> T copyOf(T value) {
+		return value != null ? (T) value.copy() : null;
+	}
 }
@@ -3,24 +3,46 @@ package de.george.g3utils.io;
 import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 import de.george.g3utils.structure.Stringtable;
+import de.george.g3utils.util.Misc;
 
 public abstract class GenomeFile implements Saveable {
+	// Nur für Dateien, deren Größe weder bekannt ist noch von der Unterklasse geschätzt wird
+	private static final int DEFAULT_SIZE_ESTIMATE = 64 * 1024;
+
+	// Obergrenze für den anfänglichen Buffer, größere Dateien lassen den Buffer wachsen bzw. werden
+	// beim Streaming in mehreren Schritten geschrieben
+	private static final int MAX_INITIAL_BUFFER_SIZE = 4 * 1024 * 1024;
+
+	/**
+	 * Signatur am Anfang jeder Genome-Datei ({@code GENOMFLE}).
+	 */
+	public static final byte[] GENOMFLE = Misc.asByte("47454E4F4D464C45");
 
 	protected Stringtable stringtable;
 
+	// Größe beim letzten Lesen bzw. Speichern, 0 falls unbekannt
+	private int lastKnownSize;
+
 	public Stringtable getStringtable() {
 		return stringtable;
 	}
 
 	protected final void read(G3FileReaderEx reader) throws IOException {
-		if (reader.getSize() < 8 || !reader.read(8).equals("47454E4F4D464C45")) {
+		if (reader.getSize() < 8 || !reader.readMatches(GENOMFLE)) {
 			throw new IOException("'" + reader.getFileName() + "' ist keine gültige Genome-Datei.");
 		}
 
 		reader.skip(2); // Skip Version
 		int deadbeefOffset = reader.readInt();
+		lastKnownSize = reader.getSize();
 
 		reader.readStringtable(deadbeefOffset + 4);
 		stringtable = reader.getStringtable();
@@ -51,19 +73,74 @@ public abstract class GenomeFile implements Saveable {
 
 	};
 
-	private G3FileWriterEx prepareSave() throws IOException {
-		G3FileWriterEx writer = new G3FileWriterEx("");
+	/**
+	 * Geschätzte Größe der Datei in Bytes, nach der der Buffer beim Speichern bemessen wird (höchstens
+	 * 4 MB). Standardmäßig die Größe beim letzten Lesen bzw. Speichern, reicht sie nicht aus, wächst
+	 * der Buffer.
+	 */
+	protected int estimateSize() {
+		return lastKnownSize > 0 ? lastKnownSize : DEFAULT_SIZE_ESTIMATE;
+	}
+
+	/**
+	 * @return {@code true}, wenn {@link #writeInternal(G3FileWriterEx)} ohne
+	 *         {@link G3FileWriter#startInsert(int)} auskommt und die Datei daher direkt in einen
+	 *         {@link FileChannel} geschrieben werden kann
+	 */
+	protected boolean supportsStreamingSave() {
+		return false;
+	}
+
+	private G3FileWriterEx prepareWriter(G3FileWriterEx writer) throws IOException {
 		if (stringtable == null) {
 			stringtable = new Stringtable();
 		}
 		writer.setStringtable(stringtable);
 		write(writer);
+		lastKnownSize = writer.getSize();
 		return writer;
 	}
 
+	private int initialBufferSize() {
+		return Math.min(Math.max(estimateSize(), 64), MAX_INITIAL_BUFFER_SIZE);
+	}
+
+	private G3FileWriterEx prepareSave() throws IOException {
+		return prepareWriter(new G3FileWriterEx(initialBufferSize()));
+	}
+
+	/**
+	 * Schreibt zunächst in eine temporäre Datei im selben Verzeichnis und ersetzt {@code file} erst
+	 * danach, schlägt das Speichern fehl, bleibt {@code file} unverändert.
+	 */
 	@Override
 	public void save(File file) throws IOException {
-		prepareSave().save(file);
+		Path target = file.toPath().toAbsolutePath();
+		// Kein Files.createTempFile(), dessen restriktive Berechtigungen würden auf file übergehen
+		Path tmp = target.resolveSibling(target.getFileName() + ".tmp");
+		try {
+			if (supportsStreamingSave()) {
+				try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+						StandardOpenOption.TRUNCATE_EXISTING)) {
+					prepareWriter(new G3FileWriterEx(channel, initialBufferSize())).flush();
+				}
+			} else {
+				prepareSave().save(tmp.toFile());
+			}
+
+			try {
+				Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (IOException | RuntimeException | Error e) {
+			try {
+				Files.deleteIfExists(tmp);
+			} catch (IOException suppressed) {
+				e.addSuppressed(suppressed);
+			}
+			throw e;
+		}
 	}
 
 	@Override
@@ -72,6 +149,6 @@ public abstract class GenomeFile implements Saveable {
 	}
 
 	public static boolean isGenomeFile(G3FileReader reader) {
-		return reader.getSize() >= 8 && reader.readSilent(8).equals("47454E4F4D464C45");
+		return reader.matchesSilent(GENOMFLE);
 	}
 }
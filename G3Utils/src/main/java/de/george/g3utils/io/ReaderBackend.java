@@ -0,0 +1,290 @@
+package de.george.g3utils.io;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.SoftReference;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Speicher, aus dem ein {@link G3FileReader} liest.
+ * <ul>
+ * <li>{@link #map(FileChannel)}: Gemappte Datei, wird bei {@link #close()} sofort freigegeben.</li>
+ * <li>{@link #read(InputStream, int)}: Heap-Buffer, der nach {@link #close()} wiederverwendet
+ * wird, solange keine Ausschnitte davon herausgegeben wurden.</li>
+ * <li>{@link #wrap(ByteBuffer)} und {@link #slice(int, int)}: Sicht auf vorhandenen Speicher, für
+ * eingebettete Daten.</li>
+ * </ul>
+ * Nach {@link #close()} darf der Buffer nicht mehr verwendet werden. Daten, die länger als der
+ * Reader benötigt werden, müssen über {@link #share(int, int)} bezogen werden.
+ */
+public abstract class ReaderBackend implements AutoCloseable {
+	private static final Logger logger = LoggerFactory.getLogger(ReaderBackend.class);
+
+	/**
+	 * Kleinere Dateien werden gelesen statt gemappt, da sich das Mapping für sie nicht lohnt.
+	 */
+	private static final long MAP_THRESHOLD = 1024 * 1024;
+
+	protected final ByteBuffer buffer;
+
+	protected ReaderBackend(ByteBuffer buffer) {
+		this.buffer = buffer.order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	/**
+	 * @return Buffer (Little Endian) mit den Daten ab Position 0, dessen Kapazität der Größe der
+	 *         Daten entspricht
+	 */
+	public ByteBuffer getBuffer() {
+		return buffer;
+	}
+
+	/**
+	 * Liefert die Bytes {@code offset} bis {@code offset + length} als eigenständigen Buffer, der auch
+	 * nach {@link #close()} gültig bleibt. Wenn möglich teilt er sich den Speicher mit diesem Backend.
+	 */
+	public abstract ByteBuffer share(int offset, int length);
+
+	/**
+	 * Sicht auf die Bytes {@code offset} bis {@code offset + length}, ohne Kopie. Die Sicht ist nur
+	 * gültig, solange dieses Backend nicht geschlossen ist.
+	 */
+	public ReaderBackend slice(int offset, int length) {
+		return new View(this, offset, region(buffer, offset, length));
+	}
+
+	@Override
+	public void close() {}
+
+	public static ReaderBackend wrap(byte[] bytes) {
+		return new View(null, 0, ByteBuffer.wrap(bytes));
+	}
+
+	/**
+	 * Die Position von {@code buffer} wird nicht verändert, die Sicht beginnt bei dessen Position.
+	 */
+	public static ReaderBackend wrap(ByteBuffer buffer) {
+		return new View(null, 0, buffer.slice());
+	}
+
+	public static ReaderBackend open(File file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size < MAP_THRESHOLD) {
+				return Pooled.read(channel, (int) size);
+			}
+			return map(channel);
+		}
+	}
+
+	public static ReaderBackend map(FileChannel channel) throws IOException {
+		return new Mapped(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+	}
+
+	/**
+	 * Liest {@code is} vollständig ein, ohne {@code is} zu schließen.
+	 *
+	 * @param sizeHint Erwartete Größe, bei {@code -1} wird sie wenn möglich aus {@code is}
+	 *            ermittelt.
+	 */
+	public static ReaderBackend read(InputStream is, int sizeHint) throws IOException {
+		if (sizeHint < 0) {
+			sizeHint = is instanceof FileInputStream ? (int) Math.min(Integer.MAX_VALUE - 8, ((FileInputStream) is).getChannel().size())
+					: is.available();
+		}
+		return Pooled.read(is, sizeHint);
+	}
+
+	private static ByteBuffer region(ByteBuffer buffer, int offset, int length) {
+		ByteBuffer region = buffer.duplicate();
+		region.limit(offset + length).position(offset);
+		return region.slice().order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	private static ByteBuffer copy(ByteBuffer buffer, int offset, int length) {
+		byte[] bytes = new byte[length];
+		ByteBuffer source = buffer.duplicate();
+		source.position(offset);
+		source.get(bytes);
+		return ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	/**
+	 * Sicht auf den Speicher eines anderen Backends oder eines fremden Buffers.
+	 */
+	private static final class View extends ReaderBackend {
+		private final ReaderBackend parent;
+		private final int parentOffset;
+
+		public View(ReaderBackend parent, int parentOffset, ByteBuffer buffer) {
+			super(buffer);
+			this.parent = parent;
+			this.parentOffset = parentOffset;
+		}
+
+		@Override
+		public ByteBuffer share(int offset, int length) {
+			// Das Backend, dem der Speicher gehört, entscheidet, ob er geteilt werden darf
+			return parent != null ? parent.share(parentOffset + offset, length) : region(buffer, offset, length);
+		}
+
+		@Override
+		public ReaderBackend slice(int offset, int length) {
+			return parent != null ? parent.slice(parentOffset + offset, length) : super.slice(offset, length);
+		}
+	}
+
+	/**
+	 * Gemappte Datei. Da das Mapping bei {@link #close()} freigegeben wird, sind mit
+	 * {@link #share(int, int)} bezogene Ausschnitte Kopien.
+	 */
+	private static final class Mapped extends ReaderBackend {
+		private static final MethodHandle UNMAPPER = createUnmapper();
+
+		private boolean closed;
+
+		public Mapped(ByteBuffer buffer) {
+			super(buffer);
+		}
+
+		@Override
+		public ByteBuffer share(int offset, int length) {
+			return copy(buffer, offset, length);
+		}
+
+		@Override
+		public synchronized void close() {
+			if (closed || UNMAPPER == null) {
+				return;
+			}
+
+			closed = true;
+			try {
+				UNMAPPER.invokeExact(buffer);
+			} catch (Throwable e) {
+				logger.warn("Mapping konnte nicht freigegeben werden.", e);
+			}
+		}
+
+		/**
+		 * Ab Java 9 über {@code Unsafe.invokeCleaner}, unter Java 8 über den {@code Cleaner} des
+		 * Buffers. Steht beides nicht zur Verfügung, wird das Mapping erst vom GC freigegeben.
+		 */
+		private static MethodHandle createUnmapper() {
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			try {
+				Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+				Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+				Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+				theUnsafe.setAccessible(true);
+				return lookup.unreflect(invokeCleaner).bindTo(theUnsafe.get(null));
+			} catch (ReflectiveOperationException | RuntimeException e) {
+				// Java 8
+			}
+
+			try {
+				Method cleaner = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+				Method clean = cleaner.getReturnType().getMethod("clean");
+				MethodHandle unmapper = MethodHandles.filterReturnValue(lookup.unreflect(cleaner), lookup.unreflect(clean));
+				return unmapper.asType(MethodType.methodType(void.class, ByteBuffer.class));
+			} catch (ReflectiveOperationException | RuntimeException e) {
+				logger.warn("Gemappte Dateien können nicht explizit freigegeben werden.", e);
+				return null;
+			}
+		}
+	}
+
+	/**
+	 * Heap-Buffer, der nach {@link #close()} vom nächsten Reader desselben Threads wiederverwendet
+	 * wird. Wurden mit {@link #share(int, int)} Ausschnitte herausgegeben, wird er stattdessen dem GC
+	 * überlassen.
+	 */
+	private static final class Pooled extends ReaderBackend {
+		private static final int MAX_POOLED_SIZE = 4 * 1024 * 1024;
+		private static final int MIN_SIZE = 8 * 1024;
+
+		private static final ThreadLocal<SoftReference<byte[]>> pool = new ThreadLocal<>();
+
+		private byte[] array;
+		private boolean shared;
+
+		private Pooled(byte[] array, int size) {
+			super(ByteBuffer.wrap(array, 0, size).slice());
+			this.array = array;
+		}
+
+		private static byte[] acquire(int size) {
+			SoftReference<byte[]> reference = pool.get();
+			byte[] array = reference != null ? reference.get() : null;
+			if (array != null && array.length >= size) {
+				pool.remove();
+				return array;
+			}
+			return new byte[Math.max(size, MIN_SIZE)];
+		}
+
+		private static void release(byte[] array) {
+			if (array.length > MAX_POOLED_SIZE) {
+				return;
+			}
+			SoftReference<byte[]> reference = pool.get();
+			byte[] pooled = reference != null ? reference.get() : null;
+			if (pooled == null || pooled.length < array.length) {
+				pool.set(new SoftReference<>(array));
+			}
+		}
+
+		public static Pooled read(FileChannel channel, int size) throws IOException {
+			byte[] array = acquire(size);
+			ByteBuffer target = ByteBuffer.wrap(array, 0, size);
+			while (target.hasRemaining()) {
+				if (channel.read(target) < 0) {
+					break;
+				}
+			}
+			return new Pooled(array, target.position());
+		}
+
+		public static Pooled read(InputStream is, int sizeHint) throws IOException {
+			// Ein Byte mehr, damit das Ende des Streams ohne Vergrößern erkannt wird
+			byte[] array = acquire(sizeHint + 1);
+			int size = 0;
+			int read;
+			while ((read = is.read(array, size, array.length - size)) != -1) {
+				size += read;
+				if (size == array.length) {
+					array = Arrays.copyOf(array, array.length * 2);
+				}
+			}
+			return new Pooled(array, size);
+		}
+
+		@Override
+		public synchronized ByteBuffer share(int offset, int length) {
+			shared = true;
+			return region(buffer, offset, length);
+		}
+
+		@Override
+		public synchronized void close() {
+			if (array != null && !shared) {
+				release(array);
+			}
+			array = null;
+		}
+	}
+}
@@ -1,57 +1,214 @@
 package de.george.g3utils.structure;
 
-public class Guid {
-	private String guid;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
-	public Guid(String guid) {
-		this.guid = GuidUtil.parseGuid(guid);
+import de.george.g3utils.util.Misc;
+
+/**
+ * Unveränderliche Guid, bestehend aus 16 Byte Guid und 4 Byte Counter, so wie sie in den
+ * Genome-Dateien gespeichert ist.
+ * <p>
+ * Die 20 Byte werden in zwei {@code long} und einem {@code int} gehalten, {@link #hashCode()} und
+ * {@link #equals(Object)} kommen damit ohne String-Vergleich aus. Die hexadezimale Darstellung
+ * ({@link #getGuid()}) wird erst bei Bedarf erzeugt und nicht vorgehalten.
+ */
+public final class Guid implements Comparable<Guid>, Serializable {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Größe einer serialisierten Guid in Byte.
+	 */
+	public static final int SIZE = 20;
+
+	/**
+	 * Größe einer serialisierten Guid ohne Counter (z.B. bCGuid) in Byte.
+	 */
+	public static final int SIZE_WITHOUT_COUNTER = 16;
+
+	private static final char[] HEX_CHARS = "0123456789ABCDEF".toCharArray();
+
+	// Byte 0 bis 7 bzw. 8 bis 15 in Big-Endian, damit die Hex-Darstellung direkt ablesbar ist
+	private final long high;
+	private final long low;
+	// Byte 16 bis 19 in Big-Endian
+	private final int counter;
+
+	public Guid(long high, long low, int counter) {
+		this.high = high;
+		this.low = low;
+		this.counter = counter;
 	}
 
-	public boolean isValid() {
-		return guid != null;
+	/**
+	 * Liest eine Guid ab der aktuellen Position aus {@code buffer}, ohne Zwischenkopie. Die
+	 * Byte-Reihenfolge von {@code buffer} spielt keine Rolle.
+	 */
+	public static Guid read(ByteBuffer buffer) {
+		int pos = buffer.position();
+		Guid guid = new Guid(readLong(buffer, pos), readLong(buffer, pos + 8), readInt(buffer, pos + 16));
+		buffer.position(pos + SIZE);
+		return guid;
 	}
 
-	public String getGuid() {
+	/**
+	 * Wie {@link #read(ByteBuffer)}, aber ohne Counter, dieser ist bei der gelesenen Guid 0.
+	 */
+	public static Guid readWithoutCounter(ByteBuffer buffer) {
+		int pos = buffer.position();
+		Guid guid = new Guid(readLong(buffer, pos), readLong(buffer, pos + 8), 0);
+		buffer.position(pos + SIZE_WITHOUT_COUNTER);
 		return guid;
 	}
 
-	public void setGuid(String guid) {
-		this.guid = GuidUtil.parseGuid(guid);
+	/**
+	 * Schreibt die Guid an der aktuellen Position in {@code buffer}. Die Byte-Reihenfolge von
+	 * {@code buffer} spielt keine Rolle.
+	 */
+	public void write(ByteBuffer buffer) {
+		boolean bigEndian = buffer.order() == ByteOrder.BIG_ENDIAN;
+		buffer.putLong(bigEndian ? high : Long.reverseBytes(high));
+		buffer.putLong(bigEndian ? low : Long.reverseBytes(low));
+		buffer.putInt(bigEndian ? counter : Integer.reverseBytes(counter));
 	}
 
-	public String toGroup() {
-		return GuidUtil.hexToGroup(guid);
+	/**
+	 * Wie {@link #write(ByteBuffer)}, aber ohne Counter.
+	 */
+	public void writeWithoutCounter(ByteBuffer buffer) {
+		boolean bigEndian = buffer.order() == ByteOrder.BIG_ENDIAN;
+		buffer.putLong(bigEndian ? high : Long.reverseBytes(high));
+		buffer.putLong(bigEndian ? low : Long.reverseBytes(low));
 	}
 
-	public String toPlain() {
-		return GuidUtil.hexToPlain(guid);
+	/**
+	 * @return Diese Guid mit Counter 0
+	 */
+	public Guid withoutCounter() {
+		return counter == 0 ? this : new Guid(high, low, 0);
+	}
+
+	public static Guid fromBytes(byte[] bytes) {
+		if (bytes.length != SIZE) {
+			throw new IllegalArgumentException("Guid muss " + SIZE + " Byte lang sein, nicht " + bytes.length + ".");
+		}
+		return read(ByteBuffer.wrap(bytes));
+	}
+
+	/**
+	 * @param hex Hexadezimale Darstellung der Guid mit Counter (40 Zeichen)
+	 * @throws IllegalArgumentException Wenn {@code hex} keine gültige Guid ist
+	 */
+	public static Guid fromHex(String hex) {
+		if (hex == null || hex.length() != 2 * SIZE || !Misc.isValidHex(hex)) {
+			throw new IllegalArgumentException("'" + hex + "' ist keine gültige Guid.");
+		}
+		return new Guid(Long.parseUnsignedLong(hex.substring(0, 16), 16), Long.parseUnsignedLong(hex.substring(16, 32), 16),
+				Integer.parseUnsignedInt(hex.substring(32, 40), 16));
+	}
+
+	/**
+	 * Akzeptiert alle Darstellungen, die {@link GuidUtil#parseGuid(String)} versteht, unabhängig
+	 * von der Groß- und Kleinschreibung. Für die String-Setter der Entities und Properties gedacht,
+	 * die bisher beliebige Strings angenommen haben.
+	 *
+	 * @return Die Guid oder {@code null}, falls {@code rawGuid} keine gültige Guid ist
+	 */
+	public static Guid of(String rawGuid) {
+		String hex = GuidUtil.parseGuid(rawGuid);
+		return hex != null && hex.length() == 2 * SIZE ? fromHex(hex) : null;
 	}
 
 	public static Guid randomGuid() {
-		return new Guid(GuidUtil.randomGUID());
+		return fromHex(GuidUtil.randomGUID());
+	}
+
+	public byte[] toBytes() {
+		ByteBuffer buffer = ByteBuffer.allocate(SIZE);
+		write(buffer);
+		return buffer.array();
+	}
+
+	/**
+	 * @return Hexadezimale Darstellung (40 Zeichen, Großbuchstaben), wird bei jedem Aufruf neu
+	 *         erzeugt.
+	 */
+	public String getGuid() {
+		char[] chars = new char[2 * SIZE];
+		toHex(chars, 0, high, 16);
+		toHex(chars, 16, low, 16);
+		toHex(chars, 32, counter, 8);
+		return new String(chars);
+	}
+
+	/**
+	 * @return Counter, in der Datei als Little-Endian gespeichert
+	 */
+	public long getCounter() {
+		return Integer.toUnsignedLong(Integer.reverseBytes(counter));
+	}
+
+	public String toGroup() {
+		return GuidUtil.hexToGroup(getGuid());
+	}
+
+	public String toPlain() {
+		return GuidUtil.hexToPlain(getGuid());
 	}
 
 	@Override
 	public int hashCode() {
-		return guid == null ? 0 : guid.hashCode();
+		long hash = high * 31 + low;
+		hash = hash * 31 + counter;
+		return (int) (hash ^ hash >>> 32);
 	}
 
 	@Override
 	public boolean equals(Object obj) {
-		if (!isValid()) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof Guid)) {
 			return false;
 		}
 
-		if (obj instanceof String) {
-			return getGuid().equals(GuidUtil.parseGuid((String) obj));
+		Guid other = (Guid) obj;
+		return high == other.high && low == other.low && counter == other.counter;
+	}
+
+	@Override
+	public int compareTo(Guid o) {
+		int result = Long.compareUnsigned(high, o.high);
+		if (result == 0) {
+			result = Long.compareUnsigned(low, o.low);
 		}
+		if (result == 0) {
+			result = Integer.compareUnsigned(counter, o.counter);
+		}
+		return result;
+	}
 
-		if (obj instanceof Guid) {
-			Guid other = (Guid) obj;
-			return other.isValid() && getGuid().equals(other.getGuid());
+	@Override
+	public String toString() {
+		return getGuid();
+	}
+
+	private static void toHex(char[] chars, int offset, long value, int digits) {
+		for (int i = digits - 1; i >= 0; i--) {
+			chars[offset + i] = HEX_CHARS[(int) (value & 0x0F)];
+			value >>>= 4;
 		}
+	}
 
-		return false;
+	private static long readLong(ByteBuffer buffer, int offset) {
+		long value = buffer.getLong(offset);
+		return buffer.order() == ByteOrder.BIG_ENDIAN ? value : Long.reverseBytes(value);
 	}
 
+	private static int readInt(ByteBuffer buffer, int offset) {
+		int value = buffer.getInt(offset);
+		return buffer.order() == ByteOrder.BIG_ENDIAN ? value : Integer.reverseBytes(value);
+	}
 }
@@ -0,0 +1,148 @@
+package de.george.g3utils.structure;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import de.george.g3utils.util.Converter;
+
+/**
+ * Pool für die Einträge von Stringtables, über alle eingelesenen Dateien hinweg.
+ * <p>
+ * Klassen-, Property- und Typnamen wiederholen sich in nahezu jeder Datei. Der Pool sucht einen
+ * Eintrag anhand seiner Rohdaten (Windows-1252), sodass für bereits bekannte Einträge weder ein
+ * {@code byte[]} noch ein String erzeugt wird. Gleiche Einträge verschiedener Dateien sind dadurch
+ * dieselbe String-Instanz, auch deren Hashcode wird also nur einmal berechnet.
+ * <p>
+ * Da der Pool nie geleert wird, ist die Anzahl der Einträge begrenzt. Ist er voll, werden neue
+ * Einträge nur noch dekodiert und nicht mehr aufgenommen.
+ * <p>
+ * Threadsicher, der Pool ist in Segmente aufgeteilt, die einzeln gesperrt werden.
+ */
+public final class StringPool {
+	private static final int SEGMENT_COUNT = 16;
+	private static final int DEFAULT_MAX_ENTRIES = 64 * 1024;
+
+	private static final StringPool SHARED = new StringPool(DEFAULT_MAX_ENTRIES);
+
+	private final Segment[] segments = new Segment[SEGMENT_COUNT];
+
+	private static final class Segment {
+		private final int maxEntries;
+		private byte[][] keys = new byte[64][];
+		private String[] values = new String[64];
+		private int[] hashes = new int[64];
+		private int size;
+
+		public Segment(int maxEntries) {
+			this.maxEntries = maxEntries;
+		}
+
+		public synchronized String intern(ByteBuffer buffer, int offset, int length, int hash) {
+			int mask = keys.length - 1;
+			for (int i = hash & mask;; i = (i + 1) & mask) {
+				byte[] key = keys[i];
+				if (key == null) {
+					break;
+				}
+				if (hashes[i] == hash && matches(key, buffer, offset, length)) {
+					return values[i];
+				}
+			}
+
+			byte[] key = new byte[length];
+			for (int i = 0; i < length; i++) {
+				key[i] = buffer.get(offset + i);
+			}
+			String value = new String(key, Converter.WINDOWS_1252);
+			if (size < maxEntries) {
+				if ((size + 1) * 2 > keys.length) {
+					grow();
+				}
+				insert(key, value, hash);
+				size++;
+			}
+			return value;
+		}
+
+		public synchronized int size() {
+			return size;
+		}
+
+		private void insert(byte[] key, String value, int hash) {
+			int mask = keys.length - 1;
+			int i = hash & mask;
+			while (keys[i] != null) {
+				i = (i + 1) & mask;
+			}
+			keys[i] = key;
+			values[i] = value;
+			hashes[i] = hash;
+		}
+
+		private void grow() {
+			byte[][] oldKeys = keys;
+			String[] oldValues = values;
+			int[] oldHashes = hashes;
+			keys = new byte[oldKeys.length * 2][];
+			values = new String[oldKeys.length * 2];
+			hashes = new int[oldKeys.length * 2];
+			for (int i = 0; i < oldKeys.length; i++) {
+				if (oldKeys[i] != null) {
+					insert(oldKeys[i], oldValues[i], oldHashes[i]);
+				}
+			}
+		}
+
+		private static boolean matches(byte[] key, ByteBuffer buffer, int offset, int length) {
+			if (key.length != length) {
+				return false;
+			}
+			for (int i = 0; i < length; i++) {
+				if (key[i] != buffer.get(offset + i)) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * @param maxEntries Maximale Anzahl an Einträgen im Pool
+	 */
+	public StringPool(int maxEntries) {
+		for (int i = 0; i < SEGMENT_COUNT; i++) {
+			segments[i] = new Segment(Math.max(1, maxEntries / SEGMENT_COUNT));
+		}
+	}
+
+	/**
+	 * @return Der von allen {@link de.george.g3utils.io.G3FileReaderEx} standardmäßig verwendete Pool
+	 */
+	public static StringPool shared() {
+		return SHARED;
+	}
+
+	/**
+	 * Liefert den String zu den Bytes {@code offset} bis {@code offset + length} von {@code buffer},
+	 * ohne dessen Position zu verändern.
+	 */
+	public String intern(ByteBuffer buffer, int offset, int length) {
+		int hash = 1;
+		for (int i = 0; i < length; i++) {
+			hash = 31 * hash + buffer.get(offset + i);
+		}
+		hash ^= hash >>> 16;
+		return segments[(hash >>> 24) & (SEGMENT_COUNT - 1)].intern(buffer, offset, length, hash);
+	}
+
+	public String intern(byte[] bytes) {
+		return intern(ByteBuffer.wrap(bytes), 0, bytes.length);
+	}
+
+	/**
+	 * @return Anzahl der Einträge im Pool
+	 */
+	public int size() {
+		return Arrays.stream(segments).mapToInt(Segment::size).sum();
+	}
+}
@@ -8,6 +8,8 @@ public class Stringtable {
 
 	private List<String> entries;
 	private HashMap<String, Integer> posMapping;
+	// Wird erhöht, sobald sich die Position bestehender Einträge ändern kann
+	private int removalCount;
 
 	public Stringtable() {
 		entries = new ArrayList<>();
@@ -22,6 +24,7 @@ public class Stringtable {
 
 	public void removeEntry(String entry) {
 		if (entries.remove(entry)) {
+			removalCount++;
 			posMapping.clear();
 			for (int i = 0; i < entries.size(); i++) {
 				posMapping.put(entries.get(i), i);
@@ -50,7 +53,16 @@ public class Stringtable {
 		return entries;
 	}
 
+	/**
+	 * @return Anzahl der Aufrufe von {@link #removeEntry(String)} und {@link #clear()}, nach denen
+	 *         zuvor ermittelte Positionen ungültig sein können
+	 */
+	public int getRemovalCount() {
+		return removalCount;
+	}
+
 	public void clear() {
+		removalCount++;
 		entries.clear();
 		posMapping.clear();
 	}
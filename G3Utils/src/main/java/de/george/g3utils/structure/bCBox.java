@@ -43,41 +43,80 @@ public class bCBox implements G3Serializable {
 	}
 
 	public bCVector getCenter() {
-		return min.getTranslated(max).scale(0.5f);
+		return getCenter(new bCVector());
+	}
+
+	public bCVector getCenter(bCVector dest) {
+		return dest.set((min.getX() + max.getX()) * 0.5f, (min.getY() + max.getY()) * 0.5f, (min.getZ() + max.getZ()) * 0.5f);
 	}
 
 	public bCVector getExtent() {
-		return max.getInvTranslated(min).scale(0.5f);
+		return getExtent(new bCVector());
+	}
+
+	public bCVector getExtent(bCVector dest) {
+		return dest.set((max.getX() - min.getX()) * 0.5f, (max.getY() - min.getY()) * 0.5f, (max.getZ() - min.getZ()) * 0.5f);
+	}
+
+	/**
+	 * Setzt {@code dest} auf die Kugel um den Mittelpunkt der Box, deren Radius der Länge von
+	 * {@link #getExtent()} entspricht. Die Position von {@code dest} wird dabei überschrieben.
+	 */
+	public bCSphere getBoundingSphere(bCSphere dest) {
+		getCenter(dest.getPosition());
+		float x = (max.getX() - min.getX()) * 0.5f;
+		float y = (max.getY() - min.getY()) * 0.5f;
+		float z = (max.getZ() - min.getZ()) * 0.5f;
+		dest.setRadius((float) Math.sqrt(x * x + y * y + z * z));
+		return dest;
 	}
 
 	public bCVector getVertex(int index) {
+		return getVertex(index, new bCVector());
+	}
+
+	public bCVector getVertex(int index, bCVector dest) {
 		switch (index) {
 			case 0:
-				return new bCVector(max.getX(), max.getY(), max.getZ());
+				return dest.set(max.getX(), max.getY(), max.getZ());
 			case 1:
-				return new bCVector(max.getX(), min.getY(), max.getZ());
+				return dest.set(max.getX(), min.getY(), max.getZ());
 			case 2:
-				return new bCVector(min.getX(), min.getY(), max.getZ());
+				return dest.set(min.getX(), min.getY(), max.getZ());
 			case 3:
-				return new bCVector(min.getX(), max.getY(), max.getZ());
+				return dest.set(min.getX(), max.getY(), max.getZ());
 			case 4:
-				return new bCVector(max.getX(), max.getY(), min.getZ());
+				return dest.set(max.getX(), max.getY(), min.getZ());
 			case 5:
-				return new bCVector(max.getX(), min.getY(), min.getZ());
+				return dest.set(max.getX(), min.getY(), min.getZ());
 			case 6:
-				return new bCVector(min.getX(), min.getY(), min.getZ());
+				return dest.set(min.getX(), min.getY(), min.getZ());
 			case 7:
-				return new bCVector(min.getX(), max.getY(), min.getZ());
+				return dest.set(min.getX(), max.getY(), min.getZ());
 			default:
 				return null;
 		}
 	}
 
+	/**
+	 * Übernimmt die Werte von {@code box}, ohne neue Vektoren anzulegen.
+	 */
+	public bCBox setTo(bCBox box) {
+		min.setTo(box.min);
+		max.setTo(box.max);
+		return this;
+	}
+
 	@Override
 	public bCBox clone() {
 		return new bCBox(min, max);
 	}
 
+	@Override
+	public bCBox copy() {
+		return clone();
+	}
+
 	public bCBox merge(bCVector box) {
 		min.setX(Math.min(min.getX(), box.getX()));
 		min.setY(Math.min(min.getY(), box.getY()));
@@ -103,13 +142,20 @@ public class bCBox implements G3Serializable {
 		// Therefore
 		// our neat optimization will not work.
 		if (matrix.isExcentric()) {
-			bCBox box = new bCBox();
+			float minX = Float.MAX_VALUE, minY = Float.MAX_VALUE, minZ = Float.MAX_VALUE;
+			float maxX = -Float.MAX_VALUE, maxY = -Float.MAX_VALUE, maxZ = -Float.MAX_VALUE;
+			bCVector vertex = new bCVector();
 			for (int i = 0; i < 8; i++) {
-				bCVector vertex = getVertex(i).transform(matrix);
-				box.merge(vertex);
+				getVertex(i, vertex).transform(matrix);
+				minX = Math.min(minX, vertex.getX());
+				minY = Math.min(minY, vertex.getY());
+				minZ = Math.min(minZ, vertex.getZ());
+				maxX = Math.max(maxX, vertex.getX());
+				maxY = Math.max(maxY, vertex.getY());
+				maxZ = Math.max(maxZ, vertex.getZ());
 			}
-			setMin(box.getMin());
-			setMax(box.getMax());
+			min.set(minX, minY, minZ);
+			max.set(maxX, maxY, maxZ);
 		} else {
 			/*
 			 * http://zeuxcg.org/2010/10/17/aabb-from-obb-with-component-wise-abs/
@@ -117,14 +163,21 @@ public class bCBox implements G3Serializable {
 			 * Arvo) It also appears in more modern code in the excellent (I highly recommend) book:
 			 * "Real-time Collision Detection, pp. 87" (Christer Ericson)
 			 */
-			bCVector center = getCenter().transform(matrix);
+			float cx = (min.getX() + max.getX()) * 0.5f, cy = (min.getY() + max.getY()) * 0.5f, cz = (min.getZ() + max.getZ()) * 0.5f;
+			float ex = (max.getX() - min.getX()) * 0.5f, ey = (max.getY() - min.getY()) * 0.5f, ez = (max.getZ() - min.getZ()) * 0.5f;
+
+			bCVector4 xAxis = matrix.getXAxis(), yAxis = matrix.getYAxis(), zAxis = matrix.getZAxis(), t = matrix.getTranslation4();
+			float centerX = xAxis.getX() * cx + yAxis.getX() * cy + zAxis.getX() * cz + t.getX();
+			float centerY = xAxis.getY() * cx + yAxis.getY() * cy + zAxis.getY() * cz + t.getY();
+			float centerZ = xAxis.getZ() * cx + yAxis.getZ() * cy + zAxis.getZ() * cz + t.getZ();
 
-			bCMatrix3 rotation = matrix.getRotation();
-			rotation.absolute();
-			bCVector extent = getExtent().transform(rotation);
+			// Extent mit den Beträgen der 3x3 Rotation transformieren
+			float extentX = Math.abs(xAxis.getX()) * ex + Math.abs(yAxis.getX()) * ey + Math.abs(zAxis.getX()) * ez;
+			float extentY = Math.abs(xAxis.getY()) * ex + Math.abs(yAxis.getY()) * ey + Math.abs(zAxis.getY()) * ez;
+			float extentZ = Math.abs(xAxis.getZ()) * ex + Math.abs(yAxis.getZ()) * ey + Math.abs(zAxis.getZ()) * ez;
 
-			setMin(center.getInvTranslated(extent));
-			setMax(center.getTranslated(extent));
+			min.set(centerX - extentX, centerY - extentY, centerZ - extentZ);
+			max.set(centerX + extentX, centerY + extentY, centerZ + extentZ);
 		}
 	}
 
@@ -18,4 +18,12 @@ public class bCDateTime implements G3Serializable {
 	public void write(G3FileWriter writer) {
 		writer.writeInt(lowDateTime).writeInt(highDateTime);
 	}
+
+	@Override
+	public bCDateTime copy() {
+		bCDateTime copy = new bCDateTime();
+		copy.lowDateTime = lowDateTime;
+		copy.highDateTime = highDateTime;
+		return copy;
+	}
 }
@@ -128,6 +128,11 @@ public class bCEulerAngles implements G3Serializable {
 		return new bCEulerAngles(yaw, pitch, roll);
 	}
 
+	@Override
+	public bCEulerAngles copy() {
+		return clone();
+	}
+
 	@Override
 	public String toString() {
 		return "yaw=" + getYawDeg() + ", pitch=" + getPitchDeg() + ", roll=" + getRollDeg();
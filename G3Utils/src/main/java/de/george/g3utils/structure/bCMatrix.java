@@ -98,6 +98,10 @@ public class bCMatrix implements G3Serializable {
 		return new bCVector(translation);
 	}
 
+	public bCVector getTranslation(bCVector dest) {
+		return dest.set(translation.getX(), translation.getY(), translation.getZ());
+	}
+
 	public void modifyTranslation(bCVector translation) {
 		this.translation.setX(translation.getX());
 		this.translation.setY(translation.getY());
@@ -176,10 +180,22 @@ public class bCMatrix implements G3Serializable {
 	}
 
 	public bCVector getPureScaling() {
-		float x = (float) Math.sqrt(xAxis.getX() * xAxis.getX() + xAxis.getY() * xAxis.getY() + xAxis.getZ() * xAxis.getZ());
-		float y = (float) Math.sqrt(yAxis.getX() * yAxis.getX() + yAxis.getY() * yAxis.getY() + yAxis.getZ() * yAxis.getZ());
-		float z = (float) Math.sqrt(zAxis.getX() * zAxis.getX() + zAxis.getY() * zAxis.getY() + zAxis.getZ() * zAxis.getZ());
-		return new bCVector(x, y, z);
+		return getPureScaling(new bCVector());
+	}
+
+	public bCVector getPureScaling(bCVector dest) {
+		return dest.set(getPureScalingX(), axisLength(yAxis), axisLength(zAxis));
+	}
+
+	/**
+	 * @return {@code getPureScaling().getX()}
+	 */
+	public float getPureScalingX() {
+		return axisLength(xAxis);
+	}
+
+	private static float axisLength(bCVector4 axis) {
+		return (float) Math.sqrt(axis.getX() * axis.getX() + axis.getY() * axis.getY() + axis.getZ() * axis.getZ());
 	}
 
 	public bCMatrix getPureRotation() {
@@ -192,29 +208,48 @@ public class bCMatrix implements G3Serializable {
 		return invScaled;
 	}
 
+	/**
+	 * Berechnet das Produkt ohne Hilfsobjekte. {@code matrix1} und {@code matrix2} dürfen
+	 * {@code this} sein.
+	 */
 	public void setToProduct(bCMatrix matrix1, bCMatrix matrix2) {
-		float[][] result = new float[4][4];
-		float[][] mat1 = matrix1.toArray();
-		float[][] mat2 = matrix2.toArray();
-
+		// matrix1 vollständig lesen, bevor die erste Zeile überschrieben wird
+		bCVector4 m0 = matrix1.xAxis, m1 = matrix1.yAxis, m2 = matrix1.zAxis, m3 = matrix1.translation;
+		float a00 = m0.getX(), a01 = m0.getY(), a02 = m0.getZ(), a03 = m0.getW();
+		float a10 = m1.getX(), a11 = m1.getY(), a12 = m1.getZ(), a13 = m1.getW();
+		float a20 = m2.getX(), a21 = m2.getY(), a22 = m2.getZ(), a23 = m2.getW();
+		float a30 = m3.getX(), a31 = m3.getY(), a32 = m3.getZ(), a33 = m3.getW();
+
+		// Zeile r des Ergebnisses hängt nur von Zeile r aus matrix2 ab
+		bCVector4 x = matrix2.xAxis, y = matrix2.yAxis, z = matrix2.zAxis, t = matrix2.translation;
 		for (int r = 0; r < 4; r++) {
-			for (int c = 0; c < 4; c++) {
-				result[r][c] = mat1[0][c] * mat2[r][0] + mat1[1][c] * mat2[r][1] + mat1[2][c] * mat2[r][2] + mat1[3][c] * mat2[r][3];
-			}
+			bCVector4 row = r == 0 ? x : r == 1 ? y : r == 2 ? z : t;
+			float b0 = row.getX(), b1 = row.getY(), b2 = row.getZ(), b3 = row.getW();
+			bCVector4 target = r == 0 ? xAxis : r == 1 ? yAxis : r == 2 ? zAxis : translation;
+			target.set(a00 * b0 + a10 * b1 + a20 * b2 + a30 * b3, a01 * b0 + a11 * b1 + a21 * b2 + a31 * b3,
+					a02 * b0 + a12 * b1 + a22 * b2 + a32 * b3, a03 * b0 + a13 * b1 + a23 * b2 + a33 * b3);
 		}
-
-		setToArray(result);
 	}
 
 	public void setToIdentity() {
-		setToMatrix(getIdentity());
+		setToMatrix(identity);
 	}
 
+	/**
+	 * Übernimmt die Werte von {@code matrix} in die vorhandenen Achsen.
+	 */
 	public void setToMatrix(bCMatrix matrix) {
-		xAxis = matrix.xAxis.clone();
-		yAxis = matrix.yAxis.clone();
-		zAxis = matrix.zAxis.clone();
-		translation = matrix.translation.clone();
+		if (xAxis == null) {
+			xAxis = matrix.xAxis.clone();
+			yAxis = matrix.yAxis.clone();
+			zAxis = matrix.zAxis.clone();
+			translation = matrix.translation.clone();
+		} else {
+			xAxis.setTo(matrix.xAxis);
+			yAxis.setTo(matrix.yAxis);
+			zAxis.setTo(matrix.zAxis);
+			translation.setTo(matrix.translation);
+		}
 	}
 
 	public bCMatrix3 getRotation() {
@@ -233,52 +268,50 @@ public class bCMatrix implements G3Serializable {
 	}
 
 	public bCMatrix getProduct(bCMatrix mat) {
-		bCMatrix result = new bCMatrix();
-		result.setToProduct(this, mat);
-		return result;
+		return getProduct(mat, new bCMatrix());
+	}
+
+	/**
+	 * @return {@code dest}, dem das Produkt zugewiesen wurde
+	 */
+	public bCMatrix getProduct(bCMatrix mat, bCMatrix dest) {
+		dest.setToProduct(this, mat);
+		return dest;
 	}
 
 	public void invert() {
-		float[][] result = new float[4][4];
-		float[][] m = toArray();
-
-		float fA0 = m[0][0] * m[1][1] - m[0][1] * m[1][0];
-		float fA1 = m[0][0] * m[1][2] - m[0][2] * m[1][0];
-		float fA2 = m[0][0] * m[1][3] - m[0][3] * m[1][0];
-		float fA3 = m[0][1] * m[1][2] - m[0][2] * m[1][1];
-		float fA4 = m[0][1] * m[1][3] - m[0][3] * m[1][1];
-		float fA5 = m[0][2] * m[1][3] - m[0][3] * m[1][2];
-		float fB0 = m[2][0] * m[3][1] - m[2][1] * m[3][0];
-		float fB1 = m[2][0] * m[3][2] - m[2][2] * m[3][0];
-		float fB2 = m[2][0] * m[3][3] - m[2][3] * m[3][0];
-		float fB3 = m[2][1] * m[3][2] - m[2][2] * m[3][1];
-		float fB4 = m[2][1] * m[3][3] - m[2][3] * m[3][1];
-		float fB5 = m[2][2] * m[3][3] - m[2][3] * m[3][2];
+		float m00 = xAxis.getX(), m01 = xAxis.getY(), m02 = xAxis.getZ(), m03 = xAxis.getW();
+		float m10 = yAxis.getX(), m11 = yAxis.getY(), m12 = yAxis.getZ(), m13 = yAxis.getW();
+		float m20 = zAxis.getX(), m21 = zAxis.getY(), m22 = zAxis.getZ(), m23 = zAxis.getW();
+		float m30 = translation.getX(), m31 = translation.getY(), m32 = translation.getZ(), m33 = translation.getW();
+
+		float fA0 = m00 * m11 - m01 * m10;
+		float fA1 = m00 * m12 - m02 * m10;
+		float fA2 = m00 * m13 - m03 * m10;
+		float fA3 = m01 * m12 - m02 * m11;
+		float fA4 = m01 * m13 - m03 * m11;
+		float fA5 = m02 * m13 - m03 * m12;
+		float fB0 = m20 * m31 - m21 * m30;
+		float fB1 = m20 * m32 - m22 * m30;
+		float fB2 = m20 * m33 - m23 * m30;
+		float fB3 = m21 * m32 - m22 * m31;
+		float fB4 = m21 * m33 - m23 * m31;
+		float fB5 = m22 * m33 - m23 * m32;
 		float fDet = fA0 * fB5 - fA1 * fB4 + fA2 * fB3 + fA3 * fB2 - fA4 * fB1 + fA5 * fB0;
 
 		if (fDet == 0f) {
 			throw new ArithmeticException("This matrix cannot be inverted");
 		}
 
-		result[0][0] = +m[1][1] * fB5 - m[1][2] * fB4 + m[1][3] * fB3;
-		result[1][0] = -m[1][0] * fB5 + m[1][2] * fB2 - m[1][3] * fB1;
-		result[2][0] = +m[1][0] * fB4 - m[1][1] * fB2 + m[1][3] * fB0;
-		result[3][0] = -m[1][0] * fB3 + m[1][1] * fB1 - m[1][2] * fB0;
-		result[0][1] = -m[0][1] * fB5 + m[0][2] * fB4 - m[0][3] * fB3;
-		result[1][1] = +m[0][0] * fB5 - m[0][2] * fB2 + m[0][3] * fB1;
-		result[2][1] = -m[0][0] * fB4 + m[0][1] * fB2 - m[0][3] * fB0;
-		result[3][1] = +m[0][0] * fB3 - m[0][1] * fB1 + m[0][2] * fB0;
-		result[0][2] = +m[3][1] * fA5 - m[3][2] * fA4 + m[3][3] * fA3;
-		result[1][2] = -m[3][0] * fA5 + m[3][2] * fA2 - m[3][3] * fA1;
-		result[2][2] = +m[3][0] * fA4 - m[3][1] * fA2 + m[3][3] * fA0;
-		result[3][2] = -m[3][0] * fA3 + m[3][1] * fA1 - m[3][2] * fA0;
-		result[0][3] = -m[2][1] * fA5 + m[2][2] * fA4 - m[2][3] * fA3;
-		result[1][3] = +m[2][0] * fA5 - m[2][2] * fA2 + m[2][3] * fA1;
-		result[2][3] = -m[2][0] * fA4 + m[2][1] * fA2 - m[2][3] * fA0;
-		result[3][3] = +m[2][0] * fA3 - m[2][1] * fA1 + m[2][2] * fA0;
-
-		setToArray(result);
-		this.multiply(1.0f / fDet);
+		float invDet = 1.0f / fDet;
+		xAxis.set((+m11 * fB5 - m12 * fB4 + m13 * fB3) * invDet, (-m01 * fB5 + m02 * fB4 - m03 * fB3) * invDet,
+				(+m31 * fA5 - m32 * fA4 + m33 * fA3) * invDet, (-m21 * fA5 + m22 * fA4 - m23 * fA3) * invDet);
+		yAxis.set((-m10 * fB5 + m12 * fB2 - m13 * fB1) * invDet, (+m00 * fB5 - m02 * fB2 + m03 * fB1) * invDet,
+				(-m30 * fA5 + m32 * fA2 - m33 * fA1) * invDet, (+m20 * fA5 - m22 * fA2 + m23 * fA1) * invDet);
+		zAxis.set((+m10 * fB4 - m11 * fB2 + m13 * fB0) * invDet, (-m00 * fB4 + m01 * fB2 - m03 * fB0) * invDet,
+				(+m30 * fA4 - m31 * fA2 + m33 * fA0) * invDet, (-m20 * fA4 + m21 * fA2 - m23 * fA0) * invDet);
+		translation.set((-m10 * fB3 + m11 * fB1 - m12 * fB0) * invDet, (+m00 * fB3 - m01 * fB1 + m02 * fB0) * invDet,
+				(-m30 * fA3 + m31 * fA1 - m32 * fA0) * invDet, (+m20 * fA3 - m21 * fA1 + m22 * fA0) * invDet);
 	}
 
 	public bCMatrix getInverted() {
@@ -287,6 +320,15 @@ public class bCMatrix implements G3Serializable {
 		return result;
 	}
 
+	/**
+	 * @return {@code dest}, dem die Inverse zugewiesen wurde
+	 */
+	public bCMatrix getInverted(bCMatrix dest) {
+		dest.setToMatrix(this);
+		dest.invert();
+		return dest;
+	}
+
 	public boolean isEqual(bCMatrix mat) {
 		return xAxis.isEqual(mat.xAxis) && yAxis.isEqual(mat.yAxis) && zAxis.isEqual(mat.zAxis) && translation.isEqual(mat.translation);
 	}
@@ -296,6 +338,11 @@ public class bCMatrix implements G3Serializable {
 		return new bCMatrix(xAxis.clone(), yAxis.clone(), zAxis.clone(), translation.clone());
 	}
 
+	@Override
+	public bCMatrix copy() {
+		return clone();
+	}
+
 	public static bCMatrix getIdentity() {
 		return identity.clone();
 	}
@@ -176,6 +176,11 @@ public class bCMatrix3 implements G3Serializable {
 		return new bCMatrix3(xAxis.clone(), yAxis.clone(), zAxis.clone());
 	}
 
+	@Override
+	public bCMatrix3 copy() {
+		return clone();
+	}
+
 	public static bCMatrix3 getIdentity() {
 		return identity.clone();
 	}
@@ -46,6 +46,11 @@ public class bCMotion implements G3Serializable {
 		return new bCMotion(position.clone(), rotation.clone());
 	}
 
+	@Override
+	public bCMotion copy() {
+		return clone();
+	}
+
 	@Override
 	public String toString() {
 		return "position=" + position + ", rotation=" + rotation;
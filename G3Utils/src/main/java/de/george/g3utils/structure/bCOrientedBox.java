@@ -99,6 +99,11 @@ public class bCOrientedBox implements G3Serializable {
 		return new bCOrientedBox(center.clone(), extent.clone(), orientation.clone());
 	}
 
+	@Override
+	public bCOrientedBox copy() {
+		return clone();
+	}
+
 	@Override
 	public void read(G3FileReader reader) {
 		center = reader.readVector();
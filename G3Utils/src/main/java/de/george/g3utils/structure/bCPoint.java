@@ -46,6 +46,11 @@ public class bCPoint implements G3Serializable {
 		return new bCPoint(x, y);
 	}
 
+	@Override
+	public bCPoint copy() {
+		return clone();
+	}
+
 	public boolean equals(bCPoint point) {
 		return x == point.x && y == point.y;
 	}
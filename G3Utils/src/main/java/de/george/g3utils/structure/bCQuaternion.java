@@ -138,6 +138,11 @@ public class bCQuaternion implements G3Serializable {
 		return new bCQuaternion(x, y, z, w);
 	}
 
+	@Override
+	public bCQuaternion copy() {
+		return clone();
+	}
+
 	@Override
 	public String toString() {
 		return "x=" + x + ", y=" + y + ", z=" + z + ", w=" + w;
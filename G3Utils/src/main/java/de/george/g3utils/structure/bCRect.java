@@ -50,6 +50,11 @@ public class bCRect implements G3Serializable {
 		return new bCRect(topLeft.clone(), bottomRight.clone());
 	}
 
+	@Override
+	public bCRect copy() {
+		return clone();
+	}
+
 	public int getLeft() {
 		return topLeft.getX();
 	}
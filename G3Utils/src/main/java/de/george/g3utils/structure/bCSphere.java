@@ -47,6 +47,11 @@ public class bCSphere implements G3Serializable {
 		return new bCSphere(radius, position);
 	}
 
+	@Override
+	public bCSphere copy() {
+		return new bCSphere(radius, position.clone());
+	}
+
 	@Override
 	public void read(G3FileReader reader) {
 		radius = reader.readFloat();
@@ -107,6 +107,13 @@ public class bCVector implements G3Serializable, Serializable {
 		z = vector.z;
 	}
 
+	public bCVector set(float x, float y, float z) {
+		this.x = x;
+		this.y = y;
+		this.z = z;
+		return this;
+	}
+
 	public static bCVector fromString(String string) throws IllegalArgumentException {
 		try {
 			String[] split = string.replace("//", "").split("/");
@@ -383,6 +390,11 @@ public class bCVector implements G3Serializable, Serializable {
 		return new bCVector(x, y, z);
 	}
 
+	@Override
+	public bCVector copy() {
+		return clone();
+	}
+
 	public bCVector2 to2D() {
 		return new bCVector2(x, z);
 	}
@@ -42,6 +42,11 @@ public class bCVector2 implements G3Serializable {
 		return new bCVector2(x, y);
 	}
 
+	@Override
+	public bCVector2 copy() {
+		return clone();
+	}
+
 	public float[] toArray() {
 		return new float[] {x, y};
 	}
@@ -58,6 +58,11 @@ public class bCVector4 implements G3Serializable {
 		return new bCVector4(x, y, z, w);
 	}
 
+	@Override
+	public bCVector4 copy() {
+		return clone();
+	}
+
 	public float[] toArray() {
 		return new float[] {x, y, z, w};
 	}
@@ -69,6 +74,18 @@ public class bCVector4 implements G3Serializable {
 		w = vector[3];
 	}
 
+	public bCVector4 set(float x, float y, float z, float w) {
+		this.x = x;
+		this.y = y;
+		this.z = z;
+		this.w = w;
+		return this;
+	}
+
+	public bCVector4 setTo(bCVector4 vector) {
+		return set(vector.x, vector.y, vector.z, vector.w);
+	}
+
 	public boolean isEqual(bCVector4 vec) {
 		return x == vec.x && y == vec.y && z == vec.z && w == vec.w;
 	}
@@ -45,6 +45,7 @@ import com.esotericsoftware.kryo.Serializer;
 import com.esotericsoftware.kryo.io.Input;
 import com.esotericsoftware.kryo.io.Output;
 
+import de.george.g3utils.structure.Guid;
 import de.javakaffee.kryoserializers.guava.ImmutableSetSerializer;
 
 public class IOUtils {
@@ -271,6 +272,17 @@ public class IOUtils {
 				return new File(input.readString());
 			}
 		});
+		kryo.register(Guid.class, new Serializer<Guid>() {
+			@Override
+			public void write(Kryo kryo, Output output, Guid object) {
+				output.writeBytes(object.toBytes());
+			}
+
+			@Override
+			public Guid read(Kryo kryo, Input input, Class<Guid> type) {
+				return Guid.fromBytes(input.readBytes(Guid.SIZE));
+			}
+		});
 		ImmutableSetSerializer.registerSerializers(kryo);
 		return kryo;
 	}
@@ -0,0 +1,93 @@
+package de.george.g3utils.util;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Modifier;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+import org.objenesis.Objenesis;
+import org.objenesis.ObjenesisStd;
+import org.objenesis.instantiator.ObjectInstantiator;
+
+/**
+ * Erzeugt Factories, die einen Konstruktor direkt aufrufen, statt über
+ * {@link java.lang.reflect.Constructor#newInstance(Object...)} zu gehen.
+ * <p>
+ * Die Factories werden einmalig mit {@link LambdaMetafactory} erzeugt und können danach vom JIT
+ * wie ein normaler Konstruktoraufruf behandelt (und inlined) werden. Sie sollten daher für jede
+ * Klasse nur einmal erzeugt und anschließend wiederverwendet werden.
+ */
+public final class InstanceFactories {
+	private static final Objenesis objenesis = new ObjenesisStd(false);
+
+	private static final ClassValue<Supplier<?>> instanceFactories = new ClassValue<Supplier<?>>() {
+		@Override
+		protected Supplier<?> computeValue(Class<?> type) {
+			return createInstanceFactory(type);
+		}
+	};
+
+	private InstanceFactories() {}
+
+	/**
+	 * Liefert eine Factory für {@code type}. Hat {@code type} einen öffentlichen, parameterlosen
+	 * Konstruktor, wird dieser aufgerufen, ansonsten wird die Instanz wie bisher über Objenesis ohne
+	 * Konstruktoraufruf erzeugt. Die Factory wird pro Klasse nur einmal erzeugt.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> Supplier<T> instanceFactory(Class<T> type) {
+		return (Supplier<T>) instanceFactories.get(type);
+	}
+
+	private static <T> Supplier<T> createInstanceFactory(Class<T> type) {
+		if (Modifier.isPublic(type.getModifiers()) && !Modifier.isAbstract(type.getModifiers())) {
+			try {
+				type.getConstructor();
+				return constructor(type);
+			} catch (NoSuchMethodException | IllegalArgumentException e) {
+				// Kein öffentlicher, parameterloser Konstruktor
+			}
+		}
+
+		ObjectInstantiator<T> instantiator = objenesis.getInstantiatorOf(type);
+		return instantiator::newInstance;
+	}
+
+	/**
+	 * @return Factory, die den öffentlichen, parameterlosen Konstruktor von {@code type} aufruft
+	 * @throws IllegalArgumentException Wenn die Factory nicht erzeugt werden kann
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> Supplier<T> constructor(Class<T> type) {
+		return (Supplier<T>) createLambda(type, Supplier.class, "get", MethodType.methodType(Object.class));
+	}
+
+	/**
+	 * @return Factory, die den öffentlichen Konstruktor {@code type(first, second)} aufruft
+	 * @throws IllegalArgumentException Wenn die Factory nicht erzeugt werden kann
+	 */
+	@SuppressWarnings("unchecked")
+	public static <A, B, R> BiFunction<A, B, R> constructor(Class<R> type, Class<A> first, Class<B> second) {
+		return (BiFunction<A, B, R>) createLambda(type, BiFunction.class, "apply",
+				MethodType.methodType(Object.class, Object.class, Object.class), first, second);
+	}
+
+	private static Object createLambda(Class<?> type, Class<?> functionalInterface, String methodName, MethodType erasedType,
+			Class<?>... parameterTypes) {
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			MethodHandle constructor = lookup.findConstructor(type, MethodType.methodType(void.class, parameterTypes));
+			CallSite site = LambdaMetafactory.metafactory(lookup, methodName, MethodType.methodType(functionalInterface), erasedType,
+					constructor, MethodType.methodType(type, parameterTypes));
+			return site.getTarget().invoke();
+		} catch (Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new IllegalArgumentException("Factory für " + type.getName() + " konnte nicht erzeugt werden.", e);
+		}
+	}
+}
@@ -1,6 +1,7 @@
 package de.george.g3utils.util;
 
 import java.awt.Color;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
@@ -49,6 +50,20 @@ public class Misc {
 		return new String(chars);
 	}
 
+	/**
+	 * Hexadezimale Darstellung von {@code length} Bytes aus {@code buf} ab {@code offset}, ohne die
+	 * Position von {@code buf} zu verändern und ohne Zwischenkopie der Bytes.
+	 */
+	public static String asHex(ByteBuffer buf, int offset, int length) {
+		char[] chars = new char[2 * length];
+		for (int i = 0; i < length; ++i) {
+			byte b = buf.get(offset + i);
+			chars[2 * i] = HEX_CHARS[(b & 0xF0) >>> 4];
+			chars[2 * i + 1] = HEX_CHARS[b & 0x0F];
+		}
+		return new String(chars);
+	}
+
 	/*
 	 * public static byte[] asByte(String s) { int len = s.length(); byte[] data = new byte[len /
 	 * 2]; for (int i = 0; i < len; i += 2) { data[i / 2] = (byte) ((Character.digit(s.charAt(i),
@@ -1,8 +1,12 @@
 package de.george.g3utils;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
 import org.junit.Assert;
 import org.junit.Test;
 
+import de.george.g3utils.structure.Guid;
 import de.george.g3utils.structure.GuidUtil;
 
 public class GuidTest {
@@ -27,4 +31,75 @@ public class GuidTest {
 		Assert.assertNotNull(guid);
 		Assert.assertEquals(GuidUtil.hexToGroup(guid), "c1e3a2d0-f1f3-448a-b0fc-30c496d2d353:4294967295");
 	}
+
+	@Test
+	public void testHexRoundTrip() {
+		String hex = "D0A2E3C1F3F18A44B0FC30C496D2D35301000000";
+		Guid guid = Guid.fromHex(hex);
+		Assert.assertEquals(hex, guid.getGuid());
+		Assert.assertEquals(1, guid.getCounter());
+		Assert.assertEquals(GuidUtil.hexToGroup(hex), guid.toGroup());
+		Assert.assertEquals(guid, Guid.fromHex(hex.toLowerCase()));
+	}
+
+	@Test
+	public void testByteOrder() {
+		Guid guid = Guid.fromHex("00112233445566778899AABBCCDDEEFF01020304");
+		for (ByteOrder order : new ByteOrder[] {ByteOrder.LITTLE_ENDIAN, ByteOrder.BIG_ENDIAN}) {
+			ByteBuffer buffer = ByteBuffer.allocate(Guid.SIZE + 1).order(order);
+			buffer.put((byte) 0x7F);
+			guid.write(buffer);
+			Assert.assertEquals(Guid.SIZE + 1, buffer.position());
+			Assert.assertEquals((byte) 0x00, buffer.get(1));
+			Assert.assertEquals((byte) 0x04, buffer.get(Guid.SIZE));
+
+			buffer.position(1);
+			Assert.assertEquals(guid, Guid.read(buffer));
+			Assert.assertEquals(Guid.SIZE + 1, buffer.position());
+		}
+		Assert.assertEquals(guid, Guid.fromBytes(guid.toBytes()));
+	}
+
+	@Test
+	public void testEqualsAndCompare() {
+		Guid a = Guid.fromHex("8000000000000000000000000000000000000000");
+		Guid b = Guid.fromHex("0000000000000000000000000000000000000001");
+		Assert.assertEquals(a, Guid.fromHex(a.getGuid()));
+		Assert.assertEquals(a.hashCode(), Guid.fromHex(a.getGuid()).hashCode());
+		Assert.assertNotEquals(a, b);
+		Assert.assertTrue(a.compareTo(b) > 0);
+	}
+
+	@Test
+	public void testOf() {
+		Guid guid = Guid.of("C1E3A2D0-F1F3-448A-B0FC-30C496D2D353:1");
+		Assert.assertNotNull(guid);
+		Assert.assertEquals("c1e3a2d0-f1f3-448a-b0fc-30c496d2d353:1", guid.toGroup());
+		Assert.assertNull(Guid.of("XYZ"));
+		Assert.assertNull(Guid.of(null));
+	}
+
+	@Test
+	public void testOfIgnoresCase() {
+		Guid guid = Guid.of("d0a2e3c1f3f18a44b0fc30c496d2d35301000000");
+		Assert.assertEquals("D0A2E3C1F3F18A44B0FC30C496D2D35301000000", guid.getGuid());
+		Assert.assertEquals(Guid.fromHex("D0A2E3C1F3F18A44B0FC30C496D2D35300000000"), guid.withoutCounter());
+	}
+
+	@Test
+	public void testWithoutCounter() {
+		Guid guid = Guid.fromHex("00112233445566778899AABBCCDDEEFF01020304");
+		ByteBuffer buffer = ByteBuffer.allocate(Guid.SIZE_WITHOUT_COUNTER).order(ByteOrder.LITTLE_ENDIAN);
+		guid.writeWithoutCounter(buffer);
+		Assert.assertFalse(buffer.hasRemaining());
+
+		buffer.flip();
+		Assert.assertEquals(guid.withoutCounter(), Guid.readWithoutCounter(buffer));
+		Assert.assertEquals(Guid.SIZE_WITHOUT_COUNTER, buffer.position());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidHex() {
+		Guid.fromHex("1664D47482E1EB4F9CB1F7AD72F3255A");
+	}
 }
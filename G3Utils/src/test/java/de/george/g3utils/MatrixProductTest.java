@@ -0,0 +1,80 @@
+package de.george.g3utils;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import org.junit.Test;
+
+import com.google.common.primitives.Floats;
+
+import de.george.g3utils.structure.bCBox;
+import de.george.g3utils.structure.bCEulerAngles;
+import de.george.g3utils.structure.bCMatrix;
+import de.george.g3utils.structure.bCVector;
+
+public class MatrixProductTest {
+	private static final bCMatrix A = new bCMatrix(bCEulerAngles.fromDegree(91, -145, 30), new bCVector(1.5f, 2, 0.5f),
+			new bCVector(7500, -54654, 23112));
+	private static final bCMatrix B = new bCMatrix(bCEulerAngles.fromDegree(-12, 33, 170), new bCVector(-320, 17, 4));
+
+	private static float[][] product(float[][] a, float[][] b) {
+		float[][] result = new float[4][4];
+		for (int row = 0; row < 4; row++) {
+			for (int col = 0; col < 4; col++) {
+				for (int i = 0; i < 4; i++) {
+					result[row][col] += b[row][i] * a[i][col];
+				}
+			}
+		}
+		return result;
+	}
+
+	private static void assertMatrixEquals(float[][] expected, bCMatrix actual) {
+		assertArrayEquals(Floats.concat(expected), Floats.concat(actual.toArray()), 0.01f);
+	}
+
+	@Test
+	public void testProduct() {
+		assertMatrixEquals(product(A.toArray(), B.toArray()), A.getProduct(B));
+		assertMatrixEquals(product(B.toArray(), A.toArray()), B.getProduct(A));
+	}
+
+	@Test
+	public void testProductAliasing() {
+		float[][] expected = product(A.toArray(), B.toArray());
+
+		bCMatrix left = A.clone();
+		left.setToProduct(left, B);
+		assertMatrixEquals(expected, left);
+
+		bCMatrix right = B.clone();
+		right.setToProduct(A, right);
+		assertMatrixEquals(expected, right);
+
+		bCMatrix square = A.clone();
+		square.setToProduct(square, square);
+		assertMatrixEquals(product(A.toArray(), A.toArray()), square);
+	}
+
+	@Test
+	public void testInvertInPlace() {
+		bCMatrix inverted = A.clone();
+		inverted.invert();
+		assertMatrixEquals(bCMatrix.getIdentity().toArray(), A.getProduct(inverted));
+		assertMatrixEquals(inverted.toArray(), A.getInverted(new bCMatrix()));
+	}
+
+	@Test
+	public void testTransformBox() {
+		for (bCMatrix matrix : new bCMatrix[] {A, B, new bCMatrix(new float[][] {{1, 0, 0, 0.5f}, {0, 2, 0, 0}, {0, 0, 1, 0}, {3, 4, 5, 1}})}) {
+			bCBox box = new bCBox(new bCVector(-10, 4, -3), new bCVector(25, 80, 1));
+			bCBox expected = new bCBox();
+			for (int i = 0; i < 8; i++) {
+				expected.merge(box.getVertex(i).getTransformed(matrix));
+			}
+
+			box.transform(matrix);
+			assertArrayEquals(expected.getMin().toArray(), box.getMin().toArray(), 0.1f);
+			assertArrayEquals(expected.getMax().toArray(), box.getMax().toArray(), 0.1f);
+		}
+	}
+}
@@ -0,0 +1,85 @@
+package de.george.g3utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.george.g3utils.io.G3FileReaderVirtual;
+
+public class ReaderBackendTest {
+	private static byte[] createData(int size, int seed) {
+		byte[] data = new byte[size];
+		for (int i = 0; i < size; i++) {
+			data[i] = (byte) (i * 31 + seed);
+		}
+		return data;
+	}
+
+	@Test
+	public void testStream() throws IOException {
+		byte[] data = createData(20000, 1);
+		try (G3FileReaderVirtual reader = new G3FileReaderVirtual(new ByteArrayInputStream(data))) {
+			Assert.assertEquals(data.length, reader.getSize());
+			Assert.assertArrayEquals(data, reader.readByteArray(data.length));
+		}
+
+		// Der Buffer des vorherigen Readers wird wiederverwendet
+		byte[] smaller = createData(100, 2);
+		try (G3FileReaderVirtual reader = new G3FileReaderVirtual(new ByteArrayInputStream(smaller))) {
+			Assert.assertEquals(smaller.length, reader.getSize());
+			Assert.assertArrayEquals(smaller, reader.readByteArray(smaller.length));
+		}
+	}
+
+	@Test
+	public void testSharedSliceSurvivesClose() throws IOException {
+		byte[] data = createData(1000, 3);
+		ByteBuffer slice;
+		try (G3FileReaderVirtual reader = new G3FileReaderVirtual(new ByteArrayInputStream(data))) {
+			reader.skip(10);
+			G3FileReaderVirtual nested = new G3FileReaderVirtual(reader.slice(100, 200));
+			nested.skip(50);
+			slice = nested.readSlice(20);
+		}
+
+		try (G3FileReaderVirtual reader = new G3FileReaderVirtual(new ByteArrayInputStream(createData(1000, 4)))) {
+			reader.readByteArray(1000);
+		}
+
+		for (int i = 0; i < 20; i++) {
+			Assert.assertEquals(data[150 + i], slice.get(i));
+		}
+	}
+
+	@Test
+	public void testMapped() throws IOException {
+		byte[] data = createData(4096, 5);
+		File file = File.createTempFile("ReaderBackendTest", ".bin");
+		try {
+			Files.write(file.toPath(), data);
+			ByteBuffer slice;
+			try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+					G3FileReaderVirtual reader = new G3FileReaderVirtual(channel)) {
+				Assert.assertTrue(reader.getBuffer().isDirect());
+				reader.seek(1000);
+				slice = reader.readSlice(16);
+				G3FileReaderVirtual nested = new G3FileReaderVirtual(reader.slice(2000, 100));
+				Assert.assertEquals(100, nested.getSize());
+				Assert.assertEquals(data[2000], nested.readByte());
+			}
+
+			// Kopie, die Datei ist nicht mehr gemappt
+			Assert.assertFalse(slice.isDirect());
+			Assert.assertEquals(data[1015], slice.get(15));
+		} finally {
+			file.delete();
+		}
+	}
+}
@@ -0,0 +1,71 @@
+package de.george.g3utils;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.george.g3utils.io.G3FileReaderEx;
+import de.george.g3utils.structure.StringPool;
+import de.george.g3utils.util.Converter;
+
+public class StringPoolTest {
+	private static byte[] createStringtable(String... entries) {
+		ByteBuffer buffer = ByteBuffer.allocate(1024).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.put((byte) 1).putInt(entries.length);
+		for (String entry : entries) {
+			byte[] bytes = Converter.stringToByteArray(entry);
+			buffer.putShort((short) bytes.length).put(bytes);
+		}
+		byte[] data = new byte[buffer.position()];
+		buffer.flip();
+		buffer.get(data);
+		return data;
+	}
+
+	@Test
+	public void testIntern() {
+		StringPool pool = new StringPool(1024);
+		ByteBuffer buffer = ByteBuffer.wrap(Converter.stringToByteArray("xxgCInventory_PSgCInventory_PSÄ"));
+		String first = pool.intern(buffer, 2, 14);
+		Assert.assertEquals("gCInventory_PS", first);
+		Assert.assertSame(first, pool.intern(buffer, 16, 14));
+		Assert.assertEquals("gCInventory_P", pool.intern(buffer, 2, 13));
+		Assert.assertEquals("Ä", pool.intern(buffer, 30, 1));
+		Assert.assertEquals("", pool.intern(buffer, 0, 0));
+		Assert.assertEquals(0, buffer.position());
+		Assert.assertEquals(4, pool.size());
+	}
+
+	@Test
+	public void testLimit() {
+		StringPool pool = new StringPool(16);
+		for (int i = 0; i < 1000; i++) {
+			Assert.assertEquals("Name" + i, pool.intern(Converter.stringToByteArray("Name" + i)));
+		}
+		Assert.assertTrue(pool.size() <= 16);
+	}
+
+	@Test
+	public void testSharedAcrossReaders() {
+		StringPool pool = new StringPool(1024);
+		G3FileReaderEx first = new G3FileReaderEx(createStringtable("eCPointLight_PS", "Color", "bCFloatColor"));
+		first.setStringPool(pool);
+		first.readStringtable(0);
+		G3FileReaderEx second = new G3FileReaderEx(createStringtable("Color", "eCPointLight_PS"));
+		second.setStringPool(pool);
+		second.readStringtable(0);
+
+		Assert.assertEquals("bCFloatColor", first.getEntry(2));
+		Assert.assertSame(first.getEntry(0), second.getEntry(1));
+		Assert.assertSame(first.getEntry(1), second.getEntry(0));
+		Assert.assertEquals(1, second.getStringtable().getPosition("eCPointLight_PS"));
+
+		G3FileReaderEx unpooled = new G3FileReaderEx(createStringtable("Color"));
+		unpooled.setStringPool(null);
+		unpooled.readStringtable(0);
+		Assert.assertEquals("Color", unpooled.getEntry(0));
+		Assert.assertNotSame(first.getEntry(1), unpooled.getEntry(0));
+	}
+}
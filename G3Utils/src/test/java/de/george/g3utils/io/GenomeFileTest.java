@@ -0,0 +1,123 @@
+package de.george.g3utils.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class GenomeFileTest {
+	private File dir;
+
+	private static class TestFile extends GenomeFile {
+		private final boolean streaming;
+		private final int count;
+		private final int failAt;
+		private final int estimate;
+
+		public TestFile(boolean streaming, int count, int failAt) {
+			// Kleiner Buffer, damit beim Streaming schon vor dem Fehler in die Datei geschrieben wird
+			this(streaming, count, failAt, 64);
+		}
+
+		public TestFile(boolean streaming, int count, int failAt, int estimate) {
+			this.streaming = streaming;
+			this.count = count;
+			this.failAt = failAt;
+			this.estimate = estimate;
+		}
+
+		@Override
+		protected void readInternal(G3FileReaderEx reader) throws IOException {}
+
+		@Override
+		protected void writeInternal(G3FileWriterEx writer) throws IOException {
+			for (int i = 0; i < count; i++) {
+				if (i == failAt) {
+					throw new IOException("Fehler beim Schreiben");
+				}
+				writer.writeInt(i);
+			}
+		}
+
+		@Override
+		protected int estimateSize() {
+			return estimate;
+		}
+
+		@Override
+		protected boolean supportsStreamingSave() {
+			return streaming;
+		}
+	}
+
+	@Before
+	public void setUp() throws IOException {
+		dir = Files.createTempDirectory("GenomeFileTest").toFile();
+	}
+
+	@After
+	public void tearDown() {
+		for (File file : dir.listFiles()) {
+			file.delete();
+		}
+		dir.delete();
+	}
+
+	private void checkFailedSaveKeepsOriginal(boolean streaming) throws IOException {
+		File file = new File(dir, "test.bin");
+		new TestFile(streaming, 100, -1).save(file);
+		byte[] original = Files.readAllBytes(file.toPath());
+
+		try {
+			new TestFile(streaming, 10000, 5000).save(file);
+			Assert.fail("IOException erwartet");
+		} catch (IOException e) {
+			// Erwartet
+		}
+
+		Assert.assertArrayEquals(original, Files.readAllBytes(file.toPath()));
+		Assert.assertArrayEquals(new File[] {file}, dir.listFiles());
+	}
+
+	@Test
+	public void testFailedSaveKeepsOriginal() throws IOException {
+		checkFailedSaveKeepsOriginal(false);
+	}
+
+	@Test
+	public void testFailedStreamingSaveKeepsOriginal() throws IOException {
+		checkFailedSaveKeepsOriginal(true);
+	}
+
+	@Test
+	public void testSaveReplacesFile() throws IOException {
+		File file = new File(dir, "test.bin");
+		Files.write(file.toPath(), new byte[100000]);
+
+		new TestFile(true, 100, -1).save(file);
+		byte[] streamed = Files.readAllBytes(file.toPath());
+		new TestFile(false, 100, -1).save(file);
+
+		Assert.assertArrayEquals(streamed, Files.readAllBytes(file.toPath()));
+		Assert.assertArrayEquals(new File[] {file}, dir.listFiles());
+	}
+
+	@Test
+	public void testLargeEstimateIsCapped() throws IOException {
+		// Würde der Buffer in der geschätzten Größe angelegt, reichte der Heap nicht aus
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		new TestFile(false, 100, -1, Integer.MAX_VALUE - 8).save(out);
+		ByteArrayOutputStream expected = new ByteArrayOutputStream();
+		new TestFile(false, 100, -1).save(expected);
+		Assert.assertArrayEquals(expected.toByteArray(), out.toByteArray());
+
+		File file = new File(dir, "test.bin");
+		new TestFile(false, 100, -1, Integer.MAX_VALUE - 8).save(file);
+		Assert.assertArrayEquals(expected.toByteArray(), Files.readAllBytes(file.toPath()));
+	}
+}
@@ -0,0 +1,78 @@
+package de.george.g3utils.util;
+
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class InstanceFactoriesTest {
+	public static class PublicConstructor {
+		public final boolean constructed;
+
+		public PublicConstructor() {
+			constructed = true;
+		}
+	}
+
+	public static class NoDefaultConstructor {
+		public final boolean constructed;
+		public final String first;
+		public final Integer second;
+
+		public NoDefaultConstructor(String first, Integer second) {
+			constructed = true;
+			this.first = first;
+			this.second = second;
+		}
+	}
+
+	public static class PrivateConstructor {
+		public final boolean constructed;
+
+		private PrivateConstructor() {
+			constructed = true;
+		}
+	}
+
+	@Test
+	public void testPublicConstructor() {
+		Supplier<PublicConstructor> factory = InstanceFactories.instanceFactory(PublicConstructor.class);
+		Assert.assertSame(factory, InstanceFactories.instanceFactory(PublicConstructor.class));
+
+		// Über LambdaMetafactory wird der Konstruktor aufgerufen
+		PublicConstructor instance = factory.get();
+		Assert.assertTrue(instance.constructed);
+		Assert.assertNotSame(instance, factory.get());
+		Assert.assertTrue(InstanceFactories.constructor(PublicConstructor.class).get().constructed);
+	}
+
+	@Test
+	public void testObjenesisFallback() {
+		// Ohne zugänglichen, parameterlosen Konstruktor erzeugt Objenesis die Instanz ohne
+		// Konstruktoraufruf
+		NoDefaultConstructor noDefault = InstanceFactories.instanceFactory(NoDefaultConstructor.class).get();
+		Assert.assertEquals(NoDefaultConstructor.class, noDefault.getClass());
+		Assert.assertFalse(noDefault.constructed);
+		Assert.assertNull(noDefault.first);
+
+		PrivateConstructor privateConstructor = InstanceFactories.instanceFactory(PrivateConstructor.class).get();
+		Assert.assertEquals(PrivateConstructor.class, privateConstructor.getClass());
+		Assert.assertFalse(privateConstructor.constructed);
+	}
+
+	@Test
+	public void testConstructorWithArguments() {
+		BiFunction<String, Integer, NoDefaultConstructor> factory = InstanceFactories.constructor(NoDefaultConstructor.class, String.class,
+				Integer.class);
+		NoDefaultConstructor instance = factory.apply("First", 2);
+		Assert.assertTrue(instance.constructed);
+		Assert.assertEquals("First", instance.first);
+		Assert.assertEquals(Integer.valueOf(2), instance.second);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testMissingConstructor() {
+		InstanceFactories.constructor(NoDefaultConstructor.class);
+	}
+}
@@ -0,0 +1,72 @@
+package de.george.lrentnode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.bind.DatatypeConverter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import de.george.g3utils.io.G3FileReaderEx;
+import de.george.lrentnode.properties.PropertyInstantiator;
+import de.george.lrentnode.util.ClassUtil;
+
+/**
+ * Misst das Instanziieren von PropertySets und Properties beim Einlesen, anhand der Klassen aus
+ * {@link SerializationFixtures}.
+ * <p>
+ * {@link #readClasses(Blackhole)} liest die Klassen vollständig ein, {@link #newPropertyInstances(Blackhole)}
+ * misst nur das Erzeugen der Property-Instanzen über {@link PropertyInstantiator}. Für den Vergleich
+ * mit der Instanziierung per Reflection bzw. Objenesis wird der Benchmark zusätzlich auf dem Stand
+ * vor der Umstellung ausgeführt.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class InstantiationBenchmark {
+	// @foff
+	private static final String[] PROPERTY_TYPES = {
+			"bool", "int", "float", "unsigned long", "bCString", "bCVector", "bCEulerAngles", "bCFloatColor", "bCGuid", "eCEntityProxy",
+			"bTObjArray<class eCEntityProxy>", "bTValArray<float>", "bCRange1", "bCMatrix"
+	};
+	// @fon
+
+	private byte[][] classes;
+
+	@Setup
+	public void decodeFixtures() {
+		List<byte[]> decoded = new ArrayList<>();
+		SerializationFixtures.forEachClass((className, data) -> decoded.add(DatatypeConverter.parseHexBinary(data)));
+		classes = decoded.toArray(new byte[0][]);
+	}
+
+	@Benchmark
+	public void readClasses(Blackhole bh) {
+		for (byte[] data : classes) {
+			G3FileReaderEx reader = new G3FileReaderEx(data);
+			reader.readStringtable(reader.readInt());
+			bh.consume(ClassUtil.readClass(reader));
+		}
+	}
+
+	@Benchmark
+	public void newPropertyInstances(Blackhole bh) {
+		for (String type : PROPERTY_TYPES) {
+			bh.consume(PropertyInstantiator.getPropertyInstance("Benchmark", type));
+		}
+	}
+}
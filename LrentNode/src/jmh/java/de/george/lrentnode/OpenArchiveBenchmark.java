@@ -0,0 +1,107 @@
+package de.george.lrentnode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import de.george.g3utils.io.G3FileReaderEx;
+import de.george.g3utils.io.GenomeFile;
+import de.george.lrentnode.archive.lrentdat.LrentdatFile;
+import de.george.lrentnode.util.FileUtil;
+
+/**
+ * Misst den Durchsatz von {@link FileUtil#openArchive(G3FileReaderEx, boolean)} über alle
+ * .node/.lrentdat Dateien unterhalb von {@code corpus} (z.B. {@code Data/_compiledNode}).
+ * <p>
+ * Die Dateien werden vorab in den Speicher geladen, gemessen wird also nur das Parsen. Für den
+ * Vergleich mit der hex-basierten Signaturprüfung dient {@link #detectArchiveTypeHex(Blackhole)},
+ * für den Vergleich des gesamten {@code openArchive} wird der Benchmark zusätzlich auf dem Stand
+ * vor der Umstellung ausgeführt.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class OpenArchiveBenchmark {
+	@Param("")
+	public String corpus;
+
+	private byte[][] files;
+
+	@Setup
+	public void loadCorpus() throws IOException {
+		if (corpus.isEmpty()) {
+			throw new IllegalArgumentException("Kein Korpus angegeben, Aufruf mit -p corpus=<Verzeichnis>.");
+		}
+
+		List<Path> paths;
+		try (Stream<Path> stream = Files.walk(Paths.get(corpus))) {
+			paths = stream.filter(Files::isRegularFile).filter(p -> {
+				String name = p.getFileName().toString().toLowerCase();
+				return name.endsWith(".node") || name.endsWith(".lrentdat");
+			}).collect(Collectors.toList());
+		}
+
+		files = new byte[paths.size()][];
+		for (int i = 0; i < files.length; i++) {
+			files[i] = Files.readAllBytes(paths.get(i));
+		}
+	}
+
+	@Benchmark
+	public void openArchive(Blackhole bh) throws IOException {
+		for (byte[] file : files) {
+			bh.consume(FileUtil.openArchive(new G3FileReaderEx(file), false));
+		}
+	}
+
+	@Benchmark
+	public void openArchiveLazy(Blackhole bh) throws IOException {
+		for (byte[] file : files) {
+			bh.consume(FileUtil.openArchiveLazy(new G3FileReaderEx(file), false));
+		}
+	}
+
+	@Benchmark
+	public void openArchiveSkipPropertySets(Blackhole bh) throws IOException {
+		for (byte[] file : files) {
+			bh.consume(FileUtil.openArchive(new G3FileReaderEx(file), false, true));
+		}
+	}
+
+	@Benchmark
+	public void detectArchiveType(Blackhole bh) {
+		for (byte[] file : files) {
+			G3FileReaderEx reader = new G3FileReaderEx(file);
+			bh.consume(GenomeFile.isGenomeFile(reader) && reader.matchesSilent(14, LrentdatFile.GENOMEDL));
+		}
+	}
+
+	@Benchmark
+	public void detectArchiveTypeHex(Blackhole bh) {
+		for (byte[] file : files) {
+			G3FileReaderEx reader = new G3FileReaderEx(file);
+			bh.consume(reader.readSilent(8).equals("47454E4F4D464C45") && reader.readSilent(14, 8).equals("47454E4F4D45444C"));
+		}
+	}
+}
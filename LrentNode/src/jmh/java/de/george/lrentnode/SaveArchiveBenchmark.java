@@ -0,0 +1,91 @@
+package de.george.lrentnode;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.george.lrentnode.archive.ArchiveFile;
+import de.george.lrentnode.archive.eCEntity;
+import de.george.lrentnode.archive.node.NodeEntity;
+import de.george.lrentnode.util.FileUtil;
+
+/**
+ * Misst das Speichern einer synthetischen .node Datei mit {@code entityCount} Entities, die in
+ * Gruppen von {@code groupSize} Entities unterhalb der RootEntity angeordnet sind.
+ * <p>
+ * {@link #saveToStream()} baut die Datei vollständig im Speicher auf, {@link #saveToFile()} schreibt
+ * sie direkt in einen {@code FileChannel}. Für den Vergleich wird der Benchmark zusätzlich auf dem
+ * Stand vor der Umstellung ausgeführt.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SaveArchiveBenchmark {
+	@Param("50000")
+	public int entityCount;
+
+	@Param("100")
+	public int groupSize;
+
+	private ArchiveFile archive;
+	private File target;
+
+	private static final OutputStream NULL_STREAM = new OutputStream() {
+		@Override
+		public void write(int b) {}
+
+		@Override
+		public void write(byte[] b, int off, int len) {}
+	};
+
+	@Setup
+	public void createArchive() throws IOException {
+		archive = FileUtil.createEmptyNode();
+		eCEntity group = null;
+		for (int i = 1; i < entityCount; i++) {
+			NodeEntity entity = new NodeEntity(true);
+			entity.setName("Entity_" + i);
+			if (group == null || group.getChilds().size() >= groupSize) {
+				archive.getGraph().attachChild(entity);
+				group = entity;
+			} else {
+				group.attachChild(entity);
+			}
+		}
+
+		target = File.createTempFile("SaveArchiveBenchmark", ".node");
+	}
+
+	@TearDown(Level.Trial)
+	public void deleteTarget() {
+		target.delete();
+	}
+
+	@Benchmark
+	public void saveToStream() throws IOException {
+		archive.save(NULL_STREAM);
+	}
+
+	@Benchmark
+	public void saveToFile() throws IOException {
+		archive.save(target);
+	}
+}
@@ -0,0 +1,92 @@
+package de.george.lrentnode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import de.george.g3utils.io.G3FileReaderEx;
+import de.george.g3utils.structure.StringPool;
+import de.george.lrentnode.util.FileUtil;
+
+/**
+ * Vergleicht das Einlesen aller .node/.lrentdat Dateien unterhalb von {@code corpus} mit und ohne
+ * {@link StringPool}. Die Allokationsrate liefert der GC-Profiler von JMH, z.B.
+ * {@code gradlew :LrentNode:jmh -Pcorpus=<Verzeichnis> -Pbenchmark=StringPoolBenchmark -Pprofiler=gc}
+ * (Kennzahl {@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StringPoolBenchmark {
+	@Param("")
+	public String corpus;
+
+	@Param({"true", "false"})
+	public boolean pooled;
+
+	private byte[][] files;
+
+	@Setup
+	public void loadCorpus() throws IOException {
+		if (corpus.isEmpty()) {
+			throw new IllegalArgumentException("Kein Korpus angegeben, Aufruf mit -p corpus=<Verzeichnis>.");
+		}
+
+		List<Path> paths;
+		try (Stream<Path> stream = Files.walk(Paths.get(corpus))) {
+			paths = stream.filter(Files::isRegularFile).filter(p -> {
+				String name = p.getFileName().toString().toLowerCase();
+				return name.endsWith(".node") || name.endsWith(".lrentdat");
+			}).collect(Collectors.toList());
+		}
+
+		files = new byte[paths.size()][];
+		for (int i = 0; i < files.length; i++) {
+			files[i] = Files.readAllBytes(paths.get(i));
+		}
+	}
+
+	private G3FileReaderEx createReader(byte[] file) {
+		G3FileReaderEx reader = new G3FileReaderEx(file);
+		reader.setStringPool(pooled ? StringPool.shared() : null);
+		return reader;
+	}
+
+	@Benchmark
+	public void readStringtables(Blackhole bh) {
+		for (byte[] file : files) {
+			G3FileReaderEx reader = createReader(file);
+			reader.skip(10);
+			reader.readStringtable(reader.readInt() + 4);
+			bh.consume(reader.getStringtable());
+		}
+	}
+
+	@Benchmark
+	public void openArchive(Blackhole bh) throws IOException {
+		for (byte[] file : files) {
+			bh.consume(FileUtil.openArchive(createReader(file), false));
+		}
+	}
+}
@@ -1,16 +1,58 @@
 package de.george.lrentnode.archive;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import com.google.common.collect.FluentIterable;
-import com.google.common.collect.Iterables;
+import com.google.common.collect.ImmutableList;
 
 import de.george.g3utils.io.GenomeFile;
+import de.george.g3utils.structure.Guid;
 
 public abstract class AbstractEntityFile<T extends eCEntity> extends GenomeFile implements Iterable<T> {
 	protected T graph;
 
+	// Wird bei der ersten Abfrage aufgebaut und verworfen, sobald sich der Änderungszähler des Graphen ändert
+	private volatile EntityIndex<T> index;
+
+	/**
+	 * Index über alle Entities des Graphen in Pre-Order-Reihenfolge. Bei mehrfach vorkommenden Guids
+	 * oder Namen gilt, wie bei einer linearen Suche, die erste Entity.
+	 */
+	private static class EntityIndex<T extends eCEntity> {
+		private final T graph;
+		private final int modCount;
+		private final List<T> entities;
+		private final Map<T, Integer> positions;
+		private final Map<Guid, T> byGuid = new HashMap<>();
+		private final Map<String, List<T>> byName = new HashMap<>();
+
+		public EntityIndex(T graph) {
+			this.graph = graph;
+			modCount = graph != null ? graph.getModCount() : 0;
+			entities = graph != null ? EntityTreeTraverser.traversePreOrder(graph).toList() : ImmutableList.of();
+			positions = new IdentityHashMap<>(entities.size());
+			for (int i = 0; i < entities.size(); i++) {
+				T entity = entities.get(i);
+				positions.put(entity, i);
+				if (entity.getGuidValue() != null) {
+					byGuid.putIfAbsent(entity.getGuidValue(), entity);
+				}
+				byName.computeIfAbsent(entity.getName(), n -> new ArrayList<>(1)).add(entity);
+			}
+		}
+
+		public boolean isValidFor(T currentGraph) {
+			return graph == currentGraph && (graph == null || graph.getModCount() == modCount);
+		}
+	}
+
 	public FluentIterable<T> getEntities() {
 		return EntityTreeTraverser.traversePreOrder(graph);
 	}
@@ -20,24 +62,50 @@ public abstract class AbstractEntityFile<T extends eCEntity> extends GenomeFile
 		return getEntities().iterator();
 	}
 
+	/**
+	 * Liefert den Index über den Graphen, und baut ihn bei Bedarf (neu) auf. Änderungen über
+	 * {@link eCEntity} (Childs, Namen, Guids) werden erkannt, dürfen aber nicht parallel zu Abfragen
+	 * erfolgen.
+	 */
+	private EntityIndex<T> getIndex() {
+		EntityIndex<T> current = index;
+		if (current == null || !current.isValidFor(graph)) {
+			current = new EntityIndex<>(graph);
+			index = current;
+		}
+		return current;
+	}
+
 	public Optional<T> getEntityByName(String name) {
-		return getEntities().firstMatch(e -> e.getName().equals(name)).toJavaUtil();
+		List<T> entities = getIndex().byName.get(name);
+		return entities != null ? Optional.of(entities.get(0)) : Optional.empty();
+	}
+
+	/**
+	 * @return Alle Entities mit dem Namen {@code name}, in Pre-Order-Reihenfolge
+	 */
+	public List<T> getEntitiesByName(String name) {
+		return Collections.unmodifiableList(getIndex().byName.getOrDefault(name, Collections.emptyList()));
 	}
 
 	public Optional<T> getEntityByGuid(String guid) {
-		return getEntities().firstMatch(e -> e.getGuid().equals(guid)).toJavaUtil();
+		return getEntityByGuid(Guid.of(guid));
+	}
+
+	public Optional<T> getEntityByGuid(Guid guid) {
+		return guid != null ? Optional.ofNullable(getIndex().byGuid.get(guid)) : Optional.empty();
 	}
 
 	public int getEntityCount() {
-		return getEntities().size();
+		return getIndex().entities.size();
 	}
 
 	public T getEntityByPosition(int position) {
-		return getEntities().get(position);
+		return getIndex().entities.get(position);
 	}
 
 	public int getEntityPosition(T entity) {
-		return Iterables.indexOf(getEntities(), e -> e.equals(entity));
+		return getIndex().positions.getOrDefault(entity, -1);
 	}
 
 	public T getGraph() {
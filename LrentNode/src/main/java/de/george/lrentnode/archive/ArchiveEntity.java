@@ -4,20 +4,25 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import de.george.g3utils.io.G3FileReader;
+import de.george.g3utils.io.G3FileReaderEx;
 import de.george.g3utils.io.G3FileWriter;
+import de.george.g3utils.structure.Guid;
 import de.george.g3utils.structure.bCMatrix;
 import de.george.g3utils.structure.bCSphere;
+import de.george.g3utils.util.Misc;
 import de.george.lrentnode.util.ClassUtil;
 
 public abstract class ArchiveEntity extends eCEntity {
 	private static final Logger logger = LoggerFactory.getLogger(ArchiveEntity.class);
 
+	private static final byte[] ENTITY_HEADER = Misc.asByte("53000100");
+
 	protected ArchiveFile file;
 
 	protected boolean unkFlag1; // eSEntityFlags:__FIXME_10 @ 0x400
 	protected boolean locked;
 
-	protected String creator;
+	protected Guid creator;
 
 	public ArchiveEntity(boolean initialize) {
 		super(initialize);
@@ -39,11 +44,19 @@ public abstract class ArchiveEntity extends eCEntity {
 	}
 
 	@Override
-	public void read(G3FileReader reader, boolean skipPropertySets) {
-		if (!reader.read(4).equals("53000100")) {
+	public final void read(G3FileReader reader, boolean skipPropertySets) {
+		read(reader, skipPropertySets, false);
+	}
+
+	/**
+	 * @param lazyPropertySets Die PropertySets erst beim ersten Zugriff dekodieren, siehe
+	 *            {@link G3ClassContainer#addEncodedClass(ClassUtil.EncodedClass)}
+	 */
+	public void read(G3FileReader reader, boolean skipPropertySets, boolean lazyPropertySets) {
+		if (!reader.readMatches(ENTITY_HEADER)) {
 			reader.warn(logger, "(1) ArchiveEntity unerwartete Dateistruktur.");
 		}
-		setGuid(reader.readGUID());
+		setGuidValue(reader.readGuidValue());
 		enabled = reader.readBool();
 		renderingEnabled = reader.readBool();
 		processingDisabled = reader.readBool();
@@ -77,18 +90,20 @@ public abstract class ArchiveEntity extends eCEntity {
 
 		int numberClassEntries = reader.readInt();
 		for (int i = 0; i < numberClassEntries; i++) {
-			if (!skipPropertySets) {
-				addClass(ClassUtil.readClass(reader));
-			} else {
+			if (skipPropertySets) {
 				ClassUtil.skipClass(reader);
+			} else if (lazyPropertySets && reader instanceof G3FileReaderEx) {
+				addEncodedClass(ClassUtil.readEncodedClass((G3FileReaderEx) reader));
+			} else {
+				addClass(ClassUtil.readClass(reader));
 			}
 		}
 	}
 
 	@Override
 	public void write(G3FileWriter writer) {
-		writer.write("53000100");
-		writer.write(getGuid());
+		writer.write(ENTITY_HEADER);
+		writer.writeGuid(getGuidValue());
 		writer.writeBool(enabled);
 		writer.writeBool(renderingEnabled);
 		writer.writeBool(processingDisabled);
@@ -119,7 +134,7 @@ public abstract class ArchiveEntity extends eCEntity {
 		writer.writeFloat(uniformScaling);
 		writer.writeBool(rangedObjectCulling);
 		writer.writeBool(processingRangeOutFadingEnabled);
-		writeClasses(ClassUtil::writeClass, writer);
+		writeClasses(ClassUtil::writeClass, ClassUtil::writeEncodedClass, writer);
 
 	}
 
@@ -132,12 +147,12 @@ public abstract class ArchiveEntity extends eCEntity {
 	}
 
 	@Override
-	public String getCreator() {
+	public Guid getCreatorValue() {
 		return creator;
 	}
 
 	@Override
-	public void setCreator(String creator) {
+	public void setCreatorValue(Guid creator) {
 		this.creator = creator;
 	}
 
@@ -160,6 +175,15 @@ public abstract class ArchiveEntity extends eCEntity {
 		this.locked = locked;
 	}
 
+	@Override
+	protected void copyEntityData(eCEntity entity) {
+		super.copyEntityData(entity);
+		ArchiveEntity archiveEntity = (ArchiveEntity) entity;
+		unkFlag1 = archiveEntity.unkFlag1;
+		locked = archiveEntity.locked;
+		creator = archiveEntity.creator;
+	}
+
 	@Override
 	public void copyEntityPrivateData(eCEntity entity, boolean justCreated) {
 		super.copyEntityPrivateData(entity, justCreated);
@@ -3,7 +3,9 @@ package de.george.lrentnode.archive;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.google.common.collect.ImmutableList;
@@ -12,6 +14,8 @@ import de.george.g3utils.io.G3FileReaderEx;
 import de.george.g3utils.io.G3FileWriterEx;
 
 public abstract class ArchiveFile extends AbstractEntityFile<eCEntity> {
+	// Grobe Schätzung für die Größe einer Entity inklusive ihrer PropertySets
+	private static final int ESTIMATED_ENTITY_SIZE = 2048;
 
 	public enum ArchiveType {
 		Lrentdat,
@@ -22,10 +26,20 @@ public abstract class ArchiveFile extends AbstractEntityFile<eCEntity> {
 	private List<eCEntity> orphanEntities;
 
 	protected boolean skipPropertySets;
+	protected boolean lazyPropertySets;
 
 	public ArchiveFile(boolean verifyEntityGraph, boolean skipPropertySets) {
+		this(verifyEntityGraph, skipPropertySets, false);
+	}
+
+	/**
+	 * @param lazyPropertySets Die PropertySets der Entities erst beim ersten Zugriff dekodieren.
+	 *            Unveränderte PropertySets werden beim Speichern unverändert übernommen.
+	 */
+	public ArchiveFile(boolean verifyEntityGraph, boolean skipPropertySets, boolean lazyPropertySets) {
 		this.verifyEntityGraph = verifyEntityGraph;
 		this.skipPropertySets = skipPropertySets;
+		this.lazyPropertySets = lazyPropertySets;
 	}
 
 	public abstract ArchiveType getArchiveType();
@@ -175,21 +189,35 @@ public abstract class ArchiveFile extends AbstractEntityFile<eCEntity> {
 	protected void writeInternal(G3FileWriterEx writer) {
 		// Entities schreiben
 		ImmutableList<eCEntity> entities = getEntities().toList();
+		Map<eCEntity, Integer> positions = new IdentityHashMap<>(entities.size());
 		writer.writeInt(entities.size());
 		for (eCEntity entity : entities) {
+			positions.put(entity, positions.size());
 			writeEntity(writer, entity);
 		}
 
 		// SubEntityDefinition schreiben
 		for (eCEntity entity : entities) {
+			int parentIndex = positions.get(entity);
 			for (eCEntity child : entity.getChilds()) {
-				writer.writeInt(entities.indexOf(entity)).writeInt(entities.indexOf(child));
+				writer.writeInt(parentIndex).writeInt(positions.get(child));
 			}
 		}
 
 		writer.writeInt(-1).writeInt(-1);
 	}
 
+	@Override
+	protected int estimateSize() {
+		long estimate = 1024 + (long) getEntityCount() * ESTIMATED_ENTITY_SIZE;
+		return (int) Math.min(estimate, Integer.MAX_VALUE - 8);
+	}
+
+	@Override
+	protected boolean supportsStreamingSave() {
+		return true;
+	}
+
 	public List<eCEntity> pullOrphanEntities() {
 		List<eCEntity> result = orphanEntities != null ? orphanEntities : Collections.emptyList();
 		// Referenzen freigeben
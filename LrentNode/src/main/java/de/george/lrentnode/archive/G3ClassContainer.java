@@ -6,6 +6,8 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
 
 import de.george.g3utils.io.G3FileWriter;
 import de.george.g3utils.io.G3Serializable;
@@ -14,48 +16,135 @@ import de.george.lrentnode.classes.G3Class;
 import de.george.lrentnode.classes.desc.ClassDescriptor;
 import de.george.lrentnode.classes.desc.PropertyDescriptor;
 import de.george.lrentnode.classes.desc.PropertyDescriptorRegistry;
+import de.george.lrentnode.util.ClassUtil.EncodedClass;
 import de.george.lrentnode.util.ClassUtil.G3ClassHolder;
+import de.george.lrentnode.util.InternedNames;
 
+/**
+ * Enthält die Klassen (PropertySets) einer Entity.
+ * <p>
+ * Mit {@link #addEncodedClass(EncodedClass)} hinzugefügte Klassen werden erst beim ersten Zugriff
+ * dekodiert. Da dies auch bei lesenden Zugriffen geschieht, sind alle Zugriffe auf die Klassen
+ * synchronisiert.
+ */
 public class G3ClassContainer {
 
+	// null für noch nicht dekodierte Klassen
 	private List<G3Class> classes;
 	private List<Integer> classVersions;
+	// null, solange keine Klasse über addEncodedClass() hinzugefügt wurde
+	private List<EncodedClass> encodedClasses;
+	// IDs der Klassennamen (InternedNames), wird bei der ersten Suche aufgebaut und bei jeder
+	// Änderung der Klassenliste verworfen
+	private transient int[] classIds;
 
 	public G3ClassContainer() {
 		classes = new ArrayList<>();
 		classVersions = new ArrayList<>();
 	}
 
-	@SuppressWarnings("unchecked")
-	public <T extends G3Class> T getClass(String type) {
-		for (G3Class clazz : classes) {
-			if (clazz.typeEqual(type)) {
-				return (T) clazz;
+	private String getClassName(int index) {
+		G3Class clazz = classes.get(index);
+		return clazz != null ? clazz.getClassName() : encodedClasses.get(index).getClassName();
+	}
+
+	private synchronized G3Class getClassAt(int index) {
+		G3Class clazz = classes.get(index);
+		if (clazz == null) {
+			clazz = encodedClasses.get(index).decode();
+			classes.set(index, clazz);
+			encodedClasses.set(index, null);
+		}
+		return clazz;
+	}
+
+	private int[] getClassIds() {
+		if (classIds == null) {
+			int[] ids = new int[classes.size()];
+			for (int i = 0; i < ids.length; i++) {
+				ids[i] = InternedNames.intern(getClassName(i));
 			}
+			classIds = ids;
 		}
-		return null;
+		return classIds;
 	}
 
-	@SuppressWarnings("unchecked")
-	public <T extends G3Class> T getClass(Set<String> types) {
-		for (G3Class clazz : classes) {
-			if (types.contains(clazz.getClassName())) {
-				return (T) clazz;
+	private synchronized int findClass(int id) {
+		if (id == InternedNames.UNKNOWN) {
+			return -1;
+		}
+
+		int[] ids = getClassIds();
+		for (int i = 0; i < ids.length; i++) {
+			if (ids[i] == id) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private synchronized int findClass(String type) {
+		// Die Namen der enthaltenen Klassen müssen bereits eine ID haben, sonst liefert lookup()
+		// für sie UNKNOWN
+		getClassIds();
+		return findClass(InternedNames.lookup(type));
+	}
+
+	private synchronized int findClass(int[] candidateIds) {
+		int[] ids = getClassIds();
+		for (int i = 0; i < ids.length; i++) {
+			for (int candidateId : candidateIds) {
+				if (ids[i] == candidateId) {
+					return i;
+				}
 			}
 		}
-		return null;
+		return -1;
+	}
+
+	private synchronized int findClass(Predicate<String> typeFilter) {
+		for (int i = 0; i < classes.size(); i++) {
+			if (typeFilter.test(getClassName(i))) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private synchronized void decodeAll() {
+		if (encodedClasses != null) {
+			for (int i = 0; i < classes.size(); i++) {
+				getClassAt(i);
+			}
+			encodedClasses = null;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	public <T extends G3Class> T getClass(String type) {
+		int index = findClass(type);
+		return index != -1 ? (T) getClassAt(index) : null;
+	}
+
+	@SuppressWarnings("unchecked")
+	public <T extends G3Class> T getClass(Set<String> types) {
+		int index = findClass(types::contains);
+		return index != -1 ? (T) getClassAt(index) : null;
 	}
 
+	@SuppressWarnings("unchecked")
 	public <T extends G3Class> T getClass(Class<? extends ClassDescriptor> descriptor) {
-		return getClass(ClassDescriptor.getName(descriptor));
+		int index = findClass(ClassDescriptor.getNameId(descriptor));
+		return index != -1 ? (T) getClassAt(index) : null;
 	}
 
+	@SuppressWarnings("unchecked")
 	public <T extends G3Class> T getClassOrDerived(Class<? extends ClassDescriptor> descriptor) {
-		T clazz = getClass(descriptor);
-		if (clazz == null) {
-			clazz = getClass(PropertyDescriptorRegistry.getInstance().derivedPropertySetNames(descriptor));
+		int index = findClass(ClassDescriptor.getNameId(descriptor));
+		if (index == -1) {
+			index = findClass(PropertyDescriptorRegistry.getInstance().derivedPropertySetIds(descriptor));
 		}
-		return clazz;
+		return index != -1 ? (T) getClassAt(index) : null;
 	}
 
 	public <T extends G3Class> Optional<T> getClassOptional(String type) {
@@ -66,11 +155,12 @@ public class G3ClassContainer {
 		return Optional.ofNullable(getClass(descriptor));
 	}
 
-	public int getClassVersion(G3Class clazz) {
+	public synchronized int getClassVersion(G3Class clazz) {
 		return classVersions.get(classes.indexOf(clazz));
 	}
 
-	public List<G3Class> getClasses() {
+	public synchronized List<G3Class> getClasses() {
+		decodeAll();
 		return Collections.unmodifiableList(classes);
 	}
 
@@ -78,25 +168,48 @@ public class G3ClassContainer {
 		return addClass(holder.getClazz(), holder.getClassVersion());
 	}
 
-	public boolean addClass(G3Class clazz, int classVersion) {
+	public synchronized boolean addClass(G3Class clazz, int classVersion) {
 		if (hasClass(clazz.getClassName())) {
 			return false;
 		}
 
 		classes.add(clazz);
 		classVersions.add(classVersion);
+		classIds = null;
+		if (encodedClasses != null) {
+			encodedClasses.add(null);
+		}
+		return true;
+	}
+
+	/**
+	 * Fügt {@code clazz} hinzu, ohne sie zu dekodieren. Das geschieht erst beim ersten Zugriff auf
+	 * die Klasse.
+	 */
+	public synchronized boolean addEncodedClass(EncodedClass clazz) {
+		if (hasClass(clazz.getClassName())) {
+			return false;
+		}
+
+		if (encodedClasses == null) {
+			encodedClasses = new ArrayList<>(Collections.nCopies(classes.size(), null));
+		}
+		classes.add(null);
+		classVersions.add(clazz.getClassVersion());
+		classIds = null;
+		encodedClasses.add(clazz);
 		return true;
 	}
 
 	public boolean hasClass(String type) {
-		return getClass(type) != null;
+		return findClass(type) != -1;
 	}
 
 	public boolean hasClass(Class<? extends ClassDescriptor> descriptor) {
-		return getClass(descriptor) != null;
+		return findClass(ClassDescriptor.getNameId(descriptor)) != -1;
 	}
 
-	public int getClassCount() {
+	public synchronized int getClassCount() {
 		return classes.size();
 	}
 
@@ -104,29 +217,73 @@ public class G3ClassContainer {
 		removeClass(ClassDescriptor.getName(descriptor));
 	}
 
-	public void removeClass(String type) {
-		G3Class clazz = getClass(type);
-		if (clazz != null) {
-			int index = classes.indexOf(clazz);
-			classes.remove(clazz);
+	public synchronized void removeClass(String type) {
+		int index = findClass(type);
+		if (index != -1) {
+			classes.remove(index);
 			classVersions.remove(index);
+			classIds = null;
+			if (encodedClasses != null) {
+				encodedClasses.remove(index);
+			}
 		}
 	}
 
-	public boolean replaceClass(G3Class clazz) {
-		for (int i = 0; i < classes.size(); i++) {
-			if (classes.get(i).getClassName().equals(clazz.getClassName())) {
-				classes.set(i, clazz);
-				return true;
+	public synchronized boolean replaceClass(G3Class clazz) {
+		int index = findClass(clazz.getClassName());
+		if (index != -1) {
+			classes.set(index, clazz);
+			if (encodedClasses != null) {
+				encodedClasses.set(index, null);
 			}
+			return true;
 		}
 		return false;
 	}
 
+	/**
+	 * Ersetzt die Klassen durch tiefe Kopien ({@link G3Class#copy()}) der Klassen von
+	 * {@code source}. Noch nicht dekodierte Klassen von {@code source} werden dafür dekodiert.
+	 */
+	protected void copyClasses(G3ClassContainer source) {
+		List<G3Class> copiedClasses;
+		List<Integer> copiedVersions;
+		synchronized (source) {
+			source.decodeAll();
+			copiedClasses = new ArrayList<>(source.classes.size());
+			for (G3Class clazz : source.classes) {
+				copiedClasses.add(clazz.copy());
+			}
+			copiedVersions = new ArrayList<>(source.classVersions);
+		}
+
+		synchronized (this) {
+			classes = copiedClasses;
+			classVersions = copiedVersions;
+			encodedClasses = null;
+			classIds = null;
+		}
+	}
+
 	protected void writeClasses(TriConsumer<G3FileWriter, G3Class, Integer> consumer, G3FileWriter writer) {
+		writeClasses(consumer, null, writer);
+	}
+
+	/**
+	 * @param encodedConsumer Schreibt noch nicht dekodierte Klassen unverändert, sofern
+	 *            {@link EncodedClass#canWriteTo(G3FileWriter)}. Bei {@code null} werden diese vorher
+	 *            dekodiert.
+	 */
+	protected synchronized void writeClasses(TriConsumer<G3FileWriter, G3Class, Integer> consumer,
+			BiConsumer<G3FileWriter, EncodedClass> encodedConsumer, G3FileWriter writer) {
 		writer.writeInt(getClassCount());
 		for (int i = 0; i < getClassCount(); i++) {
-			consumer.accept(writer, classes.get(i), classVersions.get(i));
+			EncodedClass encoded = encodedClasses != null ? encodedClasses.get(i) : null;
+			if (encoded != null && encodedConsumer != null && encoded.canWriteTo(writer)) {
+				encodedConsumer.accept(writer, encoded);
+			} else {
+				consumer.accept(writer, getClassAt(i), classVersions.get(i));
+			}
 		}
 	}
 
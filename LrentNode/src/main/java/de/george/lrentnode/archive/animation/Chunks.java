@@ -1,10 +1,17 @@
 package de.george.lrentnode.archive.animation;
 
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.stream.Stream;
 
+import com.google.common.base.Preconditions;
+
 import de.george.g3utils.io.G3FileReader;
+import de.george.g3utils.io.G3FileReaderVirtual;
 import de.george.g3utils.io.G3FileWriter;
 import de.george.g3utils.io.G3Serializable;
 import de.george.g3utils.structure.bCQuaternion;
@@ -185,12 +192,19 @@ public abstract class Chunks {
 		}
 	}
 
+	/**
+	 * Die Vertices werden nicht einzeln eingelesen, sondern als Ausschnitt des Dateibuffers
+	 * gehalten. Einzelne {@link Vertex} Objekte entstehen erst durch {@link #getVertex(int)} bzw.
+	 * {@link #getVertices()}, für die Weiterverarbeitung ganzer Meshes gibt es
+	 * {@link #getPositionsXYZ()}, {@link #getNormalsXYZ()} und {@link #getUVs(int)}.
+	 */
 	public static class Submesh implements G3Serializable {
 		public int matID;
 		public int numUVSets;
 		public byte[] padding;
-		public List<Vertex> vertices;
-		public List<Integer> indices;
+		public int[] indices;
+		private int vertexSize;
+		private ByteBuffer vertexData;
 
 		@Override
 		public void read(G3FileReader reader) {
@@ -212,9 +226,9 @@ public abstract class Chunks {
 			padding = reader.readByteArray(2);
 			int numIndices = reader.readInt();
 			int numVerts = reader.readInt();
-			int vertexSize = 28 + 8 * numUVSets;
-			vertices = reader.readList(r -> r.read(Vertex.class, vertexSize), numVerts);
-			indices = reader.readList(G3FileReader::readInt, numIndices);
+			vertexSize = 28 + 8 * numUVSets;
+			vertexData = reader.readSlice(numVerts * vertexSize);
+			indices = reader.readIntArray(numIndices);
 		}
 
 		@Override
@@ -222,10 +236,71 @@ public abstract class Chunks {
 			writer.writeUnsignedByte(matID);
 			writer.writeUnsignedByte(numUVSets);
 			writer.write(padding);
-			writer.writeInt(indices.size());
-			writer.writeInt(vertices.size());
-			writer.write(vertices);
-			writer.write(indices, G3FileWriter::writeInt);
+			writer.writeInt(indices.length);
+			writer.writeInt(getVertexCount());
+			writer.write(vertexData);
+			writer.writeIntArray(indices);
+		}
+
+		public int getVertexCount() {
+			return vertexData.limit() / vertexSize;
+		}
+
+		public int getOrgVertex(int vertex) {
+			return vertexData.getInt(vertex * vertexSize);
+		}
+
+		/**
+		 * Erzeugt ein neues {@link Vertex} Objekt, Änderungen daran wirken sich nicht auf das Submesh
+		 * aus.
+		 */
+		public Vertex getVertex(int vertex) {
+			return materialize(vertexData, vertex * vertexSize, vertexSize, r -> r.read(Vertex.class, vertexSize));
+		}
+
+		/**
+		 * @return Unveränderliche Ansicht, die bei jedem Zugriff ein neues {@link Vertex} erzeugt
+		 */
+		public List<Vertex> getVertices() {
+			return lazyList(getVertexCount(), this::getVertex);
+		}
+
+		/**
+		 * @return x, y, z pro Vertex
+		 */
+		public float[] getPositionsXYZ() {
+			return readSwizzled(4);
+		}
+
+		/**
+		 * @return x, y, z pro Vertex
+		 */
+		public float[] getNormalsXYZ() {
+			return readSwizzled(16);
+		}
+
+		/**
+		 * @return u, v pro Vertex
+		 */
+		public float[] getUVs(int uvSet) {
+			Preconditions.checkElementIndex(uvSet, numUVSets);
+			float[] result = new float[getVertexCount() * 2];
+			for (int v = 0, offset = 28 + uvSet * 8; v < result.length; v += 2, offset += vertexSize) {
+				result[v] = vertexData.getFloat(offset);
+				result[v + 1] = vertexData.getFloat(offset + 4);
+			}
+			return result;
+		}
+
+		private float[] readSwizzled(int vectorOffset) {
+			// Gespeichert als Z, Y, X
+			float[] result = new float[getVertexCount() * 3];
+			for (int v = 0, offset = vectorOffset; v < result.length; v += 3, offset += vertexSize) {
+				result[v] = vertexData.getFloat(offset + 8);
+				result[v + 1] = vertexData.getFloat(offset + 4);
+				result[v + 2] = vertexData.getFloat(offset);
+			}
+			return result;
 		}
 	}
 
@@ -286,9 +361,17 @@ public abstract class Chunks {
 		}
 	}
 
+	/**
+	 * Hält die Einflüsse als Ausschnitt des Dateibuffers. {@link SkinInfluence} Objekte entstehen
+	 * erst durch {@link #getInfluences(int)} bzw. {@link #getInfluences()}.
+	 */
 	public static class SkinningInfoChunk extends AbstractChunk {
+		private static final int INFLUENCE_SIZE = 8;
+
 		public int nodeIndex;
-		public List<List<SkinInfluence>> influences;
+		// Pro Vertex: Anzahl der Einflüsse (1 Byte), danach die Einflüsse
+		private ByteBuffer influenceData;
+		private int[] vertexOffsets;
 
 		@Override
 		public void read(G3FileReader reader) {
@@ -297,21 +380,65 @@ public abstract class Chunks {
 
 		@Override
 		public void read(G3FileReader reader, int size) {
-			int chunkEndOffset = reader.position() + size;
 			nodeIndex = reader.readInt();
-			influences = new ArrayList<>();
-			while (reader.position() < chunkEndOffset) {
-				influences.add(reader.readList(SkinInfluence.class, reader.readUnsignedByte()));
+			influenceData = reader.readSlice(size - 4);
+
+			int vertexCount = 0;
+			for (int offset = 0; offset < influenceData.limit(); offset += 1 + getInfluenceCountAt(offset) * INFLUENCE_SIZE) {
+				vertexCount++;
+			}
+			vertexOffsets = new int[vertexCount];
+			for (int v = 0, offset = 0; v < vertexCount; offset += 1 + getInfluenceCountAt(offset) * INFLUENCE_SIZE) {
+				vertexOffsets[v++] = offset;
 			}
 		}
 
 		@Override
 		public void write(G3FileWriter writer) {
 			writer.writeInt(nodeIndex);
-			for (List<SkinInfluence> influence : influences) {
-				writer.writeUnsignedByte(influence.size());
-				writer.write(influence);
-			}
+			writer.write(influenceData);
+		}
+
+		private int getInfluenceCountAt(int offset) {
+			return influenceData.get(offset) & 0xFF;
+		}
+
+		public int getVertexCount() {
+			return vertexOffsets.length;
+		}
+
+		public int getInfluenceCount(int vertex) {
+			return getInfluenceCountAt(vertexOffsets[vertex]);
+		}
+
+		public int getInfluenceNodeIndex(int vertex, int influence) {
+			return influenceData.getShort(getInfluenceOffset(vertex, influence)) & 0xFFFF;
+		}
+
+		public float getInfluenceWeight(int vertex, int influence) {
+			return influenceData.getFloat(getInfluenceOffset(vertex, influence) + 4);
+		}
+
+		private int getInfluenceOffset(int vertex, int influence) {
+			Preconditions.checkElementIndex(influence, getInfluenceCount(vertex));
+			return vertexOffsets[vertex] + 1 + influence * INFLUENCE_SIZE;
+		}
+
+		/**
+		 * Erzeugt neue {@link SkinInfluence} Objekte für die Einflüsse von {@code vertex}.
+		 */
+		public List<SkinInfluence> getInfluences(int vertex) {
+			int count = getInfluenceCount(vertex);
+			return materialize(influenceData, vertexOffsets[vertex] + 1, count * INFLUENCE_SIZE,
+					r -> r.readList(SkinInfluence.class, count));
+		}
+
+		/**
+		 * @return Unveränderliche Ansicht, die bei jedem Zugriff neue {@link SkinInfluence} Objekte
+		 *         erzeugt
+		 */
+		public List<List<SkinInfluence>> getInfluences() {
+			return lazyList(getVertexCount(), this::getInfluences);
 		}
 	}
 
@@ -394,7 +521,8 @@ public abstract class Chunks {
 
 		public InterpolationType interpolationType;
 		public AnimationType animationType;
-		public List<? extends KeyFrame<?>> track;
+		private int keyFrameSize;
+		private ByteBuffer keyFrameData;
 
 		@Override
 		public void read(G3FileReader reader) {
@@ -403,24 +531,74 @@ public abstract class Chunks {
 			animationType = AnimationType.fromMnemonic(reader.readChar());
 			reader.skip(2); // Padding
 
-			switch (animationType) {
-				case Position:
-				case Scaling:
-					track = reader.readList(VectorKeyFrame.class, keyFrameCount);
-					break;
-				case Rotation:
-					track = reader.readList(QuaternionKeyFrame.class, keyFrameCount);
-					break;
-			}
+			keyFrameSize = 4 + getValueComponents() * 4;
+			keyFrameData = reader.readSlice(keyFrameCount * keyFrameSize);
 		}
 
 		@Override
 		public void write(G3FileWriter writer) {
-			writer.writeInt(track.size());
+			writer.writeInt(getKeyFrameCount());
 			writer.writeChar(interpolationType.toMnemonic());
 			writer.writeChar(animationType.toMnemonic());
 			writer.writeUnsignedShort(0); // Padding
-			writer.write(track);
+			writer.write(keyFrameData);
+		}
+
+		/**
+		 * @return 3 für Vektoren (Position, Skalierung), 4 für Quaternionen (Rotation)
+		 */
+		public int getValueComponents() {
+			return animationType == AnimationType.Rotation ? 4 : 3;
+		}
+
+		public int getKeyFrameCount() {
+			return keyFrameData.limit() / keyFrameSize;
+		}
+
+		public float getTime(int keyFrame) {
+			return keyFrameData.getFloat(keyFrame * keyFrameSize);
+		}
+
+		/**
+		 * @return Zeitpunkte aller KeyFrames in Sekunden
+		 */
+		public float[] getTimes() {
+			float[] result = new float[getKeyFrameCount()];
+			for (int k = 0; k < result.length; k++) {
+				result[k] = getTime(k);
+			}
+			return result;
+		}
+
+		/**
+		 * @return {@link #getValueComponents()} Floats pro KeyFrame, in der Reihenfolge der Datei
+		 */
+		public float[] getValues() {
+			int components = getValueComponents();
+			float[] result = new float[getKeyFrameCount() * components];
+			for (int k = 0, i = 0; i < result.length; k++) {
+				for (int c = 0; c < components; c++) {
+					result[i++] = keyFrameData.getFloat(k * keyFrameSize + 4 + c * 4);
+				}
+			}
+			return result;
+		}
+
+		/**
+		 * Erzeugt ein neues {@link KeyFrame} Objekt, Änderungen daran wirken sich nicht auf den Chunk
+		 * aus.
+		 */
+		public KeyFrame<?> getKeyFrame(int keyFrame) {
+			Class<? extends KeyFrame<?>> type = animationType == AnimationType.Rotation ? QuaternionKeyFrame.class
+					: VectorKeyFrame.class;
+			return materialize(keyFrameData, keyFrame * keyFrameSize, keyFrameSize, r -> r.read(type));
+		}
+
+		/**
+		 * @return Unveränderliche Ansicht, die bei jedem Zugriff ein neues {@link KeyFrame} erzeugt
+		 */
+		public List<KeyFrame<?>> getTrack() {
+			return lazyList(getKeyFrameCount(), this::getKeyFrame);
 		}
 	}
 
@@ -530,6 +708,28 @@ public abstract class Chunks {
 		}
 	}
 
+	private static <T> T materialize(ByteBuffer data, int offset, int length, Function<G3FileReader, T> extractor) {
+		ByteBuffer element = data.duplicate();
+		element.position(offset);
+		element.limit(offset + length);
+		return extractor.apply(new G3FileReaderVirtual(element.slice()));
+	}
+
+	private static <T> List<T> lazyList(int size, IntFunction<T> elementFactory) {
+		return new AbstractList<T>() {
+			@Override
+			public T get(int index) {
+				Preconditions.checkElementIndex(index, size);
+				return elementFactory.apply(index);
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
 	public static Class<? extends Chunk> getChunk(int chunkID, int version) {
 		switch (chunkID) {
 			case LMA_CHUNK.LMA_CHUNK_NODE:
@@ -9,10 +9,8 @@ import java.util.function.Function;
 import com.google.common.collect.FluentIterable;
 
 import de.george.g3utils.io.G3FileReader;
-import de.george.g3utils.io.G3FileReaderEx;
 import de.george.g3utils.io.G3FileWriter;
-import de.george.g3utils.io.G3FileWriterEx;
-import de.george.g3utils.structure.GuidUtil;
+import de.george.g3utils.structure.Guid;
 import de.george.g3utils.structure.bCBox;
 import de.george.g3utils.structure.bCEulerAngles;
 import de.george.g3utils.structure.bCMatrix;
@@ -24,7 +22,7 @@ import de.george.lrentnode.template.TemplateEntity;
 import de.george.lrentnode.util.EntityUtil;
 
 public abstract class eCEntity extends G3ClassContainer {
-	private String guid;
+	private Guid guid;
 
 	// Beginning of reusable 2nd HeaderPart
 	protected boolean enabled;
@@ -82,11 +80,13 @@ public abstract class eCEntity extends G3ClassContainer {
 
 	protected eCEntity parent;
 	protected List<eCEntity> childs = new ArrayList<>();
+	// Änderungszähler für den Teilbaum dieser Entity, siehe getModCount()
+	private int modCount;
 
 	public eCEntity(boolean initialize) {
 		super();
 		if (initialize) {
-			guid = GuidUtil.randomGUID();
+			guid = Guid.randomGuid();
 			invalidate();
 		}
 	}
@@ -146,6 +146,7 @@ public abstract class eCEntity extends G3ClassContainer {
 
 	public void setName(String name) {
 		this.name = name;
+		notifyTreeChanged();
 	}
 
 	public bCMatrix getWorldMatrix() {
@@ -185,11 +186,47 @@ public abstract class eCEntity extends G3ClassContainer {
 	}
 
 	public bCSphere getWorldTreeSphere() {
-		return worldTreeSphere.clone();
+		return worldTreeSphere.copy();
 	}
 
 	public bCSphere getWorldNodeSphere() {
-		return worldNodeSphere.clone();
+		return worldNodeSphere.copy();
+	}
+
+	/**
+	 * Liefert die WorldMatrix ohne Kopie. Sie wird bei Änderungen der Entity direkt aktualisiert und
+	 * darf vom Aufrufer nicht verändert werden.
+	 */
+	public bCMatrix worldMatrix() {
+		return worldMatrix;
+	}
+
+	/**
+	 * @see #worldMatrix()
+	 */
+	public bCMatrix localMatrix() {
+		return localMatrix;
+	}
+
+	/**
+	 * @see #worldMatrix()
+	 */
+	public bCBox worldTreeBoundary() {
+		return worldTreeBoundary;
+	}
+
+	/**
+	 * @see #worldMatrix()
+	 */
+	public bCBox localNodeBoundary() {
+		return localNodeBoundary;
+	}
+
+	/**
+	 * @see #worldMatrix()
+	 */
+	public bCBox worldNodeBoundary() {
+		return worldNodeBoundary;
 	}
 
 	public void setWorldPosition(bCVector newPosition) {
@@ -199,26 +236,24 @@ public abstract class eCEntity extends G3ClassContainer {
 	}
 
 	public void setLocalPosition(bCVector newPosition) {
-		bCMatrix mat = localMatrix.clone();
-		mat.modifyTranslation(newPosition);
-		setLocalMatrix(mat);
+		localMatrix.modifyTranslation(newPosition);
+		updateGeometry();
 	}
 
 	public void setLocalRotation(bCEulerAngles newRotation) {
-		bCMatrix mat = localMatrix.clone();
-		mat.modifyRotation(newRotation);
-		setLocalMatrix(mat);
+		localMatrix.modifyRotation(newRotation);
+		updateGeometry();
 	}
 
 	public void setLocalMatrix(bCMatrix newMatrix) {
-		localMatrix = newMatrix.clone();
+		localMatrix.setToMatrix(newMatrix);
 		updateGeometry();
 	}
 
 	public void setToWorldMatrix(bCMatrix newMatrix) {
 		eCEntity parent = getParent();
 		if (parent != null) {
-			bCMatrix newWorldMatrix = parent.getWorldMatrix().getInverted();
+			bCMatrix newWorldMatrix = parent.worldMatrix.getInverted();
 			newWorldMatrix.multiply(newMatrix);
 			setLocalMatrix(newWorldMatrix);
 		} else {
@@ -233,36 +268,53 @@ public abstract class eCEntity extends G3ClassContainer {
 	}
 
 	private void setLocalNodeBoundary(bCBox newBoundary) {
-		localNodeBoundary = newBoundary.clone();
+		localNodeBoundary.setTo(newBoundary);
 	}
 
 	private void setWorldMatrix(bCMatrix newMatrix) {
-		worldMatrix = newMatrix.clone();
+		worldMatrix.setToMatrix(newMatrix);
 		onUpdatedWorldMatrix();
 	}
 
 	private void setWorldTreeBoundary(bCBox newBoundary) {
-		worldTreeBoundary = newBoundary.clone();
+		worldTreeBoundary.setTo(newBoundary);
+		onUpdatedWorldTreeBoundary();
+	}
+
+	private void onUpdatedWorldTreeBoundary() {
 		if (worldTreeBoundary.isValid()) {
-			worldTreeSphere.setPosition(worldTreeBoundary.getCenter());
-			worldTreeSphere.setRadius(worldTreeBoundary.getExtent().length());
+			worldTreeBoundary.getBoundingSphere(worldTreeSphere);
 		} else {
 			worldTreeSphere.invalidate();
 		}
 	}
 
 	private void setWorldNodeBoundary(bCBox newBoundary) {
-		worldNodeBoundary = newBoundary.clone();
+		worldNodeBoundary.setTo(newBoundary);
 		if (worldNodeBoundary.isValid()) {
-			worldNodeSphere.setPosition(worldNodeBoundary.getCenter());
-			worldNodeSphere.setRadius(worldNodeBoundary.getExtent().length());
+			worldNodeBoundary.getBoundingSphere(worldNodeSphere);
 		} else {
 			worldNodeSphere.invalidate();
 		}
 	}
 
 	protected void onUpdatedWorldMatrix() {
-		uniformScaling = worldMatrix.getPureScaling().getX();
+		uniformScaling = worldMatrix.getPureScalingX();
+	}
+
+	/**
+	 * Hilfsobjekte für {@link #updateChildDependencies()}, damit beim Aktualisieren großer
+	 * Entity-Bäume nicht für jeden Knoten neue Matrizen und Boxen angelegt werden müssen.
+	 */
+	private static final class GeometryScratch {
+		private static final ThreadLocal<GeometryScratch> instance = ThreadLocal.withInitial(GeometryScratch::new);
+
+		private final bCMatrix matrix = bCMatrix.getIdentity();
+		private final bCBox box = new bCBox();
+
+		public static GeometryScratch get() {
+			return instance.get();
+		}
 	}
 
 	public void updateGeometry() {
@@ -281,12 +333,16 @@ public abstract class eCEntity extends G3ClassContainer {
 	 * </ol>
 	 */
 	public void updateChildDependencies() {
+		// Die Zwischenergebnisse werden vor dem Abstieg zu den Childs übernommen, daher genügt ein
+		// Satz Hilfsobjekte pro Thread
+		GeometryScratch scratch = GeometryScratch.get();
+
 		bCMatrix tmpWorldMatrix;
 		if (getParent() == null) {
 			tmpWorldMatrix = localMatrix;
 		} else {
 			// Update WorldMatrix
-			tmpWorldMatrix = getParent().getWorldMatrix().getProduct(localMatrix);
+			tmpWorldMatrix = getParent().worldMatrix.getProduct(localMatrix, scratch.matrix);
 		}
 
 		// Update WorldMatrix
@@ -296,7 +352,7 @@ public abstract class eCEntity extends G3ClassContainer {
 		}
 
 		// Update WorldNodeBoundary
-		bCBox tmpWorldNodeBounadry = localNodeBoundary.clone();
+		bCBox tmpWorldNodeBounadry = scratch.box.setTo(localNodeBoundary);
 		if (tmpWorldNodeBounadry.isValid()) {
 			tmpWorldNodeBounadry.transform(tmpWorldMatrix);
 		}
@@ -311,14 +367,14 @@ public abstract class eCEntity extends G3ClassContainer {
 		}
 
 		// Initialize WorldTreeBoundary
-		bCBox tmpWorldTreeBoundary = tmpWorldNodeBounadry.clone();
+		worldTreeBoundary.setTo(worldNodeBoundary);
 
 		// Update WorldTreeBoundary
 		for (eCEntity child : getChilds()) {
 			child.updateChildDependencies();
-			tmpWorldTreeBoundary.merge(child.worldTreeBoundary);
+			worldTreeBoundary.merge(child.worldTreeBoundary);
 		}
-		setWorldTreeBoundary(tmpWorldTreeBoundary);
+		onUpdatedWorldTreeBoundary();
 		// Originale Gothic 3 Implementierung
 		// @foff
 		/*
@@ -369,12 +425,12 @@ public abstract class eCEntity extends G3ClassContainer {
 	 * </ol>
 	 */
 	public void updateParentDependencies() {
-		bCBox tmpWorldTreeBoundary = worldNodeBoundary.clone();
 		// Calc WorldTreeBoundary
+		worldTreeBoundary.setTo(worldNodeBoundary);
 		for (eCEntity child : getChilds()) {
-			tmpWorldTreeBoundary.merge(child.worldTreeBoundary);
+			worldTreeBoundary.merge(child.worldTreeBoundary);
 		}
-		setWorldTreeBoundary(tmpWorldTreeBoundary);
+		onUpdatedWorldTreeBoundary();
 
 		eCEntity parent = getParent();
 		if (parent != null) {
@@ -455,6 +511,7 @@ public abstract class eCEntity extends G3ClassContainer {
 		} else {
 			child.setParent(this);
 			childs.add(child);
+			notifyTreeChanged();
 		}
 	}
 
@@ -468,6 +525,7 @@ public abstract class eCEntity extends G3ClassContainer {
 	public void detachChild(eCEntity child) {
 		child.setParent(null);
 		childs.remove(child);
+		notifyTreeChanged();
 	}
 
 	/**
@@ -479,6 +537,7 @@ public abstract class eCEntity extends G3ClassContainer {
 	public void removeAllChildren(boolean updateParentDependencies) {
 		childs.forEach(child -> child.setParent(null));
 		childs.clear();
+		notifyTreeChanged();
 		if (updateParentDependencies) {
 			updateParentDependencies();
 		}
@@ -537,15 +596,57 @@ public abstract class eCEntity extends G3ClassContainer {
 	}
 
 	public Optional<eCEntity> getChildByGuid(String guid) {
-		return childs.stream().filter(c -> c.getGuid().equals(guid)).findAny();
+		return getChildByGuid(Guid.of(guid));
+	}
+
+	public Optional<eCEntity> getChildByGuid(Guid guid) {
+		if (guid == null) {
+			return Optional.empty();
+		}
+		return childs.stream().filter(c -> guid.equals(c.getGuidValue())).findAny();
 	}
 
+	/**
+	 * @return Hexadezimale Darstellung der Guid (immer in Großbuchstaben, unabhängig von der an
+	 *         {@link #setGuid(String)} übergebenen Schreibweise), wird bei jedem Aufruf neu erzeugt.
+	 * @see #getGuidValue()
+	 */
 	public String getGuid() {
+		return guid != null ? guid.getGuid() : null;
+	}
+
+	public Guid getGuidValue() {
 		return guid;
 	}
 
+	/**
+	 * @param guid Akzeptiert alle Darstellungen, die {@link Guid#of(String)} versteht, eine ungültige
+	 *            Guid wird wie {@code null} behandelt.
+	 */
 	public void setGuid(String guid) {
+		setGuidValue(Guid.of(guid));
+	}
+
+	public void setGuidValue(Guid guid) {
 		this.guid = guid;
+		notifyTreeChanged();
+	}
+
+	/**
+	 * Wird erhöht, sobald sich im Teilbaum dieser Entity Childs, Namen oder Guids ändern. Damit
+	 * lassen sich Indizes über den Teilbaum (siehe {@link AbstractEntityFile}) auf Aktualität prüfen.
+	 */
+	public int getModCount() {
+		return modCount;
+	}
+
+	/**
+	 * Erhöht den Änderungszähler dieser Entity und all ihrer Parents.
+	 */
+	protected void notifyTreeChanged() {
+		for (eCEntity entity = this; entity != null; entity = entity.parent) {
+			entity.modCount++;
+		}
 	}
 
 	public boolean isEnabled() {
@@ -698,35 +799,89 @@ public abstract class eCEntity extends G3ClassContainer {
 	}
 
 	public boolean hasCreator() {
-		return getCreator() != null;
+		return getCreatorValue() != null;
 	}
 
 	/**
 	 * @return bCPropertyID von eCTemplateEntity
+	 * @see #getCreatorValue()
 	 */
-	public abstract String getCreator();
+	public String getCreator() {
+		Guid creator = getCreatorValue();
+		return creator != null ? creator.getGuid() : null;
+	}
+
+	/**
+	 * @param creator bCPropertyID von eCTemplateEntity, siehe {@link #setGuid(String)}
+	 */
+	public void setCreator(String creator) {
+		setCreatorValue(Guid.of(creator));
+	}
+
+	/**
+	 * @return bCPropertyID von eCTemplateEntity
+	 */
+	public abstract Guid getCreatorValue();
 
 	/**
 	 * @param creator bCPropertyID von eCTemplateEntity
 	 */
-	public abstract void setCreator(String creator);
+	public abstract void setCreatorValue(Guid creator);
 
 	public abstract void read(G3FileReader reader, boolean skipPropertySets);
 
 	public abstract void write(G3FileWriter writer);
 
+	/**
+	 * Erzeugt eine tiefe Kopie der Entity ohne Parent und Kinder, die PropertySets werden mit
+	 * {@link G3Class#copy()} kopiert.
+	 */
 	@Override
 	public eCEntity clone() {
-		G3FileWriterEx writer = new G3FileWriterEx();
-		write(writer);
-
-		G3FileReaderEx reader = new G3FileReaderEx(writer.getData());
-		reader.setStringtable(writer.getStringtable());
 		eCEntity result = newInstance(false);
-		result.read(reader, false);
+		result.copyEntityData(this);
 		return result;
 	}
 
+	/**
+	 * Übernimmt alle Daten von {@code entity} als tiefe Kopie, siehe {@link #clone()}. Unterklassen
+	 * mit eigenen Daten müssen diese Methode erweitern.
+	 */
+	protected void copyEntityData(eCEntity entity) {
+		guid = entity.guid;
+
+		enabled = entity.enabled;
+		renderingEnabled = entity.renderingEnabled;
+		processingDisabled = entity.processingDisabled;
+		deactivationEnabled = entity.deactivationEnabled;
+		pickable = entity.pickable;
+		collisionEnabled = entity.collisionEnabled;
+		renderAlphaValue = entity.renderAlphaValue;
+		insertType = entity.insertType;
+		lastRenderPriority = entity.lastRenderPriority;
+		specialDepthTexPassEnabled = entity.specialDepthTexPassEnabled;
+		unkFlag2 = entity.unkFlag2;
+
+		name = entity.name;
+		worldMatrix = entity.worldMatrix.clone();
+		localMatrix = entity.localMatrix.clone();
+		worldTreeBoundary = entity.worldTreeBoundary.clone();
+		localNodeBoundary = entity.localNodeBoundary.clone();
+		worldNodeBoundary = entity.worldNodeBoundary.clone();
+		worldTreeSphere = entity.worldTreeSphere.copy();
+		worldNodeSphere = entity.worldNodeSphere.copy();
+
+		visualLoDFactor = entity.visualLoDFactor;
+		unkFlag3 = entity.unkFlag3;
+		objectCullFactor = entity.objectCullFactor;
+		dataChangedTimeStamp = entity.dataChangedTimeStamp;
+		uniformScaling = entity.uniformScaling;
+		rangedObjectCulling = entity.rangedObjectCulling;
+		processingRangeOutFadingEnabled = entity.processingRangeOutFadingEnabled;
+
+		copyClasses(entity);
+	}
+
 	protected abstract eCEntity newInstance(boolean initialize);
 
 	public final void createFromTemplate(TemplateEntity tple, Function<String, TemplateEntity> tpleLookup) {
@@ -750,7 +905,7 @@ public abstract class eCEntity extends G3ClassContainer {
 		} else if (justCreated || getDataChangedTimeStamp() != tple.getDataChangedTimeStamp() || getDataChangedTimeStamp() == -1) {
 			tple.patchEntity(this, justCreated, dontCallOnChildrenAvailable, tpleLookup);
 		} else {
-			setCreator(tple.getGuid());
+			setCreatorValue(tple.getGuidValue());
 		}
 	}
 
@@ -798,14 +953,14 @@ public abstract class eCEntity extends G3ClassContainer {
 		processingRangeOutFadingEnabled = entity.processingRangeOutFadingEnabled;
 
 		if (justCreated) {
-			name = entity.name;
+			setName(entity.name);
 			worldMatrix = entity.worldMatrix.clone();
 			localMatrix = entity.localMatrix.clone();
 			worldTreeBoundary = entity.worldTreeBoundary.clone();
 			localNodeBoundary = entity.localNodeBoundary.clone();
 			worldNodeBoundary = entity.worldNodeBoundary.clone();
-			worldTreeSphere = entity.worldTreeSphere.clone();
-			worldNodeSphere = entity.worldNodeSphere.clone();
+			worldTreeSphere = entity.worldTreeSphere.copy();
+			worldNodeSphere = entity.worldNodeSphere.copy();
 			uniformScaling = entity.uniformScaling;
 		}
 	}
@@ -5,12 +5,15 @@ import org.slf4j.LoggerFactory;
 
 import de.george.g3utils.io.G3FileReader;
 import de.george.g3utils.io.G3FileWriter;
+import de.george.g3utils.util.Misc;
 import de.george.lrentnode.archive.ArchiveEntity;
 import de.george.lrentnode.archive.eCEntity;
 
 public class LrentdatEntity extends ArchiveEntity {
 	private static final Logger logger = LoggerFactory.getLogger(LrentdatEntity.class);
 
+	private static final byte[] ENTITY_HEADER = Misc.asByte("40005300");
+
 	public LrentdatEntity(boolean initialize) {
 		super(initialize);
 		if (initialize) {
@@ -35,22 +38,22 @@ public class LrentdatEntity extends ArchiveEntity {
 	}
 
 	@Override
-	public void read(G3FileReader reader, boolean skipPropertySets) {
+	public void read(G3FileReader reader, boolean skipPropertySets, boolean lazyPropertySets) {
 		// START OF ENTITY-DEFINITION
-		if (!reader.read(4).equals("40005300")) {
+		if (!reader.readMatches(ENTITY_HEADER)) {
 			reader.warn(logger, "(1) LrentdatEntity unerwartete Dateistruktur.");
 		}
-		setCreator(reader.readBool() ? reader.readGUID() : null);
+		setCreatorValue(reader.readBool() ? reader.readGuidValue() : null);
 
-		super.read(reader, skipPropertySets);
+		super.read(reader, skipPropertySets, lazyPropertySets);
 	}
 
 	@Override
 	public void write(G3FileWriter writer) {
-		writer.write("40005300");
+		writer.write(ENTITY_HEADER);
 		writer.writeBool(hasCreator());
 		if (hasCreator()) {
-			writer.write(getCreator());
+			writer.writeGuid(getCreatorValue());
 		}
 		super.write(writer);
 	}
@@ -8,6 +8,7 @@ import org.slf4j.LoggerFactory;
 import de.george.g3utils.io.G3FileReaderEx;
 import de.george.g3utils.io.G3FileWriterEx;
 import de.george.g3utils.structure.bCBox;
+import de.george.g3utils.util.Misc;
 import de.george.lrentnode.archive.ArchiveEntity;
 import de.george.lrentnode.archive.ArchiveFile;
 import de.george.lrentnode.archive.eCEntity;
@@ -18,10 +19,21 @@ import de.george.lrentnode.util.ClassUtil;
 public class LrentdatFile extends ArchiveFile {
 	private static final Logger logger = LoggerFactory.getLogger(LrentdatFile.class);
 
+	/**
+	 * Signatur einer .lrentdat Datei ({@code GENOMEDL}), folgt direkt auf den Header der
+	 * Genome-Datei.
+	 */
+	public static final byte[] GENOMEDL = Misc.asByte("47454E4F4D45444C");
+
 	private eCEntityDynamicContext context;
 
 	public LrentdatFile(G3FileReaderEx reader, boolean verifyEntityGraph, boolean skipPropertySets) throws IOException {
-		super(verifyEntityGraph, skipPropertySets);
+		this(reader, verifyEntityGraph, skipPropertySets, false);
+	}
+
+	public LrentdatFile(G3FileReaderEx reader, boolean verifyEntityGraph, boolean skipPropertySets, boolean lazyPropertySets)
+			throws IOException {
+		super(verifyEntityGraph, skipPropertySets, lazyPropertySets);
 		read(reader);
 	}
 
@@ -32,7 +44,7 @@ public class LrentdatFile extends ArchiveFile {
 
 	@Override
 	protected void readInternal(G3FileReaderEx reader) throws IOException {
-		if (!reader.read(8).equals("47454E4F4D45444C")) {
+		if (!reader.readMatches(GENOMEDL)) {
 			throw new IOException("'" + reader.getFileName() + "' ist keine gültige .lrentdat Datei.");
 		}
 
@@ -48,7 +60,7 @@ public class LrentdatFile extends ArchiveFile {
 	@Override
 	protected ArchiveEntity readEntity(G3FileReaderEx reader) throws IOException {
 		LrentdatEntity entity = new LrentdatEntity(false);
-		entity.read(reader, skipPropertySets);
+		entity.read(reader, skipPropertySets, lazyPropertySets);
 		return entity;
 	}
 
@@ -46,15 +46,15 @@ public class NodeEntity extends ArchiveEntity {
 	}
 
 	@Override
-	public void read(G3FileReader reader, boolean skipPropertySets) {
+	public void read(G3FileReader reader, boolean skipPropertySets, boolean lazyPropertySets) {
 		if (reader.readUnsignedShort() != 0x23) {
 			reader.warn(logger, "eCSpatialEntity unknown version.");
 		}
 
-		setCreator(reader.readBool() ? reader.readGUID() : null); // bCPropertyID
+		setCreatorValue(reader.readBool() ? reader.readGuidValue() : null); // bCPropertyID
 		visualWorldNodeBoundary = reader.read(bCBox.class);
 		visualWorldNodeOOBoundary = reader.read(bCOrientedBox.class);
-		super.read(reader, skipPropertySets);
+		super.read(reader, skipPropertySets, lazyPropertySets);
 	}
 
 	@Override
@@ -87,12 +87,20 @@ public class NodeEntity extends ArchiveEntity {
 		writer.writeUnsignedShort(0x23);
 		writer.writeBool(hasCreator());
 		if (hasCreator()) {
-			writer.write(getCreator());
+			writer.writeGuid(getCreatorValue());
 		}
 		writer.write(visualWorldNodeBoundary, visualWorldNodeOOBoundary);
 		super.write(writer);
 	}
 
+	@Override
+	protected void copyEntityData(eCEntity entity) {
+		super.copyEntityData(entity);
+		NodeEntity nodeEntity = (NodeEntity) entity;
+		visualWorldNodeBoundary = nodeEntity.visualWorldNodeBoundary.clone();
+		visualWorldNodeOOBoundary = nodeEntity.visualWorldNodeOOBoundary.clone();
+	}
+
 	@Override
 	protected eCEntity newInstance(boolean initialize) {
 		return new NodeEntity(initialize);
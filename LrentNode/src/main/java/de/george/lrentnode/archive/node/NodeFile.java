@@ -15,7 +15,12 @@ public class NodeFile extends ArchiveFile {
 	private static final Logger logger = LoggerFactory.getLogger(NodeFile.class);
 
 	public NodeFile(G3FileReaderEx reader, boolean verifyEntityGraph, boolean skipPropertySets) throws IOException {
-		super(verifyEntityGraph, skipPropertySets);
+		this(reader, verifyEntityGraph, skipPropertySets, false);
+	}
+
+	public NodeFile(G3FileReaderEx reader, boolean verifyEntityGraph, boolean skipPropertySets, boolean lazyPropertySets)
+			throws IOException {
+		super(verifyEntityGraph, skipPropertySets, lazyPropertySets);
 		read(reader);
 	}
 
@@ -38,9 +43,9 @@ public class NodeFile extends ArchiveFile {
 		boolean hasCreator = reader.readBool();
 		boolean disablePatchWithTemplate = reader.readBool();
 		NodeEntity entity = new NodeEntity(false);
-		entity.read(reader, skipPropertySets);
+		entity.read(reader, skipPropertySets, lazyPropertySets);
 		if (hasCreator && !disablePatchWithTemplate) {
-			reader.readGUID(); // bCPropertyID
+			reader.skipGUID(); // bCPropertyID
 		}
 		return entity;
 	}
@@ -57,7 +62,7 @@ public class NodeFile extends ArchiveFile {
 		writer.writeBool(false); // DisablePatchWithTemplate, always false
 		entity.write(writer);
 		if (entity.hasCreator()) {
-			writer.write(entity.getCreator()); // bCPropertyID
+			writer.writeGuid(entity.getCreatorValue()); // bCPropertyID
 		}
 	}
 }
@@ -1,40 +1,31 @@
 package de.george.lrentnode.classes;
 
-import java.lang.reflect.Constructor;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
 
 import de.george.g3utils.io.G3FileReader;
+import de.george.g3utils.util.InstanceFactories;
 import de.george.lrentnode.effect.gCEffectCommand;
 import de.george.lrentnode.effect.gCEffectCommandPlaySound;
 
 public class ClassTypes {
 	private static ConcurrentHashMap<String, Class<?>> classMap = new ConcurrentHashMap<>();
-	private static ConcurrentHashMap<String, Constructor<?>> consMap = new ConcurrentHashMap<>();
+	// Ruft den Konstruktor (String, G3FileReader) direkt auf
+	private static ConcurrentHashMap<String, BiFunction<String, G3FileReader, ? extends G3Class>> factoryMap = new ConcurrentHashMap<>();
 
-	private static void add(Class<?> clazz, String... types) {
+	private static void add(Class<? extends G3Class> clazz, String... types) {
+		BiFunction<String, G3FileReader, ? extends G3Class> factory = InstanceFactories.constructor(clazz, String.class,
+				G3FileReader.class);
 		for (String type : types) {
 			classMap.putIfAbsent(type, clazz);
-			try {
-				consMap.putIfAbsent(type, clazz.getConstructor(String.class, G3FileReader.class));
-			} catch (Exception e) {
-				e.printStackTrace();
-			}
+			factoryMap.putIfAbsent(type, factory);
 		}
-
 	}
 
 	public static G3Class getClassInstance(String className, G3FileReader reader) {
-		Constructor<?> constructor = consMap.get(className);
-		if (constructor != null) {
-			try {
-				return (G3Class) constructor.newInstance(className, reader);
-			} catch (Exception e) {
-				if (e.getSuppressed().length > 0) {
-					throw new RuntimeException(e.getSuppressed()[0]);
-				}
-				throw new RuntimeException(e);
-
-			}
+		BiFunction<String, G3FileReader, ? extends G3Class> factory = factoryMap.get(className);
+		if (factory != null) {
+			return factory.apply(className, reader);
 		}
 		return new DefaultClass(className, reader);
 	}
@@ -41,6 +41,11 @@ public class DefaultClass extends G3Class {
 		}
 	}
 
+	@Override
+	protected void copyClassData() {
+		// Keine veränderlichen Daten
+	}
+
 	public String getRaw() {
 		return raw;
 	}
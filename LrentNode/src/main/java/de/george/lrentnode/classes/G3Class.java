@@ -1,6 +1,8 @@
 package de.george.lrentnode.classes;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,8 +13,9 @@ import de.george.lrentnode.classes.desc.PropertyDescriptor;
 import de.george.lrentnode.properties.ClassProperty;
 import de.george.lrentnode.template.TemplateEntity;
 import de.george.lrentnode.util.ClassUtil;
+import de.george.lrentnode.util.InternedNames;
 
-public abstract class G3Class {
+public abstract class G3Class implements Cloneable {
 	protected String className;
 
 	protected int deadcodePosition;
@@ -23,6 +26,110 @@ public abstract class G3Class {
 
 	protected int classVersion;
 
+	// Wird bei der ersten Suche nach einer Property aufgebaut und bei jeder Änderung von properties
+	// verworfen
+	private transient volatile PropertyIndex propertyIndex;
+
+	// Ob sich die Klasse direkt kopieren lässt, siehe copyClassData()
+	private static final ClassValue<Boolean> directCopySupport = new ClassValue<Boolean>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			return supportsDirectCopy(type);
+		}
+	};
+
+	/**
+	 * Hält jede Änderung der Liste in {@code modCount} fest, auch das Ersetzen mit
+	 * {@link #set(int, ClassProperty)}.
+	 */
+	private static final class PropertyList extends ArrayList<ClassProperty<?>> {
+		public PropertyList() {}
+
+		public PropertyList(int initialCapacity) {
+			super(initialCapacity);
+		}
+
+		public PropertyList(Collection<? extends ClassProperty<?>> properties) {
+			super(properties);
+		}
+
+		@Override
+		public ClassProperty<?> set(int index, ClassProperty<?> element) {
+			modCount++;
+			return super.set(index, element);
+		}
+
+		public int getModCount() {
+			return modCount;
+		}
+	}
+
+	/**
+	 * Die IDs ({@link InternedNames}) der Propertynamen, in der Reihenfolge von {@link #properties}.
+	 */
+	private static final class PropertyIndex {
+		private final List<ClassProperty<?>> properties;
+		private final int modCount;
+		private final int[] nameIds;
+		private final boolean hasDuplicates;
+
+		public PropertyIndex(List<ClassProperty<?>> properties) {
+			this.properties = properties;
+			modCount = properties instanceof PropertyList ? ((PropertyList) properties).getModCount() : -1;
+			nameIds = new int[properties.size()];
+			for (int i = 0; i < nameIds.length; i++) {
+				nameIds[i] = InternedNames.intern(properties.get(i).getName());
+			}
+			hasDuplicates = hasDuplicates(nameIds);
+		}
+
+		private static boolean hasDuplicates(int[] ids) {
+			// Sortierte Kopie statt Set<Integer>, um das Boxing jeder ID zu vermeiden
+			int[] sorted = ids.clone();
+			Arrays.sort(sorted);
+			for (int i = 1; i < sorted.length; i++) {
+				if (sorted[i] == sorted[i - 1]) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		public boolean isValidFor(List<ClassProperty<?>> currentProperties) {
+			return currentProperties == properties && properties instanceof PropertyList
+					&& ((PropertyList) properties).getModCount() == modCount;
+		}
+
+		/**
+		 * @param slotHint Position, an der die Property vermutlich steht
+		 * @return Position des ersten Vorkommens von {@code nameId} oder -1
+		 */
+		public int indexOf(int nameId, int slotHint) {
+			if (!hasDuplicates && slotHint >= 0 && slotHint < nameIds.length && nameIds[slotHint] == nameId) {
+				return slotHint;
+			}
+			return indexOf(nameId, 1, 0);
+		}
+
+		/**
+		 * @return Position des {@code occurence}-ten Vorkommens von {@code nameId} ab {@code start}
+		 *         oder -1
+		 */
+		public int indexOf(int nameId, int occurence, int start) {
+			if (nameId == InternedNames.UNKNOWN) {
+				return -1;
+			}
+
+			int found = 0;
+			for (int i = start; i < nameIds.length; i++) {
+				if (nameIds[i] == nameId && ++found == occurence) {
+					return i;
+				}
+			}
+			return -1;
+		}
+	}
+
 	public G3Class(String className, G3FileReader reader) {
 		this.className = className;
 		read(reader);
@@ -32,7 +139,7 @@ public abstract class G3Class {
 		this.className = className;
 		this.classVersion = classVersion;
 		propertyClassVersion = 30; // 0x1E00
-		properties = new ArrayList<>();
+		properties = new PropertyList();
 	}
 
 	private void read(G3FileReader reader) {
@@ -86,13 +193,13 @@ public abstract class G3Class {
 		}
 
 		if (version <= 0x51) {
-			reader.readGUID();
+			reader.skipGUID();
 		}
 
 		// Properties
 		propertyClassVersion = reader.readShort();
 		propertyTypeCount = reader.readInt();
-		properties = ClassUtil.readClassItems(propertyTypeCount, propertyClassVersion, reader);
+		properties = new PropertyList(ClassUtil.readClassItems(propertyTypeCount, propertyClassVersion, reader));
 
 		readPreClassVersion(reader);
 		classVersion = reader.readShort();
@@ -126,6 +233,70 @@ public abstract class G3Class {
 		writer.replaceInt(writer.getSize() - sizeOffset - 4, sizeOffset); // Size Until Dead Code
 	}
 
+	/**
+	 * Erzeugt eine tiefe Kopie der Klasse. Die Properties werden mit {@link ClassProperty#copy()}
+	 * kopiert, die klassenspezifischen Daten mit {@link #copyClassData()}.
+	 * <p>
+	 * Klassen, die eigene Daten einlesen, ohne {@link #copyClassData()} zu überschreiben, werden
+	 * stattdessen serialisiert und wieder eingelesen.
+	 */
+	public G3Class copy() {
+		if (!directCopySupport.get(getClass())) {
+			return ClassUtil.copySerialized(this);
+		}
+
+		G3Class copy;
+		try {
+			copy = (G3Class) clone();
+		} catch (CloneNotSupportedException e) {
+			throw new AssertionError(e);
+		}
+
+		copy.propertyIndex = null;
+		PropertyList copiedProperties = new PropertyList(properties.size());
+		for (ClassProperty<?> property : properties) {
+			copiedProperties.add(property.copy());
+		}
+		copy.properties = copiedProperties;
+		copy.copyClassData();
+		return copy;
+	}
+
+	/**
+	 * Wird von {@link #copy()} auf der flachen Kopie (alle Felder wurden übernommen) aufgerufen und
+	 * muss alle veränderlichen Daten, die in {@link #readPreClassVersion(G3FileReader)} und
+	 * {@link #readPostClassVersion(G3FileReader)} eingelesen werden, durch Kopien ersetzen.
+	 * <p>
+	 * Die Methode muss in derselben Klasse wie die speziellste Implementierung von
+	 * {@code readPreClassVersion} bzw. {@code readPostClassVersion} oder in einer Unterklasse
+	 * überschrieben werden, sonst gilt sie als nicht unterstützt.
+	 */
+	protected void copyClassData() {}
+
+	private static boolean supportsDirectCopy(Class<?> type) {
+		Class<?> reading = null;
+		Class<?> copying = null;
+		for (Class<?> clazz = type; clazz != G3Class.class; clazz = clazz.getSuperclass()) {
+			if (reading == null && (declaresMethod(clazz, "readPreClassVersion", G3FileReader.class)
+					|| declaresMethod(clazz, "readPostClassVersion", G3FileReader.class))) {
+				reading = clazz;
+			}
+			if (copying == null && declaresMethod(clazz, "copyClassData")) {
+				copying = clazz;
+			}
+		}
+		return reading == null || copying != null && reading.isAssignableFrom(copying);
+	}
+
+	private static boolean declaresMethod(Class<?> type, String name, Class<?>... parameterTypes) {
+		try {
+			type.getDeclaredMethod(name, parameterTypes);
+			return true;
+		} catch (NoSuchMethodException e) {
+			return false;
+		}
+	}
+
 	protected void writePreClassVersion(G3FileWriter writer) {};
 
 	protected void writePostClassVersion(G3FileWriter writer) {};
@@ -183,114 +354,95 @@ public abstract class G3Class {
 		return this;
 	}
 
+	private PropertyIndex getPropertyIndex() {
+		PropertyIndex index = propertyIndex;
+		if (index == null || !index.isValidFor(properties)) {
+			index = new PropertyIndex(properties);
+			propertyIndex = index;
+		}
+		return index;
+	}
+
+	private int indexOf(String name, int occurence) {
+		return getPropertyIndex().indexOf(InternedNames.lookup(name), occurence, 0);
+	}
+
+	private int indexOf(PropertyDescriptor<?> desc) {
+		int slot = getPropertyIndex().indexOf(desc.getNameId(), desc.getSlotHint());
+		if (slot != -1) {
+			desc.setSlotHint(slot);
+		}
+		return slot;
+	}
+
 	@SuppressWarnings("unchecked")
 	public <T extends G3Serializable> Optional<T> propertyNoThrow(String name) {
-		for (ClassProperty<?> property : properties) {
-			if (property.nameEqual(name)) {
-				return Optional.ofNullable((T) property.getValue());
-			}
-		}
-		return Optional.empty();
+		int slot = indexOf(name, 1);
+		return slot != -1 ? Optional.ofNullable((T) properties.get(slot).getValue()) : Optional.empty();
 	}
 
 	@SuppressWarnings("unchecked")
 	public <T extends G3Serializable> T property(String name) {
-		for (ClassProperty<?> property : properties) {
-			if (property.nameEqual(name)) {
-				return (T) property.getValue();
-			}
-		}
-		throw new IllegalArgumentException(getNoSuchPropertyErrorMessage(name));
+		return (T) property(name, 1);
 	}
 
 	public <T extends G3Serializable> Optional<T> propertyNoThrow(String name, Class<T> type) {
-		for (ClassProperty<?> property : properties) {
-			if (property.nameEqual(name)) {
-				return Optional.ofNullable(type.cast(property));
-			}
-		}
-		return Optional.empty();
+		int slot = indexOf(name, 1);
+		return slot != -1 ? Optional.ofNullable(type.cast(properties.get(slot))) : Optional.empty();
 	}
 
 	public <T extends G3Serializable> T property(String name, Class<T> type) {
-		for (ClassProperty<?> property : properties) {
-			if (property.nameEqual(name)) {
-				return type.cast(property.getValue());
-			}
-		}
-		throw new IllegalArgumentException(getNoSuchPropertyErrorMessage(name));
+		return property(name, type, 1);
 	}
 
 	@SuppressWarnings("unchecked")
 	public <T extends G3Serializable> T property(String name, int occurence) {
-		int skipped = 0;
-		for (ClassProperty<?> property : properties) {
-			if (property.nameEqual(name) && occurence == ++skipped) {
-				return (T) property.getValue();
-			}
+		int slot = indexOf(name, occurence);
+		if (slot == -1) {
+			throw new IllegalArgumentException(getNoSuchPropertyErrorMessage(name));
 		}
-		throw new IllegalArgumentException(getNoSuchPropertyErrorMessage(name));
+		return (T) properties.get(slot).getValue();
 	}
 
 	public <T extends G3Serializable> T property(String name, Class<T> type, int occurence) {
-		int skipped = 0;
-		for (ClassProperty<?> property : properties) {
-			if (property.nameEqual(name) && occurence == ++skipped) {
-				return type.cast(property.getValue());
-			}
-		}
-		throw new IllegalArgumentException(getNoSuchPropertyErrorMessage(name));
+		return type.cast(property(name, occurence));
 	}
 
 	@SuppressWarnings("unchecked")
 	public <T extends G3Serializable> T property(PropertyDescriptor<T> desc) {
-		for (ClassProperty<?> property : properties) {
-			if (property.nameEqual(desc.getName())) {
-				return (T) property.getValue();
-			}
+		int slot = indexOf(desc);
+		if (slot == -1) {
+			throw new IllegalArgumentException(getNoSuchPropertyErrorMessage(desc.getName()));
 		}
-		throw new IllegalArgumentException(getNoSuchPropertyErrorMessage(desc.getName()));
+		return (T) properties.get(slot).getValue();
 	}
 
 	@SuppressWarnings("unchecked")
 	public <T extends G3Serializable> Optional<T> propertyNoThrow(PropertyDescriptor<T> desc) {
-		for (ClassProperty<?> property : properties) {
-			if (property.nameEqual(desc.getName())) {
-				return Optional.ofNullable((T) property.getValue());
-			}
-		}
-		return Optional.empty();
+		int slot = indexOf(desc);
+		return slot != -1 ? Optional.ofNullable((T) properties.get(slot).getValue()) : Optional.empty();
 	}
 
-	@SuppressWarnings("unchecked")
 	public <T extends G3Serializable> T property(PropertyDescriptor<T> desc, int occurence) {
-		int skipped = 0;
-		for (ClassProperty<?> property : properties) {
-			if (property.nameEqual(desc.getName()) && occurence == ++skipped) {
-				return (T) property.getValue();
-			}
-		}
-		throw new IllegalArgumentException(getNoSuchPropertyErrorMessage(desc.getName()));
+		return property(desc.getName(), occurence);
 	}
 
 	public boolean hasProperty(PropertyDescriptor<?> desc) {
-		return properties.stream().filter(p -> p.nameEqual(desc.getName())).findAny().isPresent();
+		return indexOf(desc) != -1;
 	}
 
 	public boolean hasProperty(String name) {
-		return properties.stream().filter(p -> p.nameEqual(name)).findAny().isPresent();
+		return indexOf(name, 1) != -1;
 	}
 
 	@SuppressWarnings("unchecked")
 	public <T extends G3Serializable> void setPropertyData(PropertyDescriptor<T> desc, T data) {
-		for (ClassProperty<?> property : properties) {
-			if (property.nameEqual(desc.getName())) {
-				((ClassProperty<T>) property).setValue(data);
-				return;
-			}
+		int slot = indexOf(desc);
+		if (slot != -1) {
+			((ClassProperty<T>) properties.get(slot)).setValue(data);
+		} else {
+			addProperty(desc, data);
 		}
-
-		addProperty(desc, data);
 	}
 
 	@Override
@@ -1360,7 +1360,7 @@ public interface CD {
 		public static final PropertyDescriptor<gInt> EntityIndex = new PropertyDescriptor<>("EntityIndex", gInt.class, "int", "General", gCEffectCommandSpawnEntity.class, new gInt(-1));
 		public static final PropertyDescriptor<bTPropertyContainer<gEEffectLink>> CoordinateSystem = new PropertyDescriptor<>("CoordinateSystem", bTPropertyContainer.class, "bTPropertyContainer<enum gEEffectLink>", "General", gCEffectCommandSpawnEntity.class, new bTPropertyContainer<>(gEEffectLink.gEEffectLink_Independent));
 		public static final PropertyDescriptor<bCRange3> Offset = new PropertyDescriptor<>("Offset", bCRange3.class, "bCRange3", "General", gCEffectCommandSpawnEntity.class, new bCRange3(bCVector.nullVector(), bCVector.nullVector()));
-		public static final PropertyDescriptor<eCEntityProxy> TemplateEntity = new PropertyDescriptor<>("TemplateEntity", eCEntityProxy.class, "eCTemplateEntityProxy", "General", gCEffectCommandSpawnEntity.class, new eCEntityProxy(null));
+		public static final PropertyDescriptor<eCEntityProxy> TemplateEntity = new PropertyDescriptor<>("TemplateEntity", eCEntityProxy.class, "eCTemplateEntityProxy", "General", gCEffectCommandSpawnEntity.class, new eCEntityProxy());
 	}
 
 	public static interface gCEffectCommandTriggerEntity extends gCEffectCommand {
@@ -9,6 +9,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
 import de.george.g3utils.util.ReflectionUtils;
+import de.george.lrentnode.util.InternedNames;
 import one.util.streamex.StreamEx;
 
 public interface ClassDescriptor {
@@ -18,6 +19,15 @@ public interface ClassDescriptor {
 		return NAME_MAP.computeIfAbsent(descriptor, Class::getSimpleName);
 	}
 
+	static final ConcurrentMap<Class<? extends ClassDescriptor>, Integer> ID_MAP = new ConcurrentHashMap<>();
+
+	/**
+	 * @return ID des Namens von {@code descriptor}, siehe {@link InternedNames}
+	 */
+	public static int getNameId(Class<? extends ClassDescriptor> descriptor) {
+		return ID_MAP.computeIfAbsent(descriptor, d -> InternedNames.intern(getName(d)));
+	}
+
 	@SuppressWarnings({"rawtypes", "unchecked"})
 	public static StreamEx<PropertyDescriptor<?>> getProperties(Class<? extends ClassDescriptor> descriptor) {
 		return (StreamEx) StreamEx.of(descriptor.getDeclaredFields()).filterBy(Field::getType, PropertyDescriptor.class)
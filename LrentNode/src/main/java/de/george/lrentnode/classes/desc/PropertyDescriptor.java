@@ -6,6 +6,7 @@ import java.util.regex.Pattern;
 import de.george.g3utils.io.G3Serializable;
 import de.george.lrentnode.properties.PropertyInstantiator;
 import de.george.lrentnode.properties.bTArray;
+import de.george.lrentnode.util.InternedNames;
 
 public class PropertyDescriptor<T extends G3Serializable> {
 	private static final Pattern ELEMENT_TYPE_PATTERN = Pattern.compile(".*?Array<\\s*(?:class|struct|enum)?\\s*(.+)>\\s*$");
@@ -17,6 +18,10 @@ public class PropertyDescriptor<T extends G3Serializable> {
 	private final Class<? extends ClassDescriptor> propertySet;
 	private final String category;
 	private final T defaultValue;
+	private final int nameId;
+	// Position, an der die Property zuletzt gefunden wurde. Wird ohne Synchronisation gelesen und
+	// geschrieben, da G3Class den Wert vor der Verwendung überprüft.
+	private int slotHint;
 
 	public PropertyDescriptor(String name, Class<?> dataType, String dataTypeName, String category,
 			Class<? extends ClassDescriptor> propertySet) {
@@ -27,6 +32,7 @@ public class PropertyDescriptor<T extends G3Serializable> {
 	public PropertyDescriptor(String name, Class<?> dataType, String dataTypeName, String category,
 			Class<? extends ClassDescriptor> propertySet, T defaultValue) {
 		this.name = name;
+		nameId = InternedNames.intern(name);
 		// bCClassNameBase::UnMangle(), which is used to determine the data type name of
 		// bTPropertyTypes, is broken, as it simply strips the first word of the demangled name, to
 		// get rid of the enum/class/struct prefix. However, this also removes the unsigned prefix
@@ -55,6 +61,25 @@ public class PropertyDescriptor<T extends G3Serializable> {
 		return name;
 	}
 
+	/**
+	 * @return ID des Namens, siehe {@link InternedNames}
+	 */
+	public int getNameId() {
+		return nameId;
+	}
+
+	/**
+	 * @return Position in {@link de.george.lrentnode.classes.G3Class}, an der die Property zuletzt
+	 *         gefunden wurde
+	 */
+	public int getSlotHint() {
+		return slotHint;
+	}
+
+	public void setSlotHint(int slotHint) {
+		this.slotHint = slotHint;
+	}
+
 	public Class<T> getDataType() {
 		return dataType;
 	}
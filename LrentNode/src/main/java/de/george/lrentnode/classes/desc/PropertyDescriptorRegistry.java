@@ -7,6 +7,7 @@ import java.util.Set;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.Maps;
 
 public class PropertyDescriptorRegistry {
 	// Initialization-on-demand holder idiom
@@ -18,10 +19,13 @@ public class PropertyDescriptorRegistry {
 		return Holder.INSTANCE;
 	}
 
+	private static final int[] NO_IDS = new int[0];
+
 	private ImmutableMap<String, Class<? extends ClassDescriptor>> mapStringToClassDescriptor;
 	private ImmutableMap<Class<? extends ClassDescriptor>, Map<String, PropertyDescriptor<?>>> mapNameToPropertyDescriptor;
 	private ImmutableSetMultimap<Class<? extends ClassDescriptor>, Class<? extends ClassDescriptor>> derviedPropertySets;
 	private ImmutableSetMultimap<Class<? extends ClassDescriptor>, String> derviedPropertySetNames;
+	private ImmutableMap<Class<? extends ClassDescriptor>, int[]> derivedPropertySetIds;
 
 	private PropertyDescriptorRegistry() {
 		init();
@@ -52,6 +56,8 @@ public class PropertyDescriptorRegistry {
 		this.derviedPropertySets = derviedPropertySets.build();
 		derviedPropertySetNames = this.derviedPropertySets.asMap().entrySet().stream().collect(ImmutableSetMultimap
 				.flatteningToImmutableSetMultimap(Map.Entry::getKey, e -> e.getValue().stream().map(ClassDescriptor::getName)));
+		derivedPropertySetIds = ImmutableMap.copyOf(Maps.transformValues(this.derviedPropertySets.asMap(),
+				derived -> derived.stream().mapToInt(ClassDescriptor::getNameId).toArray()));
 	}
 
 	public Optional<Class<? extends ClassDescriptor>> lookupPropertySet(String propertySetName) {
@@ -74,4 +80,12 @@ public class PropertyDescriptorRegistry {
 	public Set<String> derivedPropertySetNames(Class<? extends ClassDescriptor> propertySet) {
 		return derviedPropertySetNames.get(propertySet);
 	}
+
+	/**
+	 * @return IDs ({@link ClassDescriptor#getNameId(Class)}) der abgeleiteten PropertySets. Das
+	 *         zurückgegebene Array darf nicht verändert werden.
+	 */
+	public int[] derivedPropertySetIds(Class<? extends ClassDescriptor> propertySet) {
+		return derivedPropertySetIds.getOrDefault(propertySet, NO_IDS);
+	}
 }
@@ -1,6 +1,7 @@
 package de.george.lrentnode.classes;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import de.george.g3utils.io.G3FileReader;
 import de.george.g3utils.io.G3FileWriter;
@@ -39,4 +40,9 @@ public class eCCollisionShape_PS extends G3Class {
 	protected void writePostClassVersion(G3FileWriter writer) {
 		writer.writeList(shapes, ClassUtil::writeSubClass);
 	}
+
+	@Override
+	protected void copyClassData() {
+		shapes = shapes.stream().map(shape -> (eCCollisionShape) shape.copy()).collect(Collectors.toList());
+	}
 }
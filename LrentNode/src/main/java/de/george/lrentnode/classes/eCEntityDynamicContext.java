@@ -27,4 +27,9 @@ public class eCEntityDynamicContext extends G3Class {
 		bCBox box = property(CD.eCContextBase.ContextBox);
 		writer.writeBool(enabled).writeFloat(visualLoDFactor).writeFloat(objectCullFactor).write(box);
 	}
+
+	@Override
+	protected void copyClassData() {
+		// Keine veränderlichen Daten
+	}
 }
@@ -24,4 +24,9 @@ public class eCEntityPropertySet extends G3Class {
 	protected void writePostClassVersion(G3FileWriter writer) {
 		writer.writeUnsignedShort(2).writeBool(unkFlag);
 	}
+
+	@Override
+	protected void copyClassData() {
+		// Keine veränderlichen Daten
+	}
 }
@@ -25,4 +25,9 @@ public class eCGeometrySpatialContext extends G3Class {
 		bCBox box = property(CD.eCContextBase.ContextBox);
 		writer.writeBool(enabled).writeBool(hybridContext).write(box);
 	}
+
+	@Override
+	protected void copyClassData() {
+		// Keine veränderlichen Daten
+	}
 }
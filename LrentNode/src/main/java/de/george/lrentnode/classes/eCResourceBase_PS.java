@@ -37,4 +37,9 @@ public abstract class eCResourceBase_PS extends G3Class {
 	protected void writePostClassVersion(G3FileWriter writer) {
 		writer.writeUnsignedShort(0x1E).writeInt(size);
 	}
+
+	@Override
+	protected void copyClassData() {
+		// Keine veränderlichen Daten
+	}
 }
@@ -20,4 +20,9 @@ public class eCRigidBody_PS extends G3Class {
 	protected void writePostClassVersion(G3FileWriter writer) {
 		writer.write(rawData);
 	}
+
+	@Override
+	protected void copyClassData() {
+		// Keine veränderlichen Daten
+	}
 }
@@ -18,4 +18,9 @@ public class eCSpringAndDamperEffector extends G3Class {
 		writer.writeUnsignedShort(0x3E).writeUnsignedShort(0x27);
 	}
 
+	@Override
+	protected void copyClassData() {
+		// Keine veränderlichen Daten
+	}
+
 }
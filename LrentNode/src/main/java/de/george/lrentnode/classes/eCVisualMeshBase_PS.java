@@ -29,4 +29,9 @@ public class eCVisualMeshBase_PS extends eCEntityPropertySet {
 		writer.writeUnsignedShort(1);
 		super.writePostClassVersion(writer);
 	}
+
+	@Override
+	protected void copyClassData() {
+		super.copyClassData();
+	}
 }
@@ -15,4 +15,10 @@ public class eCVisualMeshDynamic_PS extends eCVisualMeshBase_PS {
 		}
 		super.readPostClassVersion(reader);
 	}
+
+	@Override
+	protected void copyClassData() {
+		// Keine eigenen Daten
+		super.copyClassData();
+	}
 }
@@ -14,4 +14,10 @@ public class eCVisualMeshStatic_PS extends eCVisualMeshBase_PS {
 		}
 		super.readPostClassVersion(reader);
 	}
+
+	@Override
+	protected void copyClassData() {
+		// Keine eigenen Daten
+		super.copyClassData();
+	}
 }
@@ -2,6 +2,7 @@ package de.george.lrentnode.classes;
 
 import de.george.g3utils.io.G3FileReader;
 import de.george.g3utils.io.G3FileWriter;
+import de.george.g3utils.io.G3Serializable;
 import de.george.lrentnode.properties.bTObjArray_eCEntityProxy;
 
 public class gCAnchor_PS extends G3Class {
@@ -21,6 +22,11 @@ public class gCAnchor_PS extends G3Class {
 		writer.write(interactPoints);
 	}
 
+	@Override
+	protected void copyClassData() {
+		interactPoints = G3Serializable.copyOf(interactPoints);
+	}
+
 	public bTObjArray_eCEntityProxy getInteractPoints() {
 		return interactPoints;
 	}
@@ -2,6 +2,7 @@ package de.george.lrentnode.classes;
 
 import de.george.g3utils.io.G3FileReader;
 import de.george.g3utils.io.G3FileWriter;
+import de.george.g3utils.io.G3Serializable;
 import de.george.lrentnode.properties.bTObjArray_eCEntityProxy;
 
 public class gCEnclave_PS extends G3Class {
@@ -20,4 +21,9 @@ public class gCEnclave_PS extends G3Class {
 	protected void writePostClassVersion(G3FileWriter writer) {
 		writer.write(members);
 	}
+
+	@Override
+	protected void copyClassData() {
+		members = G3Serializable.copyOf(members);
+	}
 }
@@ -3,6 +3,7 @@ package de.george.lrentnode.classes;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -85,6 +86,23 @@ public class gCInventory_PS extends G3Class {
 		writer.write("010000010000010000010000010000");
 	}
 
+	@Override
+	protected void copyClassData() {
+		stacks = stacks.stream().map(G3Class::copy).collect(Collectors.toList());
+
+		List<G3Class> copiedSlots = new ArrayList<>(slots.size());
+		HashMap<G3Class, Integer> copiedErrSlots = new HashMap<>();
+		for (G3Class slot : slots) {
+			G3Class copiedSlot = slot.copy();
+			copiedSlots.add(copiedSlot);
+			if (errSlots.containsKey(slot)) {
+				copiedErrSlots.put(copiedSlot, errSlots.get(slot));
+			}
+		}
+		slots = copiedSlots;
+		errSlots = copiedErrSlots;
+	}
+
 	/**
 	 * Gibt den Slot des Typs <code>slotType</code> zurück
 	 *
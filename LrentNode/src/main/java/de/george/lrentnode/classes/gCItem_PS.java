@@ -1,6 +1,7 @@
 package de.george.lrentnode.classes;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,6 +43,11 @@ public class gCItem_PS extends G3Class {
 		writer.writeUnsignedByte(scriptExecuted);
 	}
 
+	@Override
+	protected void copyClassData() {
+		script = script.stream().map(ScriptLine::copy).collect(Collectors.toList());
+	}
+
 	public int getSlot() {
 		return slot;
 	}
@@ -144,5 +150,10 @@ public class gCItem_PS extends G3Class {
 			writer.writeUnsignedShort(1);
 			writer.writeEntry(command).writeEntry(entity1).writeEntry(entity2).writeEntry(id1).writeEntry(id2);
 		}
+
+		@Override
+		public ScriptLine copy() {
+			return new ScriptLine(command, entity1, entity2, id1, id2);
+		}
 	}
 }
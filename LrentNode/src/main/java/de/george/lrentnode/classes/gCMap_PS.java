@@ -2,6 +2,7 @@ package de.george.lrentnode.classes;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import de.george.g3utils.io.G3FileReader;
 import de.george.g3utils.io.G3FileWriter;
@@ -41,6 +42,11 @@ public class gCMap_PS extends G3Class {
 		writer.write(markers);
 	}
 
+	@Override
+	protected void copyClassData() {
+		markers = markers.stream().map(MapMarker::copy).collect(Collectors.toList());
+	}
+
 	public static class MapMarker implements G3Serializable {
 		public String name;
 		public bCVector position;
@@ -91,5 +97,10 @@ public class gCMap_PS extends G3Class {
 		public void write(G3FileWriter writer) {
 			writer.writeEntry(name).writeVector(position).writeBool(active);
 		}
+
+		@Override
+		public MapMarker copy() {
+			return new MapMarker(name, position.clone(), active);
+		}
 	}
 }
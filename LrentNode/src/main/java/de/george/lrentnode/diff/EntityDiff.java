@@ -0,0 +1,98 @@
+package de.george.lrentnode.diff;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import de.george.lrentnode.archive.eCEntity;
+
+/**
+ * Ergebnis von {@link EntityDiffer#diff(eCEntity, eCEntity)}.
+ */
+public class EntityDiff {
+	public enum ChangeType {
+		ADDED,
+		REMOVED,
+		CHANGED
+	}
+
+	public static final class Change {
+		private final String path;
+		private final ChangeType type;
+		private final Object base;
+		private final Object working;
+
+		private Change(String path, ChangeType type, Object base, Object working) {
+			this.path = path;
+			this.type = type;
+			this.base = base;
+			this.working = working;
+		}
+
+		/**
+		 * @return Pfad der Änderung, z.B. {@code /Root[...]/Child[...]/gCInventory_PS/Stacks}
+		 */
+		public String getPath() {
+			return path;
+		}
+
+		public ChangeType getType() {
+			return type;
+		}
+
+		/**
+		 * @return Wert in der Basis, {@code null} bei {@link ChangeType#ADDED}
+		 */
+		public Object getBase() {
+			return base;
+		}
+
+		/**
+		 * @return Wert in der Arbeitsversion, {@code null} bei {@link ChangeType#REMOVED}
+		 */
+		public Object getWorking() {
+			return working;
+		}
+
+		@Override
+		public String toString() {
+			switch (type) {
+				case ADDED:
+					return String.format("'%s' hinzugefügt: [ %s ]", path, working);
+				case REMOVED:
+					return String.format("'%s' entfernt: [ %s ]", path, base);
+				default:
+					if (base == null && working == null) {
+						return String.format("'%s' geändert", path);
+					}
+					return String.format("'%s' geändert: [ %s ] -> [ %s ]", path, base, working);
+			}
+		}
+	}
+
+	private final List<Change> changes = new ArrayList<>();
+
+	void add(String path, ChangeType type, Object base, Object working) {
+		changes.add(new Change(path, type, base, working));
+	}
+
+	int size() {
+		return changes.size();
+	}
+
+	public boolean hasChanges() {
+		return !changes.isEmpty();
+	}
+
+	public List<Change> getChanges() {
+		return Collections.unmodifiableList(changes);
+	}
+
+	/**
+	 * @return Eine Zeile pro Änderung
+	 */
+	public String getMessagesAsString() {
+		return changes.stream().map(Change::toString).collect(Collectors.joining("\n"));
+	}
+}
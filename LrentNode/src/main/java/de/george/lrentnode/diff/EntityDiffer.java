@@ -1,170 +1,280 @@
 package de.george.lrentnode.diff;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.nio.ByteBuffer;
-import java.util.Collection;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Objects;
+import java.util.function.Consumer;
 
-import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Multimap;
-
-import de.danielbechler.diff.ObjectDiffer;
-import de.danielbechler.diff.ObjectDifferBuilder;
-import de.danielbechler.diff.access.Instances;
-import de.danielbechler.diff.access.PropertyAwareAccessor;
-import de.danielbechler.diff.identity.IdentityService;
-import de.danielbechler.diff.identity.IdentityStrategy;
-import de.danielbechler.diff.inclusion.Inclusion;
-import de.danielbechler.diff.inclusion.InclusionResolver;
-import de.danielbechler.diff.introspection.PropertyAccessorFilter;
-import de.danielbechler.diff.node.DiffNode;
-import de.danielbechler.diff.node.DiffNode.State;
-import de.george.g3utils.io.G3FileWriterEx;
+import com.google.common.collect.ImmutableSet;
+
+import de.george.g3utils.io.G3FileWriter;
+import de.george.g3utils.io.G3FileWriterVirtual;
 import de.george.g3utils.io.G3Serializable;
+import de.george.g3utils.structure.Guid;
 import de.george.g3utils.util.ReflectionUtils;
+import de.george.lrentnode.archive.G3ClassContainer;
 import de.george.lrentnode.archive.eCEntity;
-import de.george.lrentnode.archive.lrentdat.LrentdatEntity;
-import de.george.lrentnode.archive.node.NodeEntity;
 import de.george.lrentnode.classes.G3Class;
-import de.george.lrentnode.classes.eCVegetation_PS.eCVegetation_GridNode;
-import de.george.lrentnode.classes.eCVisualAnimation_PS;
-import de.george.lrentnode.diff.introspection.FieldAccessor;
-import de.george.lrentnode.diff.introspection.FieldIntrospector;
+import de.george.lrentnode.diff.EntityDiff.ChangeType;
 import de.george.lrentnode.properties.ClassProperty;
-import de.george.lrentnode.properties.bCPropertyID;
-import de.george.lrentnode.properties.bCString;
-import de.george.lrentnode.template.TemplateEntity;
+import de.george.lrentnode.properties.bTArray;
+import de.george.lrentnode.util.ClassUtil;
 
+/**
+ * Vergleicht zwei Entity-Bäume anhand ihrer Struktur.
+ * <p>
+ * Entities werden über ihre Guid, PropertySets über ihren Klassennamen und Properties über ihren
+ * Namen (bei mehrfach vorhandenen Namen in der Reihenfolge ihres Vorkommens) einander zugeordnet.
+ * Auf jeder Ebene werden zuerst die serialisierten Daten verglichen, nur bei Abweichungen werden
+ * die Header-Felder, PropertySets und Properties einzeln untersucht. Unveränderte Teile eines
+ * Entity-Baums kosten damit nicht mehr als das Schreiben in einen Buffer.
+ * <p>
+ * Eine Instanz darf nicht von mehreren Threads gleichzeitig verwendet werden.
+ */
 public class EntityDiffer {
-	private ObjectDiffer differ;
-	private IdentityService identityService;
-	private Map<Class<?>, IdentityStrategy> matchingStrategies;
-	private Multimap<Class<?>, String> exclusions;
-	private boolean stopOnAddedOrRemoved;
+	/**
+	 * Felder, die nicht zum Header einer Entity gehören
+	 */
+	private static final ImmutableSet<String> EXCLUDED_FIELDS = ImmutableSet.of("parent", "childs", "file", "modCount");
+
+	private static final ClassValue<List<Field>> headerFields = new ClassValue<List<Field>>() {
+		@Override
+		protected List<Field> computeValue(Class<?> type) {
+			Deque<Field> fields = new ArrayDeque<>();
+			for (Class<?> clazz = type; clazz != G3ClassContainer.class; clazz = clazz.getSuperclass()) {
+				Field[] declared = clazz.getDeclaredFields();
+				for (int i = declared.length - 1; i >= 0; i--) {
+					Field field = declared[i];
+					int modifiers = field.getModifiers();
+					if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers) && !EXCLUDED_FIELDS.contains(field.getName())) {
+						ReflectionUtils.setAccessible(field);
+						fields.addFirst(field);
+					}
+				}
+			}
+			return ImmutableList.copyOf(fields);
+		}
+	};
+
+	private final boolean stopOnAddedOrRemoved;
+	private final G3FileWriterVirtual writer = new G3FileWriterVirtual(64 * 1024);
+	private EntityDiff diff;
 
+	/**
+	 * @param stopOnAddedOrRemoved Bei hinzugefügten oder entfernten Entities nicht auch deren Childs
+	 *            auflisten
+	 */
 	public EntityDiffer(boolean stopOnAddedOrRemoved) {
 		this.stopOnAddedOrRemoved = stopOnAddedOrRemoved;
-		initMatchingStrategies();
-		initExclusions();
-		initObjectDiffer();
 	}
 
-	private void addMethodMatchingStrategy(Class<?> type, String methodName) {
-		matchingStrategies.put(type, new EqualsProviderMethodIdentityStrategy(methodName));
+	public EntityDiff diff(eCEntity working, eCEntity base) {
+		diff = new EntityDiff();
+		try {
+			diffEntity("", working, base);
+			return diff;
+		} finally {
+			diff = null;
+		}
 	}
 
-	private void addFieldMatchingStrategy(Class<?> type, String fieldName) {
-		matchingStrategies.put(type, new EqualsProviderFieldIdentityStrategy(fieldName));
+	private void diffEntity(String parentPath, eCEntity working, eCEntity base) {
+		String path = parentPath + "/" + describe(working);
+		if (!isSerializedEqual(working::write, base::write)) {
+			diffHeader(path, working, base);
+			diffClasses(path, working.getClasses(), base.getClasses());
+		}
+		diffChilds(path, working.getChilds(), base.getChilds());
 	}
 
-	private void initExclusions() {
-		exclusions = HashMultimap.create();
-		exclusions.put(eCEntity.class, "parent");
-		// exclusions.put(eCEntity.class, "childs");
-		exclusions.put(eCEntity.class, "file");
-		exclusions.put(G3Class.class, "deadcodePosition");
-	}
+	private void diffHeader(String path, eCEntity working, eCEntity base) {
+		Class<?> type = working.getClass();
+		if (type != base.getClass()) {
+			diff.add(path, ChangeType.CHANGED, base.getClass().getSimpleName(), type.getSimpleName());
+			type = eCEntity.class;
+		}
 
-	private void initMatchingStrategies() {
-		matchingStrategies = new ConcurrentHashMap<>();
-		addMethodMatchingStrategy(G3Class.class, "getClassName");
-		addMethodMatchingStrategy(ClassProperty.class, "getName");
-		addMethodMatchingStrategy(bCPropertyID.class, "getGuid");
-		addMethodMatchingStrategy(bCString.class, "getString");
-		addFieldMatchingStrategy(eCVisualAnimation_PS.MaterialSwitchSlot.class, "name");
-		addFieldMatchingStrategy(eCVisualAnimation_PS.ExtraSlot.class, "name");
-		addMethodMatchingStrategy(eCEntity.class, "getGuid");
-		addMethodMatchingStrategy(eCVegetation_GridNode.class, "getIndex");
-		matchingStrategies.put(G3Serializable.class, new BeanEqualsIdentityStrategy());
+		for (Field field : headerFields.get(type)) {
+			Object workingValue = ReflectionUtils.getFieldValue(field, working);
+			Object baseValue = ReflectionUtils.getFieldValue(field, base);
+			if (!isValueEqual(workingValue, baseValue)) {
+				diff.add(path + "/" + field.getName(), ChangeType.CHANGED, baseValue, workingValue);
+			}
+		}
 	}
 
-	private void initObjectDiffer() {
-		FieldIntrospector fieldIntrospector = new FieldIntrospector();
-		fieldIntrospector.setReturnFinalFields(true);
-
-		ObjectDifferBuilder builder = ObjectDifferBuilder.startBuilding();
-		identityService = builder.identity();
-		builder.introspection().setDefaultIntrospector(fieldIntrospector);
-
-		EntityBinaryAccesorFilter accesorFilter = new EntityBinaryAccesorFilter();
-		builder.introspection().ofType(TemplateEntity.class).toFilter(accesorFilter);
-		builder.introspection().ofType(NodeEntity.class).toFilter(accesorFilter);
-		builder.introspection().ofType(LrentdatEntity.class).toFilter(accesorFilter);
-		builder.inclusion().resolveUsing(new InclusionResolver() {
-			@Override
-			public Inclusion getInclusion(DiffNode node) {
-				DiffNode parentNode = node.getParentNode();
-				if (parentNode != null) {
-					if (stopOnAddedOrRemoved) {
-						State parentState = parentNode.getState();
-						if (parentState == State.ADDED || parentState == State.REMOVED) {
-							return Inclusion.EXCLUDED;
-						}
-					}
+	private void diffChilds(String path, List<eCEntity> working, List<eCEntity> base) {
+		Map<Guid, eCEntity> unmatched = new LinkedHashMap<>();
+		for (eCEntity child : base) {
+			unmatched.putIfAbsent(child.getGuidValue(), child);
+		}
 
-					Class<?> parentType = parentNode.getValueType();
-					for (Class<?> regType : exclusions.keySet()) {
-						if (regType.isAssignableFrom(parentType)) {
-							if (exclusions.get(regType).contains(node.getPropertyName())) {
-								return Inclusion.EXCLUDED;
-							}
-						}
-					}
-				}
-				return Inclusion.DEFAULT;
+		for (eCEntity child : working) {
+			eCEntity baseChild = unmatched.remove(child.getGuidValue());
+			if (baseChild != null) {
+				diffEntity(path, child, baseChild);
+			} else {
+				addEntity(path, ChangeType.ADDED, child);
 			}
+		}
 
-			@Override
-			public boolean enablesStrictIncludeMode() {
-				return false;
+		for (eCEntity child : unmatched.values()) {
+			addEntity(path, ChangeType.REMOVED, child);
+		}
+	}
+
+	private void addEntity(String parentPath, ChangeType type, eCEntity entity) {
+		String path = parentPath + "/" + describe(entity);
+		diff.add(path, type, type == ChangeType.REMOVED ? entity : null, type == ChangeType.ADDED ? entity : null);
+		if (!stopOnAddedOrRemoved) {
+			for (eCEntity child : entity.getChilds()) {
+				addEntity(path, type, child);
 			}
-		});
-		builder.collectionMatchingStrategyResolver(type -> {
-			Class<?> bestType = null;
-			for (Class<?> strategyType : matchingStrategies.keySet()) {
-				if (strategyType.isAssignableFrom(type)) {
-					if (bestType == null || bestType.isAssignableFrom(strategyType)) {
-						bestType = strategyType;
-					}
-				}
+		}
+	}
+
+	private void diffClasses(String path, List<G3Class> working, List<G3Class> base) {
+		Map<String, G3Class> unmatched = new LinkedHashMap<>();
+		for (G3Class clazz : base) {
+			unmatched.putIfAbsent(clazz.getClassName(), clazz);
+		}
+
+		for (G3Class clazz : working) {
+			G3Class baseClass = unmatched.remove(clazz.getClassName());
+			String classPath = path + "/" + clazz.getClassName();
+			if (baseClass == null) {
+				diff.add(classPath, ChangeType.ADDED, null, clazz);
+			} else if (!isSerializedEqual(clazz::write, baseClass::write)) {
+				diffClass(classPath, clazz, baseClass);
 			}
-			return bestType != null ? matchingStrategies.get(bestType) : null;
-		});
-		differ = builder.build();
+		}
+
+		for (G3Class clazz : unmatched.values()) {
+			diff.add(path + "/" + clazz.getClassName(), ChangeType.REMOVED, clazz, null);
+		}
 	}
 
-	public DiffNode diff(eCEntity working, eCEntity base) {
-		return differ.compare(working, base);
+	private void diffClass(String path, G3Class working, G3Class base) {
+		int changesBefore = diff.size();
+
+		if (working.getClassVersion() != base.getClassVersion()) {
+			diff.add(path + "/classVersion", ChangeType.CHANGED, base.getClassVersion(), working.getClassVersion());
+		}
+
+		diffProperties(path, working.properties(), base.properties());
+
+		// Verschachtelte PropertySets (z.B. Slots und Stacks des Inventars) über ihre Position zuordnen
+		List<G3Class> workingNested = ImmutableList.copyOf(ClassUtil.getNestedPropertySets(working));
+		List<G3Class> baseNested = ImmutableList.copyOf(ClassUtil.getNestedPropertySets(base));
+		for (int i = 0; i < Math.max(workingNested.size(), baseNested.size()); i++) {
+			String nestedPath = path + "[" + i + "]";
+			if (i >= baseNested.size()) {
+				diff.add(nestedPath, ChangeType.ADDED, null, workingNested.get(i));
+			} else if (i >= workingNested.size()) {
+				diff.add(nestedPath, ChangeType.REMOVED, baseNested.get(i), null);
+			} else if (!isSerializedEqual(workingNested.get(i)::write, baseNested.get(i)::write)) {
+				diffClass(nestedPath + "/" + workingNested.get(i).getClassName(), workingNested.get(i), baseNested.get(i));
+			}
+		}
+
+		if (diff.size() == changesBefore) {
+			// Nur die klassenspezifischen Daten unterscheiden sich
+			diff.add(path, ChangeType.CHANGED, null, null);
+		}
 	}
 
-	private static class EntityBinaryAccesorFilter implements PropertyAccessorFilter {
-		private static final List<PropertyAwareAccessor> CHILDS_ACCESSOR = ImmutableList
-				.of(new FieldAccessor(ReflectionUtils.getField(eCEntity.class, "childs")));
+	private void diffProperties(String path, List<ClassProperty<?>> working, List<ClassProperty<?>> base) {
+		Map<String, Deque<ClassProperty<?>>> unmatched = new HashMap<>();
+		for (ClassProperty<?> property : base) {
+			unmatched.computeIfAbsent(property.getName(), n -> new ArrayDeque<>()).add(property);
+		}
 
-		@Override
-		public Collection<PropertyAwareAccessor> filter(DiffNode node, Instances instances) {
-			eCEntity base = instances.getBase(eCEntity.class);
-			eCEntity working = instances.getWorking(eCEntity.class);
-			if (base != null && working != null) {
-				G3FileWriterEx baseBinary = new G3FileWriterEx();
-				base.write(baseBinary);
-				baseBinary.writeStringtable();
-				G3FileWriterEx workingBinary = new G3FileWriterEx();
-				working.write(workingBinary);
-				workingBinary.writeStringtable();
-
-				ByteBuffer baseBuffer = baseBinary.getBuffer();
-				baseBuffer.flip();
-				ByteBuffer workingBuffer = workingBinary.getBuffer();
-				workingBuffer.flip();
-				if (baseBuffer.equals(workingBuffer)) {
-					return CHILDS_ACCESSOR;
+		for (ClassProperty<?> property : working) {
+			Deque<ClassProperty<?>> candidates = unmatched.get(property.getName());
+			ClassProperty<?> baseProperty = candidates != null ? candidates.poll() : null;
+			String propertyPath = path + "/" + property.getName();
+			if (baseProperty == null) {
+				diff.add(propertyPath, ChangeType.ADDED, null, property.getValue());
+			} else if (!Objects.equals(property.getType(), baseProperty.getType())) {
+				diff.add(propertyPath, ChangeType.CHANGED, baseProperty.getType(), property.getType());
+			} else {
+				diffValue(propertyPath, property.getValue(), baseProperty.getValue());
+			}
+		}
+
+		// In der Reihenfolge der Basis ausgeben
+		for (ClassProperty<?> property : base) {
+			Deque<ClassProperty<?>> candidates = unmatched.get(property.getName());
+			if (candidates.remove(property)) {
+				diff.add(path + "/" + property.getName(), ChangeType.REMOVED, property.getValue(), null);
+			}
+		}
+	}
+
+	private void diffValue(String path, G3Serializable working, G3Serializable base) {
+		if (isSerializedEqual(working::write, base::write)) {
+			return;
+		}
+
+		if (working instanceof bTArray && base instanceof bTArray) {
+			List<? extends G3Serializable> workingEntries = ((bTArray<?>) working).getEntries();
+			List<? extends G3Serializable> baseEntries = ((bTArray<?>) base).getEntries();
+			for (int i = 0; i < Math.max(workingEntries.size(), baseEntries.size()); i++) {
+				String entryPath = path + "[" + i + "]";
+				if (i >= baseEntries.size()) {
+					diff.add(entryPath, ChangeType.ADDED, null, workingEntries.get(i));
+				} else if (i >= workingEntries.size()) {
+					diff.add(entryPath, ChangeType.REMOVED, baseEntries.get(i), null);
+				} else {
+					diffValue(entryPath, workingEntries.get(i), baseEntries.get(i));
 				}
 			}
+		} else {
+			diff.add(path, ChangeType.CHANGED, base, working);
+		}
+	}
+
+	private boolean isValueEqual(Object working, Object base) {
+		if (working instanceof G3Serializable && base instanceof G3Serializable) {
+			return isSerializedEqual(((G3Serializable) working)::write, ((G3Serializable) base)::write);
+		}
+		return Objects.equals(working, base);
+	}
 
-			return node.getValueTypeInfo().getAccessors();
+	/**
+	 * Schreibt beide Objekte nacheinander in {@link #writer} und vergleicht die geschriebenen Bytes.
+	 * Strings werden dabei direkt geschrieben, Unterschiede in der Stringtable spielen also keine
+	 * Rolle.
+	 */
+	private boolean isSerializedEqual(Consumer<G3FileWriter> working, Consumer<G3FileWriter> base) {
+		writer.seek(0);
+		working.accept(writer);
+		int split = writer.position();
+		base.accept(writer);
+		int end = writer.position();
+		if (end - split != split) {
+			return false;
 		}
+
+		// Der Buffer kann beim Schreiben ausgetauscht worden sein
+		ByteBuffer workingBytes = writer.getBuffer().duplicate();
+		workingBytes.position(0);
+		workingBytes.limit(split);
+		ByteBuffer baseBytes = writer.getBuffer().duplicate();
+		baseBytes.position(split);
+		baseBytes.limit(end);
+		return workingBytes.equals(baseBytes);
+	}
+
+	private static String describe(eCEntity entity) {
+		return entity.getName() + "[" + entity.getGuid() + "]";
 	}
 }
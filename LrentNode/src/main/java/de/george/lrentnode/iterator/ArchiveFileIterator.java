@@ -37,7 +37,7 @@ public class ArchiveFileIterator implements Iterator<ArchiveFile> {
 			if (file.isFile()) {
 				ArchiveFile aFile = null;
 				try {
-					aFile = FileUtil.openArchive(file, false, skipPropertySets);
+					aFile = skipPropertySets ? FileUtil.openArchive(file, false, true) : FileUtil.openArchiveLazy(file, false);
 				} catch (Exception e) {
 					logger.warn("Fehler beim Öffnen von Archiv({}): {}", file.getAbsolutePath(), e.getMessage());
 				}
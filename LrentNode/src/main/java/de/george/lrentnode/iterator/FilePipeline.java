@@ -0,0 +1,207 @@
+package de.george.lrentnode.iterator;
+
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import de.george.g3utils.util.FunctionWithException;
+
+/**
+ * Öffnet Dateien parallel auf einem eigenen Thread-Pool, wobei nie mehr als {@code readAhead}
+ * Dateien gleichzeitig geöffnet oder fertig geöffnet, aber noch nicht abgeholt sind.
+ * <p>
+ * Die Ergebnisse werden vom aufrufenden Thread mit {@link #advance(BiConsumer)} abgeholt, wahlweise
+ * in der Reihenfolge von {@code files} oder in der Reihenfolge ihrer Fertigstellung. Nicht
+ * thread-safe, bis auf {@link #cancel()}.
+ */
+public class FilePipeline<T> implements AutoCloseable {
+	private final List<File> files;
+	private final Predicate<File> filter;
+	private final FunctionWithException<File, T> opener;
+	private final boolean ordered;
+	private final int readAhead;
+
+	private final ThreadPoolExecutor executor;
+	// Ordered: Alle ausstehenden Tasks in Dateireihenfolge, AsCompleted: Fertige Tasks
+	private final Deque<Future<Loaded<T>>> pending = new ArrayDeque<>();
+	private final BlockingQueue<Future<Loaded<T>>> completed = new LinkedBlockingQueue<>();
+	private int inFlight;
+	private int position;
+	private volatile boolean cancelled;
+
+	private T current;
+	private File currentFile;
+
+	private static class Loaded<T> {
+		private final File file;
+		private final T value;
+		private final Exception error;
+
+		public Loaded(File file, T value, Exception error) {
+			this.file = file;
+			this.value = value;
+			this.error = error;
+		}
+	}
+
+	public FilePipeline(List<File> files, Predicate<File> filter, FunctionWithException<File, T> opener, boolean ordered,
+			int parallelism, int readAhead, String threadName) {
+		if (parallelism < 1 || readAhead < 1) {
+			throw new IllegalArgumentException("parallelism und readAhead müssen positiv sein.");
+		}
+
+		this.files = files;
+		this.filter = filter;
+		this.opener = opener;
+		this.ordered = ordered;
+		this.readAhead = readAhead;
+
+		executor = new ThreadPoolExecutor(parallelism, parallelism, 5, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+				new ThreadFactoryBuilder().setNameFormat(threadName + "-%d").setDaemon(true).build());
+		// Threads beenden sich selbst, falls der Iterator nicht vollständig durchlaufen wird
+		executor.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * Wechselt zur nächsten erfolgreich geöffneten Datei.
+	 *
+	 * @param errorHandler Wird im aufrufenden Thread für jede Datei aufgerufen, die nicht geöffnet
+	 *            werden konnte
+	 * @return {@code false}, wenn alle Dateien abgearbeitet wurden oder die Verarbeitung abgebrochen
+	 *         wurde
+	 */
+	public boolean advance(BiConsumer<File, Exception> errorHandler) {
+		current = null;
+		currentFile = null;
+
+		while (!cancelled) {
+			fill();
+			if (inFlight == 0) {
+				close();
+				return false;
+			}
+
+			Loaded<T> loaded;
+			try {
+				Future<Loaded<T>> future = ordered ? pending.pollFirst() : completed.take();
+				inFlight--;
+				loaded = future.get();
+				if (cancelled) {
+					// Durch den Abbruch unterbrochene Tasks nicht als Fehler melden
+					break;
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				cancel();
+				return false;
+			} catch (CancellationException e) {
+				return false;
+			} catch (ExecutionException e) {
+				// Der Task fängt alle Exceptions, hier landen nur Errors
+				throw new IllegalStateException(e.getCause());
+			}
+
+			if (loaded.error != null) {
+				errorHandler.accept(loaded.file, loaded.error);
+			} else if (loaded.value != null) {
+				current = loaded.value;
+				currentFile = loaded.file;
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public T current() {
+		return current;
+	}
+
+	public File currentFile() {
+		return currentFile;
+	}
+
+	/**
+	 * Bricht alle noch ausstehenden Tasks ab, nachfolgende Aufrufe von {@link #advance(BiConsumer)}
+	 * liefern {@code false}. Darf von einem beliebigen Thread aus aufgerufen werden, auch während
+	 * {@link #advance(BiConsumer)} blockiert. Die Aufräumarbeiten übernimmt der aufrufende Thread in
+	 * {@link #advance(BiConsumer)} bzw. {@link #close()}.
+	 */
+	public void cancel() {
+		cancelled = true;
+		shutdown();
+	}
+
+	public boolean isCancelled() {
+		return cancelled;
+	}
+
+	@Override
+	public void close() {
+		shutdown();
+		pending.forEach(f -> f.cancel(true));
+		pending.clear();
+		completed.clear();
+		inFlight = 0;
+	}
+
+	/**
+	 * Unterbricht laufende Tasks und bricht alle noch nicht gestarteten Tasks ab. Abgebrochene Tasks
+	 * landen, wie fertige, in {@link #completed}, damit ein in {@link #advance(BiConsumer)}
+	 * wartender Thread in jedem Modus aufwacht.
+	 */
+	private void shutdown() {
+		for (Runnable task : executor.shutdownNow()) {
+			((Future<?>) task).cancel(false);
+		}
+	}
+
+	private void fill() {
+		while (inFlight < readAhead && position < files.size()) {
+			File file = files.get(position++);
+			FutureTask<Loaded<T>> task = new FutureTask<Loaded<T>>(() -> load(file)) {
+				@Override
+				protected void done() {
+					if (!ordered) {
+						completed.add(this);
+					}
+				}
+			};
+			if (ordered) {
+				pending.addLast(task);
+			}
+			inFlight++;
+			try {
+				executor.execute(task);
+			} catch (RejectedExecutionException e) {
+				// Zwischenzeitlich von einem anderen Thread abgebrochen
+				task.cancel(false);
+			}
+		}
+	}
+
+	private Loaded<T> load(File file) {
+		if (cancelled || !filter.test(file)) {
+			return new Loaded<>(file, null, null);
+		}
+
+		try {
+			return new Loaded<>(file, opener.applyWithException(file), null);
+		} catch (Exception e) {
+			return new Loaded<>(file, null, e);
+		}
+	}
+}
@@ -0,0 +1,88 @@
+package de.george.lrentnode.iterator;
+
+import java.io.File;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.george.lrentnode.archive.ArchiveFile;
+import de.george.lrentnode.util.FileUtil;
+
+/**
+ * {@link ArchiveFileIterator}, der die nachfolgenden Dateien bereits parallel öffnet, während der
+ * Aufrufer die aktuelle verarbeitet.
+ * <p>
+ * Es werden höchstens {@code readAhead} Dateien im Voraus geöffnet, der Speicherbedarf bleibt also
+ * begrenzt. Wird der Iterator nicht vollständig durchlaufen, sollte er mit {@link #close()}
+ * geschlossen werden.
+ */
+public class ParallelArchiveFileIterator extends ArchiveFileIterator implements AutoCloseable {
+	private static final Logger logger = LoggerFactory.getLogger(ParallelArchiveFileIterator.class);
+
+	private final FilePipeline<ArchiveFile> pipeline;
+	private BiConsumer<File, Exception> errorHandler = (file, e) -> logger.warn("Fehler beim Öffnen von Archiv({}): {}",
+			file.getAbsolutePath(), e.getMessage());
+
+	public ParallelArchiveFileIterator(List<File> files) {
+		this(files, false, true);
+	}
+
+	/**
+	 * @param ordered {@code true}, um die Dateien in der Reihenfolge von {@code files} zu liefern,
+	 *            sonst in der Reihenfolge, in der sie fertig geöffnet wurden
+	 */
+	public ParallelArchiveFileIterator(List<File> files, boolean skipPropertySets, boolean ordered) {
+		this(files, skipPropertySets, ordered, Runtime.getRuntime().availableProcessors());
+	}
+
+	public ParallelArchiveFileIterator(List<File> files, boolean skipPropertySets, boolean ordered, int parallelism) {
+		this(files, skipPropertySets, ordered, parallelism, 2 * parallelism);
+	}
+
+	public ParallelArchiveFileIterator(List<File> files, boolean skipPropertySets, boolean ordered, int parallelism, int readAhead) {
+		super(files, skipPropertySets);
+		pipeline = new FilePipeline<>(files, File::isFile,
+				file -> skipPropertySets ? FileUtil.openArchive(file, false, true) : FileUtil.openArchiveLazy(file, false), ordered,
+				parallelism, readAhead, "ArchiveFileIterator");
+	}
+
+	/**
+	 * Legt fest, wie Dateien behandelt werden, die nicht geöffnet werden konnten. Standardmäßig wird
+	 * eine Warnung geloggt. Der Handler wird im Thread des Aufrufers von {@link #hasNext()}
+	 * ausgeführt.
+	 */
+	public ParallelArchiveFileIterator onError(BiConsumer<File, Exception> errorHandler) {
+		this.errorHandler = errorHandler;
+		return this;
+	}
+
+	@Override
+	public boolean hasNext() {
+		return pipeline.advance(errorHandler);
+	}
+
+	@Override
+	public ArchiveFile next() {
+		return pipeline.current();
+	}
+
+	@Override
+	public File nextFile() {
+		return pipeline.currentFile();
+	}
+
+	public void cancel() {
+		pipeline.cancel();
+	}
+
+	public boolean isCancelled() {
+		return pipeline.isCancelled();
+	}
+
+	@Override
+	public void close() {
+		pipeline.close();
+	}
+}
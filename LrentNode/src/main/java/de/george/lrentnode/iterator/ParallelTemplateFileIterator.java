@@ -0,0 +1,71 @@
+package de.george.lrentnode.iterator;
+
+import java.io.File;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.george.lrentnode.template.TemplateFile;
+import de.george.lrentnode.util.FileUtil;
+
+/**
+ * {@link TemplateFileIterator}, der die nachfolgenden Templates bereits parallel öffnet.
+ *
+ * @see ParallelArchiveFileIterator
+ */
+public class ParallelTemplateFileIterator extends TemplateFileIterator implements AutoCloseable {
+	private static final Logger logger = LoggerFactory.getLogger(ParallelTemplateFileIterator.class);
+
+	private final FilePipeline<TemplateFile> pipeline;
+	private BiConsumer<File, Exception> errorHandler = (file, e) -> logger.warn("Fehler beim Öffnen von Template({}): {}",
+			file.getAbsolutePath(), e.getMessage());
+
+	public ParallelTemplateFileIterator(List<File> files) {
+		this(files, true);
+	}
+
+	public ParallelTemplateFileIterator(List<File> files, boolean ordered) {
+		this(files, ordered, Runtime.getRuntime().availableProcessors());
+	}
+
+	public ParallelTemplateFileIterator(List<File> files, boolean ordered, int parallelism) {
+		super(files);
+		pipeline = new FilePipeline<>(files, TemplateFileIterator::isTemplateFile, FileUtil::openTemplate, ordered, parallelism,
+				4 * parallelism, "TemplateFileIterator");
+	}
+
+	public ParallelTemplateFileIterator onError(BiConsumer<File, Exception> errorHandler) {
+		this.errorHandler = errorHandler;
+		return this;
+	}
+
+	@Override
+	public boolean hasNext() {
+		return pipeline.advance(errorHandler);
+	}
+
+	@Override
+	public TemplateFile next() {
+		return pipeline.current();
+	}
+
+	@Override
+	public File nextFile() {
+		return pipeline.currentFile();
+	}
+
+	public void cancel() {
+		pipeline.cancel();
+	}
+
+	public boolean isCancelled() {
+		return pipeline.isCancelled();
+	}
+
+	@Override
+	public void close() {
+		pipeline.close();
+	}
+}
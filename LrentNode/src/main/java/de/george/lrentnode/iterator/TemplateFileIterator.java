@@ -27,7 +27,7 @@ public class TemplateFileIterator implements Iterator<TemplateFile> {
 	public boolean hasNext() {
 		while (position < files.size()) {
 			File file = files.get(position++);
-			if (file.isFile() && file.getName().endsWith(".tple") && !file.getName().startsWith("_deleted_")) {
+			if (isTemplateFile(file)) {
 				TemplateFile tple = null;
 				try {
 					tple = FileUtil.openTemplate(file);
@@ -55,6 +55,10 @@ public class TemplateFileIterator implements Iterator<TemplateFile> {
 		return nextFile;
 	}
 
+	static boolean isTemplateFile(File file) {
+		return file.isFile() && file.getName().endsWith(".tple") && !file.getName().startsWith("_deleted_");
+	}
+
 	@Override
 	public void remove() {
 		throw new UnsupportedOperationException();
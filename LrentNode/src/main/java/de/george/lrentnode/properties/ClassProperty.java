@@ -46,6 +46,15 @@ public final class ClassProperty<T extends G3Serializable> {
 		return propName.equals(name);
 	}
 
+	/**
+	 * @return Tiefe Kopie der Property, der Wert wird mit {@link G3Serializable#copy()} kopiert
+	 */
+	public ClassProperty<T> copy() {
+		ClassProperty<T> copy = new ClassProperty<>(propName, propClassType, G3Serializable.copyOf(data));
+		copy.magicValue = magicValue;
+		return copy;
+	}
+
 	public void write(G3FileWriter writer) {
 		writer.writeEntry(propName);
 		writer.writeEntry(propClassType);
@@ -4,9 +4,8 @@ import java.util.Collections;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
-import org.objenesis.Objenesis;
-import org.objenesis.ObjenesisStd;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -17,6 +16,7 @@ import de.george.g3utils.structure.bCMatrix;
 import de.george.g3utils.structure.bCRect;
 import de.george.g3utils.structure.bCVector;
 import de.george.g3utils.structure.bCVector2;
+import de.george.g3utils.util.InstanceFactories;
 import de.george.lrentnode.structures.bCFloatAlphaColor;
 import de.george.lrentnode.structures.bCFloatColor;
 import de.george.lrentnode.structures.bCGuid;
@@ -25,12 +25,13 @@ public class PropertyInstantiator {
 	private static final Logger logger = LoggerFactory.getLogger(PropertyInstantiator.class);
 
 	private static ConcurrentHashMap<String, Class<?>> classMap = new ConcurrentHashMap<>();
-	private static Objenesis objenesis = new ObjenesisStd(true);
+	private static ConcurrentHashMap<String, Supplier<?>> factoryMap = new ConcurrentHashMap<>();
 
 	private static void add(Class<?> clazz, String... types) {
 		for (String type : types) {
 			try {
 				classMap.putIfAbsent(type, clazz);
+				factoryMap.putIfAbsent(type, InstanceFactories.instanceFactory(clazz));
 			} catch (Exception e) {
 				logger.warn("Error while getting constructor for property {}: ", clazz.getName(), e);
 			}
@@ -51,6 +52,20 @@ public class PropertyInstantiator {
 
 	@SuppressWarnings("unchecked")
 	public static <T extends G3Serializable> T getPropertyInstance(String name, String type) {
+		Supplier<?> factory = factoryMap.get(type);
+		if (factory == null) {
+			factory = createPropertyFactory(name, type);
+		}
+
+		try {
+			return (T) factory.get();
+		} catch (Exception e) {
+			logger.warn("Error while instantiating Property: {} - {}", name, type, e);
+			throw new RuntimeException("Error while instantiating Property: " + name + " - " + type, e);
+		}
+	}
+
+	private static Supplier<?> createPropertyFactory(String name, String type) {
 		Class<?> clazz = classMap.get(type);
 		if (clazz == null) {
 			if (isPropertyContainer(type)) {
@@ -58,7 +73,8 @@ public class PropertyInstantiator {
 			} else if (isPropertyContainerArray(type)) {
 				clazz = bTObjArray_bTPropertyContainer.class;
 			} else if (isPropertyObject(type)) {
-				return (T) new bTPropertyObject(type.substring(0, type.indexOf(",")).replace("bTPropertyObject<class", "").trim());
+				String className = type.substring(0, type.indexOf(",")).replace("bTPropertyObject<class", "").trim();
+				return () -> new bTPropertyObject(className);
 			} else {
 				clazz = Unknown.class;
 				logger.info("Unbekannte Property: {} - {}", name, type);
@@ -66,13 +82,7 @@ public class PropertyInstantiator {
 
 			add(clazz, type);
 		}
-
-		try {
-			return (T) objenesis.getInstantiatorOf(clazz).newInstance();
-		} catch (Exception e) {
-			logger.warn("Error while instantiating Property: {} - {}", name, type, e);
-			throw new RuntimeException("Error while instantiating Property: " + name + " - " + type, e);
-		}
+		return factoryMap.get(type);
 	}
 
 	public static <T extends G3Serializable> Optional<T> getPropertyDefaultValue(String type) {
@@ -17,4 +17,11 @@ public class SerializableEnumWrapper<T extends G3Enum> implements G3Serializable
 	public void write(G3FileWriter writer) {
 		writer.writeInt(enumValue);
 	}
+
+	@Override
+	public SerializableEnumWrapper<T> copy() {
+		SerializableEnumWrapper<T> copy = new SerializableEnumWrapper<>();
+		copy.enumValue = enumValue;
+		return copy;
+	}
 }
@@ -3,39 +3,53 @@ package de.george.lrentnode.properties;
 import de.george.g3utils.io.G3FileReader;
 import de.george.g3utils.io.G3FileWriter;
 import de.george.g3utils.io.G3Serializable;
+import de.george.g3utils.structure.Guid;
 
 public class bCPropertyID implements G3Serializable {
-	private static final String INVALID_GUID = "0000000000000000000000000000000000000000";
+	private static final Guid INVALID_GUID = new Guid(0, 0, 0);
 
-	private String guid;
+	private Guid guid;
 
 	public bCPropertyID() {
 		this(INVALID_GUID);
 	}
 
 	public bCPropertyID(String guid) {
+		this(Guid.of(guid));
+	}
+
+	public bCPropertyID(Guid guid) {
 		this.guid = guid;
 	}
 
 	@Override
 	public void read(G3FileReader reader) {
-		guid = reader.readGUID();
+		guid = reader.readGuidValue();
 	}
 
 	@Override
 	public void write(G3FileWriter writer) {
-		if (guid != null) {
-			writer.write(guid);
-		} else {
-			writer.write(INVALID_GUID);
-		}
+		writer.writeGuid(guid != null ? guid : INVALID_GUID);
+	}
+
+	@Override
+	public bCPropertyID copy() {
+		return new bCPropertyID(guid);
 	}
 
 	public String getGuid() {
-		return guid;
+		return guid != null ? guid.getGuid() : null;
 	}
 
 	public void setGuid(String guid) {
+		this.guid = Guid.of(guid);
+	}
+
+	public Guid getGuidValue() {
+		return guid;
+	}
+
+	public void setGuidValue(Guid guid) {
 		this.guid = guid;
 	}
 
@@ -48,6 +48,11 @@ public class bCRange1 implements G3Serializable {
 		writer.writeFloat(max);
 	}
 
+	@Override
+	public bCRange1 copy() {
+		return new bCRange1(min, max);
+	}
+
 	@Override
 	public String toString() {
 		return "min=" + min + ", max=" + max;
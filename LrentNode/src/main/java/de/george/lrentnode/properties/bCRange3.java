@@ -49,6 +49,11 @@ public class bCRange3 implements G3Serializable {
 		writer.write(min, max);
 	}
 
+	@Override
+	public bCRange3 copy() {
+		return new bCRange3(min.clone(), max.clone());
+	}
+
 	@Override
 	public String toString() {
 		return "min=" + min + ", max=" + max;
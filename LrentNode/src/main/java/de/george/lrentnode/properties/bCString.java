@@ -25,6 +25,11 @@ public class bCString implements G3Serializable {
 		writer.writeEntry(string);
 	}
 
+	@Override
+	public bCString copy() {
+		return new bCString(string);
+	}
+
 	public String getString() {
 		return string;
 	}
@@ -9,7 +9,7 @@ import de.george.g3utils.io.G3FileReader;
 import de.george.g3utils.io.G3FileWriter;
 import de.george.g3utils.io.G3Serializable;
 
-public abstract class bTArray<T extends G3Serializable> implements G3Serializable {
+public abstract class bTArray<T extends G3Serializable> implements G3Serializable, Cloneable {
 	protected List<T> entries;
 
 	public bTArray() {
@@ -46,6 +46,18 @@ public abstract class bTArray<T extends G3Serializable> implements G3Serializabl
 		writer.writePrefixedList(entries);
 	}
 
+	@Override
+	public bTArray<T> copy() {
+		try {
+			@SuppressWarnings("unchecked")
+			bTArray<T> copy = (bTArray<T>) clone();
+			copy.entries = entries.stream().map(G3Serializable::copyOf).collect(Collectors.toList());
+			return copy;
+		} catch (CloneNotSupportedException e) {
+			throw new AssertionError(e);
+		}
+	}
+
 	public abstract Class<T> getEntryType();
 
 	@Override
@@ -8,7 +8,7 @@ import de.george.g3utils.io.G3Serializable;
 import de.george.lrentnode.classes.ClassTypes;
 import de.george.lrentnode.classes.G3Class;
 
-public abstract class bTAutoPOSmartPtr<T extends G3Class> implements G3Serializable {
+public abstract class bTAutoPOSmartPtr<T extends G3Class> implements G3Serializable, Cloneable {
 	protected T object;
 
 	public Optional<T> getObject() {
@@ -35,6 +35,18 @@ public abstract class bTAutoPOSmartPtr<T extends G3Class> implements G3Serializa
 		}
 	}
 
+	@SuppressWarnings("unchecked")
+	@Override
+	public bTAutoPOSmartPtr<T> copy() {
+		try {
+			bTAutoPOSmartPtr<T> copy = (bTAutoPOSmartPtr<T>) clone();
+			copy.object = object != null ? (T) object.copy() : null;
+			return copy;
+		} catch (CloneNotSupportedException e) {
+			throw new AssertionError(e);
+		}
+	}
+
 	protected abstract String getClassName();
 
 	@Override
@@ -28,6 +28,11 @@ public class bTPropertyContainer<T extends G3Enum> implements G3Serializable {
 		writer.writeInt(enumValue);
 	}
 
+	@Override
+	public bTPropertyContainer<T> copy() {
+		return new bTPropertyContainer<>(enumValue);
+	}
+
 	public int getEnumValue() {
 		return enumValue;
 	}
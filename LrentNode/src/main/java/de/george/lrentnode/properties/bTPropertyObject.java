@@ -24,6 +24,13 @@ public class bTPropertyObject implements G3Serializable {
 		clazz.write(writer);
 	}
 
+	@Override
+	public bTPropertyObject copy() {
+		bTPropertyObject copy = new bTPropertyObject(className);
+		copy.clazz = clazz != null ? clazz.copy() : null;
+		return copy;
+	}
+
 	public String getClassName() {
 		return className;
 	}
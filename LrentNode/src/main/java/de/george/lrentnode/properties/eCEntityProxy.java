@@ -1,19 +1,26 @@
 package de.george.lrentnode.properties;
 
-import com.google.common.base.Strings;
-
 import de.george.g3utils.io.G3FileReader;
 import de.george.g3utils.io.G3FileWriter;
 import de.george.g3utils.io.G3Serializable;
+import de.george.g3utils.structure.Guid;
 
 public class eCEntityProxy implements G3Serializable {
-	private String guid;
+	private Guid guid;
 
 	public eCEntityProxy() {
-		this(null);
+		this((Guid) null);
 	}
 
+	/**
+	 * @param guid Akzeptiert alle Darstellungen, die {@link Guid#of(String)} versteht, eine ungültige
+	 *            Guid wird wie {@code null} behandelt.
+	 */
 	public eCEntityProxy(String guid) {
+		this(Guid.of(guid));
+	}
+
+	public eCEntityProxy(Guid guid) {
 		this.guid = guid;
 	}
 
@@ -21,7 +28,7 @@ public class eCEntityProxy implements G3Serializable {
 	public void read(G3FileReader reader) {
 		reader.readShort(); // Version
 		if (reader.readBool()) {
-			guid = reader.readGUID();
+			guid = reader.readGuidValue();
 		} else {
 			guid = null;
 		}
@@ -31,17 +38,36 @@ public class eCEntityProxy implements G3Serializable {
 	public void write(G3FileWriter writer) {
 		writer.writeUnsignedShort(1); // Version
 		if (guid != null) {
-			writer.writeBool(true).write(guid);
+			writer.writeBool(true).writeGuid(guid);
 		} else {
 			writer.writeBool(false);
 		}
 	}
 
+	@Override
+	public eCEntityProxy copy() {
+		return new eCEntityProxy(guid);
+	}
+
+	/**
+	 * @return Hexadezimale Darstellung der Guid in Großbuchstaben oder {@code null}
+	 */
 	public String getGuid() {
-		return guid;
+		return guid != null ? guid.getGuid() : null;
 	}
 
+	/**
+	 * @see #eCEntityProxy(String)
+	 */
 	public void setGuid(String guid) {
+		this.guid = Guid.of(guid);
+	}
+
+	public Guid getGuidValue() {
+		return guid;
+	}
+
+	public void setGuidValue(Guid guid) {
 		this.guid = guid;
 	}
 
@@ -52,6 +78,6 @@ public class eCEntityProxy implements G3Serializable {
 
 	@Override
 	public String toString() {
-		return Strings.nullToEmpty(guid);
+		return guid != null ? guid.getGuid() : "";
 	}
 }
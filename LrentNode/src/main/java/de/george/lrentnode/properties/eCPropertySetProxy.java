@@ -33,6 +33,11 @@ public class eCPropertySetProxy extends eCEntityProxy {
 		super.write(writer);
 	}
 
+	@Override
+	public eCPropertySetProxy copy() {
+		return new eCPropertySetProxy(getGuid(), propertySetName);
+	}
+
 	public String getPropertySetName() {
 		return propertySetName;
 	}
@@ -25,6 +25,11 @@ public class gBool implements G3Serializable {
 		writer.writeBool(_bool);
 	}
 
+	@Override
+	public gBool copy() {
+		return new gBool(_bool);
+	}
+
 	public boolean isBool() {
 		return _bool;
 	}
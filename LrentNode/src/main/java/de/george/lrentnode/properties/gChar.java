@@ -26,6 +26,11 @@ public class gChar implements G3Serializable {
 		writer.writeByte(_char);
 	}
 
+	@Override
+	public gChar copy() {
+		return new gChar(_char);
+	}
+
 	public byte getChar() {
 		return _char;
 	}
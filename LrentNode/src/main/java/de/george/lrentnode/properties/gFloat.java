@@ -25,6 +25,11 @@ public class gFloat implements G3Serializable {
 		writer.writeFloat(_float);
 	}
 
+	@Override
+	public gFloat copy() {
+		return new gFloat(_float);
+	}
+
 	public float getFloat() {
 		return _float;
 	}
@@ -25,6 +25,11 @@ public class gInt implements G3Serializable {
 		writer.writeInt(_int);
 	}
 
+	@Override
+	public gInt copy() {
+		return new gInt(_int);
+	}
+
 	public int getInt() {
 		return _int;
 	}
@@ -26,6 +26,11 @@ public class gLong implements G3Serializable {
 		writer.writeInt(_long);
 	}
 
+	@Override
+	public gLong copy() {
+		return new gLong(_long);
+	}
+
 	public int getLong() {
 		return _long;
 	}
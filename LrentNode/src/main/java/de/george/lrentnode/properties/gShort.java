@@ -29,6 +29,11 @@ public class gShort implements G3Serializable {
 		writer.writeShort(_short);
 	}
 
+	@Override
+	public gShort copy() {
+		return new gShort(_short);
+	}
+
 	public short getShort() {
 		return _short;
 	}
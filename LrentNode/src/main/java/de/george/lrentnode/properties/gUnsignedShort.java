@@ -25,6 +25,11 @@ public class gUnsignedShort implements G3Serializable {
 		writer.writeUnsignedShort(_unsignedShort);
 	}
 
+	@Override
+	public gUnsignedShort copy() {
+		return new gUnsignedShort(_unsignedShort);
+	}
+
 	public int getUnsignedShort() {
 		return _unsignedShort;
 	}
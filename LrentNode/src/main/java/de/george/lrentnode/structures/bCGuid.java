@@ -5,30 +5,42 @@ import java.util.Objects;
 import de.george.g3utils.io.G3FileReader;
 import de.george.g3utils.io.G3FileWriter;
 import de.george.g3utils.io.G3Serializable;
-import de.george.g3utils.structure.GuidUtil;
+import de.george.g3utils.structure.Guid;
 
+/**
+ * Guid ohne Counter (16 Byte), die Guid wird mit Counter 0 gehalten.
+ */
 public class bCGuid implements G3Serializable {
-	private String guid;
+	private static final Guid INVALID_GUID = new Guid(0, 0, 0);
+
+	private Guid guid;
 	public int valid; // eigentlich ein value, aber es wird das komplette dword geschrieben
 
 	public bCGuid() {
-		setGuid(null);
+		setGuidValue(null);
 	}
 
+	/**
+	 * @param guid Siehe {@link #setGuid(String)}
+	 */
 	public bCGuid(String guid, int valid) {
-		this.guid = guid;
+		this(Guid.of(guid), valid);
+	}
+
+	public bCGuid(Guid guid, int valid) {
+		this.guid = guid != null ? guid.withoutCounter() : null;
 		this.valid = valid;
 	}
 
 	@Override
 	public void read(G3FileReader reader) {
-		guid = reader.read(16);
+		guid = reader.readGuidValueWithoutCounter();
 		valid = reader.readInt();
 	}
 
 	@Override
 	public void write(G3FileWriter writer) {
-		writer.write(guid);
+		writer.writeGuidWithoutCounter(guid != null ? guid : INVALID_GUID);
 		writer.writeInt(valid);
 	}
 
@@ -36,18 +48,34 @@ public class bCGuid implements G3Serializable {
 		return (valid & 0xFF) != 0;
 	}
 
+	/**
+	 * @return Hexadezimale Darstellung der Guid ohne Counter (32 Zeichen, Großbuchstaben) oder
+	 *         {@code null}
+	 */
 	public String getGuid() {
-		return guid;
+		return guid != null ? guid.getGuid().substring(0, 2 * Guid.SIZE_WITHOUT_COUNTER) : null;
 	}
 
+	/**
+	 * @param guid Akzeptiert alle Darstellungen, die {@link Guid#of(String)} versteht, ein Counter wird
+	 *            verworfen. Eine ungültige Guid wird wie {@code null} behandelt.
+	 */
 	public void setGuid(String guid) {
-		valid = GuidUtil.isValid(guid) ? 1 : 0;
-		this.guid = guid;
+		setGuidValue(Guid.of(guid));
+	}
+
+	public Guid getGuidValue() {
+		return guid;
+	}
+
+	public void setGuidValue(Guid guid) {
+		valid = guid != null ? 1 : 0;
+		this.guid = guid != null ? guid.withoutCounter() : null;
 	}
 
 	@Override
 	public String toString() {
-		return "guid=" + guid + ", valid=" + valid;
+		return "guid=" + getGuid() + ", valid=" + valid;
 	}
 
 	@Override
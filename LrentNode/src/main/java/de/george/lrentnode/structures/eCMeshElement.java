@@ -81,10 +81,15 @@ import static de.george.lrentnode.enums.G3Enums.eEVertexTypeStruct.eEVertexTypeS
 import static de.george.lrentnode.enums.G3Enums.eEVertexTypeStruct.eEVertexTypeStruct_bCVector3;
 import static de.george.lrentnode.enums.G3Enums.eEVertexTypeStruct.eEVertexTypeStruct_bCVector4;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.NoSuchElementException;
 
+import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.primitives.Ints;
 
 import de.george.g3utils.io.G3FileReader;
 import de.george.g3utils.io.G3FileWriter;
@@ -188,13 +193,17 @@ public class eCMeshElement implements G3Serializable {
 					new eSFVF(eEVertexStreamArrayType_UVLightmapGroups, eEVertexTypeStruct_bCVector2, 0))
 			.build();
 
+	/**
+	 * Die Elemente eines Streams werden nicht als einzelne Objekte, sondern in einem primitiven Array
+	 * gespeichert, das beim Einlesen in einem Stück aus der Datei kopiert wird und direkt in die
+	 * Buffer der Grafikkarte übernommen werden kann. {@link #getElements()} liefert bei Bedarf eine
+	 * Listenansicht darauf.
+	 */
 	public abstract static class eCVertexStructArrayBase<T> implements G3Serializable {
 		public int vertexStreamArrayType;
-		public List<T> elements;
 
 		public eCVertexStructArrayBase(int vertexStreamArrayType) {
 			this.vertexStreamArrayType = vertexStreamArrayType;
-			this.elements = new ArrayList<>();
 		}
 
 		@Override
@@ -202,114 +211,192 @@ public class eCMeshElement implements G3Serializable {
 			// Skip one word, always 0100
 			reader.skip(2);
 
-			elements = reader.readPrefixedList(this::readElement);
+			reader.skipListPrefix();
+			readElements(reader, reader.readInt());
 		}
 
-		protected abstract T readElement(G3FileReader reader);
+		protected abstract void readElements(G3FileReader reader, int count);
 
 		@Override
 		public void write(G3FileWriter writer) {
 			writer.writeUnsignedShort(1);
 
-			writer.writePrefixedList(elements, this::writeElement);
+			writer.writeListPrefix();
+			writer.writeInt(size());
+			writeElements(writer);
 		}
 
-		protected abstract void writeElement(G3FileWriter writer, T element);
+		protected abstract void writeElements(G3FileWriter writer);
+
+		/**
+		 * @return Anzahl der Elemente
+		 */
+		public abstract int size();
+
+		/**
+		 * @return Unveränderliche Ansicht auf die Elemente. Bei Vektoren wird bei jedem Zugriff ein
+		 *         neues Objekt erzeugt, für größere Datenmengen sollte daher direkt auf das primitive
+		 *         Array zugegriffen werden.
+		 */
+		public abstract List<T> getElements();
 	}
 
-	public static class eCVertexStructArray_GEFloat extends eCVertexStructArrayBase<Float> {
-		public eCVertexStructArray_GEFloat(int vertexStreamArrayType) {
+	public abstract static class eCVertexStructArrayFloatBase<T> extends eCVertexStructArrayBase<T> {
+		private final int components;
+		private float[] data = new float[0];
+
+		public eCVertexStructArrayFloatBase(int vertexStreamArrayType, int components) {
 			super(vertexStreamArrayType);
+			this.components = components;
 		}
 
 		@Override
-		protected Float readElement(G3FileReader reader) {
-			return reader.readFloat();
+		protected void readElements(G3FileReader reader, int count) {
+			data = reader.readFloatArray(count * components);
 		}
 
 		@Override
-		protected void writeElement(G3FileWriter writer, Float element) {
-			writer.writeFloat(element);
+		protected void writeElements(G3FileWriter writer) {
+			writer.writeFloatArray(data);
 		}
-	}
 
-	public static class eCVertexStructArray_GEU16 extends eCVertexStructArrayBase<Integer> {
-		public eCVertexStructArray_GEU16(int vertexStreamArrayType) {
-			super(vertexStreamArrayType);
+		/**
+		 * @return Anzahl der Floats pro Element
+		 */
+		public int getComponents() {
+			return components;
+		}
+
+		/**
+		 * @return Komponenten aller Elemente hintereinander, ohne Kopie
+		 */
+		public float[] getFloats() {
+			return data;
+		}
+
+		public void setFloats(float[] data) {
+			if (data.length % components != 0) {
+				throw new IllegalArgumentException("Länge " + data.length + " ist kein Vielfaches von " + components + ".");
+			}
+			this.data = data;
 		}
 
 		@Override
-		protected Integer readElement(G3FileReader reader) {
-			return reader.readInt();
+		public int size() {
+			return data.length / components;
 		}
 
 		@Override
-		protected void writeElement(G3FileWriter writer, Integer element) {
-			writer.writeInt(element);
+		public List<T> getElements() {
+			return new AbstractList<T>() {
+				@Override
+				public T get(int index) {
+					Preconditions.checkElementIndex(index, size());
+					return createElement(data, index * components);
+				}
+
+				@Override
+				public int size() {
+					return eCVertexStructArrayFloatBase.this.size();
+				}
+			};
 		}
+
+		protected abstract T createElement(float[] data, int offset);
 	}
 
-	public static class eCVertexStructArray_GEU32 extends eCVertexStructArrayBase<Integer> {
-		public eCVertexStructArray_GEU32(int vertexStreamArrayType) {
+	public abstract static class eCVertexStructArrayIntBase extends eCVertexStructArrayBase<Integer> {
+		private int[] data = new int[0];
+
+		public eCVertexStructArrayIntBase(int vertexStreamArrayType) {
 			super(vertexStreamArrayType);
 		}
 
 		@Override
-		protected Integer readElement(G3FileReader reader) {
-			return reader.readInt();
+		protected void readElements(G3FileReader reader, int count) {
+			data = reader.readIntArray(count);
 		}
 
 		@Override
-		protected void writeElement(G3FileWriter writer, Integer element) {
-			writer.writeInt(element);
+		protected void writeElements(G3FileWriter writer) {
+			writer.writeIntArray(data);
 		}
-	}
 
-	public static class eCVertexStructArray_bCVector2 extends eCVertexStructArrayBase<bCVector2> {
-		public eCVertexStructArray_bCVector2(int vertexStreamArrayType) {
-			super(vertexStreamArrayType);
+		/**
+		 * @return Elemente, ohne Kopie
+		 */
+		public int[] getInts() {
+			return data;
+		}
+
+		public void setInts(int[] data) {
+			this.data = data;
 		}
 
 		@Override
-		protected bCVector2 readElement(G3FileReader reader) {
-			return reader.read(bCVector2.class);
+		public int size() {
+			return data.length;
 		}
 
 		@Override
-		protected void writeElement(G3FileWriter writer, bCVector2 element) {
-			writer.write(element);
+		public List<Integer> getElements() {
+			return Collections.unmodifiableList(Ints.asList(data));
 		}
 	}
 
-	public static class eCVertexStructArray_bCVector3 extends eCVertexStructArrayBase<bCVector> {
-		public eCVertexStructArray_bCVector3(int vertexStreamArrayType) {
-			super(vertexStreamArrayType);
+	public static class eCVertexStructArray_GEFloat extends eCVertexStructArrayFloatBase<Float> {
+		public eCVertexStructArray_GEFloat(int vertexStreamArrayType) {
+			super(vertexStreamArrayType, 1);
 		}
 
 		@Override
-		protected bCVector readElement(G3FileReader reader) {
-			return reader.read(bCVector.class);
+		protected Float createElement(float[] data, int offset) {
+			return data[offset];
 		}
+	}
 
-		@Override
-		protected void writeElement(G3FileWriter writer, bCVector element) {
-			writer.write(element);
+	public static class eCVertexStructArray_GEU16 extends eCVertexStructArrayIntBase {
+		public eCVertexStructArray_GEU16(int vertexStreamArrayType) {
+			super(vertexStreamArrayType);
 		}
 	}
 
-	public static class eCVertexStructArray_bCVector4 extends eCVertexStructArrayBase<bCVector4> {
-		public eCVertexStructArray_bCVector4(int vertexStreamArrayType) {
+	public static class eCVertexStructArray_GEU32 extends eCVertexStructArrayIntBase {
+		public eCVertexStructArray_GEU32(int vertexStreamArrayType) {
 			super(vertexStreamArrayType);
 		}
+	}
+
+	public static class eCVertexStructArray_bCVector2 extends eCVertexStructArrayFloatBase<bCVector2> {
+		public eCVertexStructArray_bCVector2(int vertexStreamArrayType) {
+			super(vertexStreamArrayType, 2);
+		}
 
 		@Override
-		protected bCVector4 readElement(G3FileReader reader) {
-			return reader.read(bCVector4.class);
+		protected bCVector2 createElement(float[] data, int offset) {
+			return new bCVector2(data[offset], data[offset + 1]);
+		}
+	}
+
+	public static class eCVertexStructArray_bCVector3 extends eCVertexStructArrayFloatBase<bCVector> {
+		public eCVertexStructArray_bCVector3(int vertexStreamArrayType) {
+			super(vertexStreamArrayType, 3);
 		}
 
 		@Override
-		protected void writeElement(G3FileWriter writer, bCVector4 element) {
-			writer.write(element);
+		protected bCVector createElement(float[] data, int offset) {
+			return new bCVector(data[offset], data[offset + 1], data[offset + 2]);
+		}
+	}
+
+	public static class eCVertexStructArray_bCVector4 extends eCVertexStructArrayFloatBase<bCVector4> {
+		public eCVertexStructArray_bCVector4(int vertexStreamArrayType) {
+			super(vertexStreamArrayType, 4);
+		}
+
+		@Override
+		protected bCVector4 createElement(float[] data, int offset) {
+			return new bCVector4(data[offset], data[offset + 1], data[offset + 2], data[offset + 3]);
 		}
 	}
 
@@ -339,10 +426,25 @@ public class eCMeshElement implements G3Serializable {
 	private int size;
 	private String materialName;
 	private List<eCVertexStructArrayBase<?>> streamArrays;
+	// Lightmap-Gruppen und eCSpatialHierarchy, werden nicht ausgewertet, sondern unverändert
+	// zurückgeschrieben
+	private byte[] lightmapData;
 
 	@Override
 	public void write(G3FileWriter writer) {
-		throw new UnsupportedOperationException();
+		writer.writeUnsignedShort(version);
+		writer.writeInt(fvf);
+		writer.writeBox(boundingBox);
+		writer.writeInt(size);
+		writer.writeEntry(materialName);
+
+		writer.writeInt(streamArrays.size());
+		for (eCVertexStructArrayBase<?> streamArray : streamArrays) {
+			writer.writeInt(streamArray.vertexStreamArrayType);
+			streamArray.write(writer);
+		}
+
+		writer.write(lightmapData);
 	}
 
 	@Override
@@ -362,6 +464,7 @@ public class eCMeshElement implements G3Serializable {
 			streamArrays.add(vertexArray);
 		}
 
+		int lightmapDataStart = reader.getPos();
 		if (version >= 3) {
 			// Skip eSLightmapPerVertexGroup
 			// @foff
@@ -422,6 +525,10 @@ public class eCMeshElement implements G3Serializable {
 			reader.skip(1);
 			reader.skip(reader.readInt() * 4);
 		}
+
+		int lightmapDataEnd = reader.getPos();
+		reader.seek(lightmapDataStart);
+		lightmapData = reader.readByteArray(lightmapDataEnd - lightmapDataStart);
 	}
 
 	public int getVersion() {
@@ -444,14 +551,53 @@ public class eCMeshElement implements G3Serializable {
 		return materialName;
 	}
 
-	@SuppressWarnings("unchecked")
 	public boolean hasStreamArray(int type) {
-		return streamArrays.stream().anyMatch(a -> a.vertexStreamArrayType == type);
+		return findStreamArray(type) != null;
+	}
+
+	private eCVertexStructArrayBase<?> findStreamArray(int type) {
+		for (eCVertexStructArrayBase<?> streamArray : streamArrays) {
+			if (streamArray.vertexStreamArrayType == type) {
+				return streamArray;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * @throws NoSuchElementException Wenn es keinen Stream vom Typ {@code type} gibt
+	 */
+	@SuppressWarnings("unchecked")
+	public <A extends eCVertexStructArrayBase<?>> A getStreamArray(int type) {
+		eCVertexStructArrayBase<?> streamArray = findStreamArray(type);
+		if (streamArray == null) {
+			throw new NoSuchElementException("Stream " + type + " ist nicht vorhanden.");
+		}
+		return (A) streamArray;
+	}
+
+	/**
+	 * @return Komponenten aller Elemente des Streams hintereinander, ohne Kopie
+	 * @throws NoSuchElementException Wenn es keinen Stream vom Typ {@code type} gibt
+	 */
+	public float[] getFloatStream(int type) {
+		return this.<eCVertexStructArrayFloatBase<?>>getStreamArray(type).getFloats();
+	}
+
+	/**
+	 * @return Elemente des Streams, ohne Kopie
+	 * @throws NoSuchElementException Wenn es keinen Stream vom Typ {@code type} gibt
+	 */
+	public int[] getIntStream(int type) {
+		return this.<eCVertexStructArrayIntBase>getStreamArray(type).getInts();
 	}
 
+	/**
+	 * @see eCVertexStructArrayBase#getElements()
+	 */
 	@SuppressWarnings("unchecked")
 	public <B> List<B> getStreamArrayByType(int type) {
-		return (List<B>) streamArrays.stream().filter(a -> a.vertexStreamArrayType == type).findFirst().get().elements;
+		return (List<B>) getStreamArray(type).getElements();
 	}
 
 	public List<eCVertexStructArrayBase<?>> getStreamArrays() {
@@ -25,7 +25,7 @@ public class Lrtpldatasc implements Saveable {
 	private void read(File file) throws IOException, DuplicateEntryException {
 		List<String> secTemplateList = IOUtils.readTextFile(file, Converter.WINDOWS_1252);
 		secTemplateList.stream().map(e -> e.split("=")).filter(e -> e.length == 2)
-				.forEach(e -> add(new Guid(e[0].replaceFirst("\\{", "").replaceFirst("\\}", "")), e[1]));
+				.forEach(e -> add(Guid.of(e[0].replaceFirst("\\{", "").replaceFirst("\\}", "")), e[1]));
 	}
 
 	private StringBuilder prepareSave() {
@@ -58,12 +58,12 @@ public class Lrtpldatasc implements Saveable {
 
 	public Entry get(String templateName) {
 		Guid templateGuid = entries.entrySet().stream().filter(e -> e.getValue().equals(templateName)).map(e -> e.getKey()).findAny()
-				.orElse(new Guid(null));
+				.orElse(null);
 		return new Entry(templateGuid, templateName);
 	}
 
 	public void add(Guid templateGuid, String templateName) throws DuplicateEntryException {
-		if (!templateGuid.isValid()) {
+		if (templateGuid == null) {
 			throw new InvalidEntryException(templateName);
 		}
 
@@ -5,6 +5,7 @@ import java.util.function.Function;
 
 import de.george.g3utils.io.G3FileReader;
 import de.george.g3utils.io.G3FileWriter;
+import de.george.g3utils.structure.Guid;
 import de.george.g3utils.structure.bCMatrix;
 import de.george.g3utils.structure.bCSphere;
 import de.george.lrentnode.archive.eCEntity;
@@ -14,7 +15,7 @@ import de.george.lrentnode.util.ClassUtil;
 public class TemplateEntity extends eCEntity {
 	protected String fileName;
 	protected boolean helperParent; // Item-Header (Hash e.g. used in .lrtpldatasc)
-	protected String refTemplate; // Used in Object-Groups
+	protected Guid refTemplate; // Used in Object-Groups
 	protected boolean deleted;
 
 	public TemplateEntity(boolean initialize) {
@@ -67,7 +68,7 @@ public class TemplateEntity extends eCEntity {
 		int headerVersion = reader.readUnsignedShort();
 
 		fileName = reader.readEntry();
-		setGuid(reader.readGUID());
+		setGuidValue(reader.readGuidValue());
 		enabled = reader.readBool();
 		renderingEnabled = reader.readBool();
 		processingDisabled = reader.readBool();
@@ -77,7 +78,7 @@ public class TemplateEntity extends eCEntity {
 		unkFlag2 = reader.readBool();
 		helperParent = reader.readBool();
 		if (reader.readBool()) {
-			refTemplate = reader.readGUID();
+			refTemplate = reader.readGuidValue();
 		}
 		renderAlphaValue = reader.readFloat();
 		insertType = reader.readUnsignedShort();
@@ -141,7 +142,7 @@ public class TemplateEntity extends eCEntity {
 	public void write(G3FileWriter writer) {
 		writer.writeUnsignedShort(62);
 		writer.writeEntry(fileName);
-		writer.write(getGuid());
+		writer.writeGuid(getGuidValue());
 		writer.writeBool(enabled);
 		writer.writeBool(renderingEnabled);
 		writer.writeBool(processingDisabled);
@@ -152,7 +153,7 @@ public class TemplateEntity extends eCEntity {
 		writer.writeBool(helperParent);
 		writer.writeBool(refTemplate != null);
 		if (refTemplate != null) {
-			writer.write(refTemplate);
+			writer.writeGuid(refTemplate);
 		}
 
 		writer.writeFloat(renderAlphaValue);
@@ -199,11 +200,11 @@ public class TemplateEntity extends eCEntity {
 	}
 
 	public String getRefTemplate() {
-		return refTemplate;
+		return refTemplate != null ? refTemplate.getGuid() : null;
 	}
 
 	public void setRefTemplate(String refTemplate) {
-		this.refTemplate = refTemplate;
+		this.refTemplate = Guid.of(refTemplate);
 	}
 
 	public boolean isDeleted() {
@@ -215,15 +216,25 @@ public class TemplateEntity extends eCEntity {
 	}
 
 	@Override
-	public String getCreator() {
+	public Guid getCreatorValue() {
 		return refTemplate;
 	}
 
 	@Override
-	public void setCreator(String refTemplate) {
+	public void setCreatorValue(Guid refTemplate) {
 		this.refTemplate = refTemplate;
 	}
 
+	@Override
+	protected void copyEntityData(eCEntity entity) {
+		super.copyEntityData(entity);
+		TemplateEntity templateEntity = (TemplateEntity) entity;
+		fileName = templateEntity.fileName;
+		helperParent = templateEntity.helperParent;
+		refTemplate = templateEntity.refTemplate;
+		deleted = templateEntity.deleted;
+	}
+
 	@Override
 	protected eCEntity newInstance(boolean initialize) {
 		return new TemplateEntity(initialize);
@@ -263,7 +274,7 @@ public class TemplateEntity extends eCEntity {
 
 			entity.copyEntityPrivateData(this, justCreated);
 			entity.setUnkFlag3(true);
-			entity.setCreator(getGuid());
+			entity.setCreatorValue(getGuidValue());
 
 			if (dontCallOnChildrenAvailable) {
 				return;
@@ -273,7 +284,7 @@ public class TemplateEntity extends eCEntity {
 				propertySet.onChildrenAvailable(entity.getDataChangedTimeStamp(), getDataChangedTimeStamp(), this);
 			}
 		} else {
-			TemplateEntity refTpleEntity = tpleLookup.apply(refTemplate);
+			TemplateEntity refTpleEntity = tpleLookup.apply(getRefTemplate());
 			if (refTpleEntity == null) {
 				throw new IllegalStateException("RefTemplate " + refTemplate + " konnte nicht geladen werden.");
 			}
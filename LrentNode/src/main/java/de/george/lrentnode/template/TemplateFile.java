@@ -11,11 +11,17 @@ import com.google.common.collect.ImmutableList;
 import de.george.g3utils.io.G3FileReaderEx;
 import de.george.g3utils.io.G3FileWriterEx;
 import de.george.g3utils.structure.Stringtable;
+import de.george.g3utils.util.Misc;
 import de.george.lrentnode.archive.AbstractEntityFile;
 import de.george.lrentnode.archive.EntityTreeTraverser;
 import de.george.lrentnode.archive.eCEntity;
 
 public class TemplateFile extends AbstractEntityFile<TemplateEntity> {
+	/**
+	 * Signatur einer .tple Datei ({@code GENOMETP}).
+	 */
+	public static final byte[] GENOMETP = Misc.asByte("47454E4F4D455450");
+
 	public TemplateFile(G3FileReaderEx reader) throws IOException {
 		if (!isGenomeFile(reader)) {
 			readInternalExt(reader, true);
@@ -30,7 +36,7 @@ public class TemplateFile extends AbstractEntityFile<TemplateEntity> {
 	}
 
 	private void readInternalExt(G3FileReaderEx reader, boolean stringtableInPlace) throws IOException {
-		if (reader.getRemainingSize() < 8 || !reader.read(8).equals("47454E4F4D455450")) {
+		if (!reader.readMatches(GENOMETP)) {
 			throw new IOException("'" + reader.getFileName() + "' ist keine gültige .tple Datei.");
 		}
 
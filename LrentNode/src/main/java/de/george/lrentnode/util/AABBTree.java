@@ -1,7 +1,9 @@
 package de.george.lrentnode.util;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.PriorityQueue;
 
@@ -244,6 +246,43 @@ public class AABBTree<T extends AABBTreePrimitive> {
 		return result;
 	}
 
+	/**
+	 * @return Alle Primitive, deren Bounds höchstens {@code maxDistance} von {@code q} entfernt sind
+	 *         (bei {@code maxDistance == 0} also alle, die {@code q} schneiden), in keiner bestimmten
+	 *         Reihenfolge
+	 */
+	public List<T> primitivesWithin(bCBox q, float maxDistance) {
+		List<T> result = new ArrayList<>();
+		if (primitives.isEmpty()) {
+			return result;
+		}
+
+		float maxSqrDistance = maxDistance * maxDistance;
+		Deque<AABBNode> stack = new ArrayDeque<>();
+		stack.push(getRoot());
+		while (!stack.isEmpty()) {
+			AABBNode node = stack.pop();
+			if (node.getBounds().sqrDistance(q) > maxSqrDistance) {
+				continue;
+			}
+
+			if (node.isLeaf()) {
+				AABBLeafNode leafNode = (AABBLeafNode) node;
+				for (int i = leafNode.getPrimitivesBegin(); i < leafNode.getPrimitivesEnd(); i++) {
+					T prim = primitives.get(i);
+					if (prim.getBounds().sqrDistance(q) <= maxSqrDistance) {
+						result.add(prim);
+					}
+				}
+			} else {
+				AABBSplitNode splitNode = (AABBSplitNode) node;
+				stack.push(splitNode.getLeft());
+				stack.push(splitNode.getRight());
+			}
+		}
+		return result;
+	}
+
 	private AABBLeafNode considerPath(AABBNode node, bCBox q, PriorityQueue<SearchEntry> qmin) {
 		while (!node.isLeaf()) {
 			AABBSplitNode splitNode = (AABBSplitNode) node;
@@ -15,6 +15,7 @@ import de.george.g3utils.io.G3FileReaderVirtual;
 import de.george.g3utils.io.G3FileWriter;
 import de.george.g3utils.io.G3FileWriterEx;
 import de.george.g3utils.io.G3Serializable;
+import de.george.g3utils.structure.Stringtable;
 import de.george.g3utils.util.Misc;
 import de.george.lrentnode.classes.ClassTypes;
 import de.george.lrentnode.classes.DefaultClass;
@@ -78,6 +79,66 @@ public class ClassUtil {
 		}
 	}
 
+	/**
+	 * Klasse im Format von {@link ClassUtil#writeClass(G3FileWriter, G3Class, int)}, die erst bei
+	 * Bedarf dekodiert wird. Solange sie nicht dekodiert wurde, kann sie unverändert in eine Datei
+	 * mit derselben Stringtable zurückgeschrieben werden.
+	 */
+	public static final class EncodedClass {
+		private final String className;
+		private final int classVersion;
+		// Von SUB_CLASS_IDENTIFIER bis einschließlich DEC0ADDE
+		private final byte[] data;
+		private final Stringtable stringtable;
+		private final int stringtableRemovals;
+		private final String fileName;
+
+		private EncodedClass(String className, int classVersion, byte[] data, Stringtable stringtable, String fileName) {
+			this.className = className;
+			this.classVersion = classVersion;
+			this.data = data;
+			this.stringtable = stringtable;
+			this.fileName = fileName;
+			stringtableRemovals = stringtable.getRemovalCount();
+		}
+
+		public String getClassName() {
+			return className;
+		}
+
+		public int getClassVersion() {
+			return classVersion;
+		}
+
+		private boolean isStringtableUnchanged() {
+			return stringtable.getRemovalCount() == stringtableRemovals;
+		}
+
+		public G3Class decode() {
+			if (!isStringtableUnchanged()) {
+				throw new IllegalStateException(
+						"Klasse " + className + " kann nicht mehr dekodiert werden, da Einträge aus der Stringtable entfernt wurden.");
+			}
+
+			G3FileReaderEx reader = new G3FileReaderEx(data);
+			reader.setStringtable(stringtable);
+			reader.setFileName(fileName);
+			G3Class clazz = readSubClass(reader);
+			reader.skip(4); // Skip DEC0ADDE
+			return clazz;
+		}
+
+		/**
+		 * @return {@code true}, wenn die Klasse ohne Dekodierung von
+		 *         {@link ClassUtil#writeEncodedClass(G3FileWriter, EncodedClass)} geschrieben werden
+		 *         kann, weil {@code writer} dieselbe, unveränderte Stringtable verwendet
+		 */
+		public boolean canWriteTo(G3FileWriter writer) {
+			return writer instanceof G3FileWriterEx && ((G3FileWriterEx) writer).getStringtable() == stringtable
+					&& isStringtableUnchanged();
+		}
+	}
+
 	public static G3ClassHolder readClass(G3FileReader reader) {
 		int classVersion = reader.readShort(); // Version der Klasse, kann -1 sein, bei Subclasses,
 												// dann kein DEC0ADDE
@@ -127,6 +188,26 @@ public class ClassUtil {
 		reader.skip(size + 4); // Skip class + DEC0ADDE
 	}
 
+	/**
+	 * Liest eine Klasse wie {@link #readClass(G3FileReader)}, übernimmt aber nur deren Bytes, ohne
+	 * sie zu dekodieren.
+	 */
+	public static EncodedClass readEncodedClass(G3FileReaderEx reader) {
+		int classVersion = reader.readShort();
+		int start = reader.getPos();
+		reader.skip(SUB_CLASS_IDENTIFIER.length);
+		String className = reader.readEntry();
+		reader.skip(TYPE_TO_VERSION_FILLER.length);
+		reader.skip(2); // Class version
+		int size = reader.readInt();
+		reader.skip(size + 4); // Skip class + DEC0ADDE
+		int end = reader.getPos();
+
+		reader.seek(start);
+		byte[] data = reader.readByteArray(end - start);
+		return new EncodedClass(className, classVersion, data, reader.getStringtable(), reader.getFileName());
+	}
+
 	public static void writeClass(G3FileWriter writer, G3Class clazz, int classVersion) {
 		writer.writeUnsignedShort(classVersion);
 		writeSubClass(writer, clazz);
@@ -137,6 +218,15 @@ public class ClassUtil {
 		writeClass(writer, clazz.getClazz(), clazz.getClassVersion());
 	}
 
+	/**
+	 * Schreibt die Bytes von {@code clazz} unverändert, {@link EncodedClass#canWriteTo(G3FileWriter)}
+	 * muss erfüllt sein.
+	 */
+	public static void writeEncodedClass(G3FileWriter writer, EncodedClass clazz) {
+		writer.writeUnsignedShort(clazz.classVersion);
+		writer.write(clazz.data);
+	}
+
 	public static void writeSubClass(G3FileWriter writer, G3Class clazz) {
 		writer.write(SUB_CLASS_IDENTIFIER);
 		writer.writeEntry(clazz.getClassName());
@@ -163,8 +253,19 @@ public class ClassUtil {
 		writeTemplateClass(writer, clazz.getClazz(), clazz.getClassVersion());
 	}
 
+	/**
+	 * @see G3Class#copy()
+	 */
 	public static G3Class clone(G3Class clazz) {
-		G3FileWriterEx writer = new G3FileWriterEx();
+		return clazz.copy();
+	}
+
+	/**
+	 * Kopiert {@code clazz}, indem sie serialisiert und wieder eingelesen wird. Wird von
+	 * {@link G3Class#copy()} für Klassen verwendet, die sich nicht direkt kopieren lassen.
+	 */
+	public static G3Class copySerialized(G3Class clazz) {
+		G3FileWriterEx writer = new G3FileWriterEx(4096);
 		writeSubClass(writer, clazz);
 
 		G3FileReaderEx reader = new G3FileReaderEx(writer.getData());
@@ -241,7 +342,7 @@ public class ClassUtil {
 			stack.addProperty(CD.gCInventoryStack.TransactionCount, new gInt(0));
 		}
 		stack.addProperty(CD.gCInventorySlot.Template, new eCEntityProxy(guid));
-		stack.addProperty(CD.gCInventorySlot.Item, new eCEntityProxy(null));
+		stack.addProperty(CD.gCInventorySlot.Item, new eCEntityProxy());
 		stack.addProperty(CD.gCInventorySlot.Slot, new bTPropertyContainer<>(gESlot.gESlot_None));
 		return stack;
 	}
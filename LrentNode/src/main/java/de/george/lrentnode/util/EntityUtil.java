@@ -279,7 +279,7 @@ public class EntityUtil {
 	 */
 	public static boolean isRootLike(eCEntity entity) {
 		return entity.getClassCount() == 0 && entity.getWorldPosition().equals(bCVector.nullVector())
-				&& !entity.getWorldNodeBoundary().isValid();
+				&& !entity.worldNodeBoundary().isValid();
 	}
 
 	public static eCEntity newRootEntity(ArchiveType type) {
@@ -5,6 +5,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
 import java.util.List;
 import java.util.Optional;
 
@@ -53,13 +54,34 @@ public class FileUtil {
 	}
 
 	public static ArchiveFile openArchive(G3FileReaderEx reader, boolean verifyEntityGraph, boolean skipPropertySets) throws IOException {
+		return openArchive(reader, verifyEntityGraph, skipPropertySets, false);
+	}
+
+	/**
+	 * Öffnet das Archiv, dekodiert die PropertySets der Entities aber erst beim ersten Zugriff. Da
+	 * bei der Suche in vielen Dateien meist nur wenige PropertySets jeder Entity benötigt werden,
+	 * ist das deutlich schneller als {@link #openArchive(File, boolean)}.
+	 */
+	public static ArchiveFile openArchiveLazy(File file, boolean verifyEntityGraph) throws IOException {
+		try (G3FileReaderEx reader = new G3FileReaderEx(file)) {
+			return openArchiveLazy(reader, verifyEntityGraph);
+		}
+	}
+
+	public static ArchiveFile openArchiveLazy(G3FileReaderEx reader, boolean verifyEntityGraph) throws IOException {
+		return openArchive(reader, verifyEntityGraph, false, true);
+	}
+
+	private static ArchiveFile openArchive(G3FileReaderEx reader, boolean verifyEntityGraph, boolean skipPropertySets,
+			boolean lazyPropertySets) throws IOException {
 		reader.seek(0);
 		if (!GenomeFile.isGenomeFile(reader) || reader.getSize() < 100) {
 			throw new IOException("'" + reader.getFileName() + "' ist keine gültige .lrentdat/.node Datei.");
 		}
 
-		return reader.readSilent(14, 8).equals("47454E4F4D45444C") ? new LrentdatFile(reader, verifyEntityGraph, skipPropertySets)
-				: new NodeFile(reader, verifyEntityGraph, skipPropertySets);
+		return reader.matchesSilent(14, LrentdatFile.GENOMEDL)
+				? new LrentdatFile(reader, verifyEntityGraph, skipPropertySets, lazyPropertySets)
+				: new NodeFile(reader, verifyEntityGraph, skipPropertySets, lazyPropertySets);
 	}
 
 	public static Optional<ArchiveFile> openArchiveSafe(File file, boolean verifyEntityGraph, boolean skipPropertySets) {
@@ -291,13 +313,14 @@ public class FileUtil {
 
 	@SuppressWarnings("unchecked")
 	private static <T extends G3Class> T openOneClassGenomeFile(InputStream is) throws IOException {
-		G3FileReaderEx reader = new G3FileReaderEx(is);
-		if (GenomeFile.isGenomeFile(reader)) {
-			OneClassGenomeFile file = new OneClassGenomeFile(reader);
-			return file.getContainedClass();
-		} else {
-			G3FileReaderVirtual virtualReader = new G3FileReaderVirtual(reader.getData());
-			return (T) ClassUtil.readSubClass(virtualReader);
+		try (G3FileReaderEx reader = new G3FileReaderEx(is)) {
+			if (GenomeFile.isGenomeFile(reader)) {
+				OneClassGenomeFile file = new OneClassGenomeFile(reader);
+				return file.getContainedClass();
+			} else {
+				G3FileReaderVirtual virtualReader = new G3FileReaderVirtual(reader.slice(0, reader.getSize()));
+				return (T) ClassUtil.readSubClass(virtualReader);
+			}
 		}
 	}
 
@@ -305,10 +328,18 @@ public class FileUtil {
 		new OneClassGenomeFile(data).save(file);
 	}
 
+	/**
+	 * Liest die Datei in einem Stück in den Heap. Vertex-, Skinning- und KeyFrame-Daten bleiben
+	 * Ausschnitte dieses Buffers (siehe {@link G3FileReaderEx#readSlice(int)}).
+	 */
+	private static G3FileReaderEx readHeapReader(File file) throws IOException {
+		G3FileReaderEx reader = new G3FileReaderEx(Files.readAllBytes(file.toPath()));
+		reader.setFileName(file.getName());
+		return reader;
+	}
+
 	public static eCResourceAnimationActor_PS openAnimationActor(File file) throws IOException {
-		try (InputStream is = new FileInputStream(file)) {
-			return openAnimationActor(is);
-		}
+		return new eCResourceAnimationActor_PS(readHeapReader(file));
 	}
 
 	public static eCResourceAnimationActor_PS openAnimationActor(InputStream is) throws IOException {
@@ -316,9 +347,7 @@ public class FileUtil {
 	}
 
 	public static eCResourceAnimationMotion_PS openAnimationMotion(File file) throws IOException {
-		try (InputStream is = new FileInputStream(file)) {
-			return openAnimationMotion(is);
-		}
+		return new eCResourceAnimationMotion_PS(readHeapReader(file));
 	}
 
 	public static eCResourceAnimationMotion_PS openAnimationMotion(InputStream is) throws IOException {
@@ -0,0 +1,46 @@
+package de.george.lrentnode.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Vergibt für Klassen- und Propertynamen fortlaufende IDs, damit beim Suchen von PropertySets und
+ * Properties nur noch Zahlen statt Strings verglichen werden müssen.
+ * <p>
+ * Die IDs gelten nur innerhalb der laufenden Anwendung und dürfen nicht gespeichert werden. Sie
+ * beginnen bei 1, sodass 0 in nicht initialisierten Feldern für "noch nicht ermittelt" stehen kann.
+ * <p>
+ * Vergebene IDs werden nie wieder freigegeben, die Tabelle wächst also mit jedem neuen Namen. Das
+ * ist unproblematisch, solange nur Namen aus gelesenen Dateien und Descriptoren eingetragen werden
+ * (einige tausend), {@link #intern(String)} darf aber nicht mit beliebigen Benutzereingaben
+ * aufgerufen werden, dafür ist {@link #lookup(String)} vorgesehen.
+ */
+public final class InternedNames {
+	public static final int UNKNOWN = -1;
+
+	private static final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+	private static final AtomicInteger nextId = new AtomicInteger(1);
+
+	private InternedNames() {}
+
+	/**
+	 * @return ID von {@code name}, wird bei Bedarf vergeben
+	 */
+	public static int intern(String name) {
+		Integer id = ids.get(name);
+		if (id == null) {
+			id = ids.computeIfAbsent(name, n -> nextId.getAndIncrement());
+		}
+		return id;
+	}
+
+	/**
+	 * @return ID von {@code name} oder {@link #UNKNOWN}, falls für {@code name} noch keine ID
+	 *         vergeben wurde. In diesem Fall gibt es auch keine Klasse oder Property mit diesem
+	 *         Namen.
+	 */
+	public static int lookup(String name) {
+		Integer id = name != null ? ids.get(name) : null;
+		return id != null ? id : UNKNOWN;
+	}
+}
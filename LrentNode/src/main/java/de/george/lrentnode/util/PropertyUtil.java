@@ -35,18 +35,18 @@ public abstract class PropertyUtil {
 		return TREASURE_SET_PROERTIES;
 	}
 
+	/**
+	 * @see G3Serializable#copy()
+	 */
 	public static G3Serializable clone(G3Serializable source) {
-		return fromBytes(toBytes(source), source.getClass());
+		return source.copy();
 	}
 
+	/**
+	 * @see ClassProperty#copy()
+	 */
 	public static <T extends G3Serializable> ClassProperty<T> clone(ClassProperty<T> source) {
-		G3FileWriterVirtual writer = new G3FileWriterVirtual(256);
-		source.write(writer);
-		try (G3FileReaderVirtual reader = new G3FileReaderVirtual(writer.getData())) {
-			return new ClassProperty<>(reader);
-		} catch (IOException e) {
-			throw new RuntimeException(e);
-		}
+		return source.copy();
 	}
 
 	public static byte[] toBytes(G3Serializable source) {
@@ -0,0 +1,74 @@
+package de.george.lrentnode.archive;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.george.g3utils.io.G3FileReaderEx;
+import de.george.g3utils.io.G3FileWriterEx;
+import de.george.g3utils.structure.Guid;
+import de.george.lrentnode.archive.node.NodeEntity;
+
+public class AbstractEntityFileTest {
+	private static class EntityFile extends AbstractEntityFile<NodeEntity> {
+		@Override
+		protected void readInternal(G3FileReaderEx reader) {}
+
+		@Override
+		protected void writeInternal(G3FileWriterEx writer) {}
+	}
+
+	private static NodeEntity createEntity(String name) {
+		NodeEntity entity = new NodeEntity(true);
+		entity.setName(name);
+		return entity;
+	}
+
+	@Test
+	public void testIndexFollowsModifications() {
+		EntityFile file = new EntityFile();
+		NodeEntity root = createEntity("Root");
+		NodeEntity a = createEntity("A");
+		NodeEntity b = createEntity("B");
+		NodeEntity c = createEntity("A");
+		root.attachChild(a);
+		root.attachChild(b);
+		a.attachChild(c);
+		file.setGraph(root);
+
+		Assert.assertEquals(4, file.getEntityCount());
+		Assert.assertSame(c, file.getEntityByPosition(2));
+		Assert.assertEquals(3, file.getEntityPosition(b));
+		Assert.assertSame(a, file.getEntityByName("A").get());
+		Assert.assertEquals(Arrays.asList(a, c), file.getEntitiesByName("A"));
+		Assert.assertSame(b, file.getEntityByGuid(b.getGuid()).get());
+
+		// Änderungen unterhalb des Graphen
+		NodeEntity d = createEntity("D");
+		c.attachChild(d);
+		Assert.assertEquals(5, file.getEntityCount());
+		Assert.assertEquals(3, file.getEntityPosition(d));
+		Assert.assertSame(d, file.getEntityByGuid(d.getGuidValue()).get());
+
+		a.removeFromParent(false);
+		Assert.assertEquals(2, file.getEntityCount());
+		Assert.assertFalse(file.getEntityByName("A").isPresent());
+		Assert.assertFalse(file.getEntityByGuid(d.getGuid()).isPresent());
+		Assert.assertEquals(-1, file.getEntityPosition(a));
+
+		b.setName("E");
+		Assert.assertFalse(file.getEntityByName("B").isPresent());
+		Assert.assertSame(b, file.getEntityByName("E").get());
+
+		Guid oldGuid = b.getGuidValue();
+		b.setGuidValue(Guid.randomGuid());
+		Assert.assertFalse(file.getEntityByGuid(oldGuid).isPresent());
+		Assert.assertSame(b, file.getEntityByGuid(b.getGuidValue()).get());
+
+		NodeEntity newRoot = createEntity("NewRoot");
+		file.setGraph(newRoot);
+		Assert.assertEquals(1, file.getEntityCount());
+		Assert.assertSame(newRoot, file.getEntityByPosition(0));
+	}
+}
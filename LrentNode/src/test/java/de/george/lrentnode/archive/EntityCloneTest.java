@@ -0,0 +1,104 @@
+package de.george.lrentnode.archive;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.george.g3utils.io.G3FileReaderEx;
+import de.george.g3utils.io.G3FileWriterEx;
+import de.george.g3utils.structure.Stringtable;
+import de.george.g3utils.structure.bCBox;
+import de.george.g3utils.structure.bCVector;
+import de.george.lrentnode.archive.node.NodeEntity;
+import de.george.lrentnode.classes.DefaultClass;
+import de.george.lrentnode.classes.G3Class;
+import de.george.lrentnode.properties.ClassProperty;
+import de.george.lrentnode.properties.bTValArray_long;
+import de.george.lrentnode.properties.gInt;
+import de.george.lrentnode.properties.gLong;
+import de.george.lrentnode.template.TemplateEntity;
+
+public class EntityCloneTest {
+	private final Stringtable stringtable = new Stringtable();
+
+	private static G3Class createClass(String name, int value, int... entries) {
+		bTValArray_long array = new bTValArray_long();
+		array.setEntries(Arrays.stream(entries).mapToObj(gLong::new).collect(Collectors.toList()));
+		G3Class clazz = new DefaultClass(name, 1);
+		clazz.addProperty(new ClassProperty<>("Value", "int", new gInt(value)));
+		clazz.addProperty(new ClassProperty<>("Array", "bTValArray<long>", array));
+		return clazz;
+	}
+
+	private static NodeEntity createEntity() {
+		NodeEntity entity = new NodeEntity(true);
+		entity.setName("Original");
+		entity.setCreator("1664D47482E1EB4F9CB1F7AD72F3255A00000000");
+		entity.setLocked(true);
+		entity.addClass(createClass("gCCloneTestA_PS", 1, 10, 20), 1);
+		entity.addClass(createClass("gCCloneTestB_PS", 2, 30), 2);
+		entity.updateLocalNodeBoundary(new bCBox(new bCVector(-1, -2, -3), new bCVector(4, 5, 6)));
+		entity.setLocalPosition(new bCVector(100, 200, 300));
+		entity.attachChild(new NodeEntity(true));
+		return entity;
+	}
+
+	private byte[] toBytes(eCEntity entity) {
+		G3FileWriterEx writer = new G3FileWriterEx();
+		writer.setStringtable(stringtable);
+		entity.write(writer);
+		return writer.getData();
+	}
+
+	private void assertIndependent(eCEntity original, eCEntity clone) {
+		byte[] originalBytes = toBytes(original);
+		Assert.assertArrayEquals(originalBytes, toBytes(clone));
+		Assert.assertNull(clone.getParent());
+		Assert.assertTrue(clone.getChilds().isEmpty());
+
+		for (G3Class clazz : clone.getClasses()) {
+			Assert.assertNotSame(original.getClass(clazz.getClassName()), clazz);
+		}
+		Assert.assertNotSame(original.worldMatrix(), clone.worldMatrix());
+		Assert.assertNotSame(original.localNodeBoundary(), clone.localNodeBoundary());
+
+		clone.setName("Clone");
+		clone.setLocalPosition(new bCVector(1, 2, 3));
+		clone.updateLocalNodeBoundary(new bCBox(new bCVector(-7, -7, -7), new bCVector(7, 7, 7)));
+		G3Class clazz = clone.getClass("gCCloneTestA_PS");
+		clazz.<gInt>property("Value").setInt(5);
+		clazz.<bTValArray_long>property("Array").getEntries().add(new gLong(40));
+		clone.removeClass("gCCloneTestB_PS");
+		clone.addClass(createClass("gCCloneTestC_PS", 3), 1);
+
+		Assert.assertArrayEquals(originalBytes, toBytes(original));
+	}
+
+	@Test
+	public void testCloneNodeEntity() {
+		NodeEntity original = createEntity();
+		assertIndependent(original, original.clone());
+	}
+
+	@Test
+	public void testCloneLazyEntity() {
+		G3FileReaderEx reader = new G3FileReaderEx(toBytes(createEntity()));
+		reader.setStringtable(stringtable);
+		NodeEntity original = new NodeEntity(false);
+		original.read(reader, false, true);
+		assertIndependent(original, original.clone());
+	}
+
+	@Test
+	public void testCloneTemplateEntity() {
+		TemplateEntity original = new TemplateEntity(true);
+		original.setName("Template");
+		original.setFileName("Template.tple");
+		original.setHelperParent(true);
+		original.addClass(createClass("gCCloneTestA_PS", 1, 10), 1);
+		original.addClass(createClass("gCCloneTestB_PS", 2), 1);
+		assertIndependent(original, original.clone());
+	}
+}
@@ -0,0 +1,65 @@
+package de.george.lrentnode.archive;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.george.g3utils.io.G3FileReaderEx;
+import de.george.g3utils.io.G3FileWriterEx;
+import de.george.g3utils.structure.Guid;
+import de.george.lrentnode.archive.node.NodeEntity;
+import de.george.lrentnode.properties.eCEntityProxy;
+import de.george.lrentnode.structures.bCGuid;
+
+public class EntityGuidTest {
+	private static final String HEX = "D0A2E3C1F3F18A44B0FC30C496D2D35301000000";
+
+	@Test
+	public void testSetGuidIsLenient() {
+		NodeEntity entity = new NodeEntity(true);
+
+		// Schreibweise wird nicht beibehalten, getGuid() liefert immer Großbuchstaben
+		entity.setGuid(HEX.toLowerCase());
+		Assert.assertEquals(HEX, entity.getGuid());
+
+		// Andere Darstellungen, die auch in der Oberfläche akzeptiert werden
+		entity.setGuid(Guid.fromHex(HEX).toGroup());
+		Assert.assertEquals(HEX, entity.getGuid());
+		entity.setGuid(HEX.substring(0, 32));
+		Assert.assertEquals(HEX.substring(0, 32) + "00000000", entity.getGuid());
+
+		// Ungültige Guids werfen keine Exception, sondern werden wie null behandelt
+		entity.setGuid("XYZ");
+		Assert.assertNull(entity.getGuid());
+		entity.setCreator("XYZ");
+		Assert.assertNull(entity.getCreator());
+	}
+
+	@Test
+	public void testEntityProxy() {
+		eCEntityProxy proxy = new eCEntityProxy(HEX.toLowerCase());
+		Assert.assertEquals(HEX, proxy.getGuid());
+		Assert.assertEquals(Guid.fromHex(HEX), proxy.getGuidValue());
+
+		proxy.setGuid("XYZ");
+		Assert.assertNull(proxy.getGuid());
+		Assert.assertEquals("", proxy.toString());
+	}
+
+	@Test
+	public void testGuidWithoutCounter() {
+		bCGuid guid = new bCGuid();
+		Assert.assertFalse(guid.isValid());
+
+		guid.setGuid(HEX);
+		Assert.assertTrue(guid.isValid());
+		Assert.assertEquals(HEX.substring(0, 32), guid.getGuid());
+
+		G3FileWriterEx writer = new G3FileWriterEx();
+		guid.write(writer);
+		Assert.assertEquals(Guid.SIZE_WITHOUT_COUNTER + 4, writer.getSize());
+
+		bCGuid copy = new G3FileReaderEx(writer.getData()).read(bCGuid.class);
+		Assert.assertEquals(guid, copy);
+		Assert.assertEquals(HEX.substring(0, 32), copy.getGuid());
+	}
+}
@@ -0,0 +1,44 @@
+package de.george.lrentnode.archive;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.george.g3utils.io.G3FileReaderEx;
+import de.george.g3utils.io.G3FileWriterEx;
+import de.george.g3utils.structure.Stringtable;
+import de.george.lrentnode.archive.node.NodeEntity;
+import de.george.lrentnode.classes.DefaultClass;
+import de.george.lrentnode.classes.G3Class;
+
+public class G3ClassContainerTest {
+	// Die Klassennamen dürfen nirgendwo sonst vorkommen, damit sie noch keine ID haben
+
+	@Test
+	public void testFindNewClassName() {
+		G3ClassContainer container = new G3ClassContainer();
+		Assert.assertTrue(container.addClass(new DefaultClass("gCContainerTestNew_PS", 1), 1));
+		Assert.assertTrue(container.hasClass("gCContainerTestNew_PS"));
+		Assert.assertFalse(container.addClass(new DefaultClass("gCContainerTestNew_PS", 1), 1));
+		Assert.assertEquals(1, container.getClassCount());
+	}
+
+	@Test
+	public void testFindClassOfReadEntity() {
+		NodeEntity entity = new NodeEntity(true);
+		entity.addClass(new DefaultClass("gCContainerTestRead_PS", 1), 1);
+
+		Stringtable stringtable = new Stringtable();
+		G3FileWriterEx writer = new G3FileWriterEx();
+		writer.setStringtable(stringtable);
+		entity.write(writer);
+
+		G3FileReaderEx reader = new G3FileReaderEx(writer.getData());
+		reader.setStringtable(stringtable);
+		NodeEntity copy = new NodeEntity(false);
+		copy.read(reader, false, true);
+
+		G3Class clazz = copy.getClass("gCContainerTestRead_PS");
+		Assert.assertNotNull(clazz);
+		Assert.assertEquals("gCContainerTestRead_PS", clazz.getClassName());
+	}
+}
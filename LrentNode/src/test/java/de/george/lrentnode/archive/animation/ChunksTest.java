@@ -0,0 +1,86 @@
+package de.george.lrentnode.archive.animation;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.george.g3utils.io.G3FileReaderVirtual;
+import de.george.g3utils.io.G3FileWriterVirtual;
+import de.george.g3utils.io.G3Serializable;
+import de.george.g3utils.structure.bCQuaternion;
+import de.george.g3utils.structure.bCVector;
+import de.george.lrentnode.archive.animation.Chunks.KeyFrameChunk;
+import de.george.lrentnode.archive.animation.Chunks.SkinningInfoChunk;
+import de.george.lrentnode.archive.animation.Chunks.Submesh;
+import de.george.lrentnode.archive.animation.Chunks.Vertex;
+
+public class ChunksTest {
+	private static void assertWrites(byte[] expected, G3Serializable object) {
+		G3FileWriterVirtual writer = new G3FileWriterVirtual();
+		writer.write(object);
+		Assert.assertArrayEquals(expected, writer.getData());
+	}
+
+	@Test
+	public void testSubmesh() {
+		G3FileWriterVirtual writer = new G3FileWriterVirtual();
+		writer.writeUnsignedByte(2).writeUnsignedByte(1).write(new byte[2]).writeInt(3).writeInt(2);
+		// orgVertex, Position (Z, Y, X), Normale (Z, Y, X), UV
+		writer.writeInt(7).writeFloatArray(3, 2, 1, 0, 0, 1, 0.5f, 0.25f);
+		writer.writeInt(8).writeFloatArray(6, 5, 4, 1, 0, 0, 0.75f, 1);
+		writer.writeIntArray(0, 1, 0);
+		byte[] data = writer.getData();
+
+		Submesh submesh = new G3FileReaderVirtual(data).read(Submesh.class);
+		Assert.assertEquals(2, submesh.getVertexCount());
+		Assert.assertEquals(8, submesh.getOrgVertex(1));
+		Assert.assertArrayEquals(new float[] {1, 2, 3, 4, 5, 6}, submesh.getPositionsXYZ(), 0);
+		Assert.assertArrayEquals(new float[] {1, 0, 0, 0, 0, 1}, submesh.getNormalsXYZ(), 0);
+		Assert.assertArrayEquals(new float[] {0.5f, 0.25f, 0.75f, 1}, submesh.getUVs(0), 0);
+		Assert.assertArrayEquals(new int[] {0, 1, 0}, submesh.indices);
+
+		Vertex vertex = submesh.getVertices().get(1);
+		Assert.assertEquals(new bCVector(4, 5, 6), vertex.getPositionXYZ());
+		Assert.assertEquals(1, vertex.getUvSets().size());
+
+		assertWrites(data, submesh);
+	}
+
+	@Test
+	public void testSkinningInfo() {
+		G3FileWriterVirtual writer = new G3FileWriterVirtual();
+		writer.writeUnsignedByte(1).writeUnsignedShort(3).writeUnsignedShort(0).writeFloat(1);
+		writer.writeUnsignedByte(2).writeUnsignedShort(4).writeUnsignedShort(0).writeFloat(0.25f);
+		writer.writeUnsignedShort(5).writeUnsignedShort(0).writeFloat(0.75f);
+		byte[] influences = writer.getData();
+
+		writer = new G3FileWriterVirtual();
+		writer.writeInt(9).write(influences);
+		byte[] data = writer.getData();
+
+		SkinningInfoChunk chunk = new G3FileReaderVirtual(data).read(SkinningInfoChunk.class, data.length);
+		Assert.assertEquals(9, chunk.nodeIndex);
+		Assert.assertEquals(2, chunk.getVertexCount());
+		Assert.assertEquals(2, chunk.getInfluenceCount(1));
+		Assert.assertEquals(5, chunk.getInfluenceNodeIndex(1, 1));
+		Assert.assertEquals(0.75f, chunk.getInfluenceWeight(1, 1), 0);
+		Assert.assertEquals(4, chunk.getInfluences().get(1).get(0).nodeIndex);
+		assertWrites(data, chunk);
+	}
+
+	@Test
+	public void testKeyFrames() {
+		G3FileWriterVirtual writer = new G3FileWriterVirtual();
+		writer.writeInt(2).writeChar('L').writeChar('R').writeUnsignedShort(0);
+		writer.writeFloat(0).writeFloatArray(0, 0, 0, 1);
+		writer.writeFloat(0.5f).writeFloatArray(1, 0, 0, 0);
+		byte[] data = writer.getData();
+
+		KeyFrameChunk chunk = new G3FileReaderVirtual(data).read(KeyFrameChunk.class);
+		Assert.assertEquals(2, chunk.getKeyFrameCount());
+		Assert.assertArrayEquals(new float[] {0, 0.5f}, chunk.getTimes(), 0);
+		Assert.assertArrayEquals(new float[] {0, 0, 0, 1, 1, 0, 0, 0}, chunk.getValues(), 0);
+		Assert.assertEquals(0.5f, chunk.getTrack().get(1).time, 0);
+		Assert.assertTrue(chunk.getTrack().get(1).value instanceof bCQuaternion);
+		assertWrites(data, chunk);
+	}
+}
@@ -0,0 +1,75 @@
+package de.george.lrentnode.classes;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.george.lrentnode.classes.desc.PropertyDescriptor;
+import de.george.lrentnode.properties.ClassProperty;
+import de.george.lrentnode.properties.bTObjArray_eCEntityProxy;
+import de.george.lrentnode.properties.gInt;
+
+public class G3ClassTest {
+	private static final PropertyDescriptor<gInt> FIRST = new PropertyDescriptor<>("First", gInt.class, "int", "", null);
+	private static final PropertyDescriptor<gInt> SECOND = new PropertyDescriptor<>("Second", gInt.class, "int", "", null);
+	private static final String GUID_A = "1664D47482E1EB4F9CB1F7AD72F3255A00000000";
+	private static final String GUID_B = "D0A2E3C1F3F18A44B0FC30C496D2D35301000000";
+	private static final String GUID_C = "00112233445566778899AABBCCDDEEFF01020304";
+
+	private static ClassProperty<gInt> property(String name, int value) {
+		return new ClassProperty<>(name, "int", new gInt(value));
+	}
+
+	@Test
+	public void testIndexFollowsModifications() {
+		G3Class clazz = new DefaultClass("gCTest_PS", 1);
+		clazz.addProperty(property("First", 1)).addProperty(property("Second", 2));
+		Assert.assertEquals(1, clazz.property(FIRST).getInt());
+		Assert.assertEquals(2, clazz.property(SECOND).getInt());
+		Assert.assertFalse(clazz.hasProperty("Third"));
+
+		// Verschiebt Second, der SlotHint des Descriptors ist danach veraltet
+		clazz.properties().remove(0);
+		Assert.assertFalse(clazz.hasProperty(FIRST));
+		Assert.assertEquals(2, clazz.property(SECOND).getInt());
+
+		clazz.properties().set(0, property("First", 3));
+		Assert.assertEquals(3, clazz.property(FIRST).getInt());
+		Assert.assertFalse(clazz.hasProperty(SECOND));
+
+		clazz.setPropertyData(SECOND, new gInt(4));
+		Assert.assertEquals(4, clazz.<gInt>property("Second").getInt());
+	}
+
+	@Test
+	public void testDuplicateProperties() {
+		G3Class clazz = new DefaultClass("gCTest_PS", 1);
+		clazz.addProperty(property("Second", 0)).addProperty(property("First", 1)).addProperty(property("First", 2));
+		Assert.assertEquals(1, clazz.property(FIRST).getInt());
+		Assert.assertEquals(2, clazz.<gInt>property("First", 2).getInt());
+		Assert.assertThrows(IllegalArgumentException.class, () -> clazz.property("First", 3));
+
+		// Erstes Vorkommen, auch wenn der SlotHint auf das zweite zeigt
+		FIRST.setSlotHint(2);
+		Assert.assertEquals(1, clazz.property(FIRST).getInt());
+	}
+
+	@Test
+	public void testCopyIsIndependent() {
+		bTObjArray_eCEntityProxy proxies = new bTObjArray_eCEntityProxy();
+		proxies.setNativeEntries(Arrays.asList(GUID_A, GUID_B));
+		G3Class clazz = new DefaultClass("gCTest_PS", 1);
+		clazz.addProperty(property("First", 1)).addProperty(new ClassProperty<>("Proxies", "bTObjArray<class eCEntityProxy>", proxies));
+
+		G3Class copy = clazz.copy();
+		Assert.assertSame(DefaultClass.class, copy.getClass());
+		copy.property(FIRST).setInt(2);
+		copy.<bTObjArray_eCEntityProxy>property("Proxies").getEntries().get(0).setGuid(GUID_C);
+		copy.properties().remove(0);
+
+		Assert.assertEquals(1, clazz.property(FIRST).getInt());
+		Assert.assertEquals(Arrays.asList(GUID_A, GUID_B), clazz.<bTObjArray_eCEntityProxy>property("Proxies").getNativeEntries());
+		Assert.assertEquals(2, clazz.propertyCount());
+	}
+}
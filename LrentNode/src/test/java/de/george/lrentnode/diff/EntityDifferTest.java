@@ -0,0 +1,80 @@
+package de.george.lrentnode.diff;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.george.lrentnode.archive.eCEntity;
+import de.george.lrentnode.archive.node.NodeEntity;
+import de.george.lrentnode.classes.DefaultClass;
+import de.george.lrentnode.classes.G3Class;
+import de.george.lrentnode.diff.EntityDiff.Change;
+import de.george.lrentnode.diff.EntityDiff.ChangeType;
+import de.george.lrentnode.properties.ClassProperty;
+import de.george.lrentnode.properties.bTValArray_long;
+import de.george.lrentnode.properties.gInt;
+import de.george.lrentnode.properties.gLong;
+
+public class EntityDifferTest {
+	private static NodeEntity createEntity(String name) {
+		NodeEntity entity = new NodeEntity(true);
+		entity.setName(name);
+		return entity;
+	}
+
+	private static G3Class createClass(int value, int... entries) {
+		bTValArray_long array = new bTValArray_long();
+		array.setEntries(Arrays.stream(entries).mapToObj(gLong::new).collect(Collectors.toList()));
+		G3Class clazz = new DefaultClass("gCTest_PS", 1);
+		clazz.addProperty(new ClassProperty<>("Value", "int", new gInt(value)));
+		clazz.addProperty(new ClassProperty<>("Array", "bTValArray<long>", array));
+		return clazz;
+	}
+
+	private static eCEntity copyTree(eCEntity entity) {
+		eCEntity copy = entity.clone();
+		for (eCEntity child : entity.getChilds()) {
+			copy.attachChild(copyTree(child));
+		}
+		return copy;
+	}
+
+	private static List<String> describe(EntityDiff diff) {
+		// Der Zeitstempel wird bei jeder Änderung aktualisiert
+		return diff.getChanges().stream().filter(c -> !c.getPath().endsWith("/dataChangedTimeStamp")).map(c -> c.getType() + " " + c.getPath().replaceAll("\\[[0-9A-F]{40}\\]", ""))
+				.collect(Collectors.toList());
+	}
+
+	@Test
+	public void testStructuralDiff() {
+		NodeEntity root = createEntity("Root");
+		NodeEntity a = createEntity("A");
+		NodeEntity b = createEntity("B");
+		NodeEntity c = createEntity("C");
+		a.addClass(createClass(1, 10, 20), 1);
+		root.attachChild(a);
+		root.attachChild(b);
+		b.attachChild(c);
+
+		eCEntity base = copyTree(root);
+		Assert.assertFalse(new EntityDiffer(true).diff(root, base).hasChanges());
+
+		a.getClass("gCTest_PS").<gInt>property("Value").setInt(2);
+		a.getClass("gCTest_PS").<bTValArray_long>property("Array").getEntries().add(new gLong(30));
+		b.setName("B2");
+		c.removeFromParent(false);
+		root.attachChild(createEntity("D"));
+
+		EntityDiff diff = new EntityDiffer(true).diff(root, base);
+		Assert.assertEquals(Arrays.asList("CHANGED /Root/A/gCTest_PS/Value", "ADDED /Root/A/gCTest_PS/Array[2]", "CHANGED /Root/B2/name",
+				"REMOVED /Root/B2/C", "ADDED /Root/D"), describe(diff));
+
+		Change nameChange = diff.getChanges().stream().filter(change -> change.getPath().endsWith("/name")).findFirst().get();
+		Assert.assertEquals(ChangeType.CHANGED, nameChange.getType());
+		Assert.assertEquals("B", nameChange.getBase());
+		Assert.assertEquals("B2", nameChange.getWorking());
+	}
+}
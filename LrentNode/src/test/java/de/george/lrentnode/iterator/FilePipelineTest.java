@@ -0,0 +1,110 @@
+package de.george.lrentnode.iterator;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FilePipelineTest {
+	private static List<File> createFiles(int count) {
+		List<File> files = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			files.add(new File("file" + i));
+		}
+		return files;
+	}
+
+	private static FilePipeline<String> createPipeline(List<File> files, boolean ordered) {
+		return new FilePipeline<>(files, f -> !f.getName().endsWith("7"), f -> {
+			if (f.getName().equals("file13")) {
+				throw new IOException("Defekt");
+			}
+			Thread.sleep(f.getName().hashCode() & 3);
+			return f.getName();
+		}, ordered, 4, 6, "FilePipelineTest");
+	}
+
+	private static void testPipeline(boolean ordered) {
+		List<String> results = new ArrayList<>();
+		List<String> errors = new ArrayList<>();
+		try (FilePipeline<String> pipeline = createPipeline(createFiles(200), ordered)) {
+			while (pipeline.advance((f, e) -> errors.add(f.getName() + ": " + e.getMessage()))) {
+				Assert.assertEquals(pipeline.currentFile().getName(), pipeline.current());
+				results.add(pipeline.current());
+			}
+		}
+
+		// 20 Dateien herausgefiltert, eine fehlerhaft
+		Assert.assertEquals(179, results.size());
+		Assert.assertEquals(1, errors.size());
+		Assert.assertEquals("file13: Defekt", errors.get(0));
+
+		List<String> sorted = new ArrayList<>(results);
+		sorted.sort(Comparator.comparingInt(s -> Integer.parseInt(s.substring(4))));
+		if (ordered) {
+			Assert.assertEquals(sorted, results);
+		}
+	}
+
+	@Test
+	public void testOrdered() {
+		testPipeline(true);
+	}
+
+	@Test
+	public void testAsCompleted() {
+		testPipeline(false);
+	}
+
+	@Test
+	public void testCancel() {
+		FilePipeline<String> pipeline = createPipeline(createFiles(50), true);
+		Assert.assertTrue(pipeline.advance((f, e) -> {}));
+		pipeline.cancel();
+		Assert.assertTrue(pipeline.isCancelled());
+		Assert.assertFalse(pipeline.advance((f, e) -> {}));
+		Assert.assertNull(pipeline.current());
+	}
+
+	@Test(timeout = 10000)
+	public void testCancelFromOtherThread() throws InterruptedException {
+		testCancelFromOtherThread(true);
+		testCancelFromOtherThread(false);
+	}
+
+	private static void testCancelFromOtherThread(boolean ordered) throws InterruptedException {
+		CountDownLatch started = new CountDownLatch(1);
+		AtomicInteger opened = new AtomicInteger();
+		// Ein Worker, der bis zum Abbruch blockiert, alle weiteren Dateien warten in der Queue
+		FilePipeline<String> pipeline = new FilePipeline<>(createFiles(20), f -> true, f -> {
+			opened.incrementAndGet();
+			started.countDown();
+			new CountDownLatch(1).await();
+			return f.getName();
+		}, ordered, 1, 4, "FilePipelineTest");
+
+		List<String> errors = new ArrayList<>();
+		AtomicBoolean advanced = new AtomicBoolean(true);
+		Thread consumer = new Thread(() -> advanced.set(pipeline.advance((f, e) -> errors.add(f.getName()))));
+		consumer.start();
+
+		started.await();
+		pipeline.cancel();
+		consumer.join(5000);
+
+		Assert.assertFalse(consumer.isAlive());
+		Assert.assertFalse(advanced.get());
+		// Der unterbrochene Task wird nicht als Fehler gemeldet, wartende Tasks laufen nicht mehr an
+		Assert.assertEquals(0, errors.size());
+		Assert.assertEquals(1, opened.get());
+		Assert.assertFalse(pipeline.advance((f, e) -> errors.add(f.getName())));
+		pipeline.close();
+	}
+}
@@ -0,0 +1,62 @@
+package de.george.lrentnode.util;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.george.g3utils.structure.bCBox;
+import de.george.g3utils.structure.bCVector;
+
+public class AABBTreeTest {
+	private static class Point implements AABBTreePrimitive {
+		private final bCVector position;
+		private final bCBox bounds;
+
+		public Point(bCVector position) {
+			this.position = position;
+			bounds = new bCBox(position, 0);
+		}
+
+		@Override
+		public bCBox getBounds() {
+			return bounds;
+		}
+
+		@Override
+		public bCVector getReferencePoint() {
+			return position;
+		}
+	}
+
+	@Test
+	public void testPrimitivesWithin() {
+		Random random = new Random(42);
+		AABBTree<Point> tree = new AABBTree<>();
+		for (int i = 0; i < 1000; i++) {
+			tree.insert(new Point(new bCVector(random.nextFloat() * 1000, random.nextFloat() * 1000, random.nextFloat() * 1000)));
+		}
+		tree.complete();
+
+		for (int i = 0; i < 50; i++) {
+			bCBox q = new bCBox(new bCVector(random.nextFloat() * 1000, random.nextFloat() * 1000, random.nextFloat() * 1000),
+					random.nextFloat() * 50);
+			float maxDistance = random.nextFloat() * 100;
+
+			List<Point> expected = tree.getPrimitives().stream().filter(p -> p.getBounds().distance(q) <= maxDistance)
+					.collect(Collectors.toList());
+			List<Point> actual = tree.primitivesWithin(q, maxDistance);
+			Assert.assertEquals(expected.size(), actual.size());
+			Assert.assertTrue(actual.containsAll(expected));
+		}
+	}
+
+	@Test
+	public void testPrimitivesWithinEmpty() {
+		AABBTree<Point> tree = new AABBTree<>();
+		tree.complete();
+		Assert.assertTrue(tree.primitivesWithin(new bCBox(new bCVector(0, 0, 0), 10), 10).isEmpty());
+	}
+}
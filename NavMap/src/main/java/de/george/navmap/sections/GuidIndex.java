@@ -0,0 +1,55 @@
+package de.george.navmap.sections;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import de.george.g3utils.structure.Guid;
+
+/**
+ * Index von Guid auf Position innerhalb einer Liste der NavMap-Sektionen.
+ * <p>
+ * Der Index wird erst bei der ersten Abfrage aufgebaut und muss nach jeder strukturellen Änderung
+ * der Liste (Hinzufügen, Entfernen, Neuzuweisung) mit {@link #invalidate()} verworfen werden. Bei
+ * mehrfach vorkommenden Guids gilt, wie bei einer linearen Suche, der erste Eintrag.
+ */
+class GuidIndex<T> {
+	private final Function<T, String> guidExtractor;
+	private Map<Guid, Integer> index;
+
+	public GuidIndex(Function<T, String> guidExtractor) {
+		this.guidExtractor = guidExtractor;
+	}
+
+	/**
+	 * @return Position des Eintrags mit der Guid {@code guid} in {@code list} oder -1
+	 */
+	public int indexOf(List<T> list, String guid) {
+		Guid key = Guid.of(guid);
+		if (key == null) {
+			return -1;
+		}
+
+		if (index == null) {
+			index = new HashMap<>(list.size() * 2);
+			for (int i = 0; i < list.size(); i++) {
+				Guid entryGuid = Guid.of(guidExtractor.apply(list.get(i)));
+				if (entryGuid != null) {
+					index.putIfAbsent(entryGuid, i);
+				}
+			}
+		}
+
+		return index.getOrDefault(key, -1);
+	}
+
+	public T get(List<T> list, String guid) {
+		int i = indexOf(list, guid);
+		return i != -1 ? list.get(i) : null;
+	}
+
+	public void invalidate() {
+		index = null;
+	}
+}
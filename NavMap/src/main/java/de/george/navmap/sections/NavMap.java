@@ -4,6 +4,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -99,6 +100,8 @@ public class NavMap extends GenomeFile {
 
 	private boolean invalid;
 
+	private final List<Runnable> changeListeners = new ArrayList<>();
+
 	public NavMap(G3FileReaderEx reader) throws IOException {
 		super();
 		read(reader);
@@ -328,6 +331,15 @@ public class NavMap extends GenomeFile {
 			invalid = true;
 			throw e;
 		}
+		changeListeners.forEach(Runnable::run);
+	}
+
+	/**
+	 * {@code listener} wird nach jeder Änderung der NavMap (Hinzufügen, Aktualisieren oder Entfernen
+	 * eines NavObjects) aufgerufen.
+	 */
+	public void addChangeListener(Runnable listener) {
+		changeListeners.add(listener);
 	}
 
 	public void addNavZone(NavZone navZone) {
@@ -1,13 +1,13 @@
 package de.george.navmap.sections;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import de.george.g3utils.io.G3FileReader;
 import de.george.g3utils.io.G3FileWriter;
 import de.george.g3utils.io.G3Serializable;
+import de.george.g3utils.structure.Guid;
 import de.george.navmap.data.NegZone;
 
 /**
@@ -15,7 +15,7 @@ import de.george.navmap.data.NegZone;
  */
 public class Section2 implements G3Serializable {
 	private List<NegZone> negZones;
-	private Map<String, NegZone> guidMapping;
+	private Map<Guid, NegZone> guidMapping;
 
 	public List<NegZone> getNegZones() {
 		return negZones;
@@ -26,11 +26,12 @@ public class Section2 implements G3Serializable {
 	}
 
 	public int addNegZone(NegZone negZone) {
-		if (guidMapping.containsKey(negZone.getGuid())) {
+		Guid guid = Guid.of(negZone.getGuid());
+		if (guid != null && guidMapping.containsKey(guid)) {
 			throw new IllegalArgumentException("Section2 enthält bereits eine NegZone mit der Guid '" + negZone.getGuid() + "'.");
 		}
 		negZones.add(negZone);
-		guidMapping.put(negZone.getGuid(), negZone);
+		putMapping(negZone);
 		return getNegZoneCount() - 1;
 	}
 
@@ -39,7 +40,7 @@ public class Section2 implements G3Serializable {
 	}
 
 	public NegZone getNegZone(String guid) {
-		return guidMapping.get(guid);
+		return guidMapping.get(Guid.of(guid));
 	}
 
 	public int getNegZoneIndex(String guid) {
@@ -51,18 +52,34 @@ public class Section2 implements G3Serializable {
 			throw new IllegalArgumentException("Guid der NegZone darf sich nicht ändern.");
 		}
 		negZones.set(index, negZone);
-		guidMapping.put(negZone.getGuid(), negZone);
+		putMapping(negZone);
 	}
 
 	public void removeNegZone(int index) {
 		NegZone negZone = negZones.remove(index);
-		guidMapping.remove(negZone.getGuid());
+		guidMapping.remove(Guid.of(negZone.getGuid()));
+	}
+
+	/**
+	 * NegZones ohne gültige Guid bleiben in der Liste, sind aber nicht über ihre Guid auffindbar.
+	 */
+	private void putMapping(NegZone negZone) {
+		Guid guid = Guid.of(negZone.getGuid());
+		if (guid != null) {
+			guidMapping.put(guid, negZone);
+		}
 	}
 
 	@Override
 	public void read(G3FileReader reader) {
 		negZones = reader.readPrefixedList(NegZone.class);
-		guidMapping = negZones.stream().collect(Collectors.toMap(NegZone::getGuid, Function.identity()));
+		guidMapping = new HashMap<>();
+		for (NegZone negZone : negZones) {
+			if (guidMapping.containsKey(Guid.of(negZone.getGuid()))) {
+				throw new IllegalStateException("Section2 enthält mehrere NegZones mit der Guid '" + negZone.getGuid() + "'.");
+			}
+			putMapping(negZone);
+		}
 	}
 
 	@Override
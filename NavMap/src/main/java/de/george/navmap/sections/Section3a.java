@@ -1,13 +1,13 @@
 package de.george.navmap.sections;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import de.george.g3utils.io.G3FileReader;
 import de.george.g3utils.io.G3FileWriter;
 import de.george.g3utils.io.G3Serializable;
+import de.george.g3utils.structure.Guid;
 import de.george.navmap.data.NegCircle;
 
 /**
@@ -15,12 +15,18 @@ import de.george.navmap.data.NegCircle;
  */
 public class Section3a implements G3Serializable {
 	private List<NegCircle> negCircles;
-	private Map<String, NegCircle> guidMapping;
+	private Map<Guid, NegCircle> guidMapping;
 
 	@Override
 	public void read(G3FileReader reader) {
 		negCircles = reader.readPrefixedList(NegCircle.class);
-		guidMapping = negCircles.stream().collect(Collectors.toMap(n -> n.circleGuid, Function.identity()));
+		guidMapping = new HashMap<>();
+		for (NegCircle negCircle : negCircles) {
+			if (guidMapping.containsKey(Guid.of(negCircle.circleGuid))) {
+				throw new IllegalStateException("Section3a enthält mehrere NegCircles mit der Guid '" + negCircle.circleGuid + "'.");
+			}
+			putMapping(negCircle);
+		}
 	}
 
 	@Override
@@ -55,11 +61,12 @@ public class Section3a implements G3Serializable {
 	}
 
 	public int addNegCircle(NegCircle negCircle) {
-		if (guidMapping.containsKey(negCircle.circleGuid)) {
+		Guid guid = Guid.of(negCircle.circleGuid);
+		if (guid != null && guidMapping.containsKey(guid)) {
 			throw new IllegalArgumentException("Section3a enthält bereits einen NegCircle mit der Guid '" + negCircle.circleGuid + "'.");
 		}
 		negCircles.add(negCircle);
-		guidMapping.put(negCircle.circleGuid, negCircle);
+		putMapping(negCircle);
 		return getCircleCount() - 1;
 	}
 
@@ -68,7 +75,7 @@ public class Section3a implements G3Serializable {
 	}
 
 	public NegCircle getNegCircle(String guid) {
-		return guidMapping.get(guid);
+		return guidMapping.get(Guid.of(guid));
 	}
 
 	public int getNegCircleIndex(String guid) {
@@ -76,18 +83,28 @@ public class Section3a implements G3Serializable {
 	}
 
 	public int updateNegCircle(NegCircle negCircle) {
-		if (!guidMapping.containsKey(negCircle.circleGuid)) {
+		if (!guidMapping.containsKey(Guid.of(negCircle.circleGuid))) {
 			throw new IllegalArgumentException("Section3a enthält keinen NegCircle mit der Guid '" + negCircle.circleGuid + "'.");
 		}
 
 		int circleIndex = getNegCircleIndex(negCircle.circleGuid);
 		negCircles.set(circleIndex, negCircle);
-		guidMapping.put(negCircle.circleGuid, negCircle);
+		putMapping(negCircle);
 		return circleIndex;
 	}
 
 	public void removeNegCircle(int index) {
 		NegCircle circle = negCircles.remove(index);
-		guidMapping.remove(circle.circleGuid);
+		guidMapping.remove(Guid.of(circle.circleGuid));
+	}
+
+	/**
+	 * NegCircles ohne gültige Guid bleiben in der Liste, sind aber nicht über ihre Guid auffindbar.
+	 */
+	private void putMapping(NegCircle negCircle) {
+		Guid guid = Guid.of(negCircle.circleGuid);
+		if (guid != null) {
+			guidMapping.put(guid, negCircle);
+		}
 	}
 }
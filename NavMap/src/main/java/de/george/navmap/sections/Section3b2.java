@@ -18,24 +18,14 @@ import de.george.navmap.sections.Section3c.NegCircleOverlaps;
  */
 public class Section3b2 implements G3Serializable {
 	public List<NavZoneWithObjects> navZones = new ArrayList<>();
+	private final GuidIndex<NavZoneWithObjects> guidIndex = new GuidIndex<>(n -> n.zoneGuid);
 
 	public int getEntryIndexByGuid(String guid) {
-		for (int i = 0; i < navZones.size(); i++) {
-			NavZoneWithObjects entry = navZones.get(i);
-			if (entry.zoneGuid.equalsIgnoreCase(guid)) {
-				return i;
-			}
-		}
-		return -1;
+		return guidIndex.indexOf(navZones, guid);
 	}
 
 	public NavZoneWithObjects getEntryByGuid(String guid) {
-		for (NavZoneWithObjects entry : navZones) {
-			if (entry.zoneGuid.equalsIgnoreCase(guid)) {
-				return entry;
-			}
-		}
-		return null;
+		return guidIndex.get(navZones, guid);
 	}
 
 	public void writeText(StringBuilder builder) {
@@ -57,6 +47,7 @@ public class Section3b2 implements G3Serializable {
 
 	public void addNavZone(String guid, int clusterIndex) {
 		navZones.add(new NavZoneWithObjects(guid, clusterIndex));
+		guidIndex.invalidate();
 	}
 
 	public void removeNavZone(String guid, NavMap navMap) {
@@ -81,6 +72,7 @@ public class Section3b2 implements G3Serializable {
 		}
 
 		navZones.remove(zone);
+		guidIndex.invalidate();
 	}
 
 	public void addNegCircle(NegCircle negCircle, int index) {
@@ -116,6 +108,7 @@ public class Section3b2 implements G3Serializable {
 	@Override
 	public void read(G3FileReader reader) {
 		navZones = reader.readPrefixedList(NavZoneWithObjects.class);
+		guidIndex.invalidate();
 	}
 
 	@Override
@@ -15,10 +15,12 @@ import de.george.navmap.data.NavPath;
  */
 public class Section3d implements G3Serializable {
 	public List<Section3dEntry> navPaths;
+	private final GuidIndex<Section3dEntry> guidIndex = new GuidIndex<>(e -> e.guid);
 
 	@Override
 	public void read(G3FileReader reader) {
 		navPaths = reader.readPrefixedList(Section3dEntry.class);
+		guidIndex.invalidate();
 	}
 
 	@Override
@@ -44,25 +46,15 @@ public class Section3d implements G3Serializable {
 	}
 
 	public Section3dEntry getNavPath(String guid) {
-		for (Section3dEntry entry : navPaths) {
-			if (entry.guid.equals(guid)) {
-				return entry;
-			}
-		}
-		return null;
+		return guidIndex.get(navPaths, guid);
 	}
 
 	public int getNavPathIndex(String guid) {
-		for (int i = 0; i < navPaths.size(); i++) {
-			Section3dEntry entry = navPaths.get(i);
-			if (entry.guid.equalsIgnoreCase(guid)) {
-				return i;
-			}
-		}
-		return -1;
+		return guidIndex.indexOf(navPaths, guid);
 	}
 
 	public boolean addNavPath(NavPath navPath, int clusterIndex) {
+		guidIndex.invalidate();
 		return navPaths.add(new Section3dEntry(navPath.guid, clusterIndex, navPath.zoneAIntersection.zoneIntersectionCenter,
 				navPath.zoneAIntersection.zoneIntersectionMargin1, navPath.zoneAIntersection.zoneIntersectionMargin2,
 				navPath.zoneBIntersection.zoneIntersectionCenter, navPath.zoneBIntersection.zoneIntersectionMargin1,
@@ -86,13 +78,14 @@ public class Section3d implements G3Serializable {
 	}
 
 	public boolean removeNavPath(String navPath) {
-		for (Section3dEntry entry : navPaths) {
-			if (entry.guid.equals(navPath)) {
-				navPaths.remove(entry);
-				return true;
-			}
+		int index = getNavPathIndex(navPath);
+		if (index == -1) {
+			return false;
 		}
-		return false;
+
+		navPaths.remove(index);
+		guidIndex.invalidate();
+		return true;
 	}
 
 	public static class Section3dEntry implements G3Serializable {
@@ -19,6 +19,8 @@ import de.george.navmap.data.NavPath;
 public class Section3fg implements G3Serializable {
 	public List<NavObject> navZones;
 	public List<NavObject> navPaths;
+	private final GuidIndex<NavObject> zoneIndex = new GuidIndex<>(o -> o.guid);
+	private final GuidIndex<NavObject> pathIndex = new GuidIndex<>(o -> o.guid);
 
 	@Override
 	public void read(G3FileReader reader) {
@@ -31,6 +33,8 @@ public class Section3fg implements G3Serializable {
 				navZones.add(navObject);
 			}
 		});
+		zoneIndex.invalidate();
+		pathIndex.invalidate();
 	}
 
 	@Override
@@ -64,6 +68,7 @@ public class Section3fg implements G3Serializable {
 
 	public void addNavZone(String guid) {
 		navZones.add(new NavObject(guid, false, new ArrayList<Integer>()));
+		zoneIndex.invalidate();
 	}
 
 	public void addNavPath(NavPath navPath, NavMap navMap) {
@@ -76,6 +81,7 @@ public class Section3fg implements G3Serializable {
 		indexes.add(indexA);
 		indexes.add(indexB);
 		navPaths.add(new NavObject(navPath.guid, true, indexes));
+		pathIndex.invalidate();
 
 		// Pfad in die NavZones eintragen
 		NavObject zoneA = getZone(navPath.zoneAGuid);
@@ -86,29 +92,21 @@ public class Section3fg implements G3Serializable {
 
 	public void removeNavPath(String navPath) {
 		navPaths.remove(getPath(navPath));
+		pathIndex.invalidate();
 	}
 
 	public NavObject removeNavZone(String guid) {
 		NavObject zoneObject = getZone(guid);
 		navZones.remove(zoneObject);
+		zoneIndex.invalidate();
 		return zoneObject;
 	}
 
 	public NavObject getZone(String guid) {
-		for (NavObject zone : navZones) {
-			if (zone.guid.equals(guid)) {
-				return zone;
-			}
-		}
-		return null;
+		return zoneIndex.get(navZones, guid);
 	}
 
 	public NavObject getPath(String guid) {
-		for (NavObject path : navPaths) {
-			if (path.guid.equals(guid)) {
-				return path;
-			}
-		}
-		return null;
+		return pathIndex.get(navPaths, guid);
 	}
 }
@@ -333,7 +333,7 @@ public class NavCalc {
 		List<bCMotion> offsetPose = entity.getProperty(CD.gCNavOffset_PS.OffsetPose).getEntries();
 		if (offsetPose.size() >= 1) {
 			for (bCMotion offset : offsetPose) {
-				bCVector WorldOffsetPose = offset.getPosition().getTransformed(entity.getWorldMatrix());
+				bCVector WorldOffsetPose = offset.getPosition().getTransformed(entity.worldMatrix());
 				Optional<NavArea> area = getZone(WorldOffsetPose, dontConsiderNavPath, excludeWhenInInternaNegZone, -1.0f);
 				if (area.isPresent()) {
 					return area;
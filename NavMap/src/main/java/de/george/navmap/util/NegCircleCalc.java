@@ -39,7 +39,7 @@ public class NegCircleCalc {
 
 	public NegCircle createNegCircleFromEntity(eCEntity entity) {
 		NegCirclePrototype base = getNegCirclePrototype(entity);
-		return base.toNegCircle(entity.getWorldMatrix(), entity.getGuid());
+		return base.toNegCircle(entity.worldMatrix(), entity.getGuid());
 	}
 
 	public NegCircle createNegCircleFromEntity(eCEntity entity, NavCalc navCalc) {
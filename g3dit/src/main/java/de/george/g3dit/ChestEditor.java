@@ -75,7 +75,7 @@ import de.george.lrentnode.classes.desc.CD;
 import de.george.lrentnode.classes.desc.CD.gCInventorySlot;
 import de.george.lrentnode.enums.G3Enums.gELockStatus;
 import de.george.lrentnode.enums.G3Enums.gEUseType;
-import de.george.lrentnode.iterator.ArchiveFileIterator;
+import de.george.lrentnode.iterator.ParallelArchiveFileIterator;
 import de.george.lrentnode.util.EntityUtil;
 import de.george.lrentnode.util.FileUtil;
 import net.miginfocom.swing.MigLayout;
@@ -345,12 +345,13 @@ public class ChestEditor extends JFrame {
 
 	private void loadAll() {
 		List<Chest> loaded = new ArrayList<>();
-		ArchiveFileIterator worldFilesIterator = ctx.getFileManager().worldFilesIterator();
-		while (worldFilesIterator.hasNext()) {
-			ArchiveFile archive = worldFilesIterator.next();
-			for (eCEntity entity : archive) {
-				if (EntityUtil.getUseType(entity) == gEUseType.gEUseType_Chest) {
-					loaded.add(chestFromEntity(entity, worldFilesIterator.nextFile().getName()));
+		try (ParallelArchiveFileIterator worldFilesIterator = ctx.getFileManager().parallelWorldFilesIterator()) {
+			while (worldFilesIterator.hasNext()) {
+				ArchiveFile archive = worldFilesIterator.next();
+				for (eCEntity entity : archive) {
+					if (EntityUtil.getUseType(entity) == gEUseType.gEUseType_Chest) {
+						loaded.add(chestFromEntity(entity, worldFilesIterator.nextFile().getName()));
+					}
 				}
 			}
 		}
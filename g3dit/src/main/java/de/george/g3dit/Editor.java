@@ -40,8 +40,6 @@ import com.tulskiy.keymaster.common.Provider;
 
 import de.ailis.oneinstance.OneInstance;
 import de.ailis.oneinstance.OneInstanceListener.InstanceAction;
-import de.danielbechler.diff.node.DiffNode;
-import de.danielbechler.diff.node.ToMapPrintingVisitor;
 import de.george.g3dit.cache.CacheManager;
 import de.george.g3dit.cache.Caches;
 import de.george.g3dit.cache.EntityCache;
@@ -89,6 +87,7 @@ import de.george.g3utils.util.IOUtils;
 import de.george.lrentnode.archive.ArchiveFile;
 import de.george.lrentnode.archive.SecDat;
 import de.george.lrentnode.archive.eCEntity;
+import de.george.lrentnode.diff.EntityDiff;
 import de.george.lrentnode.diff.EntityDiffer;
 import de.george.lrentnode.util.FileUtil;
 import de.george.navmap.sections.NavMap;
@@ -162,9 +161,6 @@ public class Editor extends JFrame implements EditorContext {
 		SLF4JBridgeHandler.install();
 		java.util.logging.Logger.getLogger("").setLevel(Level.WARNING);
 
-		ch.qos.logback.classic.Logger diffLogger = (ch.qos.logback.classic.Logger) LoggerFactory.getLogger("de.danielbechler.diff");
-		diffLogger.setLevel(ch.qos.logback.classic.Level.INFO);
-
 		ch.qos.logback.classic.Logger webLogger = (ch.qos.logback.classic.Logger) LoggerFactory.getLogger("cz.vutbr.web");
 		webLogger.setLevel(ch.qos.logback.classic.Level.ERROR);
 
@@ -204,7 +200,7 @@ public class Editor extends JFrame implements EditorContext {
 
 	private void diffEntity(String base, String mine, eCEntity baseRoot, eCEntity mineRoot) throws IOException {
 		// TODO: Also diff DynamicEntityContext
-		DiffNode diff = new EntityDiffer(true).diff(mineRoot, baseRoot);
+		EntityDiff diff = new EntityDiffer(true).diff(mineRoot, baseRoot);
 		if (!diff.hasChanges()) {
 			String binaryCompare = getOptionStore().get(EditorOptions.Path.BINARY_COMPARE);
 			if (binaryCompare.isEmpty()) {
@@ -215,12 +211,10 @@ public class Editor extends JFrame implements EditorContext {
 			Runtime.getRuntime().exec(binaryCompare.replace("%base", base).replace("%mine", mine));
 		}
 
-		ToMapPrintingVisitor mapPrintingVisitor = new ToMapPrintingVisitor(mineRoot, baseRoot);
-		diff.visit(mapPrintingVisitor);
 		SwingUtilities.invokeLater(() -> {
 			DisplayTextDialog dialog = new DisplayTextDialog(
 					String.format("Dateivergleich - [%s - %s]", new File(base).getName(), new File(mine).getName()),
-					mapPrintingVisitor.getMessagesAsString(), this, true);
+					diff.getMessagesAsString(), this, true);
 			// dialog.setLocationRelativeTo(editor.getOwner());
 			dialog.setVisible(true);
 		});
@@ -8,6 +8,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,6 +19,8 @@ import com.google.common.io.Files;
 import de.george.g3dit.cache.Caches;
 import de.george.g3dit.cache.EntityCache;
 import de.george.g3dit.cache.EntityCache.EntityCacheEntry;
+import de.george.g3dit.cache.LightCache;
+import de.george.g3dit.cache.NavCache;
 import de.george.g3dit.cache.TemplateCache;
 import de.george.g3dit.cache.TemplateCache.TemplateCacheEntry;
 import de.george.g3dit.check.FileDescriptor;
@@ -70,7 +73,7 @@ public class EditorCli {
 		Subparser cacheParser = subparsers.addParser("cache").help("control cache").defaultHelp(true).setDefault("subparser_handler",
 				(Function<EditorCli, Boolean>) EditorCli::handleCache);
 		cacheParser.description("control cache");
-		cacheParser.addArgument("--update").choices("all", "template", "entity").required(true);
+		cacheParser.addArgument("--update").choices("all", "template", "entity", "nav", "light").required(true);
 
 		Subparser renderParser = subparsers.addParser("render").help("render templates and meshes").defaultHelp(true)
 				.setDefault("subparser_handler", (Function<EditorCli, Boolean>) EditorCli::handleRender);
@@ -190,6 +193,8 @@ public class EditorCli {
 			case "all":
 				caches.add(TemplateCache.class);
 				caches.add(EntityCache.class);
+				caches.add(NavCache.class);
+				caches.add(LightCache.class);
 				break;
 			case "template":
 				caches.add(TemplateCache.class);
@@ -197,12 +202,17 @@ public class EditorCli {
 			case "entity":
 				caches.add(EntityCache.class);
 				break;
+			case "nav":
+				caches.add(NavCache.class);
+				break;
+			case "light":
+				caches.add(LightCache.class);
+				break;
 		}
-		for (Class cache : caches) {
-			writer.printf("Update %s...", cache.getSimpleName()).flush();
-			editor.getCacheManager().createCache(cache);
-			writer.println(" done.");
-		}
+		// Weltcaches werden gemeinsam in einem Durchlauf erstellt
+		writer.printf("Update %s...", caches.stream().map(Class::getSimpleName).collect(Collectors.joining(", "))).flush();
+		editor.getCacheManager().createCaches(caches.toArray(new Class[caches.size()]));
+		writer.println(" done.");
 		return true;
 	}
 
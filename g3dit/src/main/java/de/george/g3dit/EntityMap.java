@@ -163,8 +163,8 @@ public class EntityMap extends JFrame {
 		map = new MapAndTableComponent<>(new EntityMapItemColumnFactory(), new EntityMapItemTableFormat(), filteredEntitiesMatcherEditor);
 		map.setCallbackGoto(this::onGoto);
 		map.setCallbackNavigate(this::onNavigate);
-		map.getMap().addOverlay(
-				new PlayerPositionOverlay<>(map.getMap().getModel(), () -> isShowing() && cbShowPlayerPosition.isSelected()), 1);
+		map.getMap().addOverlay(new PlayerPositionOverlay<>(map.getMap().getModel(), ctx.getIpcMonitor(),
+				() -> isShowing() && cbShowPlayerPosition.isSelected()), 1);
 
 		map.getMap().addOverlay(new NavObjectOverlay<>(map.getMap().getModel(), ctx), 1);
 		map.getMap().addMenuItem("Search for NavObject", point -> {
@@ -9,6 +9,11 @@ import java.util.function.Consumer;
 
 import javax.swing.SwingUtilities;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.george.g3dit.rpc.IpcBatch;
+import de.george.g3dit.rpc.IpcUtil;
 import de.george.g3dit.rpc.MonotonicallyOrderedIpc;
 import de.george.g3dit.rpc.proto.G3RemoteControlProtos.HearbeatRequest;
 import de.george.g3dit.rpc.proto.G3RemoteControlProtos.HearbeatResponse;
@@ -16,17 +21,21 @@ import de.george.g3dit.rpc.zmq.ResponseCallback.Status;
 import de.george.g3dit.util.event.HolderEventList;
 
 public class IpcMonitor {
+	private static final Logger logger = LoggerFactory.getLogger(IpcMonitor.class);
+
 	private MonotonicallyOrderedIpc ipcCheck = new MonotonicallyOrderedIpc();
 	private ScheduledExecutorService ipcCheckExecutor = Executors.newSingleThreadScheduledExecutor();
 
 	private HolderEventList<IpcMonitor> availabilityListeners = new HolderEventList<>();
 	private HolderEventList<IpcMonitor> statusListeners = new HolderEventList<>();
+	private HolderEventList<IpcBatch> pollListeners = new HolderEventList<>();
 	private boolean available = false;
 	private HearbeatResponse.Status status = null;
 
 	public IpcMonitor() {
 		ipcCheckExecutor.scheduleAtFixedRate(() -> {
-			ipcCheck.sendRequest(HearbeatRequest.getDefaultInstance(), (s, rc, ud) -> {
+			IpcBatch batch = IpcUtil.batch();
+			ipcCheck.addRequest(batch, HearbeatRequest.getDefaultInstance(), (s, rc, ud) -> {
 				SwingUtilities.invokeLater(() -> {
 					boolean receivedResponse = s == Status.Successful;
 
@@ -49,9 +58,32 @@ public class IpcMonitor {
 					}
 				});
 			});
+
+			try {
+				pollListeners.notify(batch);
+			} catch (Exception e) {
+				logger.warn("Fehler beim Abfragen.", e);
+			}
+			batch.send();
 		}, 0, 250, TimeUnit.MILLISECONDS);
 	}
 
+	/**
+	 * {@code listener} wird mit jedem Heartbeat (alle 250 ms) auf einem Hintergrund-Thread aufgerufen
+	 * und kann Requests zu dem übergebenen {@link IpcBatch} hinzufügen. Regelmäßige Abfragen werden
+	 * so gemeinsam verschickt und gleiche Abfragen (z.B. die Position des Helden) zusammengefasst.
+	 * <p>
+	 * Da {@code listener} meist {@code holder} referenziert, muss er mit
+	 * {@link #removePollListeners(Object)} wieder entfernt werden.
+	 */
+	public final void addPollListener(Object holder, Consumer<IpcBatch> listener) {
+		pollListeners.addListener(holder, listener);
+	}
+
+	public final void removePollListeners(Object holder) {
+		pollListeners.removeListeners(holder);
+	}
+
 	public boolean isAvailable() {
 		return available;
 	}
@@ -8,9 +8,6 @@ import java.io.File;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.Callable;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 
 import javax.swing.Action;
 import javax.swing.JButton;
@@ -38,6 +35,7 @@ import de.george.g3dit.gui.components.EnableGroup;
 import de.george.g3dit.gui.components.FloatSpinner;
 import de.george.g3dit.gui.dialogs.DisplayTextDialog;
 import de.george.g3dit.gui.dialogs.NavigateTemplateDialog;
+import de.george.g3dit.rpc.IpcBatch;
 import de.george.g3dit.rpc.IpcHelper;
 import de.george.g3dit.rpc.IpcUtil;
 import de.george.g3dit.rpc.MonotonicallyOrderedIpc;
@@ -87,7 +85,6 @@ public class LivePositionFrame extends JFrame {
 	private EditorContext ctx;
 
 	private MonotonicallyOrderedIpc ipcUpdatePosition = new MonotonicallyOrderedIpc();
-	private ScheduledExecutorService ex = Executors.newSingleThreadScheduledExecutor();;
 
 	private UndoableTextField tfSearchField;
 
@@ -144,13 +141,13 @@ public class LivePositionFrame extends JFrame {
 
 		ifValidSearchResult.setEnabled(false);
 
-		ex.scheduleAtFixedRate(() -> {
+		ctx.getIpcMonitor().addPollListener(this, batch -> {
 			try {
-				updatePosition();
+				updatePosition(batch);
 			} catch (Exception e) {
 				logger.warn("Fehler in updatePosition().", e);
 			}
-		}, 0, 250, TimeUnit.MILLISECONDS);
+		});
 
 		setDefaultCancelAction(SwingUtils.createAction(() -> dispose()));
 	}
@@ -420,7 +417,7 @@ public class LivePositionFrame extends JFrame {
 	@Override
 	public void dispose() {
 		super.dispose();
-		ex.shutdownNow();
+		ctx.getIpcMonitor().removePollListeners(this);
 	}
 
 	private void setDefaultCancelAction(Action defaultCancleAction) {
@@ -496,7 +493,7 @@ public class LivePositionFrame extends JFrame {
 				EntityRequest.newBuilder().setGuid(guid).setMoveto(DTC.convert(rotation, scaling, translation)).build(), null, null);
 	}
 
-	private void updatePosition() {
+	private void updatePosition(IpcBatch batch) {
 		EntityRequest request;
 		synchronized (searchLock) {
 			if (!isValidSearchActive) {
@@ -521,7 +518,7 @@ public class LivePositionFrame extends JFrame {
 			}
 		}
 
-		ipcUpdatePosition.sendRequest(request, (s, rc, ud) -> {
+		ipcUpdatePosition.addRequest(batch, request, (s, rc, ud) -> {
 			SwingUtilities.invokeLater(() -> {
 				if (!isValidSearchActive) {
 					return;
@@ -595,6 +592,7 @@ public class LivePositionFrame extends JFrame {
 	private void spawnTemplate() {
 		NavigateTemplateDialog dialog = new NavigateTemplateDialog(this, ctx, TemplateCacheEntry::isHelperParent);
 		if (dialog.openAndWasSuccessful()) {
+			IpcBatch batch = IpcUtil.batch();
 			for (TemplateCacheEntry tple : dialog.getSelectedEntries()) {
 				SpawnRequest.Builder request = SpawnRequest.newBuilder().setTemplateGuid(GuidUtil.hexToGuidText(tple.getGuid()));
 
@@ -606,7 +604,7 @@ public class LivePositionFrame extends JFrame {
 					request.setEntityName(PC_HERO);
 				}
 
-				IpcHelper.getIpc().sendRequest(request.build(), (s, rc, ud) -> SwingUtilities.invokeLater(() -> {
+				batch.add(request.build(), (s, rc, ud) -> SwingUtilities.invokeLater(() -> {
 					log("Spawne '%s'", tple.getName());
 					if (s == ResponseCallback.Status.Timeout) {
 						log("Gothic 3 nicht erreichbar");
@@ -626,8 +624,9 @@ public class LivePositionFrame extends JFrame {
 
 						searchForGuid(guid);
 					}
-				}), null);
+				}));
 			}
+			batch.send();
 		}
 	}
 
@@ -30,6 +30,8 @@ import ch.qos.logback.classic.LoggerContext;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.Appender;
 import ch.qos.logback.core.FileAppender;
+import de.george.g3dit.cache.EntityCache;
+import de.george.g3dit.cache.LightCache;
 import de.george.g3dit.cache.NavCache;
 import de.george.g3dit.cache.TemplateCache.TemplateCacheEntry;
 import de.george.g3dit.check.CheckManager;
@@ -528,6 +530,11 @@ public class MainMenu extends JMenuBar {
 		miCreateNavCache.setMnemonic(KeyEvent.VK_A);
 		muNavMap.add(miCreateNavCache);
 		miCreateNavCache.addActionListener(e -> ctx.getCacheManager().createCache(NavCache.class));
+
+		JMenuItem miCreateWorldCaches = new JMenuItem("Alle Weltcaches erstellen", Icons.getImageIcon(Icons.Arrow.CIRCLE_DOUBLE));
+		muNavMap.add(miCreateWorldCaches);
+		miCreateWorldCaches.addActionListener(
+				e -> ctx.getCacheManager().createCaches(NavCache.class, EntityCache.class, LightCache.class));
 		muNavMap.addSeparator();
 
 		JMenuItem miEditNegZones = new JMenuItem("NegZones bearbeiten", Icons.getImageIcon(Icons.Action.EDIT));
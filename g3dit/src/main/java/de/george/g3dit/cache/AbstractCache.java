@@ -6,12 +6,20 @@ import java.io.Serializable;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Consumer;
 
+import javax.swing.SwingWorker;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import de.george.g3dit.util.event.HolderEventList;
-import de.george.g3utils.util.IOUtils;
+import de.george.g3utils.util.FunctionWithException;
+import de.george.g3utils.util.Pair;
 
 public abstract class AbstractCache<T extends AbstractCache<T>> implements Serializable {
+	private static final Logger logger = LoggerFactory.getLogger(AbstractCache.class);
 
 	private HolderEventList<T> listeners = new HolderEventList<>();
 
@@ -48,23 +56,47 @@ public abstract class AbstractCache<T extends AbstractCache<T>> implements Seria
 		listeners.notify((T) this);
 	}
 
-	protected Object[] loadIntern(Object object) throws Exception {
-		if (object instanceof Object[]) {
-			Object[] data = (Object[]) object;
-			creationTimestamp = (long) data[0];
-			return data;
-		} else {
-			throw new IOException("Cache-Datei ist ungülitg! Bitte den Cache neu erstellen.");
-		}
+	/**
+	 * Liest {@code file} im Hintergrund mit {@code reader} ein und übergibt das Ergebnis im EDT an
+	 * {@code consumer}. Anschließend werden die Listener benachrichtigt, auch wenn das Laden
+	 * fehlgeschlagen ist.
+	 */
+	protected <R> void loadCacheFile(File file, CacheSchema schema, FunctionWithException<CacheFile, R> reader, Consumer<R> consumer) {
+		new SwingWorker<Pair<Long, R>, Void>() {
+			@Override
+			protected Pair<Long, R> doInBackground() throws Exception {
+				CacheFile cacheFile = CacheFile.open(file, schema);
+				return Pair.of(cacheFile.getCreationTimestamp(), reader.applyWithException(cacheFile));
+			}
+
+			@Override
+			protected void done() {
+				try {
+					Pair<Long, R> result = get();
+					creationTimestamp = result.el0();
+					consumer.accept(result.el1());
+				} catch (Exception e) {
+					Throwable cause = e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+					logger.info("{} Ladefehler: {}", schema.getName(), cause.getMessage());
+				} finally {
+					notifyCacheUpdated();
+				}
+			}
+		}.execute();
+	}
+
+	protected CacheFile.Writer createCacheFile(CacheSchema schema) {
+		return CacheFile.create(schema, getCreationTimestamp());
 	}
 
-	protected void saveIntern(File file, Object... objects) throws IOException {
-		Object[] objectArray = new Object[1 + objects.length];
-		objectArray[0] = getCreationTimestamp();
-		for (int i = 1; i <= objects.length; i++) {
-			objectArray[i] = objects[i - 1];
-		}
-		IOUtils.saveObjectsToFile(file, objectArray);
+	/**
+	 * Lädt den {@link FileIndex}, in dem dieser Cache die aus den einzelnen Dateien gewonnenen Daten
+	 * vorhält.
+	 *
+	 * @param schema Schema dieses Caches, siehe {@link FileIndex}
+	 */
+	protected <F> FileIndex<F> loadFileIndex(CacheSchema schema) {
+		return FileIndex.load(getClass().getSimpleName(), schema);
 	}
 
 	protected void generateCreationTimestamp() {
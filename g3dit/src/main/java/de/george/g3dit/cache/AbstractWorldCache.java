@@ -0,0 +1,52 @@
+package de.george.g3dit.cache;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.List;
+
+import de.george.g3dit.EditorContext;
+import de.george.lrentnode.archive.ArchiveFile;
+
+/**
+ * Cache, dessen Inhalt sich vollständig aus den Weltdateien ({@code FileManager.listWorldFiles()})
+ * ergibt.
+ * <p>
+ * Der Cache liefert nur, welche Daten ({@code F}) er aus einer einzelnen Weltdatei benötigt und wie
+ * er sich aus diesen zusammensetzt. Das Einlesen übernimmt der {@link WorldCacheBuilder}, der
+ * mehrere solcher Caches in einem Durchlauf erstellen kann und pro Cache einen {@link FileIndex}
+ * führt.
+ */
+public abstract class AbstractWorldCache<T extends AbstractWorldCache<T, F>, F> extends AbstractCache<T> {
+	protected final EditorContext ctx;
+
+	protected AbstractWorldCache(EditorContext ctx) {
+		this.ctx = ctx;
+	}
+
+	@Override
+	public void create() throws Exception {
+		new WorldCacheBuilder(ctx, Collections.singletonList(this)).createAndShowDialog();
+	}
+
+	/**
+	 * Schema, mit dem der Cache gespeichert wird. Der {@link FileIndex} des Caches baut darauf auf.
+	 */
+	protected abstract CacheSchema getSchema();
+
+	/**
+	 * Ermittelt die Daten, die dieser Cache aus {@code archive} benötigt. Wird parallel für mehrere
+	 * Dateien aufgerufen und darf {@code archive} nicht verändern.
+	 *
+	 * @param file Datei, aus der {@code archive} stammt
+	 */
+	protected abstract F extract(ArchiveFile archive, File file);
+
+	/**
+	 * Baut den Cache aus den Daten aller Weltdateien auf, in der Reihenfolge von
+	 * {@code FileManager.listWorldFiles()}. Wird im Hintergrund aufgerufen und darf den Cache selbst
+	 * nicht verändern, da dieser währenddessen im EDT weiter verwendet wird.
+	 *
+	 * @return Übernimmt den neuen Inhalt in den Cache, wird im EDT aufgerufen
+	 */
+	protected abstract Runnable build(List<F> fileData);
+}
@@ -0,0 +1,365 @@
+package de.george.g3dit.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+
+import de.george.g3utils.io.G3FileReader;
+import de.george.g3utils.io.G3FileReaderVirtual;
+import de.george.g3utils.io.G3FileWriter;
+import de.george.g3utils.io.G3FileWriterVirtual;
+import de.george.g3utils.structure.Guid;
+
+/**
+ * Dateiformat, in dem die Caches gespeichert werden.
+ *
+ * <pre>
+ * Header      "G3CF", Formatversion, Name und Version des {@link CacheSchema}, Erstellungszeitpunkt,
+ *             Offset des Eintragsbereichs
+ * Index       pro Abschnitt: Name, ob die Einträge eine Guid als Schlüssel haben, Anzahl der Einträge
+ *             und pro Eintrag (Guid), Offset (relativ zum Eintragsbereich) und Länge
+ * Einträge    die Einträge aller Abschnitte, jeweils einzeln mit Kryo serialisiert
+ * </pre>
+ *
+ * Beim Öffnen wird nur der Index ausgewertet, die Einträge werden erst beim Zugriff deserialisiert.
+ * Da jeder Eintrag für sich serialisiert ist, kann der Eintragsbereich auch aus einer gemappten
+ * Datei gelesen werden. Hier wird die Datei trotzdem vollständig in den Heap gelesen, da sich eine
+ * gemappte Datei unter Windows bis zur Freigabe des Mappings nicht überschreiben lässt.
+ * <p>
+ * Die Einträge werden ohne Klassennamen geschrieben, die Klasse eines Eintrags muss daher genau der
+ * beim Lesen angegebenen Klasse entsprechen.
+ */
+public final class CacheFile {
+	private static final byte[] MAGIC = "G3CF".getBytes(StandardCharsets.US_ASCII);
+	private static final int FORMAT_VERSION = 1;
+
+	private final byte[] data;
+	private final long creationTimestamp;
+	private final int dataOffset;
+	private final Map<String, SectionIndex> sections = new HashMap<>();
+	// Nicht threadsicher, Zugriffe sind über die CacheFile synchronisiert
+	private final Kryo kryo;
+
+	private static final class SectionIndex {
+		// null, wenn die Einträge keinen Schlüssel haben
+		private final Guid[] keys;
+		private final int[] offsets;
+		private final int[] lengths;
+		private volatile Map<Guid, Integer> positions;
+
+		public SectionIndex(G3FileReader reader) {
+			boolean keyed = reader.readBool();
+			int count = reader.readInt();
+			keys = keyed ? new Guid[count] : null;
+			offsets = new int[count];
+			lengths = new int[count];
+			for (int i = 0; i < count; i++) {
+				if (keyed) {
+					keys[i] = reader.readGuidValue();
+				}
+				offsets[i] = reader.readInt();
+				lengths[i] = reader.readInt();
+			}
+		}
+
+		public int indexOf(Guid key) {
+			if (keys == null) {
+				throw new IllegalStateException("Die Einträge des Abschnitts haben keinen Schlüssel.");
+			}
+
+			Map<Guid, Integer> curPositions = positions;
+			if (curPositions == null) {
+				curPositions = new HashMap<>(keys.length * 2);
+				for (int i = 0; i < keys.length; i++) {
+					curPositions.putIfAbsent(keys[i], i);
+				}
+				positions = curPositions;
+			}
+			Integer position = key != null ? curPositions.get(key) : null;
+			return position != null ? position : -1;
+		}
+	}
+
+	private CacheFile(byte[] data, CacheSchema schema) throws IOException {
+		this.data = data;
+		G3FileReader reader = new G3FileReaderVirtual(data);
+		if (data.length < MAGIC.length || !reader.readMatches(MAGIC) || reader.readInt() != FORMAT_VERSION
+				|| !schema.getName().equals(reader.readEntry()) || reader.readInt() != schema.getVersion()) {
+			throw new IOException("Veraltetes Cache-Format, " + schema.getName() + " muss neu erstellt werden.");
+		}
+
+		creationTimestamp = reader.readLong();
+		dataOffset = reader.readInt();
+		int sectionCount = reader.readInt();
+		for (int i = 0; i < sectionCount; i++) {
+			sections.put(reader.readEntry(), new SectionIndex(reader));
+		}
+		kryo = schema.createKryo();
+	}
+
+	/**
+	 * Liest Header und Index von {@code file}.
+	 *
+	 * @throws IOException Wenn die Datei nicht gelesen werden kann oder nicht zu {@code schema} passt
+	 */
+	public static CacheFile open(File file, CacheSchema schema) throws IOException {
+		return new CacheFile(Files.readAllBytes(file.toPath()), schema);
+	}
+
+	public static Writer create(CacheSchema schema, long creationTimestamp) {
+		return new Writer(schema, creationTimestamp);
+	}
+
+	public long getCreationTimestamp() {
+		return creationTimestamp;
+	}
+
+	/**
+	 * @throws IOException Wenn es keinen Abschnitt {@code name} gibt
+	 */
+	public <V> Section<V> getSection(String name, Class<V> type) throws IOException {
+		SectionIndex index = sections.get(name);
+		if (index == null) {
+			throw new IOException("Abschnitt '" + name + "' fehlt in der Cache-Datei.");
+		}
+		return new Section<>(index, type);
+	}
+
+	private synchronized <V> V readEntry(SectionIndex index, int position, Class<V> type) {
+		return kryo.readObject(new Input(data, dataOffset + index.offsets[position], index.lengths[position]), type);
+	}
+
+	public final class Section<V> {
+		private final SectionIndex index;
+		private final Class<V> type;
+
+		private Section(SectionIndex index, Class<V> type) {
+			this.index = index;
+			this.type = type;
+		}
+
+		public int size() {
+			return index.offsets.length;
+		}
+
+		public V get(int position) {
+			return readEntry(index, position, type);
+		}
+
+		/**
+		 * @return Eintrag mit dem Schlüssel {@code key} oder {@code null}
+		 */
+		public V get(Guid key) {
+			int position = index.indexOf(key);
+			return position != -1 ? get(position) : null;
+		}
+
+		public boolean containsKey(Guid key) {
+			return index.indexOf(key) != -1;
+		}
+
+		/**
+		 * @return Veränderbare Liste mit allen Einträgen
+		 */
+		public List<V> readAll() {
+			List<V> result = new ArrayList<>(size());
+			for (int i = 0; i < size(); i++) {
+				result.add(get(i));
+			}
+			return result;
+		}
+
+		/**
+		 * @return Veränderbare Map mit allen Einträgen
+		 */
+		public Map<Guid, V> readAllAsMap() {
+			Map<Guid, V> result = new HashMap<>(size() * 2);
+			for (int i = 0; i < size(); i++) {
+				result.put(index.keys[i], get(i));
+			}
+			return result;
+		}
+
+		/**
+		 * Liefert eine unveränderbare Map, deren Einträge erst beim ersten Zugriff deserialisiert und
+		 * danach vorgehalten werden. Die Schlüssel stehen dagegen sofort zur Verfügung.
+		 */
+		public Map<Guid, V> asLazyMap() {
+			index.indexOf(null); // Prüft, ob die Einträge Schlüssel haben, und baut den Index auf
+			return new LazyMap<>(this);
+		}
+	}
+
+	private static final class LazyMap<V> extends AbstractMap<Guid, V> {
+		private final Section<V> section;
+		private final Set<Guid> keys;
+		private final ConcurrentHashMap<Guid, V> loaded = new ConcurrentHashMap<>();
+
+		public LazyMap(Section<V> section) {
+			this.section = section;
+			keys = Collections.unmodifiableSet(section.index.positions.keySet());
+		}
+
+		@Override
+		public V get(Object key) {
+			if (!(key instanceof Guid)) {
+				return null;
+			}
+
+			V value = loaded.get(key);
+			if (value == null) {
+				value = section.get((Guid) key);
+				if (value != null) {
+					V previous = loaded.putIfAbsent((Guid) key, value);
+					if (previous != null) {
+						value = previous;
+					}
+				}
+			}
+			return value;
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return keys.contains(key);
+		}
+
+		@Override
+		public int size() {
+			return keys.size();
+		}
+
+		@Override
+		public Set<Guid> keySet() {
+			return keys;
+		}
+
+		@Override
+		public Set<Entry<Guid, V>> entrySet() {
+			return new AbstractSet<Entry<Guid, V>>() {
+				@Override
+				public Iterator<Entry<Guid, V>> iterator() {
+					Iterator<Guid> keyIterator = keys.iterator();
+					return new Iterator<Entry<Guid, V>>() {
+						@Override
+						public boolean hasNext() {
+							return keyIterator.hasNext();
+						}
+
+						@Override
+						public Entry<Guid, V> next() {
+							Guid key = keyIterator.next();
+							return new SimpleImmutableEntry<>(key, get(key));
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return keys.size();
+				}
+			};
+		}
+	}
+
+	public static final class Writer {
+		private final CacheSchema schema;
+		private final long creationTimestamp;
+		private final Kryo kryo;
+		private final Output entries = new Output(64 * 1024, -1);
+		private final Map<String, SectionData> sections = new LinkedHashMap<>();
+
+		private static final class SectionData {
+			private final List<Guid> keys;
+			private final int[] offsets;
+			private final int[] lengths;
+
+			public SectionData(List<Guid> keys, int size) {
+				this.keys = keys;
+				offsets = new int[size];
+				lengths = new int[size];
+			}
+		}
+
+		private Writer(CacheSchema schema, long creationTimestamp) {
+			this.schema = schema;
+			this.creationTimestamp = creationTimestamp;
+			kryo = schema.createKryo();
+		}
+
+		/**
+		 * Fügt einen Abschnitt ohne Schlüssel hinzu, die Einträge werden sofort serialisiert.
+		 */
+		public Writer addSection(String name, Collection<?> values) {
+			return addSection(name, null, values);
+		}
+
+		/**
+		 * Fügt einen Abschnitt hinzu, dessen Einträge über ihre Guid abgerufen werden können.
+		 */
+		public Writer addSection(String name, Map<Guid, ?> values) {
+			List<Guid> keys = new ArrayList<>(values.size());
+			List<Object> orderedValues = new ArrayList<>(values.size());
+			values.forEach((key, value) -> {
+				keys.add(key);
+				orderedValues.add(value);
+			});
+			return addSection(name, keys, orderedValues);
+		}
+
+		private Writer addSection(String name, List<Guid> keys, Collection<?> values) {
+			SectionData section = new SectionData(keys, values.size());
+			int i = 0;
+			for (Object value : values) {
+				section.offsets[i] = entries.position();
+				kryo.writeObject(entries, value);
+				section.lengths[i] = entries.position() - section.offsets[i];
+				i++;
+			}
+			sections.put(name, section);
+			return this;
+		}
+
+		public void save(File file) throws IOException {
+			G3FileWriter writer = new G3FileWriterVirtual(entries.position() + 1024);
+			writer.write(MAGIC).writeInt(FORMAT_VERSION).writeEntry(schema.getName());
+			writer.writeInt(schema.getVersion()).writeLong(creationTimestamp);
+			int dataOffsetPos = writer.getSize();
+			writer.writeInt(-1);
+
+			writer.writeInt(sections.size());
+			for (Map.Entry<String, SectionData> entry : sections.entrySet()) {
+				SectionData section = entry.getValue();
+				writer.writeEntry(entry.getKey()).writeBool(section.keys != null).writeInt(section.offsets.length);
+				for (int i = 0; i < section.offsets.length; i++) {
+					if (section.keys != null) {
+						writer.writeGuid(section.keys.get(i));
+					}
+					writer.writeInt(section.offsets[i]).writeInt(section.lengths[i]);
+				}
+			}
+
+			writer.replaceInt(writer.getSize(), dataOffsetPos);
+			writer.write(ByteBuffer.wrap(entries.getBuffer(), 0, entries.position()));
+			writer.save(file);
+		}
+	}
+}
@@ -2,8 +2,11 @@ package de.george.g3dit.cache;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -38,16 +41,51 @@ public class CacheManager {
 	}
 
 	public <T extends AbstractCache<T>> void createCache(Class<T> tClass) {
-		try {
-			T cache = getCache(tClass);
-			cache.create();
-			if (cache.isValid()) {
-				cache.save(new File(cache.getSavePath()));
+		createCaches(tClass);
+	}
+
+	/**
+	 * Erstellt und speichert die Caches {@code cacheClasses}. Alle {@link AbstractWorldCache} darunter
+	 * werden gemeinsam in einem einzigen Durchlauf über die Weltdateien erstellt.
+	 */
+	@SafeVarargs
+	public final void createCaches(Class<? extends AbstractCache<?>>... cacheClasses) {
+		List<AbstractCache<?>> createdCaches = new ArrayList<>();
+		List<AbstractWorldCache<?, ?>> worldCaches = new ArrayList<>();
+		for (Class<? extends AbstractCache<?>> cacheClass : cacheClasses) {
+			AbstractCache<?> cache = caches.get(cacheClass);
+			if (cache instanceof AbstractWorldCache) {
+				worldCaches.add((AbstractWorldCache<?, ?>) cache);
+				createdCaches.add(cache);
+			} else {
+				try {
+					cache.create();
+					createdCaches.add(cache);
+				} catch (Exception e) {
+					logger.warn("Erstellen von " + cacheClass.getSimpleName() + " ist fehlgeschlagen.", e);
+				}
+			}
+		}
+
+		if (!worldCaches.isEmpty()) {
+			try {
+				new WorldCacheBuilder(ctx, worldCaches).createAndShowDialog();
+			} catch (Exception e) {
+				logger.warn("Erstellen von " + worldCaches.stream().map(c -> c.getClass().getSimpleName()).collect(Collectors.joining(", "))
+						+ " ist fehlgeschlagen.", e);
+			}
+		}
+
+		for (AbstractCache<?> cache : createdCaches) {
+			try {
+				if (cache.isValid()) {
+					cache.save(new File(cache.getSavePath()));
+				}
+			} catch (IOException e) {
+				logger.warn("Speichern von " + cache.getClass().getSimpleName() + " ist fehlgeschlagen.", e);
 			}
-			ctx.runGC();
-		} catch (Exception e) {
-			logger.warn("Erstellen von " + tClass.getSimpleName() + " ist fehlgeschlagen.", e);
 		}
+		ctx.runGC();
 	}
 
 	public void save() {
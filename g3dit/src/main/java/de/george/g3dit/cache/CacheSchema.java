@@ -0,0 +1,62 @@
+package de.george.g3dit.cache;
+
+import java.util.List;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.google.common.collect.ImmutableList;
+
+import de.george.g3utils.util.IOUtils;
+
+/**
+ * Beschreibt, welche Klassen ein Cache in seiner {@link CacheFile} speichert.
+ * <p>
+ * Die Klassen werden in der angegebenen Reihenfolge mit festen IDs bei Kryo registriert, sodass für
+ * sie statt des Klassennamens nur die ID geschrieben wird. Wird die Liste oder eine der Klassen
+ * geändert, muss {@code version} erhöht werden, ältere Dateien werden dann beim Laden verworfen.
+ */
+public final class CacheSchema {
+	// IDs darunter sind für die Standardregistrierungen von Kryo und IOUtils.getKryo() reserviert
+	private static final int FIRST_ID = 100;
+	// Für abgeleitete Schemas, siehe extend()
+	private static final int EXTENSION_VERSION_FACTOR = 1000;
+
+	private final String name;
+	private final int version;
+	private final List<Class<?>> registeredClasses;
+
+	public CacheSchema(String name, int version, Class<?>... registeredClasses) {
+		this.name = name;
+		this.version = version;
+		this.registeredClasses = ImmutableList.copyOf(registeredClasses);
+	}
+
+	/**
+	 * Erzeugt ein Schema, das zusätzlich {@code additionalClasses} registriert, etwa für den
+	 * {@link FileIndex} eines Caches, der dessen Daten enthält. Die Version des neuen Schemas ändert
+	 * sich sowohl mit {@code version} als auch mit der Version dieses Schemas.
+	 */
+	public CacheSchema extend(String name, int version, Class<?>... additionalClasses) {
+		Class<?>[] classes = registeredClasses.toArray(new Class<?>[registeredClasses.size() + additionalClasses.length]);
+		System.arraycopy(additionalClasses, 0, classes, registeredClasses.size(), additionalClasses.length);
+		return new CacheSchema(name, this.version * EXTENSION_VERSION_FACTOR + version, classes);
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public int getVersion() {
+		return version;
+	}
+
+	/**
+	 * Kryo-Instanzen sind nicht threadsicher, daher muss jeder Benutzer eine eigene Instanz erzeugen.
+	 */
+	public Kryo createKryo() {
+		Kryo kryo = IOUtils.getKryo();
+		for (int i = 0; i < registeredClasses.size(); i++) {
+			kryo.register(registeredClasses.get(i), FIRST_ID + i);
+		}
+		return kryo;
+	}
+}
@@ -3,7 +3,6 @@ package de.george.g3dit.cache;
 import java.io.File;
 import java.io.IOException;
 import java.io.Serializable;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -11,29 +10,16 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.TimeUnit;
-
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import com.ezware.dialog.task.TaskDialogs;
 
 import de.george.g3dit.EditorContext;
 import de.george.g3dit.check.FileDescriptor;
-import de.george.g3dit.tab.EditorTab.EditorTabType;
-import de.george.g3dit.tab.archive.EditorArchiveTab;
-import de.george.g3dit.util.AbstractDialogFileWorker;
-import de.george.g3dit.util.ConcurrencyUtil;
-import de.george.g3dit.util.ConcurrencyUtil.Awaitable;
+import de.george.g3utils.structure.Guid;
 import de.george.g3utils.util.Pair;
 import de.george.lrentnode.archive.ArchiveFile;
-import de.george.lrentnode.iterator.ArchiveFileIterator;
 
-public class EntityCache extends AbstractCache<EntityCache> {
-	private static final Logger logger = LoggerFactory.getLogger(EntityCache.class);
+public class EntityCache extends AbstractWorldCache<EntityCache, Map<Guid, EntityCache.EntityCacheEntry>> {
+	private static final CacheSchema SCHEMA = new CacheSchema("EntityCache", 1, EntityCacheEntry.class, FileDescriptor.class,
+			FileDescriptor.FileType.class);
 
 	public static class EntityCacheEntry implements Serializable {
 		private final String name;
@@ -58,12 +44,11 @@ public class EntityCache extends AbstractCache<EntityCache> {
 		}
 	}
 
-	private Map<String, EntityCacheEntry> entries;
-	private Map<String, String> uniqueNames;
-	private EditorContext ctx;
+	private Map<Guid, EntityCacheEntry> entries;
+	private Map<String, Guid> uniqueNames;
 
 	public EntityCache(EditorContext ctx) {
-		this.ctx = ctx;
+		super(ctx);
 	}
 
 	@Override
@@ -71,11 +56,15 @@ public class EntityCache extends AbstractCache<EntityCache> {
 		return entries != null && uniqueNames != null;
 	}
 
-	public Set<String> getGuids() {
+	public Set<Guid> getGuids() {
 		return entries.keySet();
 	}
 
 	public Optional<EntityCacheEntry> getEntry(String guid) {
+		return getEntry(Guid.of(guid));
+	}
+
+	public Optional<EntityCacheEntry> getEntry(Guid guid) {
 		return isValid() ? Optional.ofNullable(guid).map(entries::get) : Optional.empty();
 	}
 
@@ -88,6 +77,10 @@ public class EntityCache extends AbstractCache<EntityCache> {
 	}
 
 	public Optional<String> getGuidByUniqueName(String name) {
+		return getGuidValueByUniqueName(name).map(Guid::getGuid);
+	}
+
+	public Optional<Guid> getGuidValueByUniqueName(String name) {
 		return isValid() ? Optional.ofNullable(name).map(uniqueNames::get) : Optional.empty();
 	}
 
@@ -96,51 +89,54 @@ public class EntityCache extends AbstractCache<EntityCache> {
 	}
 
 	public boolean isExisting(String guid) {
+		return isExisting(Guid.of(guid));
+	}
+
+	public boolean isExisting(Guid guid) {
 		return isValid() && guid != null && entries.containsKey(guid);
 	}
 
 	@Override
-	@SuppressWarnings("unchecked")
 	public void load(final File inFile) {
-		LoadObjectWorker worker = new LoadObjectWorker(inFile) {
-			@Override
-			protected void done() {
-				try {
-					Object[] data = loadIntern(get());
-					entries = (Map<String, EntityCacheEntry>) data[1];
-					uniqueNames = extractUniqueNames(entries);
-				} catch (Exception e) {
-					logger.info("Ladefehler: {}", e.getMessage());
-				} finally {
-					notifyCacheUpdated();
-				}
-			}
-		};
-		worker.execute();
+		// Die Einträge werden erst bei Bedarf gelesen, beim Start wird nur der Index ausgewertet
+		loadCacheFile(inFile, SCHEMA, file -> Pair.of(file.getSection("entries", EntityCacheEntry.class).asLazyMap(),
+				invertUniqueNames(file.getSection("uniqueNames", String.class).readAllAsMap())), loaded -> {
+					entries = loaded.el0();
+					uniqueNames = loaded.el1();
+				});
 	}
 
 	@Override
 	public void save(File file) throws IOException {
-		saveIntern(file, entries);
+		Map<Guid, String> namesByGuid = new HashMap<>();
+		uniqueNames.forEach((name, guid) -> namesByGuid.put(guid, name));
+		createCacheFile(SCHEMA).addSection("entries", entries).addSection("uniqueNames", namesByGuid).save(file);
 	}
 
 	@Override
-	public void create() throws Exception {
-		List<File> openFiles = new ArrayList<>();
-		ConcurrentMap<String, EntityCacheEntry> openEntries = new ConcurrentHashMap<>();
-		for (EditorArchiveTab tab : ctx.getEditor().<EditorArchiveTab>getTabsInDataFolders(EditorTabType.Archive)) {
-			File file = tab.getDataFile().get();
-			processFile(tab.getCurrentFile(), tab.getDataFile().get(), openEntries);
-			openFiles.add(file);
-		}
+	protected CacheSchema getSchema() {
+		return SCHEMA;
+	}
 
-		CreateEntityCacheWorker worker = new CreateEntityCacheWorker(openEntries, ctx.getFileManager().worldFilesCallable(), openFiles);
-		worker.executeAndShowDialog();
+	@Override
+	protected Map<Guid, EntityCacheEntry> extract(ArchiveFile archive, File file) {
+		Map<Guid, EntityCacheEntry> fileEntries = new HashMap<>();
+		FileDescriptor descriptor = new FileDescriptor(file, archive.getArchiveType());
+		archive.getEntities().forEach(e -> fileEntries.putIfAbsent(e.getGuidValue(), new EntityCacheEntry(e.toString(), descriptor)));
+		return fileEntries;
 	}
 
-	private void processFile(ArchiveFile archive, File file, Map<String, EntityCacheEntry> entries) {
-		archive.getEntities().forEach(e -> entries.merge(e.getGuid(),
-				new EntityCacheEntry(e.toString(), new FileDescriptor(file, archive.getArchiveType())), this::mergeEntry));
+	@Override
+	protected Runnable build(List<Map<Guid, EntityCacheEntry>> fileData) {
+		Map<Guid, EntityCacheEntry> newEntries = new HashMap<>();
+		for (Map<Guid, EntityCacheEntry> fileEntries : fileData) {
+			fileEntries.forEach((guid, entry) -> newEntries.merge(guid, entry, this::mergeEntry));
+		}
+		Map<String, Guid> newUniqueNames = extractUniqueNames(newEntries);
+		return () -> {
+			entries = newEntries;
+			uniqueNames = newUniqueNames;
+		};
 	}
 
 	private EntityCacheEntry mergeEntry(EntityCacheEntry oldValue, EntityCacheEntry newValue) {
@@ -155,10 +151,16 @@ public class EntityCache extends AbstractCache<EntityCache> {
 		return oldValue;
 	}
 
-	private static Map<String, String> extractUniqueNames(Map<String, EntityCacheEntry> entries) {
+	private static Map<String, Guid> invertUniqueNames(Map<Guid, String> namesByGuid) {
+		Map<String, Guid> uniqueNames = new HashMap<>(namesByGuid.size() * 2);
+		namesByGuid.forEach((guid, name) -> uniqueNames.put(name, guid));
+		return uniqueNames;
+	}
+
+	private static Map<String, Guid> extractUniqueNames(Map<Guid, EntityCacheEntry> entries) {
 		Set<String> knownNames = new HashSet<>();
-		Map<String, String> uniqueNames = new HashMap<>();
-		for (Map.Entry<String, EntityCacheEntry> entry : entries.entrySet()) {
+		Map<String, Guid> uniqueNames = new HashMap<>();
+		for (Map.Entry<Guid, EntityCacheEntry> entry : entries.entrySet()) {
 
 			String name = entry.getValue().getName();
 			if (knownNames.add(name)) {
@@ -170,50 +172,4 @@ public class EntityCache extends AbstractCache<EntityCache> {
 		}
 		return uniqueNames;
 	}
-
-	private class CreateEntityCacheWorker extends AbstractDialogFileWorker<Pair<Map<String, EntityCacheEntry>, Map<String, String>>> {
-		private ConcurrentMap<String, EntityCacheEntry> workerEntries;
-
-		public CreateEntityCacheWorker(ConcurrentMap<String, EntityCacheEntry> openEntries, Callable<List<File>> fileProvider,
-				List<File> openFiles) {
-			super(fileProvider, openFiles, "Erstelle EntityCache", ctx.getParentWindow());
-			workerEntries = openEntries;
-			statusFormat = "%d Entities gefunden";
-		}
-
-		@Override
-		protected Pair<Map<String, EntityCacheEntry>, Map<String, String>> doInBackground() throws Exception {
-			Awaitable awaitProcess = ConcurrencyUtil.processInListPartitions(partFiles -> {
-				ArchiveFileIterator iter = new ArchiveFileIterator(partFiles);
-				while (iter.hasNext() && !isCancelled()) {
-					processFile(iter.next(), iter.nextFile(), workerEntries);
-					filesDone.incrementAndGet();
-				}
-			}, getFiles(), 3);
-
-			do {
-				publish(workerEntries.size());
-			} while (!awaitProcess.await(50, TimeUnit.MILLISECONDS));
-
-			return Pair.of(workerEntries, extractUniqueNames(workerEntries));
-		}
-
-		@Override
-		protected void done() {
-			try {
-				if (!isCancelled()) {
-					entries = get().el0();
-					uniqueNames = get().el1();
-					generateCreationTimestamp();
-				}
-
-				progDlg.dispose();
-			} catch (Exception ex) {
-				progDlg.dispose();
-				TaskDialogs.showException(ex);
-			} finally {
-				notifyCacheUpdated();
-			}
-		}
-	}
 }
@@ -0,0 +1,184 @@
+package de.george.g3dit.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.george.g3dit.util.ConcurrencyUtil;
+import de.george.g3dit.util.ConcurrencyUtil.Awaitable;
+import de.george.g3utils.util.FunctionWithException;
+
+/**
+ * Persistenter Index, der zu jeder Datei ihre Größe, ihren Änderungszeitpunkt und die beim letzten
+ * Einlesen aus ihr gewonnenen Daten ({@code F}) speichert.
+ * <p>
+ * Beim Erstellen eines Caches müssen dadurch nur neue und seit dem letzten Durchlauf veränderte
+ * Dateien eingelesen werden. Einträge gelöschter Dateien werden verworfen, sodass der daraus
+ * aufgebaute Cache keine Einträge mehr enthält, die es in keiner Datei mehr gibt.
+ * <p>
+ * Der Index wird als {@link CacheFile} unter {@link CacheManager#CACHE_FOLDER} abgelegt. Sein
+ * Schema erweitert das {@link CacheSchema} des Caches, dessen Klassen sollten daher auch die Daten
+ * {@code F} abdecken. Ändert sich die Version des Caches, wird der Index verworfen.
+ */
+public class FileIndex<F> {
+	private static final Logger logger = LoggerFactory.getLogger(FileIndex.class);
+
+	// Muss erhöht werden, wenn sich IndexEntry oder FileStamp ändern
+	private static final int VERSION = 1;
+
+	private final File indexFile;
+	private final CacheSchema schema;
+	private final Map<String, IndexEntry<F>> entries = new ConcurrentHashMap<>();
+
+	/**
+	 * Größe und Änderungszeitpunkt einer Datei.
+	 */
+	public static final class FileStamp {
+		private final long size;
+		private final long lastModified;
+
+		private FileStamp(long size, long lastModified) {
+			this.size = size;
+			this.lastModified = lastModified;
+		}
+
+		/**
+		 * Muss vor dem Einlesen von {@code file} ermittelt werden, damit eine zwischenzeitliche
+		 * Änderung beim nächsten Mal erkannt wird.
+		 */
+		public static FileStamp of(File file) {
+			return new FileStamp(file.length(), file.lastModified());
+		}
+
+		public boolean matches(File file) {
+			return file.length() == size && file.lastModified() == lastModified;
+		}
+	}
+
+	private static final class IndexEntry<F> {
+		private final String path;
+		private final FileStamp stamp;
+		private final F data;
+
+		public IndexEntry(String path, FileStamp stamp, F data) {
+			this.path = path;
+			this.stamp = stamp;
+			this.data = data;
+		}
+	}
+
+	private FileIndex(File indexFile, CacheSchema schema) {
+		this.indexFile = indexFile;
+		this.schema = schema;
+	}
+
+	/**
+	 * Lädt den Index {@code name} aus {@link CacheManager#CACHE_FOLDER}. Existiert dieser nicht, ist
+	 * er nicht lesbar oder passt er nicht mehr zu {@code cacheSchema}, wird ein leerer Index
+	 * geliefert.
+	 *
+	 * @param cacheSchema Schema des Caches, der die Daten {@code F} liefert
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public static <F> FileIndex<F> load(String name, CacheSchema cacheSchema) {
+		File indexFile = new File(CacheManager.CACHE_FOLDER, name + ".index");
+		CacheSchema schema = cacheSchema.extend(cacheSchema.getName() + "Index", VERSION, IndexEntry.class, FileStamp.class);
+		FileIndex<F> index = new FileIndex<>(indexFile, schema);
+		if (indexFile.exists()) {
+			try {
+				List<IndexEntry> loaded = CacheFile.open(indexFile, schema).getSection("entries", IndexEntry.class).readAll();
+				for (IndexEntry<F> entry : loaded) {
+					index.entries.put(entry.path, entry);
+				}
+			} catch (Exception e) {
+				logger.info("Index {} konnte nicht geladen werden, alle Dateien werden neu eingelesen: {}", schema.getName(),
+						e.getMessage());
+				index.entries.clear();
+			}
+		}
+		return index;
+	}
+
+	public void save() throws IOException {
+		CacheFile.create(schema, System.currentTimeMillis()).addSection("entries", entries.values()).save(indexFile);
+	}
+
+	/**
+	 * Bringt den Index auf den Stand von {@code files}. Einträge für Dateien, die nicht in
+	 * {@code files} enthalten sind, werden entfernt. Neue oder veränderte Dateien werden parallel mit
+	 * {@code extractor} eingelesen, bei einem Fehler wird die Datei ausgelassen und beim nächsten
+	 * Aufruf erneut eingelesen.
+	 *
+	 * @param filesDone Wird für jede abgearbeitete Datei um eins erhöht, für unveränderte Dateien
+	 *            sofort
+	 * @param cancelled Sobald {@code true}, werden keine weiteren Dateien eingelesen
+	 */
+	public Awaitable update(List<File> files, FunctionWithException<File, F> extractor, AtomicInteger filesDone,
+			BooleanSupplier cancelled) {
+		retainAll(files);
+		List<File> outdated = new ArrayList<>();
+		for (File file : files) {
+			if (isUpToDate(file)) {
+				filesDone.incrementAndGet();
+			} else {
+				outdated.add(file);
+			}
+		}
+
+		return ConcurrencyUtil.processInPartitions(file -> {
+			if (!cancelled.getAsBoolean()) {
+				FileStamp stamp = FileStamp.of(file);
+				try {
+					put(file, stamp, extractor.applyWithException(file));
+				} catch (Exception e) {
+					remove(file);
+					logger.warn("Fehler beim Einlesen von {}: {}", file.getAbsolutePath(), e.getMessage());
+				}
+			}
+			filesDone.incrementAndGet();
+		}, outdated, 3);
+	}
+
+	/**
+	 * Entfernt die Einträge aller Dateien, die nicht in {@code files} enthalten sind.
+	 */
+	public void retainAll(Collection<File> files) {
+		entries.keySet().retainAll(files.stream().map(File::getAbsolutePath).collect(Collectors.toSet()));
+	}
+
+	/**
+	 * @return {@code true}, wenn {@code file} seit dem Einlesen nicht verändert wurde
+	 */
+	public boolean isUpToDate(File file) {
+		IndexEntry<F> entry = entries.get(file.getAbsolutePath());
+		return entry != null && entry.stamp.matches(file);
+	}
+
+	public void put(File file, FileStamp stamp, F data) {
+		String path = file.getAbsolutePath();
+		entries.put(path, new IndexEntry<>(path, stamp, data));
+	}
+
+	public void remove(File file) {
+		entries.remove(file.getAbsolutePath());
+	}
+
+	/**
+	 * @return Die zuletzt aus {@code file} gewonnenen Daten oder {@code null}, falls {@code file}
+	 *         nicht im Index enthalten ist
+	 */
+	public F get(File file) {
+		IndexEntry<F> entry = entries.get(file.getAbsolutePath());
+		return entry != null ? entry.data : null;
+	}
+}
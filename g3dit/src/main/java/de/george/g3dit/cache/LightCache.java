@@ -3,20 +3,19 @@ package de.george.g3dit.cache;
 import java.io.File;
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.Callable;
-
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import com.ezware.dialog.task.TaskDialogs;
+import java.util.stream.Collectors;
 
 import de.george.g3dit.EditorContext;
-import de.george.g3dit.util.AbstractDialogFileWorker;
+import de.george.g3utils.structure.bCBox;
 import de.george.g3utils.structure.bCVector;
 import de.george.lrentnode.archive.ArchiveFile;
 import de.george.lrentnode.archive.eCEntity;
@@ -24,18 +23,20 @@ import de.george.lrentnode.classes.G3Class;
 import de.george.lrentnode.classes.eCIlluminated_PS;
 import de.george.lrentnode.classes.eCIlluminated_PS.StaticLight;
 import de.george.lrentnode.classes.desc.CD;
-import de.george.lrentnode.iterator.ArchiveFileIterator;
 import de.george.lrentnode.structures.bCFloatColor;
+import de.george.lrentnode.util.AABBTree;
+import de.george.lrentnode.util.AABBTreePrimitive;
 import de.george.lrentnode.util.EntityUtil;
 
-public class LightCache extends AbstractCache<LightCache> {
-	private static final Logger logger = LoggerFactory.getLogger(LightCache.class);
+public class LightCache extends AbstractWorldCache<LightCache, LightCache.LightFileData> {
+	private static final CacheSchema SCHEMA = new CacheSchema("LightCache", 1, LightSource.class, bCFloatColor.class, bCVector.class);
 
 	private Set<LightSource> lights;
-	private EditorContext ctx;
+	// Wird bei Bedarf aus lights aufgebaut und nicht mitgespeichert
+	private transient volatile LightIndex lightIndex;
 
 	public LightCache(EditorContext ctx) {
-		this.ctx = ctx;
+		super(ctx);
 	}
 
 	@Override
@@ -47,118 +48,183 @@ public class LightCache extends AbstractCache<LightCache> {
 		return lights;
 	}
 
-	@Override
-	public void create() throws Exception {
-		CreateLightCacheWorker worker = new CreateLightCacheWorker(ctx.getFileManager().worldFilesCallable());
-		worker.executeAndShowDialog();
+	/**
+	 * @return Alle Lichtquellen, deren Reichweite bis in die Kugel um {@code position} mit dem Radius
+	 *         {@code radius} reicht, in keiner bestimmten Reihenfolge
+	 */
+	public List<LightSource> getLightSourcesInRange(bCVector position, float radius) {
+		LightIndex index = getLightIndex();
+		if (index == null) {
+			return Collections.emptyList();
+		}
+
+		return index.tree.primitivesWithin(new bCBox(position, 0), radius + index.maxRange).stream().map(p -> p.light)
+				.filter(l -> position.getRelative(l.position).length() - radius <= l.range).collect(Collectors.toList());
 	}
 
-	@Override
-	@SuppressWarnings("unchecked")
-	public void load(final File inFile) {
-		LoadObjectWorker worker = new LoadObjectWorker(inFile) {
-			@Override
-			protected void done() {
-				try {
-					Object[] data = loadIntern(get());
-					lights = (Set<LightSource>) data[1];
-				} catch (Exception e) {
-					logger.info("LightCache Ladefehler: {}", e.getMessage());
-				} finally {
-					notifyCacheUpdated();
+	/**
+	 * @return Die {@code k} der {@code position} am nächsten gelegenen Lichtquellen, aufsteigend nach
+	 *         Entfernung sortiert
+	 */
+	public List<LightSource> getNearestLightSources(bCVector position, int k) {
+		LightIndex index = getLightIndex();
+		if (index == null || index.tree.getPrimitives().isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		return index.tree.closestPrimitives(k, new bCBox(position, 0)).stream().map(p -> p.light).collect(Collectors.toList());
+	}
+
+	private LightIndex getLightIndex() {
+		LightIndex index = lightIndex;
+		Set<LightSource> currentLights = lights;
+		if (index == null || index.lights != currentLights) {
+			if (currentLights == null) {
+				return null;
+			}
+			index = new LightIndex(currentLights);
+			lightIndex = index;
+		}
+		return index;
+	}
+
+	/**
+	 * Räumlicher Index über die Positionen der Lichtquellen.
+	 */
+	private static class LightIndex {
+		private final Collection<LightSource> lights;
+		private final AABBTree<LightPrimitive> tree = new AABBTree<>();
+		private final float maxRange;
+
+		public LightIndex(Collection<LightSource> lights) {
+			this.lights = lights;
+			float range = 0;
+			for (LightSource light : lights) {
+				tree.insert(new LightPrimitive(light));
+				range = Math.max(range, light.range);
+			}
+			tree.complete();
+			maxRange = range;
+		}
+
+		/**
+		 * @return Die nächstgelegene Lichtquelle, deren Position in jeder Achse weniger als
+		 *         {@code epsilon} von {@code position} abweicht, oder {@code null}
+		 */
+		public LightSource findSimilar(bCVector position, float epsilon) {
+			LightSource result = null;
+			float resultDistance = Float.MAX_VALUE;
+			for (LightPrimitive primitive : tree.primitivesWithin(new bCBox(position, epsilon), 0)) {
+				float distance = position.getRelative(primitive.light.position).length();
+				if (primitive.light.position.simliar(position, epsilon) && distance < resultDistance) {
+					result = primitive.light;
+					resultDistance = distance;
 				}
 			}
-		};
-		worker.execute();
+			return result;
+		}
+	}
+
+	private static class LightPrimitive implements AABBTreePrimitive {
+		private final LightSource light;
+		private final bCBox bounds;
+
+		public LightPrimitive(LightSource light) {
+			this.light = light;
+			bounds = new bCBox(light.position, 0);
+		}
+
+		@Override
+		public bCBox getBounds() {
+			return bounds;
+		}
+
+		@Override
+		public bCVector getReferencePoint() {
+			return light.position;
+		}
+	}
+
+	@Override
+	public void load(final File inFile) {
+		loadCacheFile(inFile, SCHEMA, file -> new HashSet<>(file.getSection("lights", LightSource.class).readAll()), loaded -> lights = loaded);
 	}
 
 	@Override
 	public void save(File file) throws IOException {
-		saveIntern(file, lights);
+		createCacheFile(SCHEMA).addSection("lights", lights).save(file);
 	}
 
-	private class CreateLightCacheWorker extends AbstractDialogFileWorker<Set<LightSource>> {
+	/**
+	 * Die aus einer Datei gewonnenen Lichtquellen und Positionen der statischen Beleuchtung (mit
+	 * deren Intensität).
+	 */
+	static class LightFileData {
+		private final List<LightSource> lights = new ArrayList<>();
+		private final Map<bCVector, String> staticLightIntensities = new LinkedHashMap<>();
+	}
 
-		public CreateLightCacheWorker(Callable<List<File>> fileProvider) {
-			super(fileProvider, null, "Erstelle LightCache", ctx.getParentWindow());
-			statusFormat = "%d Lichtquellen gefunden";
-		}
+	@Override
+	protected CacheSchema getSchema() {
+		return SCHEMA;
+	}
 
-		@Override
-		protected Set<LightSource> doInBackground() throws Exception {
-			List<File> files = getFiles();
-
-			Map<bCVector, LightSource> lightsMap = new HashMap<>();
-			// Load LightSources
-			ArchiveFileIterator iter = new ArchiveFileIterator(files);
-			while (iter.hasNext() && !isCancelled()) {
-				ArchiveFile aFile = iter.next();
-				for (eCEntity entity : aFile.getEntities()) {
-					G3Class clazz = entity.getClass(CD.eCStaticPointLight_PS.class);
-					if (clazz != null) {
-						bCVector offset = clazz.property(CD.eCStaticPointLight_PS.Offset);
-						bCVector pos = offset.getTransformed(entity.getWorldMatrix());
-						LightSource light = new LightSource();
-						light.position = pos;
-						light.range = clazz.property(CD.eCStaticPointLight_PS.Range).getFloat();
-						light.castShadows = clazz.property(CD.eCStaticPointLight_PS.CastShadows).isBool();
-						light.color = clazz.property(CD.eCStaticPointLight_PS.Color);
-						light.name = entity.getName();
-						if (light.name == "") {
-							light.name = EntityUtil.getMesh(entity).orElse(null);
-						}
-						lightsMap.put(light.position, light);
-						publish(lightsMap.size());
-					}
+	@Override
+	protected LightFileData extract(ArchiveFile aFile, File file) {
+		LightFileData data = new LightFileData();
+		for (eCEntity entity : aFile.getEntities()) {
+			G3Class clazz = entity.getClass(CD.eCStaticPointLight_PS.class);
+			if (clazz != null) {
+				bCVector offset = clazz.property(CD.eCStaticPointLight_PS.Offset);
+				bCVector pos = offset.getTransformed(entity.worldMatrix());
+				LightSource light = new LightSource();
+				light.position = pos;
+				light.range = clazz.property(CD.eCStaticPointLight_PS.Range).getFloat();
+				light.castShadows = clazz.property(CD.eCStaticPointLight_PS.CastShadows).isBool();
+				light.color = clazz.property(CD.eCStaticPointLight_PS.Color);
+				light.name = entity.getName();
+				if (light.name == "") {
+					light.name = EntityUtil.getMesh(entity).orElse(null);
 				}
-				filesDone.incrementAndGet();
-				publish(lightsMap.size());
+				data.lights.add(light);
 			}
 
-			statusFormat = lightsMap.size() + " Lichtquellen gefunden. Sammle weitere Daten...";
-
-			// Load Intensities
-			filesDone.set(0);
-			iter = new ArchiveFileIterator(files);
-			while (iter.hasNext() && !isCancelled()) {
-				ArchiveFile aFile = iter.next();
-				for (eCEntity entity : aFile.getEntities()) {
-					if (entity.hasClass(CD.eCIlluminated_PS.class)) {
-						eCIlluminated_PS illum = entity.getClass(CD.eCIlluminated_PS.class);
-						for (StaticLight light : illum.lights.getLights()) {
-							for (LightSource lightSource : lightsMap.values()) {
-								if (lightSource.position.simliar(light.position, 1f)) {
-									if (lightSource.intensity == null) {
-										lightSource.intensity = light.intensity;
-									}
-									break;
-								}
-							}
-						}
-					}
+			if (entity.hasClass(CD.eCIlluminated_PS.class)) {
+				eCIlluminated_PS illum = entity.getClass(CD.eCIlluminated_PS.class);
+				for (StaticLight light : illum.lights.getLights()) {
+					data.staticLightIntensities.putIfAbsent(light.position, light.intensity);
 				}
-				filesDone.incrementAndGet();
-				publish(lightsMap.size());
 			}
-			return new HashSet<>(lightsMap.values());
 		}
+		return data;
+	}
 
-		@Override
-		protected void done() {
-			try {
-				if (!isCancelled()) {
-					lights = get();
-					generateCreationTimestamp();
-				}
+	@Override
+	protected Runnable build(List<LightFileData> fileData) {
+		// Load LightSources
+		Map<bCVector, LightSource> lightsMap = new HashMap<>();
+		for (LightFileData data : fileData) {
+			for (LightSource light : data.lights) {
+				lightsMap.put(light.position, light);
+			}
+		}
 
-				progDlg.dispose();
-			} catch (Exception ex) {
-				progDlg.dispose();
-				TaskDialogs.showException(ex);
-			} finally {
-				notifyCacheUpdated();
+		// Load Intensities
+		Set<LightSource> newLights = new HashSet<>(lightsMap.values());
+		LightIndex index = new LightIndex(newLights);
+		for (LightFileData data : fileData) {
+			for (Map.Entry<bCVector, String> staticLight : data.staticLightIntensities.entrySet()) {
+				LightSource lightSource = index.findSimilar(staticLight.getKey(), 1f);
+				if (lightSource != null && lightSource.intensity == null) {
+					lightSource.intensity = staticLight.getValue();
+				}
 			}
 		}
+
+		return () -> {
+			lights = newLights;
+			lightIndex = index;
+		};
 	}
 
 	public static class LightSource implements Serializable {
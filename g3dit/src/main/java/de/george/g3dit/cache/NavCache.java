@@ -9,38 +9,32 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.ezware.dialog.task.TaskDialogs;
-
 import de.george.g3dit.EditorContext;
-import de.george.g3dit.tab.EditorTab.EditorTabType;
-import de.george.g3dit.tab.archive.EditorArchiveTab;
-import de.george.g3dit.util.AbstractDialogFileWorker;
-import de.george.g3dit.util.ConcurrencyUtil;
-import de.george.g3dit.util.ConcurrencyUtil.Awaitable;
+import de.george.g3utils.structure.Guid;
+import de.george.g3utils.structure.bCMatrix;
+import de.george.g3utils.structure.bCVector;
 import de.george.g3utils.util.Pair;
 import de.george.lrentnode.archive.ArchiveFile;
 import de.george.lrentnode.archive.eCEntity;
 import de.george.lrentnode.classes.desc.CD;
-import de.george.lrentnode.util.FileUtil;
 import de.george.navmap.data.NavPath;
 import de.george.navmap.data.NavZone;
 
-public class NavCache extends AbstractCache<NavCache> {
+public class NavCache extends AbstractWorldCache<NavCache, Pair<Map<Guid, NavZone>, Map<Guid, NavPath>>> {
 	private static final Logger logger = LoggerFactory.getLogger(NavCache.class);
 
-	private Map<String, NavZone> zones;
-	private Map<String, NavPath> paths;
-	private EditorContext ctx;
+	private static final CacheSchema SCHEMA = new CacheSchema("NavCache", 1, NavZone.class, NavPath.class, NavPath.ZonePathIntersection.class,
+			bCVector.class, bCMatrix.class, ArrayList.class);
+
+	private Map<Guid, NavZone> zones;
+	private Map<Guid, NavPath> paths;
 
 	public NavCache(EditorContext ctx) {
-		this.ctx = ctx;
+		super(ctx);
 	}
 
 	@Override
@@ -57,10 +51,18 @@ public class NavCache extends AbstractCache<NavCache> {
 	}
 
 	public NavZone getZoneByGuid(String guid) {
+		return getZoneByGuid(Guid.of(guid));
+	}
+
+	public NavZone getZoneByGuid(Guid guid) {
 		return isValid() && guid != null ? zones.get(guid) : null;
 	}
 
 	public NavPath getPathByGuid(String guid) {
+		return getPathByGuid(Guid.of(guid));
+	}
+
+	public NavPath getPathByGuid(Guid guid) {
 		return isValid() && guid != null ? paths.get(guid) : null;
 	}
 
@@ -73,135 +75,70 @@ public class NavCache extends AbstractCache<NavCache> {
 	}
 
 	@Override
-	@SuppressWarnings("unchecked")
 	public void load(final File inFile) {
-		LoadObjectWorker worker = new LoadObjectWorker(inFile) {
-			@Override
-			protected void done() {
-				try {
-					Object[] data = loadIntern(get());
-					zones = (Map<String, NavZone>) data[1];
-					paths = (Map<String, NavPath>) data[2];
-				} catch (Exception e) {
-					logger.info("NavCache Ladefehler: {}", e.getMessage());
-				} finally {
-					notifyCacheUpdated();
-				}
-			}
-		};
-		worker.execute();
+		loadCacheFile(inFile, SCHEMA, file -> Pair.of(file.getSection("zones", NavZone.class).readAllAsMap(),
+				file.getSection("paths", NavPath.class).readAllAsMap()), loaded -> {
+					zones = loaded.el0();
+					paths = loaded.el1();
+				});
 	}
 
 	@Override
 	public void save(File file) throws IOException {
-		saveIntern(file, zones, paths);
+		createCacheFile(SCHEMA).addSection("zones", zones).addSection("paths", paths).save(file);
 		markChanged(false);
 	}
 
-	private static void processFile(ArchiveFile archive, Map<String, NavZone> zones, Map<String, NavPath> paths) {
+	@Override
+	protected CacheSchema getSchema() {
+		return SCHEMA;
+	}
+
+	@Override
+	protected Pair<Map<Guid, NavZone>, Map<Guid, NavPath>> extract(ArchiveFile archive, File file) {
+		Map<Guid, NavZone> fileZones = new HashMap<>();
+		Map<Guid, NavPath> filePaths = new HashMap<>();
 		for (eCEntity entity : archive.getEntities()) {
 			if (entity.hasClass(CD.gCNavZone_PS.class)) {
-				zones.put(entity.getGuid(), NavZone.fromArchiveEntity(entity));
+				fileZones.put(entity.getGuidValue(), NavZone.fromArchiveEntity(entity));
 			} else if (entity.hasClass(CD.gCNavPath_PS.class)) {
-				paths.put(entity.getGuid(), NavPath.fromArchiveEntity(entity));
+				filePaths.put(entity.getGuidValue(), NavPath.fromArchiveEntity(entity));
 			}
 		}
+		return Pair.of(fileZones, filePaths);
 	}
 
 	@Override
-	public void create() throws Exception {
-		List<File> openFiles = new ArrayList<>();
-		Map<String, NavZone> myZonesP = new HashMap<>();
-		Map<String, NavPath> myPathsP = new HashMap<>();
-		Map<String, NavZone> myZonesS = new HashMap<>();
-		Map<String, NavPath> myPathsS = new HashMap<>();
-		for (EditorArchiveTab tab : ctx.getEditor().<EditorArchiveTab>getTabsInDataFolders(EditorTabType.Archive)) {
-			File file = tab.getDataFile().get();
-			boolean inPrimary = ctx.getFileManager().isInPrimaryDataFolder(file);
-			processFile(tab.getCurrentFile(), inPrimary ? myZonesP : myZonesS, inPrimary ? myPathsP : myPathsS);
-			openFiles.add(file);
-		}
-
-		CreateNavCacheWorker worker = new CreateNavCacheWorker(ctx.getFileManager().worldFilesCallable(), openFiles);
-		worker.executeAndShowDialog();
-
-		// Creation was successful
-		if (isValid()) {
-			// Edge case: The same file opened twice in editor, once from primary and once from
-			// secondary data folder. Primary files take precedence.
-			myZonesS.putAll(myZonesP);
-			myPathsS.putAll(myPathsP);
-
-			// Edge case: File from secondary data folder opened in editor, would otherwise
-			// "override" the corresponding unopened file in the prirmary data folder
-			myZonesS.entrySet().forEach(e -> zones.putIfAbsent(e.getKey(), e.getValue()));
-			myPathsS.entrySet().forEach(e -> paths.putIfAbsent(e.getKey(), e.getValue()));
-
-			// TODO: Can still produce "ghost" entries (NavZones/Paths only present in file from
-			// secondary data folder, so deleted in primary file).
+	protected Runnable build(List<Pair<Map<Guid, NavZone>, Map<Guid, NavPath>>> fileData) {
+		Map<Guid, NavZone> newZones = new HashMap<>();
+		Map<Guid, NavPath> newPaths = new HashMap<>();
+		for (Pair<Map<Guid, NavZone>, Map<Guid, NavPath>> navObjects : fileData) {
+			newZones.putAll(navObjects.el0());
+			newPaths.putAll(navObjects.el1());
 		}
+		return () -> {
+			zones = newZones;
+			paths = newPaths;
+		};
 	}
 
 	public void update(NavZone zone) {
-		if (isValid()) {
-			zones.put(zone.getGuid(), zone.clone());
+		Guid guid = Guid.of(zone.getGuid());
+		if (guid == null) {
+			logger.warn("NavZone mit ungültiger Guid '{}' wird nicht in den NavCache übernommen.", zone.getGuid());
+		} else if (isValid()) {
+			zones.put(guid, zone.clone());
 			markChanged(true);
 		}
 	}
 
 	public void update(NavPath path) {
-		if (isValid()) {
-			paths.put(path.getGuid(), path.clone());
+		Guid guid = Guid.of(path.getGuid());
+		if (guid == null) {
+			logger.warn("NavPath mit ungültiger Guid '{}' wird nicht in den NavCache übernommen.", path.getGuid());
+		} else if (isValid()) {
+			paths.put(guid, path.clone());
 			markChanged(true);
 		}
 	}
-
-	private class CreateNavCacheWorker extends AbstractDialogFileWorker<Pair<Map<String, NavZone>, Map<String, NavPath>>> {
-		public CreateNavCacheWorker(Callable<List<File>> fileProvider, List<File> openFiles) {
-			super(fileProvider, openFiles, "Erstelle NavCache", ctx.getParentWindow());
-			statusFormat = "%d NavZones und NavPaths gefunden";
-		}
-
-		@Override
-		protected Pair<Map<String, NavZone>, Map<String, NavPath>> doInBackground() throws Exception {
-			List<File> files = getFiles();
-
-			Map<String, NavZone> myZones = new ConcurrentHashMap<>();
-			Map<String, NavPath> myPaths = new ConcurrentHashMap<>();
-
-			Awaitable awaitProcess = ConcurrencyUtil.processInPartitions(file -> {
-				try {
-					processFile(FileUtil.openArchive(file, false), myZones, myPaths);
-				} catch (IOException e) {
-					// Ignore
-				}
-				filesDone.incrementAndGet();
-			}, files, 3);
-
-			do {
-				publish(myZones.size() + myPaths.size());
-			} while (!awaitProcess.await(10, TimeUnit.MILLISECONDS));
-
-			return Pair.of(myZones, myPaths);
-		}
-
-		@Override
-		protected void done() {
-			try {
-				if (!isCancelled()) {
-					Pair<Map<String, NavZone>, Map<String, NavPath>> pair = get();
-					zones = pair.el0();
-					paths = pair.el1();
-					generateCreationTimestamp();
-				}
-
-				progDlg.dispose();
-			} catch (Exception ex) {
-				progDlg.dispose();
-				TaskDialogs.showException(ex);
-			} finally {
-				notifyCacheUpdated();
-			}
-		}
-	}
 }
@@ -9,25 +9,24 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collector;
 import java.util.stream.Stream;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
 import com.ezware.dialog.task.TaskDialogs;
 import com.google.common.collect.ImmutableSet;
 
 import de.george.g3dit.EditorContext;
 import de.george.g3dit.util.AbstractDialogFileWorker;
+import de.george.g3dit.util.ConcurrencyUtil.Awaitable;
 import de.george.lrentnode.classes.G3Class;
 import de.george.lrentnode.classes.desc.ClassDescriptor;
-import de.george.lrentnode.iterator.TemplateFileIterator;
 import de.george.lrentnode.template.TemplateEntity;
 import de.george.lrentnode.template.TemplateFile;
+import de.george.lrentnode.util.FileUtil;
 
 public class TemplateCache extends AbstractCache<TemplateCache> {
-	private static final Logger logger = LoggerFactory.getLogger(TemplateCache.class);
+	private static final CacheSchema SCHEMA = new CacheSchema("TemplateCache", 1, TemplateCacheEntry.class);
 
 	private List<TemplateCacheEntry> templates;
 	private EditorContext ctx;
@@ -98,55 +97,56 @@ public class TemplateCache extends AbstractCache<TemplateCache> {
 	}
 
 	@Override
-	@SuppressWarnings("unchecked")
 	public void load(final File inFile) {
-		LoadObjectWorker worker = new LoadObjectWorker(inFile) {
-			@Override
-			protected void done() {
-				try {
-					Object[] data = loadIntern(get());
-					templates = (List<TemplateCacheEntry>) data[1];
-				} catch (Exception e) {
-					logger.info("TemplateCache Ladefehler: {}", e.getMessage());
-				} finally {
-					notifyCacheUpdated();
-				}
-			}
-		};
-		worker.execute();
+		loadCacheFile(inFile, SCHEMA, file -> file.getSection("templates", TemplateCacheEntry.class).readAll(), loaded -> templates = loaded);
 	}
 
 	@Override
 	public void save(File file) throws IOException {
-		saveIntern(file, templates);
+		createCacheFile(SCHEMA).addSection("templates", templates).save(file);
+	}
+
+	private static List<TemplateCacheEntry> extractTemplates(TemplateFile tple, File file) {
+		Collector<String, ?, ImmutableSet<String>> toImmutableSet = ImmutableSet.toImmutableSet();
+
+		List<TemplateCacheEntry> fileTemplates = new ArrayList<>();
+		for (TemplateEntity tpleEntity : tple.getHeaders()) {
+			fileTemplates.add(new TemplateCacheEntry(tpleEntity.getName(), tpleEntity.getGuid(), tpleEntity.isHelperParent(),
+					tpleEntity.getRefTemplate(), tpleEntity.getDataChangedTimeStamp(), file,
+					tpleEntity.getClasses().stream().map(G3Class::getClassName).collect(toImmutableSet)));
+		}
+		return fileTemplates;
 	}
 
 	private class CreateTemplateCacheWorker extends AbstractDialogFileWorker<List<TemplateCacheEntry>> {
 		public CreateTemplateCacheWorker(Callable<List<File>> fileProvider) {
 			super(fileProvider, null, "Erstelle TemplateCache", ctx.getParentWindow());
-			statusFormat = "%d Templates gefunden";
+			statusFormat = "Lese veränderte Dateien ein...";
 		}
 
 		@Override
 		protected List<TemplateCacheEntry> doInBackground() throws Exception {
 			List<File> files = getFiles();
 
-			Collector<String, ?, ImmutableSet<String>> toImmutableSet = ImmutableSet.toImmutableSet();
+			FileIndex<List<TemplateCacheEntry>> index = loadFileIndex(SCHEMA);
+			Awaitable awaitUpdate = index.update(files, file -> extractTemplates(FileUtil.openTemplate(file), file), filesDone,
+					this::isCancelled);
+
+			do {
+				publish(0);
+			} while (!awaitUpdate.await(50, TimeUnit.MILLISECONDS));
+			index.save();
 
 			List<TemplateCacheEntry> myTemplates = new ArrayList<>();
-			TemplateFileIterator iter = new TemplateFileIterator(files);
-			while (iter.hasNext() && !isCancelled()) {
-				TemplateFile tple1 = iter.next();
-				for (TemplateEntity tpleEntity : tple1.getHeaders()) {
-					TemplateCacheEntry tpleEntry = new TemplateCacheEntry(tpleEntity.getName(), tpleEntity.getGuid(),
-							tpleEntity.isHelperParent(), tpleEntity.getRefTemplate(), tpleEntity.getDataChangedTimeStamp(),
-							iter.nextFile(), tpleEntity.getClasses().stream().map(G3Class::getClassName).collect(toImmutableSet));
-					myTemplates.add(tpleEntry);
+			for (File file : files) {
+				List<TemplateCacheEntry> fileTemplates = index.get(file);
+				if (fileTemplates != null) {
+					myTemplates.addAll(fileTemplates);
 				}
-
-				filesDone.incrementAndGet();
-				publish(myTemplates.size());
 			}
+
+			statusFormat = "%d Templates gefunden";
+			publish(myTemplates.size());
 			return myTemplates;
 		}
 
@@ -0,0 +1,195 @@
+package de.george.g3dit.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ezware.dialog.task.TaskDialogs;
+
+import de.george.g3dit.EditorContext;
+import de.george.g3dit.cache.FileIndex.FileStamp;
+import de.george.g3dit.tab.EditorTab.EditorTabType;
+import de.george.g3dit.tab.archive.EditorArchiveTab;
+import de.george.g3dit.util.AbstractDialogFileWorker;
+import de.george.g3dit.util.ConcurrencyUtil;
+import de.george.g3dit.util.ConcurrencyUtil.Awaitable;
+import de.george.lrentnode.archive.ArchiveFile;
+import de.george.lrentnode.util.FileUtil;
+
+/**
+ * Erstellt mehrere {@link AbstractWorldCache} in einem gemeinsamen Durchlauf über die Weltdateien.
+ * <p>
+ * Jede Weltdatei, die für mindestens einen der Caches neu oder verändert ist, wird genau einmal
+ * geöffnet und allen Caches übergeben, für die sie nicht mehr aktuell ist. Im Editor geöffnete
+ * Dateien haben Vorrang vor ihrem Stand auf der Festplatte. Da {@code FileManager.listWorldFiles()}
+ * pro relativem Pfad nur die Datei aus dem primären Datenordner liefert, wird eine geöffnete Datei
+ * aus dem sekundären Datenordner ignoriert, wenn es sie auch im primären Datenordner gibt.
+ */
+public class WorldCacheBuilder {
+	private static final Logger logger = LoggerFactory.getLogger(WorldCacheBuilder.class);
+
+	private final EditorContext ctx;
+	private final List<CacheJob<?>> jobs = new ArrayList<>();
+
+	private static class CacheJob<F> {
+		private final AbstractWorldCache<?, F> cache;
+		private final Map<File, F> openFileData = new HashMap<>();
+		private FileIndex<F> index;
+		// Übernimmt den neuen Inhalt in den Cache, siehe AbstractWorldCache.build()
+		private Runnable result;
+
+		public CacheJob(AbstractWorldCache<?, F> cache, List<EditorArchiveTab> openTabs) {
+			this.cache = cache;
+			for (EditorArchiveTab tab : openTabs) {
+				File file = tab.getDataFile().get();
+				openFileData.put(file, cache.extract(tab.getCurrentFile(), file));
+			}
+		}
+
+		public void update(File file, FileStamp stamp, ArchiveFile archive) {
+			try {
+				index.put(file, stamp, cache.extract(archive, file));
+			} catch (Exception e) {
+				index.remove(file);
+				logger.warn("{}: Fehler beim Einlesen von {}: {}", getName(), file.getAbsolutePath(), e.getMessage());
+			}
+		}
+
+		public void build(List<File> files) {
+			List<F> fileData = new ArrayList<>(files.size());
+			for (File file : files) {
+				F data = openFileData.containsKey(file) ? openFileData.get(file) : index.get(file);
+				if (data != null) {
+					fileData.add(data);
+				}
+			}
+			result = cache.build(fileData);
+		}
+
+		public String getName() {
+			return cache.getClass().getSimpleName();
+		}
+	}
+
+	/**
+	 * Muss im Event Dispatch Thread aufgerufen werden, da dabei die geöffneten Dateien ausgewertet
+	 * werden.
+	 */
+	public WorldCacheBuilder(EditorContext ctx, Collection<? extends AbstractWorldCache<?, ?>> caches) {
+		this.ctx = ctx;
+		List<EditorArchiveTab> openTabs = ctx.getEditor().<EditorArchiveTab>getTabsInDataFolders(EditorTabType.Archive).toList();
+		for (AbstractWorldCache<?, ?> cache : caches) {
+			jobs.add(createJob(cache, openTabs));
+		}
+	}
+
+	private static <F> CacheJob<F> createJob(AbstractWorldCache<?, F> cache, List<EditorArchiveTab> openTabs) {
+		return new CacheJob<>(cache, openTabs);
+	}
+
+	/**
+	 * Erstellt die Caches und zeigt währenddessen einen modalen Fortschrittsdialog an.
+	 */
+	public void createAndShowDialog() {
+		new BuildWorker().executeAndShowDialog();
+	}
+
+	private class BuildWorker extends AbstractDialogFileWorker<Void> {
+		private final AtomicInteger filesRead = new AtomicInteger();
+
+		public BuildWorker() {
+			super(ctx.getFileManager().worldFilesCallable(), null,
+					"Erstelle " + jobs.stream().map(CacheJob::getName).collect(Collectors.joining(", ")), ctx.getParentWindow());
+			statusFormat = "%d neue oder veränderte Dateien eingelesen";
+		}
+
+		@Override
+		protected Void doInBackground() throws Exception {
+			List<File> files = getFiles();
+
+			for (CacheJob<?> job : jobs) {
+				job.index = job.cache.loadFileIndex(job.cache.getSchema());
+				job.index.retainAll(files);
+			}
+
+			List<File> outdated = new ArrayList<>();
+			for (File file : files) {
+				if (jobs.stream().allMatch(j -> j.index.isUpToDate(file))) {
+					filesDone.incrementAndGet();
+				} else {
+					outdated.add(file);
+				}
+			}
+
+			Awaitable awaitRead = ConcurrencyUtil.processInPartitions(this::readFile, outdated, 3);
+			do {
+				publish(filesRead.get());
+			} while (!awaitRead.await(50, TimeUnit.MILLISECONDS));
+
+			for (CacheJob<?> job : jobs) {
+				try {
+					job.index.save();
+				} catch (IOException e) {
+					logger.warn("Speichern des Index von {} ist fehlgeschlagen.", job.getName(), e);
+				}
+			}
+
+			if (!isCancelled()) {
+				for (CacheJob<?> job : jobs) {
+					statusFormat = "Erstelle " + job.getName() + "...";
+					publish(filesRead.get());
+					job.build(files);
+				}
+			}
+			return null;
+		}
+
+		private void readFile(File file) {
+			if (!isCancelled()) {
+				FileStamp stamp = FileStamp.of(file);
+				List<CacheJob<?>> outdatedJobs = jobs.stream().filter(j -> !j.index.isUpToDate(file)).collect(Collectors.toList());
+				try {
+					ArchiveFile archive = FileUtil.openArchiveLazy(file, false);
+					outdatedJobs.forEach(j -> j.update(file, stamp, archive));
+				} catch (Exception e) {
+					outdatedJobs.forEach(j -> j.index.remove(file));
+					logger.warn("Fehler beim Öffnen von Archiv({}): {}", file.getAbsolutePath(), e.getMessage());
+				}
+				filesRead.incrementAndGet();
+			}
+			filesDone.incrementAndGet();
+		}
+
+		@Override
+		protected void done() {
+			try {
+				get();
+				for (CacheJob<?> job : jobs) {
+					if (job.result != null) {
+						job.result.run();
+						job.cache.generateCreationTimestamp();
+					}
+				}
+
+				progDlg.dispose();
+			} catch (Exception ex) {
+				progDlg.dispose();
+				if (!isCancelled()) {
+					TaskDialogs.showException(ex);
+				}
+			} finally {
+				jobs.forEach(j -> j.cache.notifyCacheUpdated());
+			}
+		}
+	}
+}
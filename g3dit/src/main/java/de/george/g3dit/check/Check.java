@@ -8,6 +8,16 @@ import de.george.lrentnode.template.TemplateFile;
 
 /**
  * Implementations must not assume that the they are executed on the Swing Event Dispatch Thread.
+ * <p>
+ * Different checks are executed concurrently. Unless {@link #isThreadSafe()} returns true, a
+ * single check receives the files of a pass one after another and in file order, so it does not
+ * need any synchronization. Passes never overlap, {@link #reportProblems(ProblemConsumer)} is
+ * called after the last pass has finished.
+ * <p>
+ * All checks of a pass receive the same {@link TemplateFile} or {@link ArchiveFile} instance at
+ * the same time. Implementations must treat it as read-only: they must not modify its entities,
+ * classes or properties, and must not keep references to it once the call has returned (copy the
+ * values needed for {@link #reportProblems(ProblemConsumer)} instead).
  */
 public interface Check {
 	String getTitle();
@@ -26,7 +36,7 @@ public interface Check {
 	 * @param dataFile
 	 * @param pass
 	 * @param problemConsumer
-	 * @return
+	 * @return {@link PassStatus#Done}, if no further files of this pass are required
 	 */
 	PassStatus processTemplate(TemplateFile tple, File dataFile, int pass, ProblemConsumer problemConsumer);
 
@@ -37,7 +47,7 @@ public interface Check {
 	 * @param dataFile
 	 * @param pass
 	 * @param problemConsumer
-	 * @return
+	 * @return {@link PassStatus#Done}, if no further files of this pass are required
 	 */
 	PassStatus processArchive(ArchiveFile archiveFile, File dataFile, int pass, ProblemConsumer problemConsumer);
 
@@ -48,4 +58,13 @@ public interface Check {
 	int getArchivePasses();
 
 	void reset();
+
+	/**
+	 * @return true, if {@link #processTemplate(TemplateFile, File, int, ProblemConsumer)} and
+	 *         {@link #processArchive(ArchiveFile, File, int, ProblemConsumer)} may be called
+	 *         concurrently for different files of the same pass
+	 */
+	default boolean isThreadSafe() {
+		return false;
+	}
 }
@@ -0,0 +1,176 @@
+package de.george.g3dit.check;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import de.george.g3dit.check.Check.PassStatus;
+import de.george.g3dit.check.problem.ProblemConsumer;
+import de.george.lrentnode.iterator.ParallelArchiveFileIterator;
+import de.george.lrentnode.iterator.ParallelTemplateFileIterator;
+
+/**
+ * Führt die Passes mehrerer Checks aus. Die Dateien werden parallel geöffnet, jede geöffnete Datei
+ * wird anschließend allen Checks gleichzeitig übergeben.
+ * <p>
+ * Checks, die nicht {@link Check#isThreadSafe()} sind, erhalten die Dateien eines Passes über eine
+ * eigene Warteschlange nacheinander und in Dateireihenfolge, müssen also nicht synchronisiert sein.
+ * Es werden höchstens {@code maxPendingFiles} geöffnete Dateien gleichzeitig vorgehalten.
+ * <p>
+ * Da alle Checks dieselbe Instanz einer Datei erhalten, dürfen sie diese nur lesen, siehe
+ * {@link Check}. Das verzögerte Dekodieren der PropertySets ist synchronisiert.
+ */
+public class CheckExecutor implements AutoCloseable {
+	private final Collection<Check> checks;
+	private final ProblemConsumer problemConsumer;
+	private final int parallelism;
+	private final int maxPendingFiles;
+	private final ExecutorService executor;
+
+	@FunctionalInterface
+	private interface FileProcessor<T> {
+		PassStatus process(Check check, T file, File dataFile);
+	}
+
+	private static class CheckLane {
+		private final Check check;
+		private final Executor executor;
+		private volatile boolean done;
+
+		public CheckLane(Check check, Executor executor) {
+			this.check = check;
+			this.executor = executor;
+		}
+	}
+
+	public CheckExecutor(Collection<Check> checks, ProblemConsumer problemConsumer) {
+		this(checks, problemConsumer, Runtime.getRuntime().availableProcessors());
+	}
+
+	public CheckExecutor(Collection<Check> checks, ProblemConsumer problemConsumer, int parallelism) {
+		this.checks = checks;
+		this.problemConsumer = problemConsumer;
+		this.parallelism = parallelism;
+		maxPendingFiles = 2 * parallelism;
+		executor = Executors.newFixedThreadPool(parallelism,
+				new ThreadFactoryBuilder().setNameFormat("CheckExecutor-%d").setDaemon(true).build());
+	}
+
+	/**
+	 * Führt Template-Pass {@code pass} für alle Checks aus, die mindestens {@code pass + 1}
+	 * Template-Passes haben.
+	 *
+	 * @throws InterruptedException Wenn der aufrufende Thread unterbrochen wurde
+	 */
+	public void executeTemplatePass(List<File> files, int pass) throws InterruptedException {
+		try (ParallelTemplateFileIterator iter = new ParallelTemplateFileIterator(files, true, parallelism)) {
+			executePass(iter, iter::nextFile, Check::getTemplatePasses, pass,
+					(check, tple, dataFile) -> check.processTemplate(tple, dataFile, pass, problemConsumer));
+		}
+	}
+
+	/**
+	 * Führt Archive-Pass {@code pass} für alle Checks aus, die mindestens {@code pass + 1}
+	 * Archive-Passes haben.
+	 *
+	 * @throws InterruptedException Wenn der aufrufende Thread unterbrochen wurde
+	 */
+	public void executeArchivePass(List<File> files, int pass) throws InterruptedException {
+		try (ParallelArchiveFileIterator iter = new ParallelArchiveFileIterator(files, false, true, parallelism)) {
+			executePass(iter, iter::nextFile, Check::getArchivePasses, pass,
+					(check, archive, dataFile) -> check.processArchive(archive, dataFile, pass, problemConsumer));
+		}
+	}
+
+	private <T> void executePass(Iterator<T> iter, Supplier<File> currentFile, ToIntFunction<Check> passCount,
+			int pass, FileProcessor<T> processor) throws InterruptedException {
+		List<CheckLane> lanes = new ArrayList<>();
+		for (Check check : checks) {
+			if (pass < passCount.applyAsInt(check)) {
+				lanes.add(new CheckLane(check, check.isThreadSafe() ? executor : MoreExecutors.newSequentialExecutor(executor)));
+			}
+		}
+
+		if (lanes.isEmpty()) {
+			return;
+		}
+
+		Semaphore pendingFiles = new Semaphore(maxPendingFiles);
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		try {
+			while (iter.hasNext() && failure.get() == null) {
+				List<CheckLane> activeLanes = lanes.stream().filter(l -> !l.done).collect(Collectors.toList());
+				if (activeLanes.isEmpty()) {
+					break;
+				}
+
+				T file = iter.next();
+				File dataFile = currentFile.get();
+				pendingFiles.acquire();
+				AtomicInteger remaining = new AtomicInteger(activeLanes.size());
+				for (CheckLane lane : activeLanes) {
+					lane.executor.execute(() -> {
+						try {
+							if (!lane.done && failure.get() == null) {
+								lane.done = processor.process(lane.check, file, dataFile) == PassStatus.Done;
+							}
+						} catch (Throwable t) {
+							failure.compareAndSet(null, t);
+						} finally {
+							if (remaining.decrementAndGet() == 0) {
+								pendingFiles.release();
+							}
+						}
+					});
+				}
+			}
+
+			// Der Iterator beendet sich bei Unterbrechung stillschweigend
+			if (Thread.interrupted()) {
+				throw new InterruptedException();
+			}
+		} catch (InterruptedException e) {
+			failure.compareAndSet(null, e);
+		} finally {
+			// Auf die noch ausstehenden Dateien warten, damit nachfolgende Passes und reportProblems()
+			// nicht parallel zu diesem Pass laufen
+			pendingFiles.acquireUninterruptibly(maxPendingFiles);
+			pendingFiles.release(maxPendingFiles);
+		}
+		rethrow(failure.get());
+	}
+
+	private static void rethrow(Throwable failure) throws InterruptedException {
+		if (failure == null) {
+			return;
+		}
+
+		if (failure instanceof InterruptedException) {
+			throw (InterruptedException) failure;
+		} else if (failure instanceof RuntimeException) {
+			throw (RuntimeException) failure;
+		} else if (failure instanceof Error) {
+			throw (Error) failure;
+		}
+		throw new IllegalStateException(failure);
+	}
+
+	@Override
+	public void close() {
+		executor.shutdownNow();
+	}
+}
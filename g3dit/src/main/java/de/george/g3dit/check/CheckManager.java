@@ -23,7 +23,6 @@ import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -32,6 +31,7 @@ import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
@@ -80,7 +80,6 @@ import ca.odell.glazedlists.swing.GlazedListsSwing;
 import ca.odell.glazedlists.swing.TextComponentMatcherEditor;
 import ca.odell.glazedlists.swing.TreeTableSupport;
 import de.george.g3dit.EditorContext;
-import de.george.g3dit.check.Check.PassStatus;
 import de.george.g3dit.check.problem.Category;
 import de.george.g3dit.check.problem.EntityHelper;
 import de.george.g3dit.check.problem.FileHelper;
@@ -102,10 +101,6 @@ import de.george.g3dit.util.SettingsHelper;
 import de.george.g3dit.util.UriUtil;
 import de.george.g3utils.gui.SwingUtils;
 import de.george.g3utils.gui.UndoableTextField;
-import de.george.lrentnode.archive.ArchiveFile;
-import de.george.lrentnode.iterator.ArchiveFileIterator;
-import de.george.lrentnode.iterator.TemplateFileIterator;
-import de.george.lrentnode.template.TemplateFile;
 import j2html.tags.DomContent;
 import net.miginfocom.swing.MigLayout;
 import one.util.streamex.StreamEx;
@@ -207,8 +202,9 @@ public class CheckManager {
 		private EventList<Problem> problems;
 		private EventList<Problem> filteredProblems;
 
-		private Map<EntityDescriptor, EntityHelper> entityHelpers = new HashMap<>();
-		private Map<FileDescriptor, FileHelper> fileHelpers = new HashMap<>();
+		// Checks posten ihre Probleme aus mehreren Threads gleichzeitig
+		private Map<EntityDescriptor, EntityHelper> entityHelpers = new ConcurrentHashMap<>();
+		private Map<FileDescriptor, FileHelper> fileHelpers = new ConcurrentHashMap<>();
 
 		private CheckProblemConsumer problemConsumer = new CheckProblemConsumer();
 		private ListenableFuture<Void> executeChecksFuture;
@@ -260,60 +256,21 @@ public class CheckManager {
 				List<File> worldFiles = archivePasses != 0 ? ctx.getFileManager().listWorldFiles() : null;
 				List<File> templateFiles = templatePasses != 0 ? ctx.getFileManager().listTemplateFiles() : null;
 
-				for (int pass = 0; pass < passes; pass++) {
-					if (pass < templatePasses) {
-						// log("Template-Pass " + pass + "...");
-						updateProgressBar(String.format("Template-Pass %d/%d", pass + 1, templatePasses));
-						TemplateFileIterator iter = new TemplateFileIterator(templateFiles);
-						while (iter.hasNext()) {
-							// Check execution got cancelled
-							if (Thread.interrupted()) {
-								return;
-							}
-
-							TemplateFile tple = iter.next();
-							File tpleFile = iter.nextFile();
-							boolean allDone = true;
-							for (Check check : enabledChecks) {
-								if (pass < check.getTemplatePasses()) {
-									PassStatus status = check.processTemplate(tple, tpleFile, pass, problemConsumer);
-									allDone &= status == PassStatus.Done;
-								}
-							}
-
-							if (allDone) {
-								break;
-							}
+				try (CheckExecutor checkExecutor = new CheckExecutor(enabledChecks, problemConsumer)) {
+					for (int pass = 0; pass < passes; pass++) {
+						if (pass < templatePasses) {
+							updateProgressBar(String.format("Template-Pass %d/%d", pass + 1, templatePasses));
+							checkExecutor.executeTemplatePass(templateFiles, pass);
 						}
-						// log("Template-Pass " + pass + " beendet");
-					}
 
-					if (pass < archivePasses) {
-						// log("Archive-Pass " + pass + "...");
-						updateProgressBar(String.format("Archive-Pass %d/%d", pass + 1, archivePasses));
-						ArchiveFileIterator iter = new ArchiveFileIterator(worldFiles);
-						while (iter.hasNext()) {
-							// Check execution got cancelled
-							if (Thread.interrupted()) {
-								return;
-							}
-
-							ArchiveFile archive = iter.next();
-							File archiveFile = iter.nextFile();
-							boolean allDone = true;
-							for (Check check : enabledChecks) {
-								if (pass < check.getArchivePasses()) {
-									PassStatus status = check.processArchive(archive, archiveFile, pass, problemConsumer);
-									allDone &= status == PassStatus.Done;
-								}
-							}
-
-							if (allDone) {
-								break;
-							}
+						if (pass < archivePasses) {
+							updateProgressBar(String.format("Archive-Pass %d/%d", pass + 1, archivePasses));
+							checkExecutor.executeArchivePass(worldFiles, pass);
 						}
-						// log("Archive-Pass " + pass + " beendet");
 					}
+				} catch (InterruptedException e) {
+					// Check execution got cancelled
+					return;
 				}
 
 				updateProgressBar(String.format("Sammle Probleme..."));
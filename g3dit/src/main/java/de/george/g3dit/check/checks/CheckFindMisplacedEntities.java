@@ -91,10 +91,10 @@ public class CheckFindMisplacedEntities extends AbstractEntityCheck {
 	@Override
 	protected EntityPassStatus processEntity(ArchiveFile archiveFile, File dataFile, eCEntity entity, int entityPosition, int pass,
 			Supplier<EntityDescriptor> descriptor, StringProblemConsumer problemConsumer) {
-		if (!entity.getName().equals("RootEntity") && entity.getWorldNodeBoundary().isValid()
-				&& entity.getWorldNodeBoundary().getExtent().length() < 100000
+		bCBox worldNodeBoundary = entity.worldNodeBoundary();
+		if (!entity.getName().equals("RootEntity") && worldNodeBoundary.isValid() && worldNodeBoundary.getExtent().length() < 100000
 				&& (!solidOnly || EntityUtil.getMesh(entity).isPresent() || EntityUtil.getTreeMesh(entity).isPresent())) {
-			aabbTree.insert(new EntityAABBTreePrimitive(entity.getWorldNodeBoundary(), entity.getWorldNodeBoundary().getCenter(),
+			aabbTree.insert(new EntityAABBTreePrimitive(worldNodeBoundary.clone(), worldNodeBoundary.getCenter(),
 					entity.getWorldPosition(), descriptor.get()));
 		}
 		return EntityPassStatus.Next;
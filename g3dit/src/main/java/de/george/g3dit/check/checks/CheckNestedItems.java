@@ -37,4 +37,9 @@ public class CheckNestedItems extends AbstractEntityCheck {
 
 		return EntityPassStatus.Next;
 	}
+
+	@Override
+	public boolean isThreadSafe() {
+		return true;
+	}
 }
@@ -35,8 +35,9 @@ public class CheckOutsideStaticNode extends AbstractEntityCheck {
 	@Override
 	protected EntityPassStatus processEntity(ArchiveFile archiveFile, File dataFile, eCEntity entity, int entityPosition, int pass,
 			Supplier<EntityDescriptor> descriptor, StringProblemConsumer problemConsumer) {
-		if (entity.getWorldNodeBoundary().isValid() && !entity.hasClass(CD.eCVegetation_PS.class)
-				&& !entity.getName().contains("_Landscape_") && !entity.getWorldNodeBoundary().intersects(staticNodeBoundary)) {
+		bCBox worldNodeBoundary = entity.worldNodeBoundary();
+		if (worldNodeBoundary.isValid() && !entity.hasClass(CD.eCVegetation_PS.class) && !entity.getName().contains("_Landscape_")
+				&& !worldNodeBoundary.intersects(staticNodeBoundary)) {
 			problemConsumer.fatal("Befindet sich außerhalb des Zuständigkeitsbereich seiner statischen .node");
 		}
 
@@ -8,7 +8,6 @@ import java.util.List;
 import java.util.ListIterator;
 import java.util.Optional;
 import java.util.concurrent.Callable;
-import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import javax.swing.JButton;
@@ -46,8 +45,6 @@ import de.george.g3dit.tab.EditorTab;
 import de.george.g3dit.tab.EditorTab.EditorTabType;
 import de.george.g3dit.tab.archive.EditorArchiveTab;
 import de.george.g3dit.util.AbstractFileWorker;
-import de.george.g3dit.util.ConcurrencyUtil;
-import de.george.g3dit.util.ConcurrencyUtil.Awaitable;
 import de.george.g3dit.util.Icons;
 import de.george.g3dit.util.ImportHelper;
 import de.george.g3utils.structure.bCMatrix;
@@ -58,7 +55,7 @@ import de.george.lrentnode.archive.ArchiveEntity;
 import de.george.lrentnode.archive.ArchiveFile;
 import de.george.lrentnode.archive.ArchiveFile.ArchiveType;
 import de.george.lrentnode.archive.eCEntity;
-import de.george.lrentnode.iterator.ArchiveFileIterator;
+import de.george.lrentnode.iterator.FilePipeline;
 import de.george.lrentnode.util.FileUtil;
 import net.miginfocom.swing.MigLayout;
 
@@ -301,36 +298,42 @@ public class EntitySearchDialog extends AbstractTableProgressDialog {
 
 		@Override
 		protected Void doInBackground() throws Exception {
-			Awaitable awaitProcess = ConcurrencyUtil.processInListPartitions(files -> {
-				ArchiveFileIterator iterator = new ArchiveFileIterator(files);
-				while (iterator.hasNext()) {
-					ArchiveFile aFile = iterator.next();
-					FileDescriptor fileDescriptor = new FileDescriptor(iterator.nextFile(), aFile.getArchiveType());
-					for (eCEntity entity : aFile.getEntities()) {
-						if (isCancelled()) {
-							return;
-						}
-						try {
-							if (filter.matches(entity)) {
-								publish(new FileResult(new EntityDescriptor(entity, aFile.getEntityPosition(entity), fileDescriptor),
-										entity.getWorldPosition()));
-							}
-						} catch (Exception e) {
-							logger.warn("Filter error.", e);
-							throw e;
-						}
-					}
+			// Öffnen und Filtern laufen parallel auf den Worker-Threads der Pipeline, hier werden nur die
+			// Ergebnisse eingesammelt. Die Reihenfolge der Ergebnisse spielt keine Rolle.
+			int parallelism = Runtime.getRuntime().availableProcessors();
+			try (FilePipeline<List<Result>> pipeline = new FilePipeline<>(getFiles(), File::isFile, this::searchFile, false, parallelism,
+					2 * parallelism, "EntitySearch")) {
+				while (!isCancelled() && pipeline.advance(
+						(file, e) -> logger.warn("Fehler beim Durchsuchen von Archiv({}): {}", file.getAbsolutePath(), e.getMessage()))) {
 					filesDone.incrementAndGet();
+					publish(pipeline.current().toArray(new Result[0]));
 				}
-			}, getFiles(), 3);
-
-			do {
-				publish();
-			} while (!awaitProcess.await(25, TimeUnit.MILLISECONDS));
+			}
 
 			return null;
 		}
 
+		private List<Result> searchFile(File file) throws Exception {
+			ArchiveFile aFile = FileUtil.openArchiveLazy(file, false);
+			FileDescriptor fileDescriptor = new FileDescriptor(file, aFile.getArchiveType());
+			List<Result> fileResults = new ArrayList<>();
+			for (eCEntity entity : aFile.getEntities()) {
+				if (isCancelled()) {
+					break;
+				}
+				try {
+					if (filter.matches(entity)) {
+						fileResults.add(new FileResult(new EntityDescriptor(entity, aFile.getEntityPosition(entity), fileDescriptor),
+								entity.getWorldPosition()));
+					}
+				} catch (Exception e) {
+					logger.warn("Filter error.", e);
+					throw e;
+				}
+			}
+			return fileResults;
+		}
+
 		private String getDoneMessage() {
 			return String.format("Suche abgeschlossen (%d Entities gefunden)", results.size());
 		}
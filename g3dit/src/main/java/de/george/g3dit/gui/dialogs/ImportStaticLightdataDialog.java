@@ -414,7 +414,11 @@ public class ImportStaticLightdataDialog extends AbstractTableProgressDialog {
 
 		public Sldat(G3FileReader reader) throws Exception {
 			entityName = reader.read(reader.readShort());
-			entityGuid = new Guid(reader.readString(reader.readShort()).replace("{", "").replace("}", ""));
+			String rawGuid = reader.readString(reader.readShort());
+			entityGuid = Guid.of(rawGuid.replace("{", "").replace("}", ""));
+			if (entityGuid == null) {
+				throw new IllegalArgumentException("Ungültige Guid '" + rawGuid + "'.");
+			}
 			lights = new StaticLights(reader);
 		}
 
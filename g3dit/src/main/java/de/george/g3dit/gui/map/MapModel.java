@@ -7,14 +7,23 @@ import java.awt.geom.Point2D;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 import ca.odell.glazedlists.EventList;
 import ca.odell.glazedlists.GlazedLists;
+import ca.odell.glazedlists.event.ListEvent;
 import de.george.g3utils.structure.bCBox;
 import de.george.g3utils.structure.bCVector;
 import de.george.g3utils.structure.bCVector2;
 
+/**
+ * Die Positionen der Items werden in einem {@link SpatialGrid} (Weltkoordinaten) gehalten, das bei
+ * jeder Änderung der Items schrittweise nachgeführt wird. {@link #getNearest(int, int, float)} und
+ * {@link #getInRectangle(Rectangle)} betrachten dadurch nur Items in der Nähe des gesuchten Bereichs.
+ */
 public class MapModel<T extends MapItem> {
+	private static final int GRID_SIZE = 256;
+
 	protected bCVector2 topLeft;
 	protected bCVector2 bottomRight;
 
@@ -22,6 +31,9 @@ public class MapModel<T extends MapItem> {
 	private int imageHeight = -1;
 
 	protected EventList<T> items;
+	private final SpatialGrid<T> index;
+	// Stand der Items beim letzten ListEvent, liefert die Items zu gelöschten Indizes
+	private final List<T> indexedItems = new ArrayList<>();
 
 	private List<Runnable> repaintListeners = new CopyOnWriteArrayList<>();
 
@@ -32,7 +44,80 @@ public class MapModel<T extends MapItem> {
 		this.imageWidth = imageWidth;
 		this.imageHeight = imageHeight;
 
-		items.addListEventListener(e -> repaint());
+		index = new SpatialGrid<>(topLeft.getX(), topLeft.getY(), bottomRight.getX(), bottomRight.getY(), GRID_SIZE, GRID_SIZE);
+		items.getReadWriteLock().readLock().lock();
+		try {
+			reindex(items);
+			items.addListEventListener(e -> {
+				updateIndex(e);
+				repaint();
+			});
+		} finally {
+			items.getReadWriteLock().readLock().unlock();
+		}
+	}
+
+	private void reindex(List<T> source) {
+		index.clear();
+		indexedItems.clear();
+		for (T item : source) {
+			indexedItems.add(item);
+			insertIntoIndex(item);
+		}
+	}
+
+	private void updateIndex(ListEvent<T> event) {
+		if (event.isReordering()) {
+			reindex(event.getSourceList());
+			return;
+		}
+
+		while (event.next()) {
+			int position = event.getIndex();
+			switch (event.getType()) {
+				case ListEvent.INSERT:
+					T inserted = event.getSourceList().get(position);
+					indexedItems.add(position, inserted);
+					insertIntoIndex(inserted);
+					break;
+				case ListEvent.DELETE:
+					index.remove(indexedItems.remove(position));
+					break;
+				case ListEvent.UPDATE:
+					T updated = event.getSourceList().get(position);
+					T previous = indexedItems.set(position, updated);
+					if (previous != updated) {
+						index.remove(previous);
+					}
+					// Die Position kann sich geändert haben
+					insertIntoIndex(updated);
+					break;
+			}
+		}
+	}
+
+	private void insertIntoIndex(T item) {
+		bCVector position = item.getPosition();
+		index.insert(item, position.getX(), position.getZ());
+	}
+
+	private float pixelsPerWorldX() {
+		return imageWidth / (bottomRight.getX() - topLeft.getX());
+	}
+
+	private float pixelsPerWorldY() {
+		return imageHeight / (bottomRight.getY() - topLeft.getY());
+	}
+
+	/**
+	 * Übergibt alle Items, deren Position in Pixeln innerhalb des Rechtecks liegen könnte, an
+	 * {@code consumer}.
+	 */
+	private void queryPixels(double x1, double y1, double x2, double y2, Consumer<T> consumer) {
+		float scaleX = pixelsPerWorldX();
+		float scaleY = pixelsPerWorldY();
+		index.query((float) (x1 / scaleX + topLeft.getX()), (float) (y1 / scaleY + topLeft.getY()), (float) (x2 / scaleX + topLeft.getX()),
+				(float) (y2 / scaleY + topLeft.getY()), consumer);
 	}
 
 	public bCVector2 positionToPixels(bCVector position) {
@@ -72,29 +157,21 @@ public class MapModel<T extends MapItem> {
 	}
 
 	public T getNearest(int x, int y, float maxDist) {
-		bCVector2 eventCoord = new bCVector2(x, y);
-		T nearest = null;
-		float distNearest = Float.MAX_VALUE;
-		for (T item : items) {
-			bCVector2 p = positionToPixels(item.getPosition());
-			float dist = p.getInvTranslated(eventCoord).length();
-			if (dist < distNearest) {
-				distNearest = dist;
-				nearest = item;
-			}
-		}
-
-		return distNearest < maxDist ? nearest : null;
+		NearestSearch search = new NearestSearch(x, y, maxDist);
+		queryPixels(x - maxDist, y - maxDist, x + maxDist, y + maxDist, search);
+		return search.nearest;
 	}
 
 	public List<T> getInRectangle(Rectangle rectangle) {
 		List<T> in = new ArrayList<>();
-		for (T item : items) {
-			bCVector2 p = positionToPixels(item.getPosition());
-			if (rectangle.contains(new Point2D.Float(p.getX(), p.getY()))) {
+		float scaleX = pixelsPerWorldX();
+		float scaleY = pixelsPerWorldY();
+		queryPixels(rectangle.getMinX(), rectangle.getMinY(), rectangle.getMaxX(), rectangle.getMaxY(), item -> {
+			bCVector position = item.getPosition();
+			if (rectangle.contains((position.getX() - topLeft.getX()) * scaleX, (position.getZ() - topLeft.getY()) * scaleY)) {
 				in.add(item);
 			}
-		}
+		});
 
 		return in;
 	}
@@ -106,4 +183,45 @@ public class MapModel<T extends MapItem> {
 	public void repaint() {
 		repaintListeners.forEach(Runnable::run);
 	}
+
+	private final class NearestSearch implements Consumer<T> {
+		private final float x;
+		private final float y;
+		private final float scaleX = pixelsPerWorldX();
+		private final float scaleY = pixelsPerWorldY();
+		private float distNearest;
+		private T nearest;
+		// Index von nearest in der Liste, wird erst bei gleichem Abstand ermittelt
+		private int nearestIndex = -1;
+
+		public NearestSearch(float x, float y, float maxDist) {
+			this.x = x;
+			this.y = y;
+			distNearest = maxDist;
+		}
+
+		@Override
+		public void accept(T item) {
+			bCVector position = item.getPosition();
+			float dx = (position.getX() - topLeft.getX()) * scaleX - x;
+			float dy = (position.getZ() - topLeft.getY()) * scaleY - y;
+			float dist = (float) Math.sqrt(dx * dx + dy * dy);
+			if (dist < distNearest) {
+				distNearest = dist;
+				nearest = item;
+				nearestIndex = -1;
+			} else if (dist == distNearest && nearest != null) {
+				// Das Raster liefert die Items nicht in Listenreihenfolge, bei gleichem Abstand (z.B.
+				// übereinanderliegende Items) gewinnt wie bisher das erste Item der Liste.
+				if (nearestIndex == -1) {
+					nearestIndex = indexedItems.indexOf(nearest);
+				}
+				int itemIndex = indexedItems.indexOf(item);
+				if (itemIndex < nearestIndex) {
+					nearest = item;
+					nearestIndex = itemIndex;
+				}
+			}
+		}
+	}
 }
@@ -3,20 +3,31 @@ package de.george.g3dit.gui.map;
 import java.awt.AlphaComposite;
 import java.awt.Color;
 import java.awt.Graphics2D;
+import java.awt.Rectangle;
 import java.awt.RenderingHints;
 import java.awt.Shape;
 import java.awt.geom.AffineTransform;
-import java.awt.geom.Point2D;
+import java.awt.geom.NoninvertibleTransformException;
+import java.awt.geom.Path2D;
+import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
+import com.google.common.eventbus.Subscribe;
 import com.vividsolutions.jts.geom.Geometry;
 
 import de.george.g3dit.EditorContext;
 import de.george.g3dit.EntityMap.EntityMapItem;
 import de.george.g3dit.cache.Caches;
 import de.george.g3dit.cache.NavCache;
+import de.george.g3dit.util.NavMapManager.NavMapChangedEvent;
+import de.george.g3dit.util.NavMapManager.NavMapLoadedEvent;
 import de.george.g3utils.structure.bCVector;
 import de.george.navmap.data.NavPath;
 import de.george.navmap.data.NavZone;
@@ -26,14 +37,62 @@ import de.george.navmap.draw.LiteShape;
 import de.george.navmap.sections.NavMap;
 import hu.kazocsaba.imageviewer.Overlay;
 
+/**
+ * Zeichnet die NavObjects der Items von {@link MapModel}.
+ * <p>
+ * Die Umrisse werden einmalig in Weltkoordinaten aufbereitet und in einem {@link SpatialGrid}
+ * abgelegt. Gezeichnet wird in Kacheln, die je Zoomstufe zwischengespeichert und nur bei Änderungen
+ * an den Items, beim Laden oder Bearbeiten der NavMap oder bei Aktualisierung des {@link NavCache}
+ * verworfen werden. Beim Verschieben und Zoomen werden nur die sichtbaren Kacheln gezeichnet, neue
+ * Kacheln betrachten nur die NavObjects, die sie schneiden.
+ */
 public class NavObjectOverlay<T extends EntityMapItem> extends Overlay {
+	private static final int TILE_SIZE = 256;
+	// Bei 256 x 256 Pixeln ARGB etwa 32 MB
+	private static final int MAX_CACHED_TILES = 128;
+	// Umrisse, die knapp außerhalb einer Kachel liegen, können durch Linienbreite und Antialiasing in
+	// sie hineinragen
+	private static final int TILE_MARGIN = 2;
+	private static final int GRID_SIZE = 128;
+	private static final BufferedImage EMPTY_TILE = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+
 	private MapModel<T> data;
 	private EditorContext ctx;
 
+	private volatile boolean dirty = true;
+	private SpatialGrid<NavShape> index;
+	private final Map<TileKey, BufferedImage> tiles = new LinkedHashMap<TileKey, BufferedImage>(MAX_CACHED_TILES, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<TileKey, BufferedImage> eldest) {
+			return size() > MAX_CACHED_TILES;
+		}
+	};
+
 	public NavObjectOverlay(MapModel<T> data, EditorContext ctx) {
 		this.data = data;
 		this.ctx = ctx;
 		data.addRepaintListener(this::repaint);
+		data.getItems().addListEventListener(e -> invalidate());
+		ctx.getNavMapManager().eventBus().register(this);
+		Caches.nav(ctx).addUpdateListener(this, c -> invalidate());
+	}
+
+	/**
+	 * Verwirft die aufbereiteten NavObjects und alle Kacheln.
+	 */
+	private void invalidate() {
+		dirty = true;
+		repaint();
+	}
+
+	@Subscribe
+	private void onNavMapLoaded(NavMapLoadedEvent event) {
+		invalidate();
+	}
+
+	@Subscribe
+	private void onNavMapChanged(NavMapChangedEvent event) {
+		invalidate();
 	}
 
 	private AffineTransform worldTransform(AffineTransform imageTransform) {
@@ -42,102 +101,223 @@ public class NavObjectOverlay<T extends EntityMapItem> extends Overlay {
 		return worldTransform;
 	}
 
-	private Point2D transformPoint(bCVector point, AffineTransform transform) {
-		Point2D p2d = new Point2D.Double();
-		p2d.setLocation(point.getX(), point.getZ());
-		return transform.transform(p2d, p2d);
+	private void rebuild() {
+		// Vor dem Aufbereiten zurücksetzen, damit eine zwischenzeitliche Änderung nicht verloren geht
+		dirty = false;
+		tiles.clear();
+		index = new SpatialGrid<>(data.topLeft.getX(), data.topLeft.getY(), data.bottomRight.getX(), data.bottomRight.getY(), GRID_SIZE,
+				GRID_SIZE);
+
+		NavCache navCache = Caches.nav(ctx);
+		NavMap navMap = ctx.getNavMapManager().getNavMap(true);
+		int order = 0;
+		for (T entity : data.items) {
+			NavShape shape = createShape(navCache, navMap, entity.getGuid(), order++);
+			if (shape != null) {
+				Rectangle2D bounds = shape.shape.getBounds2D();
+				index.insert(shape, (float) bounds.getMinX(), (float) bounds.getMinY(), (float) bounds.getMaxX(), (float) bounds.getMaxY());
+			}
+		}
 	}
 
-	private void drawZone(Graphics2D g, AffineTransform transform, Zone zone) {
-		int xPoints[] = new int[zone.getPointCount()];
-		int yPoints[] = new int[zone.getPointCount()];
-		List<bCVector> worldPoints = zone.getWorldPoints();
-		for (int i = 0; i < zone.getPointCount(); i++) {
-			Point2D stick = transformPoint(worldPoints.get(i), transform);
-			xPoints[i] = (int) stick.getX();
-			yPoints[i] = (int) stick.getY();
+	private NavShape createShape(NavCache navCache, NavMap navMap, String guid, int order) {
+		NavZone navZone = navCache.getZoneByGuid(guid);
+		if (navZone != null) {
+			return new NavShape(zoneShape(navZone), Color.GREEN, true, order);
 		}
-		g.setComposite(AlphaComposite.SrcOver.derive(0.1f));
-		g.fillPolygon(xPoints, yPoints, xPoints.length);
-		g.setComposite(AlphaComposite.SrcOver);
-		g.drawPolygon(xPoints, yPoints, xPoints.length);
+
+		Optional<NegZone> negZone = navMap.getNegZone(guid);
+		if (negZone.isPresent()) {
+			return new NavShape(zoneShape(negZone.get()), Color.RED, true, order);
+		}
+
+		Optional<Geometry> negCircle = navMap.getNegCircleConvexHull(guid);
+		if (negCircle.isPresent()) {
+			return new NavShape(geometryShape(negCircle.get()), Color.RED, true, order);
+		}
+
+		NavPath path = navCache.getPathByGuid(guid);
+		if (path != null) {
+			Geometry polygon = path.getPolygon();
+			if (polygon != null) {
+				return new NavShape(geometryShape(polygon), Color.BLUE.brighter(), true, order);
+			}
+			return new NavShape(lineShape(path.getWorldPoints(), false), Color.BLUE.brighter(), false, order);
+		}
+
+		Optional<Geometry> prefPath = navMap.getPrefPathPolygon(guid);
+		if (prefPath.isPresent()) {
+			return new NavShape(geometryShape(prefPath.get()), Color.PINK.darker().darker(), true, order);
+		}
+
+		return null;
+	}
+
+	private static Shape zoneShape(Zone zone) {
+		return lineShape(zone.getWorldPoints(), true);
 	}
 
-	private void drawShape(Graphics2D g, Shape shape) {
-		g.setComposite(AlphaComposite.SrcOver.derive(0.1f));
-		g.fill(shape);
-		g.setComposite(AlphaComposite.SrcOver);
-		g.draw(shape);
+	private static Shape lineShape(List<bCVector> worldPoints, boolean closed) {
+		Path2D.Float path = new Path2D.Float(Path2D.WIND_EVEN_ODD, worldPoints.size());
+		for (int i = 0; i < worldPoints.size(); i++) {
+			bCVector point = worldPoints.get(i);
+			if (i == 0) {
+				path.moveTo(point.getX(), point.getZ());
+			} else {
+				path.lineTo(point.getX(), point.getZ());
+			}
+		}
+		if (closed && !worldPoints.isEmpty()) {
+			path.closePath();
+		}
+		return path;
 	}
 
-	private void drawGeometry(Graphics2D g, AffineTransform transform, Geometry geometry) {
-		drawShape(g, new LiteShape(geometry, transform, false));
+	private static Shape geometryShape(Geometry geometry) {
+		return new Path2D.Float(new LiteShape(geometry, null, false));
 	}
 
-	private void drawPath(Graphics2D g, AffineTransform transform, NavPath path) {
-		Geometry polygon = path.getPolygon();
-		if (polygon != null) {
-			drawGeometry(g, transform, polygon);
-		} else {
-			drawPathLine(g, transform, path);
+	/**
+	 * Zeichnet alle NavObjects, die {@code area} (Weltkoordinaten) schneiden, in der Reihenfolge der
+	 * Items.
+	 *
+	 * @return Ob mindestens ein NavObject gezeichnet wurde
+	 */
+	private boolean paintShapes(Graphics2D g, AffineTransform transform, Rectangle2D area) {
+		List<NavShape> visible = new ArrayList<>();
+		index.query((float) area.getMinX(), (float) area.getMinY(), (float) area.getMaxX(), (float) area.getMaxY(), visible::add);
+		if (visible.isEmpty()) {
+			return false;
+		}
+
+		visible.sort(Comparator.comparingInt(s -> s.order));
+		for (NavShape navShape : visible) {
+			Shape shape = transform.createTransformedShape(navShape.shape);
+			g.setColor(navShape.color);
+			if (navShape.filled) {
+				g.setComposite(AlphaComposite.SrcOver.derive(0.1f));
+				g.fill(shape);
+				g.setComposite(AlphaComposite.SrcOver);
+			}
+			g.draw(shape);
+		}
+		return true;
+	}
+
+	private static Rectangle2D toWorldArea(AffineTransform worldToDevice, Rectangle2D deviceArea) {
+		try {
+			return worldToDevice.createInverse().createTransformedShape(deviceArea).getBounds2D();
+		} catch (NoninvertibleTransformException e) {
+			return null;
 		}
 	}
 
-	private void drawPathLine(Graphics2D g, AffineTransform transform, NavPath path) {
-		List<bCVector> worldPoints = path.getWorldPoints();
-		for (int i = 0; i < worldPoints.size() - 1; i++) {
-			Point2D from = transformPoint(worldPoints.get(i), transform);
-			Point2D to = transformPoint(worldPoints.get(i + 1), transform);
-			g.drawLine((int) from.getX(), (int) from.getY(), (int) to.getX(), (int) to.getY());
+	private BufferedImage renderTile(AffineTransform worldToZoomed, int tileX, int tileY) {
+		AffineTransform worldToTile = AffineTransform.getTranslateInstance(-tileX * TILE_SIZE, -tileY * TILE_SIZE);
+		worldToTile.concatenate(worldToZoomed);
+		Rectangle2D area = toWorldArea(worldToTile,
+				new Rectangle(-TILE_MARGIN, -TILE_MARGIN, TILE_SIZE + 2 * TILE_MARGIN, TILE_SIZE + 2 * TILE_MARGIN));
+		if (area == null) {
+			return EMPTY_TILE;
+		}
+
+		BufferedImage tile = new BufferedImage(TILE_SIZE, TILE_SIZE, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g = tile.createGraphics();
+		try {
+			g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+			return paintShapes(g, worldToTile, area) ? tile : EMPTY_TILE;
+		} finally {
+			g.dispose();
 		}
 	}
 
 	@Override
 	public void paint(Graphics2D g, BufferedImage image, AffineTransform transform) {
-		// int currentSize = Math.max(1, (int) Math.ceil(transform.getScaleX() / Math.sqrt(2)));
-
-		g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+		if (dirty) {
+			rebuild();
+		}
 
-		transform = worldTransform(transform);
+		Rectangle clip = g.getClipBounds();
+		if (clip == null) {
+			clip = transform.createTransformedShape(new Rectangle(image.getWidth(), image.getHeight())).getBounds();
+		}
 
-		NavCache navCache = Caches.nav(ctx);
-		NavMap navMap = ctx.getNavMapManager().getNavMap(true);
-		for (T entity : data.items) {
-			NavZone navZone = navCache.getZoneByGuid(entity.getGuid());
-			if (navZone != null) {
-				g.setColor(Color.GREEN);
-				drawZone(g, transform, navZone);
-				continue;
+		// Kacheln setzen voraus, dass das Bild nur skaliert und verschoben wird
+		if ((transform.getType() & ~(AffineTransform.TYPE_TRANSLATION | AffineTransform.TYPE_MASK_SCALE)) != 0) {
+			AffineTransform worldTransform = worldTransform(transform);
+			Rectangle2D area = toWorldArea(worldTransform, clip);
+			if (area != null) {
+				g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+				paintShapes(g, worldTransform, area);
 			}
+			return;
+		}
 
-			Optional<NegZone> negZone = navMap.getNegZone(entity.getGuid());
-			if (negZone.isPresent()) {
-				g.setColor(Color.RED);
-				drawZone(g, transform, negZone.get());
-				continue;
-			}
+		double scaleX = transform.getScaleX();
+		double scaleY = transform.getScaleY();
+		AffineTransform worldToZoomed = worldTransform(AffineTransform.getScaleInstance(scaleX, scaleY));
+		long offsetX = Math.round(transform.getTranslateX());
+		long offsetY = Math.round(transform.getTranslateY());
 
-			Optional<Geometry> negCircle = navMap.getNegCircleConvexHull(entity.getGuid());
-			if (negCircle.isPresent()) {
-				g.setColor(Color.RED);
-				drawGeometry(g, transform, negCircle.get());
-				continue;
-			}
+		int firstTileX = (int) Math.floorDiv(clip.x - offsetX, TILE_SIZE);
+		int lastTileX = (int) Math.floorDiv(clip.x + clip.width - 1 - offsetX, TILE_SIZE);
+		int firstTileY = (int) Math.floorDiv(clip.y - offsetY, TILE_SIZE);
+		int lastTileY = (int) Math.floorDiv(clip.y + clip.height - 1 - offsetY, TILE_SIZE);
+		for (int tileY = firstTileY; tileY <= lastTileY; tileY++) {
+			for (int tileX = firstTileX; tileX <= lastTileX; tileX++) {
+				TileKey key = new TileKey(scaleX, scaleY, tileX, tileY);
+				BufferedImage tile = tiles.get(key);
+				if (tile == null) {
+					tile = renderTile(worldToZoomed, tileX, tileY);
+					tiles.put(key, tile);
+				}
 
-			NavPath path = navCache.getPathByGuid(entity.getGuid());
-			if (path != null) {
-				g.setColor(Color.BLUE.brighter());
-				drawPath(g, transform, path);
-				continue;
+				if (tile != EMPTY_TILE) {
+					g.drawImage(tile, (int) (offsetX + tileX * TILE_SIZE), (int) (offsetY + tileY * TILE_SIZE), null);
+				}
 			}
+		}
+	}
 
-			Optional<Geometry> prefPath = navMap.getPrefPathPolygon(entity.getGuid());
-			if (prefPath.isPresent()) {
-				g.setColor(Color.PINK.darker().darker());
-				drawGeometry(g, transform, prefPath.get());
-				continue;
-			}
+	private static final class NavShape {
+		private final Shape shape;
+		private final Color color;
+		private final boolean filled;
+		private final int order;
+
+		public NavShape(Shape shape, Color color, boolean filled, int order) {
+			this.shape = shape;
+			this.color = color;
+			this.filled = filled;
+			this.order = order;
 		}
 	}
 
+	private static final class TileKey {
+		private final double scaleX;
+		private final double scaleY;
+		private final int tileX;
+		private final int tileY;
+
+		public TileKey(double scaleX, double scaleY, int tileX, int tileY) {
+			this.scaleX = scaleX;
+			this.scaleY = scaleY;
+			this.tileX = tileX;
+			this.tileY = tileY;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof TileKey)) {
+				return false;
+			}
+			TileKey other = (TileKey) obj;
+			return scaleX == other.scaleX && scaleY == other.scaleY && tileX == other.tileX && tileY == other.tileY;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(scaleX, scaleY, tileX, tileY);
+		}
+	}
 }
@@ -6,9 +6,6 @@ import java.awt.RenderingHints;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Point2D;
 import java.awt.image.BufferedImage;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import javax.swing.SwingUtilities;
@@ -16,6 +13,8 @@ import javax.swing.SwingUtilities;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import de.george.g3dit.IpcMonitor;
+import de.george.g3dit.rpc.IpcBatch;
 import de.george.g3dit.rpc.MonotonicallyOrderedIpc;
 import de.george.g3dit.rpc.proto.DTC;
 import de.george.g3dit.rpc.proto.G3RemoteControlProtos.EntityRequest;
@@ -30,39 +29,51 @@ public class PlayerPositionOverlay<T extends MapItem> extends Overlay {
 	private static final Logger logger = LoggerFactory.getLogger(PlayerPositionOverlay.class);
 	private static final String PC_HERO = "PC_Hero";
 
+	// Der Heartbeat des IpcMonitor kommt alle 250 ms, die Position wird nur jede Sekunde abgefragt
+	private static final int POLL_INTERVAL = 4;
+
 	private int size = 5;
 
 	private MapModel<T> model;
 	private Supplier<Boolean> isActive;
 	private MonotonicallyOrderedIpc ipcPlayerPosition = new MonotonicallyOrderedIpc();
-	private ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();;
 
+	private int pollCount = 0;
 	private boolean lastActive = false;
 	private boolean validPosition;
 	private bCVector worldPosition;
 
-	public PlayerPositionOverlay(MapModel<T> model, Supplier<Boolean> isActive) {
+	/**
+	 * Die Position wird über die regelmäßigen Abfragen von {@code ipcMonitor} ermittelt.
+	 */
+	public PlayerPositionOverlay(MapModel<T> model, IpcMonitor ipcMonitor, Supplier<Boolean> isActive) {
 		this.model = model;
 		this.isActive = isActive;
 
-		executor.scheduleAtFixedRate(() -> {
-			try {
-				boolean active = isActive.get();
-				if (active) {
-					updatePlayerPosition();
-				} else if (lastActive != active) {
-					SwingUtilities.invokeLater(this::repaint);
-				}
-				lastActive = active;
-			} catch (Exception e) {
-				logger.warn("Fehler in updatePosition().", e);
+		ipcMonitor.addPollListener(this, this::poll);
+	}
+
+	private void poll(IpcBatch batch) {
+		if (pollCount++ % POLL_INTERVAL != 0) {
+			return;
+		}
+
+		try {
+			boolean active = isActive.get();
+			if (active) {
+				updatePlayerPosition(batch);
+			} else if (lastActive != active) {
+				SwingUtilities.invokeLater(this::repaint);
 			}
-		}, 0, 1000, TimeUnit.MILLISECONDS);
+			lastActive = active;
+		} catch (Exception e) {
+			logger.warn("Fehler in updatePosition().", e);
+		}
 	}
 
-	private void updatePlayerPosition() {
+	private void updatePlayerPosition(IpcBatch batch) {
 		EntityRequest request = EntityRequest.newBuilder().setName(PC_HERO).build();
-		ipcPlayerPosition.sendRequest(request, (s, rc, ud) -> {
+		ipcPlayerPosition.addRequest(batch, request, (s, rc, ud) -> {
 			SwingUtilities.invokeLater(() -> {
 				if (s == ResponseCallback.Status.Timeout) {
 					validPosition = false;
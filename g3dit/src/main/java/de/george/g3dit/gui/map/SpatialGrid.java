@@ -0,0 +1,153 @@
+package de.george.g3dit.gui.map;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Gleichmäßiges Raster über einen 2D-Bereich, in dem Objekte mit ihren Bounds (oder als Punkt)
+ * abgelegt werden. Abfragen betrachten nur die Zellen, die den gesuchten Bereich schneiden, und
+ * kommen ohne Allokation pro Objekt aus.
+ * <p>
+ * Objekte außerhalb des Bereichs werden den Randzellen zugeordnet und bleiben auffindbar. Objekte
+ * werden über ihre Identität verwaltet, ein erneutes {@link #insert} ersetzt den vorherigen Eintrag.
+ * Alle Methoden sind synchronisiert.
+ */
+public class SpatialGrid<T> {
+	private final float minX;
+	private final float minY;
+	private final float cellWidth;
+	private final float cellHeight;
+	private final int columns;
+	private final int rows;
+
+	private final List<Entry<T>>[] cells;
+	private final Map<T, Entry<T>> entries = new IdentityHashMap<>();
+	// Markiert bereits gemeldete Einträge, die mehrere Zellen überdecken
+	private int queryStamp = 0;
+
+	@SuppressWarnings("unchecked")
+	public SpatialGrid(float x1, float y1, float x2, float y2, int columns, int rows) {
+		if (columns <= 0 || rows <= 0) {
+			throw new IllegalArgumentException("Ungültige Rastergröße: " + columns + "x" + rows);
+		}
+
+		minX = Math.min(x1, x2);
+		minY = Math.min(y1, y2);
+		cellWidth = Math.max((Math.max(x1, x2) - minX) / columns, Float.MIN_NORMAL);
+		cellHeight = Math.max((Math.max(y1, y2) - minY) / rows, Float.MIN_NORMAL);
+		this.columns = columns;
+		this.rows = rows;
+		cells = new List[columns * rows];
+	}
+
+	public void insert(T item, float x, float y) {
+		insert(item, x, y, x, y);
+	}
+
+	public synchronized void insert(T item, float x1, float y1, float x2, float y2) {
+		remove(item);
+
+		Entry<T> entry = new Entry<>(item, Math.min(x1, x2), Math.min(y1, y2), Math.max(x1, x2), Math.max(y1, y2));
+		entries.put(item, entry);
+		for (int row = row(entry.minY); row <= row(entry.maxY); row++) {
+			for (int column = column(entry.minX); column <= column(entry.maxX); column++) {
+				int index = row * columns + column;
+				if (cells[index] == null) {
+					cells[index] = new ArrayList<>(4);
+				}
+				cells[index].add(entry);
+			}
+		}
+	}
+
+	public synchronized boolean remove(T item) {
+		Entry<T> entry = entries.remove(item);
+		if (entry == null) {
+			return false;
+		}
+
+		for (int row = row(entry.minY); row <= row(entry.maxY); row++) {
+			for (int column = column(entry.minX); column <= column(entry.maxX); column++) {
+				List<Entry<T>> cell = cells[row * columns + column];
+				for (int i = 0; i < cell.size(); i++) {
+					if (cell.get(i) == entry) {
+						// Reihenfolge innerhalb der Zelle ist unerheblich
+						cell.set(i, cell.get(cell.size() - 1));
+						cell.remove(cell.size() - 1);
+						break;
+					}
+				}
+			}
+		}
+		return true;
+	}
+
+	public synchronized void clear() {
+		entries.clear();
+		for (int i = 0; i < cells.length; i++) {
+			cells[i] = null;
+		}
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Übergibt jedes Objekt, dessen Bounds den Bereich schneiden (Ränder eingeschlossen), genau einmal
+	 * an {@code consumer}. Die Reihenfolge ist nicht festgelegt.
+	 */
+	public synchronized void query(float x1, float y1, float x2, float y2, Consumer<? super T> consumer) {
+		float qMinX = Math.min(x1, x2);
+		float qMinY = Math.min(y1, y2);
+		float qMaxX = Math.max(x1, x2);
+		float qMaxY = Math.max(y1, y2);
+
+		int stamp = ++queryStamp;
+		for (int row = row(qMinY); row <= row(qMaxY); row++) {
+			for (int column = column(qMinX); column <= column(qMaxX); column++) {
+				List<Entry<T>> cell = cells[row * columns + column];
+				if (cell == null) {
+					continue;
+				}
+
+				for (int i = 0; i < cell.size(); i++) {
+					Entry<T> entry = cell.get(i);
+					if (entry.stamp != stamp && entry.minX <= qMaxX && entry.maxX >= qMinX && entry.minY <= qMaxY && entry.maxY >= qMinY) {
+						entry.stamp = stamp;
+						consumer.accept(entry.item);
+					}
+				}
+			}
+		}
+	}
+
+	private int column(float x) {
+		return clamp((int) Math.floor((x - minX) / cellWidth), columns);
+	}
+
+	private int row(float y) {
+		return clamp((int) Math.floor((y - minY) / cellHeight), rows);
+	}
+
+	private static int clamp(int index, int count) {
+		return index < 0 ? 0 : index >= count ? count - 1 : index;
+	}
+
+	private static final class Entry<T> {
+		private final T item;
+		private final float minX, minY, maxX, maxY;
+		private int stamp;
+
+		public Entry(T item, float minX, float minY, float maxX, float maxY) {
+			this.item = item;
+			this.minX = minX;
+			this.minY = minY;
+			this.maxX = maxX;
+			this.maxY = maxY;
+		}
+	}
+}
@@ -2,9 +2,6 @@ package de.george.g3dit.jme.asset;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.FloatBuffer;
-import java.nio.IntBuffer;
-import java.nio.ShortBuffer;
 import java.util.List;
 import java.util.logging.Logger;
 
@@ -21,14 +18,9 @@ import com.jme3.scene.Mesh;
 import com.jme3.scene.Mesh.Mode;
 import com.jme3.scene.Node;
 import com.jme3.scene.VertexBuffer;
-import com.jme3.scene.mesh.IndexBuffer;
-import com.jme3.scene.mesh.IndexIntBuffer;
-import com.jme3.scene.mesh.IndexShortBuffer;
 import com.jme3.util.BufferUtils;
 
 import de.george.g3dit.jme.asset.MeshUtil.IllegalMeshException;
-import de.george.g3utils.structure.bCVector;
-import de.george.g3utils.structure.bCVector2;
 
 public abstract class AbstractG3MeshLoader implements AssetLoader {
 
@@ -41,7 +33,7 @@ public abstract class AbstractG3MeshLoader implements AssetLoader {
 	private int geomIndex;
 
 	protected Geometry createGeometry(IntermediateMesh sourceMesh, int materialSwitch) throws IOException {
-		if (sourceMesh.indices.isEmpty()) {
+		if (sourceMesh.indices.length == 0) {
 			throw new IOException("No geometry data to generate mesh");
 		}
 
@@ -79,59 +71,43 @@ public abstract class AbstractG3MeshLoader implements AssetLoader {
 		Mesh m = new Mesh();
 		m.setMode(Mode.Triangles);
 
-		boolean hasTexCoord = true;
-		boolean hasNormals = true;
-
-		FloatBuffer posBuf = BufferUtils.createFloatBuffer(sourceMesh.vertices.size() * 3);
-		FloatBuffer normBuf = null;
-		FloatBuffer tcBuf = null;
-
-		if (hasNormals) {
-			normBuf = BufferUtils.createFloatBuffer(sourceMesh.normals.size() * 3);
-			m.setBuffer(VertexBuffer.Type.Normal, 3, normBuf);
-		}
-		if (hasTexCoord) {
-			tcBuf = BufferUtils.createFloatBuffer(sourceMesh.texCoords.size() * 2);
-			m.setBuffer(VertexBuffer.Type.TexCoord, 2, tcBuf);
+		// Die Streams werden jeweils in einem Stück in die Buffer kopiert
+		float[] positions = sourceMesh.vertices;
+		if (!isLeftHanded()) {
+			positions = positions.clone();
+			for (int i = 2; i < positions.length; i += 3) {
+				positions[i] = -positions[i];
+			}
 		}
+		m.setBuffer(VertexBuffer.Type.Position, 3, BufferUtils.createFloatBuffer(positions));
 
-		IndexBuffer indexBuf = null;
-		if (sourceMesh.vertices.size() >= 65536) {
-			// too many verticies: use intbuffer instead of shortbuffer
-			IntBuffer ib = BufferUtils.createIntBuffer(sourceMesh.indices.size());
-			m.setBuffer(VertexBuffer.Type.Index, 3, ib);
-			indexBuf = new IndexIntBuffer(ib);
-		} else {
-			ShortBuffer sb = BufferUtils.createShortBuffer(sourceMesh.indices.size());
-			m.setBuffer(VertexBuffer.Type.Index, 3, sb);
-			indexBuf = new IndexShortBuffer(sb);
+		if (sourceMesh.normals.length > 0) {
+			m.setBuffer(VertexBuffer.Type.Normal, 3, BufferUtils.createFloatBuffer(sourceMesh.normals));
 		}
-
-		for (int i = 0; i < sourceMesh.vertices.size(); i++) {
-			bCVector vertex = sourceMesh.vertices.get(i);
-			posBuf.put(vertex.getX()).put(vertex.getY()).put(isLeftHanded() ? vertex.getZ() : -vertex.getZ());
-
-			bCVector normal = sourceMesh.normals.get(i);
-			normBuf.put(normal.getX()).put(normal.getY()).put(normal.getZ());
-
-			bCVector2 texture = sourceMesh.texCoords.get(i);
-			tcBuf.put(texture.getX()).put(texture.getY());
+		if (sourceMesh.texCoords.length > 0) {
+			m.setBuffer(VertexBuffer.Type.TexCoord, 2, BufferUtils.createFloatBuffer(sourceMesh.texCoords));
 		}
 
-		for (int i = 0; i < sourceMesh.indices.size(); i += 3) {
-			indexBuf.put(i, sourceMesh.indices.get(i));
-			if (isLeftHanded()) {
-				indexBuf.put(i + 1, sourceMesh.indices.get(i + 1));
-				indexBuf.put(i + 2, sourceMesh.indices.get(i + 2));
-			} else {
-				indexBuf.put(i + 1, sourceMesh.indices.get(i + 2));
-				indexBuf.put(i + 2, sourceMesh.indices.get(i + 1));
+		int[] indices = sourceMesh.indices;
+		if (!isLeftHanded()) {
+			indices = indices.clone();
+			for (int i = 0; i < indices.length; i += 3) {
+				int swap = indices[i + 1];
+				indices[i + 1] = indices[i + 2];
+				indices[i + 2] = swap;
 			}
-
 		}
 
-		m.setBuffer(VertexBuffer.Type.Position, 3, posBuf);
-		// index buffer and others were set on creation
+		if (sourceMesh.getVertexCount() >= 65536) {
+			// too many verticies: use intbuffer instead of shortbuffer
+			m.setBuffer(VertexBuffer.Type.Index, 3, BufferUtils.createIntBuffer(indices));
+		} else {
+			short[] shortIndices = new short[indices.length];
+			for (int i = 0; i < indices.length; i++) {
+				shortIndices[i] = (short) indices[i];
+			}
+			m.setBuffer(VertexBuffer.Type.Index, 3, BufferUtils.createShortBuffer(shortIndices));
+		}
 
 		m.setStatic();
 		m.updateCounts();
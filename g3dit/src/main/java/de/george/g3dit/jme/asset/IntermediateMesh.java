@@ -1,34 +1,29 @@
 package de.george.g3dit.jme.asset;
 
-import java.util.ArrayList;
-import java.util.List;
-
-import de.george.g3utils.structure.bCVector;
-import de.george.g3utils.structure.bCVector2;
-
+/**
+ * Hält die Vertexdaten eines Meshes als primitive Arrays, damit sie ohne Umweg über einzelne
+ * Vektorobjekte in die Buffer der Grafikkarte kopiert werden können.
+ */
 public class IntermediateMesh {
-	public String materialName;
-	public List<bCVector> vertices;
-	public List<bCVector> normals;
-	public List<bCVector2> texCoords;
-	public List<Integer> indices;
-
-	public IntermediateMesh() {
-		vertices = new ArrayList<>();
-		normals = new ArrayList<>();
-		texCoords = new ArrayList<>();
-		indices = new ArrayList<>();
-	}
+	private static final float[] NO_FLOATS = new float[0];
+	private static final int[] NO_INTS = new int[0];
 
-	public void addVertex(bCVector vertex) {
-		vertices.add(vertex);
-	}
-
-	public void addNormal(bCVector normal) {
-		normals.add(normal);
-	}
+	public String materialName;
+	/**
+	 * x, y, z pro Vertex
+	 */
+	public float[] vertices = NO_FLOATS;
+	/**
+	 * x, y, z pro Vertex
+	 */
+	public float[] normals = NO_FLOATS;
+	/**
+	 * u, v pro Vertex
+	 */
+	public float[] texCoords = NO_FLOATS;
+	public int[] indices = NO_INTS;
 
-	public void addTexCoord(bCVector2 texCoord) {
-		texCoords.add(texCoord);
+	public int getVertexCount() {
+		return vertices.length / 3;
 	}
 }
@@ -11,12 +11,10 @@ import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import de.george.g3utils.structure.bCVector;
 import de.george.lrentnode.archive.animation.Chunks.LMA_CHUNK;
 import de.george.lrentnode.archive.animation.Chunks.MaterialChunk;
 import de.george.lrentnode.archive.animation.Chunks.MeshChunk;
 import de.george.lrentnode.archive.animation.Chunks.Submesh;
-import de.george.lrentnode.archive.animation.Chunks.Vertex;
 import de.george.lrentnode.archive.animation.eCResourceAnimationActor_PS;
 import de.george.lrentnode.classes.eCResourceMeshComplex_PS;
 import de.george.lrentnode.structures.eCMeshElement;
@@ -59,8 +57,8 @@ public class MeshUtil {
 			if (!onlyMaterial) {
 				// Faces
 				if (sourceMesh.hasStreamArray(eEVertexStreamArrayType_Face)) {
-					List<Integer> faceIndicies = sourceMesh.getStreamArrayByType(eEVertexStreamArrayType_Face);
-					if (faceIndicies.size() % 3 != 0) {
+					int[] faceIndicies = sourceMesh.getIntStream(eEVertexStreamArrayType_Face);
+					if (faceIndicies.length % 3 != 0) {
 						throw new IllegalMeshException(i, mesh.materialName, "Number of face indices is not am multiple of 3.");
 					}
 					mesh.indices = faceIndicies;
@@ -68,19 +66,17 @@ public class MeshUtil {
 
 				// Vertices
 				if (sourceMesh.hasStreamArray(eEVertexStreamArrayType_VertexPosition)) {
-					List<bCVector> vertices = sourceMesh.getStreamArrayByType(eEVertexStreamArrayType_VertexPosition);
-					mesh.vertices = vertices;
+					mesh.vertices = sourceMesh.getFloatStream(eEVertexStreamArrayType_VertexPosition);
 				}
 
 				// Normals
 				if (sourceMesh.hasStreamArray(eEVertexStreamArrayType_Normal)) {
-					List<bCVector> normals = sourceMesh.getStreamArrayByType(eEVertexStreamArrayType_Normal);
-					mesh.normals = normals;
+					mesh.normals = sourceMesh.getFloatStream(eEVertexStreamArrayType_Normal);
 				}
 
 				// Texture coordinates
 				if (sourceMesh.hasStreamArray(eEVertexStreamArrayType_TextureCoordinate)) {
-					mesh.texCoords = sourceMesh.getStreamArrayByType(eEVertexStreamArrayType_TextureCoordinate);
+					mesh.texCoords = sourceMesh.getFloatStream(eEVertexStreamArrayType_TextureCoordinate);
 				}
 			}
 
@@ -116,17 +112,14 @@ public class MeshUtil {
 						logger.warn("Submesh {} ({}) has multiple %d UV sets.", i, mesh.materialName, submesh.numUVSets);
 					}
 
-					boolean hasTexCoords = submesh.numUVSets >= 1;
-					for (Vertex vertex : submesh.vertices) {
-						mesh.addVertex(vertex.getPositionXYZ());
-						mesh.addNormal(vertex.getNormalXYZ());
-						if (hasTexCoords) {
-							mesh.addTexCoord(vertex.uvSets.get(0));
-						}
+					mesh.vertices = submesh.getPositionsXYZ();
+					mesh.normals = submesh.getNormalsXYZ();
+					if (submesh.numUVSets >= 1) {
+						mesh.texCoords = submesh.getUVs(0);
 					}
 
 					// Faces
-					if (submesh.indices.size() % 3 != 0) {
+					if (submesh.indices.length % 3 != 0) {
 						throw new IllegalMeshException(i, mesh.materialName, "Number of face indices is not am multiple of 3.");
 					}
 
@@ -139,5 +132,4 @@ public class MeshUtil {
 
 		return meshes;
 	}
-
 }
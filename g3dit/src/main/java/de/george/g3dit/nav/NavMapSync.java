@@ -38,8 +38,7 @@ public class NavMapSync extends JFrame {
 		setResizable(true);
 		setDefaultCloseOperation(DISPOSE_ON_CLOSE);
 
-		ctx.getCacheManager().createCache(NavCache.class);
-		ctx.getCacheManager().createCache(EntityCache.class);
+		ctx.getCacheManager().createCaches(NavCache.class, EntityCache.class);
 
 		navMap = ctx.getNavMapManager().getNavMap(true);
 		navCache = Caches.nav(ctx);
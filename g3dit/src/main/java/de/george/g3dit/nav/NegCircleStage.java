@@ -168,7 +168,7 @@ public class NegCircleStage extends NavCalcStage {
 							bCVector offset = negCircle.circleOffsets.get(i);
 							if (!ourOffset.simliar(offset, 0.01f)) {
 								details.add(String.format("Offset %d differs: %s instead of %s (%s).", i, ourOffset, offset,
-										offset.getTransformed(entity.getWorldMatrix().getInverted())));
+										offset.getTransformed(entity.worldMatrix().getInverted())));
 							}
 
 							float ourRadius = ourNegCircle.circleRadius.get(i);
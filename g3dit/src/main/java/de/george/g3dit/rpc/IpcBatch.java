@@ -0,0 +1,320 @@
+package de.george.g3dit.rpc;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.protobuf.GeneratedMessage;
+
+import de.george.g3dit.rpc.proto.G3RemoteControlProtos.EntityRequest;
+import de.george.g3dit.rpc.proto.G3RemoteControlProtos.PropertyIdentifier;
+import de.george.g3dit.rpc.proto.G3RemoteControlProtos.PropertyRequest;
+import de.george.g3dit.rpc.proto.G3RemoteControlProtos.PropertyResponse;
+import de.george.g3dit.rpc.proto.G3RemoteControlProtos.PropertySerialized;
+import de.george.g3dit.rpc.proto.G3RemoteControlProtos.ResponseContainer;
+import de.george.g3dit.rpc.zmq.GothicIpc;
+import de.george.g3dit.rpc.zmq.ResponseCallback;
+import de.george.g3dit.rpc.zmq.ResponseCallback.Status;
+
+/**
+ * Sammelt Requests und fasst sie vor dem Versenden zusammen.
+ * <ul>
+ * <li>{@link EntityRequest}s an dieselbe Entity werden zu einem Request verschmolzen, spätere Werte
+ * (z.B. {@code moveto}) ersetzen dabei frühere.</li>
+ * <li>{@link PropertyRequest}s an dieselbe Entity werden zu einem Request mit allen gelesenen bzw.
+ * geschriebenen Properties verschmolzen. Wird eine Property mehrfach geschrieben, gilt der letzte
+ * Wert.</li>
+ * <li>Alle anderen Requests werden unverändert verschickt.</li>
+ * </ul>
+ * Ein zusammengefasster Request wird an der Stelle des ersten beteiligten Requests verschickt,
+ * spätere Requests werden also vorgezogen. Damit sich dadurch die Reihenfolge von Lese- und
+ * Schreibzugriffen auf eine Entity nicht ändert, werden nur direkt aufeinanderfolgende Requests an
+ * dieselbe Entity zusammengefasst, die vom selben Typ sind und nur lesen oder auf die gleiche Art
+ * schreiben. Requests, die nicht zusammengefasst werden können, wirken als Barriere, da nicht
+ * bekannt ist, welche Entities sie betreffen. Ob sich ein Name und eine Guid auf dieselbe Entity
+ * beziehen, wird nicht erkannt.
+ * <p>
+ * Jeder Callback erhält die Antwort des zusammengefassten Requests, bei {@link PropertyRequest}s
+ * reduziert auf die Properties, die er selbst angefragt hat.
+ */
+public class IpcBatch {
+	private final GothicIpc ipc;
+	// Alle Requests in der Reihenfolge, in der sie verschickt werden
+	private final List<Slot> slots = new ArrayList<>();
+	// Je Entity der letzte Slot, zu dem noch Requests hinzugefügt werden können
+	private final Map<String, MergeableSlot> openSlots = new HashMap<>();
+	private boolean sent = false;
+
+	public IpcBatch(GothicIpc ipc) {
+		this.ipc = ipc;
+	}
+
+	public IpcBatch add(GeneratedMessage request) {
+		return add(request, null, null);
+	}
+
+	public IpcBatch add(GeneratedMessage request, ResponseCallback responseCallback) {
+		return add(request, responseCallback, null);
+	}
+
+	public IpcBatch add(GeneratedMessage request, ResponseCallback responseCallback, Object userData) {
+		if (sent) {
+			throw new IllegalStateException("Batch wurde bereits verschickt.");
+		}
+
+		String key = getEntityKey(request);
+		if (key == null) {
+			openSlots.clear();
+			slots.add(new PassThroughSlot(request, responseCallback, userData));
+			return this;
+		}
+
+		MergeableSlot slot = openSlots.get(key);
+		if (slot == null || !slot.accepts(request)) {
+			slot = request instanceof EntityRequest ? new EntitySlot((EntityRequest) request)
+					: new PropertySlot((PropertyRequest) request);
+			slots.add(slot);
+			openSlots.put(key, slot);
+		}
+		slot.add(request, responseCallback, userData);
+		return this;
+	}
+
+	/**
+	 * @return Anzahl der Requests, die nach dem Zusammenfassen verschickt werden
+	 */
+	public int size() {
+		return slots.size();
+	}
+
+	/**
+	 * Verschickt die zusammengefassten Requests in der Reihenfolge, in der die jeweils ersten
+	 * zugehörigen Requests hinzugefügt wurden.
+	 */
+	public void send() {
+		if (sent) {
+			throw new IllegalStateException("Batch wurde bereits verschickt.");
+		}
+
+		sent = true;
+		for (Slot slot : slots) {
+			ipc.sendRequest(slot.build(), (s, rc, ud) -> slot.dispatch(s, rc));
+		}
+	}
+
+	/**
+	 * @return Schlüssel der Entity, auf die sich {@code request} bezieht, oder {@code null}, wenn
+	 *         {@code request} nicht zusammengefasst werden kann
+	 */
+	private static String getEntityKey(GeneratedMessage request) {
+		if (request instanceof EntityRequest) {
+			EntityRequest entityRequest = (EntityRequest) request;
+			switch (entityRequest.getIdentifierCase()) {
+				case NAME:
+					return "name:" + entityRequest.getName();
+				case GUID:
+					return "guid:" + entityRequest.getGuid();
+				case FOCUS:
+				case EDITOR:
+					return entityRequest.getIdentifierCase().toString();
+				default:
+					return null;
+			}
+		} else if (request instanceof PropertyRequest) {
+			PropertyRequest propertyRequest = (PropertyRequest) request;
+			switch (propertyRequest.getIdentifierCase()) {
+				case ENTITY_NAME:
+					return "name:" + propertyRequest.getEntityName();
+				case ENTITY_GUID:
+					return "guid:" + propertyRequest.getEntityGuid();
+				default:
+					return null;
+			}
+		}
+		return null;
+	}
+
+	private static abstract class Slot {
+		public abstract GeneratedMessage build();
+
+		public abstract void dispatch(Status status, ResponseContainer container);
+	}
+
+	private static abstract class MergeableSlot extends Slot {
+		/**
+		 * @return {@code true}, wenn sich {@code request} mit den bisherigen Requests zusammenfassen
+		 *         lässt, ohne dass sich das Ergebnis ändert
+		 */
+		public abstract boolean accepts(GeneratedMessage request);
+
+		public abstract void add(GeneratedMessage request, ResponseCallback responseCallback, Object userData);
+	}
+
+	private static class Target {
+		private final ResponseCallback responseCallback;
+		private final Object userData;
+
+		public Target(ResponseCallback responseCallback, Object userData) {
+			this.responseCallback = responseCallback;
+			this.userData = userData;
+		}
+
+		public void notify(Status status, ResponseContainer container) {
+			if (responseCallback != null) {
+				responseCallback.notify(status, container, userData);
+			}
+		}
+	}
+
+	private static final class PassThroughSlot extends Slot {
+		private final GeneratedMessage request;
+		private final Target target;
+
+		public PassThroughSlot(GeneratedMessage request, ResponseCallback responseCallback, Object userData) {
+			this.request = request;
+			target = new Target(responseCallback, userData);
+		}
+
+		@Override
+		public GeneratedMessage build() {
+			return request;
+		}
+
+		@Override
+		public void dispatch(Status status, ResponseContainer container) {
+			target.notify(status, container);
+		}
+	}
+
+	private static final class EntitySlot extends MergeableSlot {
+		private final EntityRequest.Builder builder = EntityRequest.newBuilder();
+		private final List<Target> targets = new ArrayList<>();
+		// Nur Requests, die dieselben Felder setzen, ergeben zusammengefasst dasselbe wie einzeln
+		private final boolean moveto;
+		private final boolean putToGround;
+
+		public EntitySlot(EntityRequest request) {
+			moveto = request.hasMoveto();
+			putToGround = request.hasPutToGround();
+		}
+
+		@Override
+		public boolean accepts(GeneratedMessage request) {
+			if (!(request instanceof EntityRequest)) {
+				return false;
+			}
+
+			EntityRequest entityRequest = (EntityRequest) request;
+			return entityRequest.hasMoveto() == moveto && entityRequest.hasPutToGround() == putToGround;
+		}
+
+		@Override
+		public void add(GeneratedMessage request, ResponseCallback responseCallback, Object userData) {
+			builder.mergeFrom((EntityRequest) request);
+			targets.add(new Target(responseCallback, userData));
+		}
+
+		@Override
+		public GeneratedMessage build() {
+			return builder.build();
+		}
+
+		@Override
+		public void dispatch(Status status, ResponseContainer container) {
+			for (Target target : targets) {
+				target.notify(status, container);
+			}
+		}
+	}
+
+	private static final class PropertySlot extends MergeableSlot {
+		private final PropertyRequest.Builder builder = PropertyRequest.newBuilder();
+		private final Set<PropertyIdentifier> gets = new LinkedHashSet<>();
+		private final Map<PropertyIdentifier, PropertySerialized> sets = new LinkedHashMap<>();
+		private final List<PropertyTarget> targets = new ArrayList<>();
+		// Lesende und schreibende Requests werden nie zusammengefasst, da sonst ein Lesezugriff den
+		// Wert eines späteren Schreibzugriffs sehen könnte (oder umgekehrt)
+		private final boolean reading;
+		private final boolean writing;
+
+		public PropertySlot(PropertyRequest request) {
+			if (request.hasEntityGuid()) {
+				builder.setEntityGuid(request.getEntityGuid());
+			} else {
+				builder.setEntityName(request.getEntityName());
+			}
+			reading = request.getPropertiesGetCount() > 0;
+			writing = request.getPropertiesSetCount() > 0;
+		}
+
+		@Override
+		public boolean accepts(GeneratedMessage request) {
+			if (!(request instanceof PropertyRequest) || reading && writing) {
+				return false;
+			}
+
+			PropertyRequest propertyRequest = (PropertyRequest) request;
+			return propertyRequest.getPropertiesGetCount() > 0 == reading && propertyRequest.getPropertiesSetCount() > 0 == writing;
+		}
+
+		@Override
+		public void add(GeneratedMessage request, ResponseCallback responseCallback, Object userData) {
+			PropertyRequest propertyRequest = (PropertyRequest) request;
+			gets.addAll(propertyRequest.getPropertiesGetList());
+			for (PropertySerialized property : propertyRequest.getPropertiesSetList()) {
+				// Den Eintrag entfernen, damit die Reihenfolge dem letzten Schreibzugriff entspricht
+				sets.remove(property.getIdentifier());
+				sets.put(property.getIdentifier(), property);
+			}
+			targets.add(new PropertyTarget(responseCallback, userData, propertyRequest));
+		}
+
+		@Override
+		public GeneratedMessage build() {
+			return builder.addAllPropertiesGet(gets).addAllPropertiesSet(sets.values()).build();
+		}
+
+		@Override
+		public void dispatch(Status status, ResponseContainer container) {
+			if (status != Status.Successful || !container.hasPropertyResponse()) {
+				for (PropertyTarget target : targets) {
+					target.notify(status, container);
+				}
+				return;
+			}
+
+			PropertyResponse response = container.getPropertyResponse();
+			for (PropertyTarget target : targets) {
+				PropertyResponse.Builder filtered = PropertyResponse.newBuilder();
+				for (PropertySerialized property : response.getPropertiesGetList()) {
+					if (target.gets.contains(property.getIdentifier())) {
+						filtered.addPropertiesGet(property);
+					}
+				}
+				for (PropertySerialized property : response.getPropertiesSetList()) {
+					if (target.sets.contains(property.getIdentifier())) {
+						filtered.addPropertiesSet(property);
+					}
+				}
+				target.notify(status, container.toBuilder().setPropertyResponse(filtered).build());
+			}
+		}
+	}
+
+	private static final class PropertyTarget extends Target {
+		private final Set<PropertyIdentifier> gets;
+		private final Set<PropertyIdentifier> sets = new LinkedHashSet<>();
+
+		public PropertyTarget(ResponseCallback responseCallback, Object userData, PropertyRequest request) {
+			super(responseCallback, userData);
+			gets = new LinkedHashSet<>(request.getPropertiesGetList());
+			for (PropertySerialized property : request.getPropertiesSetList()) {
+				sets.add(property.getIdentifier());
+			}
+		}
+	}
+}
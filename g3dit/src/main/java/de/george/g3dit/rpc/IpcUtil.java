@@ -19,4 +19,12 @@ public class IpcUtil {
 		GotoRequest request = GotoRequest.newBuilder().setGuid(GuidUtil.hexToGuidText(GuidUtil.parseGuid(guid))).build();
 		IpcHelper.getIpc().sendRequest(request, null, null);
 	}
+
+	/**
+	 * Erstellt einen {@link IpcBatch}, der viele Requests zusammengefasst an die laufende
+	 * {@link de.george.g3dit.rpc.zmq.GothicIpc} Instanz schickt.
+	 */
+	public static IpcBatch batch() {
+		return new IpcBatch(IpcHelper.getIpc());
+	}
 }
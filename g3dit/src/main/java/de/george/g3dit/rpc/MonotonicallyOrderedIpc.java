@@ -11,21 +11,29 @@ public class MonotonicallyOrderedIpc {
 	private AtomicInteger lastReceived = new AtomicInteger(0);
 
 	public void sendRequest(GeneratedMessage request, ResponseCallback responseCallback) {
-		IpcHelper.getIpc().sendRequest(request, (s, rc, ud) -> {
-			int id = (int) ud;
-			if (id > lastReceived.getAndUpdate(prev -> id > prev ? id : prev)) {
-				responseCallback.notify(s, rc, null);
-			}
-		}, idCounter.incrementAndGet());
+		sendRequest(request, responseCallback, null);
 	}
 
 	public void sendRequest(GeneratedMessage request, ResponseCallback responseCallback, Object userData) {
-		IpcHelper.getIpc().sendRequest(request, (s, rc, ud) -> {
-			Object[] data = (Object[]) ud;
-			int id = (int) data[0];
+		IpcHelper.getIpc().sendRequest(request, dropOutdated(responseCallback), userData);
+	}
+
+	/**
+	 * Fügt {@code request} zu {@code batch} hinzu, statt ihn sofort zu verschicken.
+	 */
+	public void addRequest(IpcBatch batch, GeneratedMessage request, ResponseCallback responseCallback) {
+		batch.add(request, dropOutdated(responseCallback));
+	}
+
+	/**
+	 * Leitet nur Antworten weiter, die nach der zuletzt weitergeleiteten Antwort angefragt wurden.
+	 */
+	private ResponseCallback dropOutdated(ResponseCallback responseCallback) {
+		int id = idCounter.incrementAndGet();
+		return (s, rc, ud) -> {
 			if (id > lastReceived.getAndUpdate(prev -> id > prev ? id : prev)) {
-				responseCallback.notify(s, rc, data[1]);
+				responseCallback.notify(s, rc, ud);
 			}
-		}, new Object[] {idCounter.incrementAndGet(), userData});
+		};
 	}
 }
@@ -8,6 +8,7 @@ import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
@@ -27,9 +28,31 @@ import net.jodah.expiringmap.ExpirationPolicy;
 import net.jodah.expiringmap.ExpiringMap;
 import net.jodah.expiringmap.internal.NamedThreadFactory;
 
+/**
+ * Schickt Requests über einen DEALER Socket an Gothic 3 und leitet die Antworten an die
+ * {@link ResponseCallback}s weiter.
+ * <p>
+ * Der Worker Thread wartet mit einem {@link ZMQ.Poller} sowohl auf Antworten als auch auf ein
+ * Signal über einen inproc PAIR Socket, das {@link #sendRequest(GeneratedMessage, ResponseCallback)}
+ * auslöst. Requests werden dadurch sofort verschickt, ohne dass der Worker im Leerlauf regelmäßig
+ * aufwachen muss.
+ * <p>
+ * Es warten höchstens {@value #MAX_IN_FLIGHT} verschickte Requests gleichzeitig auf eine Antwort,
+ * alle weiteren bleiben eingereiht, bis Antworten eintreffen. Der Timeout eines Requests beginnt
+ * erst mit dem Versenden, sodass auch tausende auf einmal eingereihte Requests (siehe
+ * {@link de.george.g3dit.rpc.IpcBatch}) nicht ablaufen, solange Gothic 3 antwortet.
+ */
 public class GothicIpc {
 	private static final Logger logger = LoggerFactory.getLogger(GothicIpc.class);
 
+	private static final String WAKEUP_ADDRESS = "inproc://gothic-ipc-wakeup";
+	private static final byte[] WAKEUP_SIGNAL = new byte[0];
+	// Nur eine Absicherung, falls das Signal beim Beenden des Workers nicht ankommt
+	private static final long POLL_TIMEOUT = 1000;
+	// Bleibt deutlich unter der High Water Mark des DEALER Sockets (1000), an der das Versenden
+	// fehlschlagen würde
+	private static final int MAX_IN_FLIGHT = 256;
+
 	private static ExecutorService CALLBACK_SERVICE;
 
 	private ExecutorService executor;
@@ -38,6 +61,15 @@ public class GothicIpc {
 	private AtomicInteger requestNumber = new AtomicInteger(0);
 	private ConcurrentLinkedQueue<Request> pendingRequests = new ConcurrentLinkedQueue<>();
 
+	// ZMQ Sockets sind nicht threadsicher, Zugriffe auf wakeupSender sind über wakeupLock synchronisiert
+	private final Object wakeupLock = new Object();
+	private ZMQ.Socket wakeupSender;
+	// Ob bereits ein Signal unterwegs ist, das der Worker noch nicht verarbeitet hat
+	private final AtomicBoolean wakeupPending = new AtomicBoolean();
+	// Der Worker wird über das Signal statt per Interrupt beendet, da ein Interrupt die Kanäle von
+	// JeroMQ schließt
+	private volatile boolean stopRequested;
+
 	public GothicIpc(String address, int port) {
 		this.address = address;
 		this.port = port;
@@ -55,20 +87,47 @@ public class GothicIpc {
 		}
 
 		pendingRequests.clear();
+		wakeupPending.set(false);
+		stopRequested = false;
+
+		// inproc verlangt, dass der Socket gebunden ist, bevor sich die Gegenseite verbindet
+		ZMQ.Context context = ZMQ.context(1);
+		ZMQ.Socket wakeupReceiver = context.socket(ZMQ.PAIR);
+		wakeupReceiver.bind(WAKEUP_ADDRESS);
+		synchronized (wakeupLock) {
+			wakeupSender = context.socket(ZMQ.PAIR);
+			wakeupSender.connect(WAKEUP_ADDRESS);
+		}
 
 		executor = Executors.newSingleThreadExecutor();
-		executor.submit(new Worker(address, port));
+		executor.submit(new Worker(address, port, context, wakeupReceiver));
 	}
 
 	public void stop() {
-		executor.shutdownNow();
+		stopRequested = true;
+		wakeup();
+		executor.shutdown();
 	}
 
 	public void stopAndAwaitTermination(long timeout, TimeUnit timeUnit) throws InterruptedException {
-		executor.shutdownNow();
+		stop();
 		executor.awaitTermination(timeout, timeUnit);
 	}
 
+	private void signal() {
+		if (wakeupPending.compareAndSet(false, true)) {
+			wakeup();
+		}
+	}
+
+	private void wakeup() {
+		synchronized (wakeupLock) {
+			if (wakeupSender != null) {
+				wakeupSender.send(WAKEUP_SIGNAL, ZMQ.DONTWAIT);
+			}
+		}
+	}
+
 	public int sendRequest(GeneratedMessage request, ResponseCallback responseCallback) {
 		return sendRequest(request, responseCallback, null);
 	}
@@ -81,6 +140,7 @@ public class GothicIpc {
 				RequestContainer requestContainer = RequestContainer.newBuilder().setField(fieldDescriptor, request)
 						.setRequestNumber(requestNumber.incrementAndGet()).build();
 				pendingRequests.add(new Request(requestContainer, responseCallback, userData));
+				signal();
 				return requestContainer.getRequestNumber();
 			}
 		}
@@ -92,27 +152,43 @@ public class GothicIpc {
 		private String address;
 		private int port;
 		private ZMQ.Context context;
+		private ZMQ.Socket wakeupReceiver;
 		private ZMQ.Socket requester;
 
 		private Map<Integer, Request> sentRequests = ExpiringMap.builder().expirationPolicy(ExpirationPolicy.ACCESSED)
-				.expiration(1500, TimeUnit.MILLISECONDS).expirationListener((rn, rc) -> notifyCallback((Request) rc, Status.Timeout, null))
-				.build();
+				.expiration(1500, TimeUnit.MILLISECONDS).expirationListener((rn, rc) -> onExpired((Request) rc)).build();
 
-		public Worker(String address, int port) {
+		public Worker(String address, int port, ZMQ.Context context, ZMQ.Socket wakeupReceiver) {
 			this.address = address;
 			this.port = port;
+			this.context = context;
+			this.wakeupReceiver = wakeupReceiver;
 		}
 
 		@Override
 		public void run() {
 			try {
-				context = ZMQ.context(1);
 				requester = context.socket(ZMQ.DEALER);
 				requester.setSendTimeOut(0);
 				requester.setReceiveTimeOut(0);
 				requester.setExpireTimeDelta(1000);
 				requester.connect("tcp://" + address + ":" + port);
-				while (!Thread.currentThread().isInterrupted()) {
+
+				ZMQ.Poller poller = new ZMQ.Poller(2);
+				poller.register(requester, ZMQ.Poller.POLLIN);
+				int wakeupIndex = poller.register(wakeupReceiver, ZMQ.Poller.POLLIN);
+				while (!stopRequested) {
+					poller.poll(POLL_TIMEOUT);
+
+					if (poller.pollin(wakeupIndex)) {
+						while (wakeupReceiver.recv(ZMQ.DONTWAIT) != null) {
+							// Signale verwerfen
+						}
+					}
+					// Vor dem Versenden zurücksetzen, damit ein währenddessen eingereihter Request erneut
+					// signalisiert wird
+					wakeupPending.set(false);
+
 					// Nachrichten empfangen
 					List<ResponseContainer> responses = getResponses();
 					for (ResponseContainer response : responses) {
@@ -124,30 +200,31 @@ public class GothicIpc {
 						}
 					}
 
-					// Nachrichten versenden
-					while (pendingRequests.peek() != null) {
+					// Nachrichten versenden, solange das Fenster nicht ausgeschöpft ist
+					while (sentRequests.size() < MAX_IN_FLIGHT) {
 						Request request = pendingRequests.poll();
+						if (request == null) {
+							break;
+						}
 						if (requester.send(request.getContainer().toByteArray())) {
 							sentRequests.put(request.getContainer().getRequestNumber(), request);
 						} else {
 							notifyCallback(request, Status.Timeout, null);
 						}
 					}
-
-					try {
-						TimeUnit.MILLISECONDS.sleep(50);
-					} catch (InterruptedException e) {
-						// Sleep in Event Loop wurde unterbrochen
-					}
 				}
 			} finally {
 				if (requester != null) {
 					requester.close();
 				}
 
-				if (context != null) {
-					context.term();
+				wakeupReceiver.close();
+				synchronized (wakeupLock) {
+					wakeupSender.close();
+					wakeupSender = null;
 				}
+
+				context.term();
 			}
 		}
 
@@ -169,6 +246,14 @@ public class GothicIpc {
 			return responses != null ? responses : Collections.emptyList();
 		}
 
+		private void onExpired(Request request) {
+			notifyCallback(request, Status.Timeout, null);
+			// Im Fenster ist wieder Platz für eingereihte Requests
+			if (!pendingRequests.isEmpty()) {
+				signal();
+			}
+		}
+
 		private void notifyCallback(Request request, ResponseCallback.Status status, ResponseContainer response) {
 			if (request.getResponseCallback() != null) {
 				CALLBACK_SERVICE.submit(() -> request.getResponseCallback().notify(status, response, request.getUserData()));
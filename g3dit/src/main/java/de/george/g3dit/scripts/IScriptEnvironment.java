@@ -1,13 +1,20 @@
 package de.george.g3dit.scripts;
 
 import java.awt.Window;
+import java.io.File;
+import java.util.List;
 
 import de.george.g3dit.EditorContext;
 import de.george.g3dit.cache.CacheManager;
+import de.george.g3dit.scripts.ScriptRuntime.FileMerge;
+import de.george.g3dit.scripts.ScriptRuntime.FileTask;
 import de.george.g3dit.settings.Option;
 import de.george.g3dit.util.FileManager;
+import de.george.lrentnode.archive.ArchiveFile;
+import de.george.lrentnode.template.TemplateFile;
+import de.george.lrentnode.util.FileUtil;
 
-public interface IScriptEnvironment {
+public interface IScriptEnvironment extends IScriptLog {
 	public EditorContext getEditorContext();
 
 	public CacheManager getCacheManager();
@@ -16,9 +23,29 @@ public interface IScriptEnvironment {
 
 	public Window getParentWindow();
 
-	public void log(String message);
-
-	public void log(String message, Object... arguments);
-
 	public <T> T getOption(Option<T> option);
+
+	/**
+	 * Verarbeitet alle Weltdateien parallel, siehe {@link ScriptRuntime}.
+	 *
+	 * @return {@code false}, wenn die Verarbeitung abgebrochen wurde
+	 */
+	default <R> boolean processWorldFiles(FileTask<ArchiveFile, R> task, FileMerge<R> merge) {
+		return processWorldFiles(getFileManager().listWorldFiles(), task, merge);
+	}
+
+	default <R> boolean processWorldFiles(List<File> files, FileTask<ArchiveFile, R> task, FileMerge<R> merge) {
+		return new ScriptRuntime(this).processFiles("Weltdateien verarbeiten", files, File::isFile,
+				file -> FileUtil.openArchiveLazy(file, false), task, merge);
+	}
+
+	/**
+	 * Verarbeitet alle Templates parallel, siehe {@link ScriptRuntime}.
+	 *
+	 * @return {@code false}, wenn die Verarbeitung abgebrochen wurde
+	 */
+	default <R> boolean processTemplateFiles(FileTask<TemplateFile, R> task, FileMerge<R> merge) {
+		return new ScriptRuntime(this).processFiles("Templates verarbeiten", getFileManager().listTemplateFiles(), File::isFile,
+				FileUtil::openTemplate, task, merge);
+	}
 }
@@ -0,0 +1,7 @@
+package de.george.g3dit.scripts;
+
+public interface IScriptLog {
+	public void log(String message);
+
+	public void log(String message, Object... arguments);
+}
@@ -5,7 +5,7 @@ import java.util.stream.Collectors;
 import com.google.common.collect.SortedSetMultimap;
 import com.google.common.collect.TreeMultimap;
 
-import de.george.lrentnode.iterator.TemplateFileIterator;
+import de.george.lrentnode.iterator.ParallelTemplateFileIterator;
 import de.george.lrentnode.template.TemplateFile;
 
 public class ScriptDuplicatedTemplateGuid implements IScript {
@@ -22,14 +22,15 @@ public class ScriptDuplicatedTemplateGuid implements IScript {
 
 	@Override
 	public boolean execute(IScriptEnvironment env) {
-		TemplateFileIterator tpleFilesIterator = env.getFileManager().templateFilesIterator();
 		SortedSetMultimap<String, String> itemGuidMap = TreeMultimap.create();
 		SortedSetMultimap<String, String> refGuidMap = TreeMultimap.create();
 
-		while (tpleFilesIterator.hasNext()) {
-			TemplateFile tple = tpleFilesIterator.next();
-			itemGuidMap.put(tple.getItemHeader().getGuid(), tple.getFileName());
-			refGuidMap.put(tple.getReferenceHeader().getGuid(), tple.getFileName());
+		try (ParallelTemplateFileIterator tpleFilesIterator = env.getFileManager().parallelTemplateFilesIterator()) {
+			while (tpleFilesIterator.hasNext()) {
+				TemplateFile tple = tpleFilesIterator.next();
+				itemGuidMap.put(tple.getItemHeader().getGuid(), tple.getFileName());
+				refGuidMap.put(tple.getReferenceHeader().getGuid(), tple.getFileName());
+			}
 		}
 
 		itemGuidMap.asMap().entrySet().forEach(e -> {
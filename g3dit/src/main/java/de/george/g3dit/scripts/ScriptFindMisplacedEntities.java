@@ -91,10 +91,10 @@ public class ScriptFindMisplacedEntities implements IScript {
 		while (worldFilesIterator.hasNext()) {
 			ArchiveFile archiveFile = worldFilesIterator.next();
 			for (eCEntity entity : archiveFile.getEntities()) {
-				if (!entity.getName().equals("RootEntity") && entity.getWorldNodeBoundary().isValid()
-						&& entity.getWorldNodeBoundary().getExtent().length() < 100000
+				bCBox worldNodeBoundary = entity.worldNodeBoundary();
+				if (!entity.getName().equals("RootEntity") && worldNodeBoundary.isValid() && worldNodeBoundary.getExtent().length() < 100000
 						&& (!solidOnly || EntityUtil.getMesh(entity).isPresent() || EntityUtil.getTreeMesh(entity).isPresent())) {
-					aabbTree.insert(new EntityAABBTreePrimitive(entity.getWorldNodeBoundary(), entity.getWorldNodeBoundary().getCenter(),
+					aabbTree.insert(new EntityAABBTreePrimitive(worldNodeBoundary.clone(), worldNodeBoundary.getCenter(),
 							entity.getGuid(), entity.toString(), entity.getWorldPosition()));
 				}
 			}
@@ -1,7 +1,11 @@
 package de.george.g3dit.scripts;
 
+import java.io.File;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import de.george.g3dit.settings.EditorOptions;
 import de.george.g3dit.util.FileManager;
@@ -11,7 +15,6 @@ import de.george.lrentnode.archive.eCEntity;
 import de.george.lrentnode.classes.eCVegetation_PS;
 import de.george.lrentnode.classes.desc.CD;
 import de.george.lrentnode.enums.G3Enums.gESpecies;
-import de.george.lrentnode.iterator.ArchiveFileIterator;
 import de.george.lrentnode.properties.bTPropertyContainer;
 import de.george.lrentnode.util.NPCUtil;
 
@@ -29,63 +32,48 @@ public class ScriptGenerateStatistics implements IScript {
 
 	@Override
 	public boolean execute(IScriptEnvironment env) {
-		ArchiveFileIterator secWorldFilesIterator = new ArchiveFileIterator(IOUtils.listFiles(
+		List<File> secWorldFiles = IOUtils.listFiles(
 				env.getEditorContext().getOptionStore().get(EditorOptions.Path.SECONDARY_DATA_FOLDER) + FileManager.RP_PROJECTS_COMPILED,
-				IOUtils.archiveFileFilter));
+				IOUtils.archiveFileFilter);
 
 		Map<String, String> originalNPCs = new HashMap<>();
 		Map<String, String> originalMonsters = new HashMap<>();
 		Map<String, String> originalObjects = new HashMap<>();
-		int originalVegetationObjectCount = 0;
-
-		while (secWorldFilesIterator.hasNext()) {
-			ArchiveFile archiveFile = secWorldFilesIterator.next();
-
-			for (eCEntity entity : archiveFile.getEntities().filter(ScriptGenerateStatistics::isIncluded)) {
-				if (isNPC(entity)) {
-					originalNPCs.put(entity.getGuid(), entity.toString());
-				} else if (isMonster(entity)) {
-					originalMonsters.put(entity.getGuid(), entity.toString());
-				} else {
-					if (entity.hasClass(CD.eCVegetation_PS.class)) {
-						eCVegetation_PS vegetation = entity.getClass(CD.eCVegetation_PS.class);
-						originalVegetationObjectCount += vegetation.getGrid().getEntryCount();
-					}
-
-					originalObjects.put(entity.getGuid(), entity.toString());
-				}
-			}
-		}
+		AtomicInteger originalVegetationObjectCount = new AtomicInteger();
+
+		boolean completed = env.processWorldFiles(secWorldFiles, (archiveFile, file, log) -> count(archiveFile), (counted, file) -> {
+			originalNPCs.putAll(counted.npcs);
+			originalMonsters.putAll(counted.monsters);
+			originalObjects.putAll(counted.objects);
+			originalVegetationObjectCount.addAndGet(counted.vegetationObjectCount);
+		});
 
 		Map<String, String> newNPCs = new HashMap<>();
 		Map<String, String> newMonsters = new HashMap<>();
 		Map<String, String> newObjects = new HashMap<>();
-		int vegetationObjectCount = 0;
-
-		ArchiveFileIterator worldFilesIterator = env.getFileManager().worldFilesIterator();
-		while (worldFilesIterator.hasNext()) {
-			ArchiveFile archiveFile = worldFilesIterator.next();
-
-			for (eCEntity entity : archiveFile.getEntities().filter(ScriptGenerateStatistics::isIncluded)) {
-				if (isNPC(entity)) {
-					if (originalNPCs.remove(entity.getGuid()) == null) {
-						newNPCs.put(entity.getGuid(), entity.toString());
-					}
-				} else if (isMonster(entity)) {
-					if (originalMonsters.remove(entity.getGuid()) == null) {
-						newMonsters.put(entity.getGuid(), entity.toString());
-					}
-				} else {
-					if (entity.hasClass(CD.eCVegetation_PS.class)) {
-						eCVegetation_PS vegetation = entity.getClass(CD.eCVegetation_PS.class);
-						vegetationObjectCount += vegetation.getGrid().getEntryCount();
-					}
-
-					if (originalObjects.remove(entity.getGuid()) == null) {
-						newObjects.put(entity.getGuid(), entity.toString());
-					}
+		AtomicInteger vegetationObjectCount = new AtomicInteger();
+
+		completed = completed && env.processWorldFiles((archiveFile, file, log) -> count(archiveFile), (counted, file) -> {
+			counted.npcs.forEach((guid, entity) -> {
+				if (originalNPCs.remove(guid) == null) {
+					newNPCs.put(guid, entity);
 				}
-			}
+			});
+			counted.monsters.forEach((guid, entity) -> {
+				if (originalMonsters.remove(guid) == null) {
+					newMonsters.put(guid, entity);
+				}
+			});
+			counted.objects.forEach((guid, entity) -> {
+				if (originalObjects.remove(guid) == null) {
+					newObjects.put(guid, entity);
+				}
+			});
+			vegetationObjectCount.addAndGet(counted.vegetationObjectCount);
+		});
+
+		if (!completed) {
+			return false;
 		}
 
 		env.log(originalNPCs.size() + " NPCs gelöscht.");
@@ -94,11 +82,41 @@ public class ScriptGenerateStatistics implements IScript {
 		env.log(newNPCs.size() + " NPCs erstellt.");
 		env.log(newMonsters.size() + " Monster erstellt.");
 		env.log(newObjects.size() + " Objekte erstellt.");
-		env.log("%d (%+d) Vegetationsobjekte", vegetationObjectCount, vegetationObjectCount - originalVegetationObjectCount);
+		env.log("%d (%+d) Vegetationsobjekte", vegetationObjectCount.get(),
+				vegetationObjectCount.get() - originalVegetationObjectCount.get());
 
 		return true;
 	}
 
+	/**
+	 * Läuft parallel für jede Weltdatei, die Einträge behalten die Reihenfolge der Entities.
+	 */
+	private static Counted count(ArchiveFile archiveFile) {
+		Counted counted = new Counted();
+		for (eCEntity entity : archiveFile.getEntities().filter(ScriptGenerateStatistics::isIncluded)) {
+			if (isNPC(entity)) {
+				counted.npcs.put(entity.getGuid(), entity.toString());
+			} else if (isMonster(entity)) {
+				counted.monsters.put(entity.getGuid(), entity.toString());
+			} else {
+				if (entity.hasClass(CD.eCVegetation_PS.class)) {
+					eCVegetation_PS vegetation = entity.getClass(CD.eCVegetation_PS.class);
+					counted.vegetationObjectCount += vegetation.getGrid().getEntryCount();
+				}
+
+				counted.objects.put(entity.getGuid(), entity.toString());
+			}
+		}
+		return counted;
+	}
+
+	private static final class Counted {
+		private final Map<String, String> npcs = new LinkedHashMap<>();
+		private final Map<String, String> monsters = new LinkedHashMap<>();
+		private final Map<String, String> objects = new LinkedHashMap<>();
+		private int vegetationObjectCount;
+	}
+
 	private static boolean isIncluded(eCEntity entity) {
 		if (entity.getName().equalsIgnoreCase("Root") || entity.getName().equalsIgnoreCase("RootEntity")) {
 			return false;
@@ -68,7 +68,7 @@ public class ScriptListUnusedCollisionMesh implements IScript {
 
 				int shapeType = shape.property(CD.eCCollisionShape.ShapeType).getEnumValue();
 				if (shapeType == eECollisionShapeType.eECollisionShapeType_ConvexHull) {
-					bCVector scaling = entity.getWorldMatrix().getPureScaling();
+					bCVector scaling = entity.worldMatrix().getPureScaling();
 					String scalingFormatted = null;
 					if (Misc.compareFloat(scaling.getX(), scaling.getY(), 0.0001f)
 							&& Misc.compareFloat(scaling.getX(), scaling.getZ(), 0.0001f)) {
@@ -3,23 +3,21 @@ package de.george.g3dit.scripts;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import com.google.common.collect.Sets;
 
 import de.george.g3dit.util.FileManager;
-import de.george.lrentnode.archive.ArchiveFile;
 import de.george.lrentnode.archive.G3ClassContainer;
 import de.george.lrentnode.archive.eCEntity;
 import de.george.lrentnode.classes.eCResourceMeshLoD_PS;
 import de.george.lrentnode.classes.eCVisualAnimation_PS;
 import de.george.lrentnode.classes.desc.CD;
-import de.george.lrentnode.iterator.ArchiveFileIterator;
-import de.george.lrentnode.iterator.TemplateFileIterator;
-import de.george.lrentnode.template.TemplateFile;
 import de.george.lrentnode.util.EntityUtil;
 import de.george.lrentnode.util.FileUtil;
 
@@ -57,36 +55,23 @@ public class ScriptListUnusedMeshes implements IScript {
 			}
 		}
 
-		Consumer<String> meshConsumer = mesh -> {
-			if (mesh != null) {
-				meshes.remove(EntityUtil.cleanAnimatedMeshName(mesh.toLowerCase()));
-			}
-		};
-
-		Consumer<G3ClassContainer> containerConsumer = container -> {
-			meshConsumer.accept(EntityUtil.getMesh(container).orElse(null));
-
-			eCVisualAnimation_PS animation = EntityUtil.getAnimatedMeshClass(container);
-			if (animation != null) {
-				meshConsumer.accept(animation.fxaSlot.fxaFile);
-				meshConsumer.accept(animation.fxaSlot.fxaFile2);
-				meshConsumer.accept(animation.property(CD.eCVisualAnimation_PS.ResourceFilePath).getString());
-				meshConsumer.accept(animation.property(CD.eCVisualAnimation_PS.FacialAnimFilePath).getString());
-			}
-		};
-
-		ArchiveFileIterator worldFilesIterator = env.getFileManager().worldFilesIterator();
-		while (worldFilesIterator.hasNext()) {
-			ArchiveFile aFile = worldFilesIterator.next();
+		// Die verwendeten Meshes werden je Datei parallel ermittelt und anschließend aus meshes entfernt
+		boolean completed = env.processWorldFiles((aFile, file, log) -> {
+			Set<String> used = new HashSet<>();
 			for (eCEntity entity : aFile.getEntities()) {
-				containerConsumer.accept(entity);
+				collectMeshes(entity, used);
 			}
-		}
+			return used;
+		}, (used, file) -> meshes.keySet().removeAll(used));
 
-		TemplateFileIterator tpleFilesIterator = env.getFileManager().templateFilesIterator();
-		while (tpleFilesIterator.hasNext()) {
-			TemplateFile aFile = tpleFilesIterator.next();
-			containerConsumer.accept(aFile.getReferenceHeader());
+		completed = completed && env.processTemplateFiles((tple, file, log) -> {
+			Set<String> used = new HashSet<>();
+			collectMeshes(tple.getReferenceHeader(), used);
+			return used;
+		}, (used, file) -> meshes.keySet().removeAll(used));
+
+		if (!completed) {
+			return false;
 		}
 
 		env.log("----------\nÜbersicht\n----------");
@@ -110,4 +95,21 @@ public class ScriptListUnusedMeshes implements IScript {
 		return true;
 	}
 
+	private static void collectMeshes(G3ClassContainer container, Set<String> used) {
+		Consumer<String> meshConsumer = mesh -> {
+			if (mesh != null) {
+				used.add(EntityUtil.cleanAnimatedMeshName(mesh.toLowerCase()));
+			}
+		};
+
+		meshConsumer.accept(EntityUtil.getMesh(container).orElse(null));
+
+		eCVisualAnimation_PS animation = EntityUtil.getAnimatedMeshClass(container);
+		if (animation != null) {
+			meshConsumer.accept(animation.fxaSlot.fxaFile);
+			meshConsumer.accept(animation.fxaSlot.fxaFile2);
+			meshConsumer.accept(animation.property(CD.eCVisualAnimation_PS.ResourceFilePath).getString());
+			meshConsumer.accept(animation.property(CD.eCVisualAnimation_PS.FacialAnimFilePath).getString());
+		}
+	}
 }
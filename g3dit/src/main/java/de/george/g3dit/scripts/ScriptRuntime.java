@@ -0,0 +1,195 @@
+package de.george.g3dit.scripts;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+
+import javax.swing.SwingUtilities;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.george.g3dit.gui.dialogs.ProgressDialog;
+import de.george.g3utils.util.FunctionWithException;
+import de.george.lrentnode.iterator.FilePipeline;
+
+/**
+ * Verarbeitet Dateien für ein {@link IScript} parallel nach dem Map-Reduce Prinzip.
+ * <ul>
+ * <li>{@link FileTask}: Wird für jede Datei auf einem der Worker-Threads ausgeführt und darf nur auf
+ * die übergebene Datei und eigene, unveränderliche Daten zugreifen.</li>
+ * <li>{@link FileMerge}: Führt die Ergebnisse in der Reihenfolge der Dateien nacheinander auf
+ * einem einzelnen Thread zusammen, hier kann das Script seinen Zustand ohne Synchronisation
+ * verändern.</li>
+ * </ul>
+ * Ausgaben eines {@link FileTask} über dessen {@link IScriptLog} werden gepuffert und vor dem
+ * Zusammenführen seines Ergebnisses ausgegeben, die Ausgabe entspricht also der einer sequentiellen
+ * Verarbeitung.
+ * <p>
+ * Wird vom Event Dispatch Thread aus aufgerufen (der Normalfall für Scripts), zeigt ein modaler
+ * {@link ProgressDialog} den Fortschritt an, über den die Verarbeitung abgebrochen werden kann.
+ */
+public class ScriptRuntime {
+	private static final Logger logger = LoggerFactory.getLogger(ScriptRuntime.class);
+
+	private static final int PARALLELISM = Runtime.getRuntime().availableProcessors();
+
+	@FunctionalInterface
+	public static interface FileTask<T, R> {
+		public R process(T content, File file, IScriptLog log) throws Exception;
+	}
+
+	@FunctionalInterface
+	public static interface FileMerge<R> {
+		public void merge(R result, File file);
+	}
+
+	private final IScriptEnvironment env;
+	private volatile FilePipeline<?> pipeline;
+	private volatile boolean cancelled;
+
+	public ScriptRuntime(IScriptEnvironment env) {
+		this.env = env;
+	}
+
+	/**
+	 * Bricht die laufende Verarbeitung ab, bereits begonnene {@link FileTask}s werden noch beendet,
+	 * aber nicht mehr zusammengeführt.
+	 */
+	public void cancel() {
+		cancelled = true;
+		FilePipeline<?> current = pipeline;
+		if (current != null) {
+			current.cancel();
+		}
+	}
+
+	public boolean isCancelled() {
+		return cancelled;
+	}
+
+	/**
+	 * @param filter Dateien, die nicht akzeptiert werden, werden übersprungen
+	 * @param opener Öffnet eine Datei, läuft wie {@code task} auf einem Worker-Thread
+	 * @param merge Erhält alle Ergebnisse ungleich {@code null}
+	 * @return {@code false}, wenn die Verarbeitung abgebrochen wurde
+	 */
+	public <T, R> boolean processFiles(String title, List<File> files, Predicate<File> filter, FunctionWithException<File, T> opener,
+			FileTask<T, R> task, FileMerge<R> merge) {
+		if (!SwingUtilities.isEventDispatchThread()) {
+			return run(files, filter, opener, task, merge, done -> {});
+		}
+
+		ProgressDialog dialog = new ProgressDialog(env.getParentWindow(), title, "Verarbeite " + files.size() + " Dateien...", true);
+		dialog.getProgressBar().setMaximum(files.size());
+		dialog.setCancelListener(this::cancel);
+		Future<Boolean> future = env.getEditorContext().getExecutorService().submit(() -> {
+			try {
+				return run(files, filter, opener, task, merge, done -> SwingUtilities.invokeLater(() -> {
+					dialog.getProgressBar().setValue(done);
+					dialog.setStatusMessage(done + " / " + files.size() + " Dateien verarbeitet");
+				}));
+			} finally {
+				SwingUtilities.invokeLater(dialog::dispose);
+			}
+		});
+		// Blockiert bis der Dialog geschlossen wird, verarbeitet aber weiterhin Events (z.B. Ausgaben)
+		dialog.setVisible(true);
+
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			cancel();
+			return false;
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	private <T, R> boolean run(List<File> files, Predicate<File> filter, FunctionWithException<File, T> opener, FileTask<T, R> task,
+			FileMerge<R> merge, IntConsumer progress) {
+		// Jede Datei liefert ein Ergebnis, damit sie in der Reihenfolge ausgegeben und gezählt werden kann
+		FilePipeline<Processed<R>> current = new FilePipeline<>(files, file -> true, file -> process(file, filter, opener, task), true,
+				PARALLELISM, 2 * PARALLELISM, "ScriptRuntime");
+		pipeline = current;
+		if (cancelled) {
+			current.cancel();
+		}
+
+		try {
+			int done = 0;
+			while (current.advance((file, e) -> logger.warn("Fehler beim Verarbeiten von {}.", file.getAbsolutePath(), e))) {
+				Processed<R> processed = current.current();
+				processed.log.lines.forEach(env::log);
+				if (processed.error != null) {
+					env.log("Fehler beim Verarbeiten von %s: %s", current.currentFile().getName(), processed.error.getMessage());
+					logger.warn("Fehler beim Verarbeiten von {}.", current.currentFile().getAbsolutePath(), processed.error);
+				} else if (processed.result != null) {
+					merge.merge(processed.result, current.currentFile());
+				}
+				progress.accept(++done);
+			}
+			return !current.isCancelled() && !cancelled;
+		} finally {
+			current.close();
+			pipeline = null;
+		}
+	}
+
+	private static <T, R> Processed<R> process(File file, Predicate<File> filter, FunctionWithException<File, T> opener,
+			FileTask<T, R> task) {
+		BufferedLog log = new BufferedLog();
+		if (!filter.test(file)) {
+			return new Processed<>(log, null, null);
+		}
+
+		T content;
+		try {
+			content = opener.applyWithException(file);
+		} catch (Exception e) {
+			// Wie bei den Iteratoren werden Dateien, die nicht geöffnet werden können, übersprungen
+			logger.warn("Fehler beim Öffnen von {}: {}", file.getAbsolutePath(), e.getMessage());
+			return new Processed<>(log, null, null);
+		}
+
+		try {
+			return new Processed<>(log, content != null ? task.process(content, file, log) : null, null);
+		} catch (Exception e) {
+			return new Processed<>(log, null, e);
+		}
+	}
+
+	private static final class Processed<R> {
+		private final BufferedLog log;
+		private final R result;
+		private final Exception error;
+
+		public Processed(BufferedLog log, R result, Exception error) {
+			this.log = log;
+			this.result = result;
+			this.error = error;
+		}
+	}
+
+	private static final class BufferedLog implements IScriptLog {
+		private final List<String> lines = new ArrayList<>();
+
+		@Override
+		public void log(String message) {
+			lines.add(message);
+		}
+
+		@Override
+		public void log(String message, Object... arguments) {
+			lines.add(String.format(message, arguments));
+		}
+	}
+}
@@ -18,8 +18,6 @@ import javax.swing.event.TreeModelListener;
 
 import com.ezware.dialog.task.TaskDialogs;
 
-import de.danielbechler.diff.node.DiffNode;
-import de.danielbechler.diff.node.ToMapPrintingVisitor;
 import de.george.g3dit.EntityMap;
 import de.george.g3dit.check.FileDescriptor;
 import de.george.g3dit.entitytree.EntityTree;
@@ -43,6 +41,7 @@ import de.george.g3utils.gui.SwingUtils;
 import de.george.lrentnode.archive.ArchiveFile;
 import de.george.lrentnode.archive.eCEntity;
 import de.george.lrentnode.classes.G3Class;
+import de.george.lrentnode.diff.EntityDiff;
 import de.george.lrentnode.diff.EntityDiffer;
 import de.george.lrentnode.util.ClassUtil;
 import de.george.lrentnode.util.FileUtil;
@@ -232,11 +231,9 @@ public class ArchiveContentPane extends JPanel {
 					return;
 				}
 
-				DiffNode diff = new EntityDiffer(true).diff(entity, originalEntity);
-				ToMapPrintingVisitor mapPrintingVisitor = new ToMapPrintingVisitor(entity, originalEntity);
-				diff.visit(mapPrintingVisitor);
+				EntityDiff diff = new EntityDiffer(true).diff(entity, originalEntity);
 				DisplayTextDialog dialog = new DisplayTextDialog("Vergleich: Entity - Original-Entity",
-						mapPrintingVisitor.getMessagesAsString(), ctx.getParentWindow(), true);
+						diff.getMessagesAsString(), ctx.getParentWindow(), true);
 				dialog.setVisible(true);
 			} catch (IOException e) {
 				TaskDialogs.showException(e);
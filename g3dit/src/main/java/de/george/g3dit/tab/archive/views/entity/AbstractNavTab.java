@@ -64,7 +64,7 @@ public abstract class AbstractNavTab extends AbstractEntityTab {
 	protected void loadSticks(eCEntity entity, List<bCVector> sticks) {
 		StreamEx<bCVector> stream = StreamEx.of(sticks);
 		if (rbAbsolut.isSelected()) {
-			stream = stream.map(p -> p.getTransformed(entity.getWorldMatrix()));
+			stream = stream.map(p -> p.getTransformed(entity.worldMatrix()));
 		}
 		taSticks.setText(Misc.formatVectorList(stream));
 	}
@@ -14,8 +14,6 @@ import javax.swing.KeyStroke;
 
 import com.ezware.dialog.task.TaskDialogs;
 
-import de.danielbechler.diff.node.DiffNode;
-import de.danielbechler.diff.node.ToMapPrintingVisitor;
 import de.george.g3dit.cache.Caches;
 import de.george.g3dit.cache.TemplateCache.TemplateCacheEntry;
 import de.george.g3dit.entitytree.filter.GuidEntityFilter.MatchMode;
@@ -44,6 +42,7 @@ import de.george.g3utils.validation.IsALongValidator;
 import de.george.lrentnode.archive.eCEntity;
 import de.george.lrentnode.archive.lrentdat.LrentdatEntity;
 import de.george.lrentnode.classes.desc.CD;
+import de.george.lrentnode.diff.EntityDiff;
 import de.george.lrentnode.diff.EntityDiffer;
 import de.george.lrentnode.template.TemplateEntity;
 import de.george.lrentnode.template.TemplateFile;
@@ -270,10 +269,8 @@ public class AllgemeinTab extends AbstractEntityTab {
 		if (entry.isPresent()) {
 			try {
 				TemplateFile tple = FileUtil.openTemplate(entry.get().getFile());
-				DiffNode diff = new EntityDiffer(true).diff(ctx.getCurrentEntity(), tple.getReferenceHeader());
-				ToMapPrintingVisitor mapPrintingVisitor = new ToMapPrintingVisitor(ctx.getCurrentEntity(), tple.getReferenceHeader());
-				diff.visit(mapPrintingVisitor);
-				DisplayTextDialog dialog = new DisplayTextDialog("Vergleich: Template - Entity", mapPrintingVisitor.getMessagesAsString(),
+				EntityDiff diff = new EntityDiffer(true).diff(ctx.getCurrentEntity(), tple.getReferenceHeader());
+				DisplayTextDialog dialog = new DisplayTextDialog("Vergleich: Template - Entity", diff.getMessagesAsString(),
 						ctx.getParentWindow(), false);
 				dialog.setVisible(true);
 			} catch (IOException e) {
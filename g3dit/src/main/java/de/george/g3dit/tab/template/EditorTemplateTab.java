@@ -260,7 +260,7 @@ public class EditorTemplateTab extends EditorAbstractFileTab {
 	}
 
 	private void displayTemplateContextStatus() {
-		Guid tpleGuid = new Guid(getCurrentTemplate().getItemHeader().getGuid());
+		Guid tpleGuid = getCurrentTemplate().getItemHeader().getGuidValue();
 		String tpleName = getCurrentTemplate().getFileName();
 		File primaryFileTpleContext = new File(getDataFile().get().getParentFile(),
 				getCurrentTemplate().getTemplateContext() + ".lrtpldatasc");
@@ -336,7 +336,7 @@ public class EditorTemplateTab extends EditorAbstractFileTab {
 		TemplateFile template = getCurrentTemplate();
 		File fileTpleContext = new File(getDataFile().get().getParentFile(), template.getTemplateContext() + ".lrtpldatasc");
 
-		Guid tpleGuid = new Guid(template.getItemHeader().getGuid());
+		Guid tpleGuid = template.getItemHeader().getGuidValue();
 		String tpleName = template.getFileName();
 
 		Lrtpldatasc tpleContext = null;
@@ -19,8 +19,6 @@ import com.jidesoft.plaf.UIDefaultsLookup;
 import com.jidesoft.swing.PartialGradientLineBorder;
 import com.jidesoft.swing.PartialSide;
 
-import de.danielbechler.diff.node.DiffNode;
-import de.danielbechler.diff.node.ToMapPrintingVisitor;
 import de.george.g3dit.gui.dialogs.DisplayTextDialog;
 import de.george.g3dit.gui.dialogs.SelectClassDialog;
 import de.george.g3dit.jme.EntityViewer;
@@ -31,6 +29,7 @@ import de.george.g3dit.util.AssetResolver;
 import de.george.g3dit.util.Icons;
 import de.george.lrentnode.archive.eCEntity;
 import de.george.lrentnode.classes.G3Class;
+import de.george.lrentnode.diff.EntityDiff;
 import de.george.lrentnode.diff.EntityDiffer;
 import de.george.lrentnode.template.TemplateFile;
 import de.george.lrentnode.util.ClassUtil;
@@ -148,11 +147,9 @@ public class TemplateContentPane extends JPanel {
 				}
 
 				TemplateFile tple = FileUtil.openTemplate(originalFile.get());
-				DiffNode diff = new EntityDiffer(true).diff(ctx.getCurrentTemplate().getGraph(), tple.getGraph());
-				ToMapPrintingVisitor mapPrintingVisitor = new ToMapPrintingVisitor(ctx.getCurrentTemplate().getGraph(), tple.getGraph());
-				diff.visit(mapPrintingVisitor);
+				EntityDiff diff = new EntityDiffer(true).diff(ctx.getCurrentTemplate().getGraph(), tple.getGraph());
 				DisplayTextDialog dialog = new DisplayTextDialog("Vergleich: Template - Original-Template",
-						mapPrintingVisitor.getMessagesAsString(), ctx.getParentWindow(), true);
+						diff.getMessagesAsString(), ctx.getParentWindow(), true);
 				dialog.setVisible(true);
 			} catch (IOException e) {
 				TaskDialogs.showException(e);
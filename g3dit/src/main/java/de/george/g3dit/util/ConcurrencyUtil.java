@@ -134,6 +134,10 @@ public final class ConcurrencyUtil {
 
 	public static final <T> Awaitable processInPartitions(Consumer<T> processor, List<T> items, int partitionFactor) {
 		int itemCount = items.size();
+		if (itemCount == 0) {
+			return new CountDownLatchAwaitable(new CountDownLatch(0));
+		}
+
 		int partSize = IntMath.divide(itemCount, NUMBER_OF_PROCESSORS * partitionFactor, RoundingMode.CEILING);
 		int partCount = IntMath.divide(itemCount, partSize, RoundingMode.CEILING);
 		CountDownLatch latch = new CountDownLatch(partCount);
@@ -185,6 +189,10 @@ public final class ConcurrencyUtil {
 
 	public static final <T> Awaitable processInListPartitions(Consumer<List<T>> processor, List<T> items, int partitionFactor) {
 		int itemCount = items.size();
+		if (itemCount == 0) {
+			return new CountDownLatchAwaitable(new CountDownLatch(0));
+		}
+
 		int partSize = IntMath.divide(itemCount, NUMBER_OF_PROCESSORS * partitionFactor, RoundingMode.CEILING);
 
 		List<List<T>> partitions = Lists.partition(items, partSize);
@@ -36,6 +36,8 @@ import de.george.g3utils.io.FileLocator;
 import de.george.g3utils.io.RecursiveFileLocator;
 import de.george.g3utils.util.IOUtils;
 import de.george.lrentnode.iterator.ArchiveFileIterator;
+import de.george.lrentnode.iterator.ParallelArchiveFileIterator;
+import de.george.lrentnode.iterator.ParallelTemplateFileIterator;
 import de.george.lrentnode.iterator.TemplateFileIterator;
 import de.george.lrentnode.template.TemplateFile;
 import de.george.lrentnode.util.FileUtil;
@@ -117,6 +119,15 @@ public class FileManager {
 		return new ArchiveFileIterator(listWorldFiles());
 	}
 
+	/**
+	 * Wie {@link #worldFilesIterator()}, öffnet die nachfolgenden Dateien aber bereits parallel. Der
+	 * Iterator hält einen eigenen Thread-Pool und muss geschlossen werden (try-with-resources), falls
+	 * er nicht vollständig durchlaufen wird.
+	 */
+	public ParallelArchiveFileIterator parallelWorldFilesIterator() {
+		return new ParallelArchiveFileIterator(listWorldFiles());
+	}
+
 	public Callable<List<File>> worldFilesCallable() {
 		return this::listWorldFiles;
 	}
@@ -130,6 +141,13 @@ public class FileManager {
 		return new TemplateFileIterator(listTemplateFiles());
 	}
 
+	/**
+	 * @see #parallelWorldFilesIterator()
+	 */
+	public ParallelTemplateFileIterator parallelTemplateFilesIterator() {
+		return new ParallelTemplateFileIterator(listTemplateFiles());
+	}
+
 	public Callable<List<File>> templateFilesCallable() {
 		return this::listTemplateFiles;
 	}
@@ -97,7 +97,7 @@ public class LightCalc {
 	 */
 	public static Map<Float, LightSource> getNearestLightSources(bCVector position, float radius, LightCache lightCache) {
 		Map<Float, LightSource> nearestLights = new HashMap<>();
-		for (LightSource light : lightCache.getEntries()) {
+		for (LightSource light : lightCache.getLightSourcesInRange(position, radius)) {
 			float dist = position.getRelative(light.position).length();
 			float lightModifier = 1 - Math.max(0, dist - radius) / light.range;
 			if (lightModifier < 0) {
@@ -109,7 +109,7 @@ public class LowPolyGenerator {
 			// Set local node boundary to bounding box of low poly mesh
 			lowpolyEntity.updateLocalNodeBoundary(lowpolyMesh.boundingBox);
 			// Copy world matrix from entity
-			lowpolyEntity.setToWorldMatrix(entity.getWorldMatrix());
+			lowpolyEntity.setToWorldMatrix(entity.worldMatrix());
 			return lowpolyEntity;
 		}
 
@@ -134,9 +134,9 @@ public class LowPolyGenerator {
 			return false;
 		}
 
-		float scale = entity.getWorldMatrix().getPureScaling().getX();
+		float scale = entity.worldMatrix().getPureScaling().getX();
 		lowPolyMcpVeg.getGrid().insertEntry(new PlantRegionEntry(mesh.get().getMeshID(), entity.getWorldPosition(),
-				new bCQuaternion(entity.getWorldMatrix()), scale, scale, 0xFFA0A0A0));
+				new bCQuaternion(entity.worldMatrix()), scale, scale, 0xFFA0A0A0));
 		return true;
 	}
 
@@ -55,6 +55,7 @@ public class NavMapManager extends EventBusProvider {
 		}
 		try (G3FileReaderEx reader = new G3FileReaderEx(navMapFile)) {
 			navMap = new NavMap(reader);
+			navMap.addChangeListener(() -> eventBus().post(new NavMapChangedEvent()));
 		} catch (Exception e) {
 			navMap = null;
 			eventBus().post(new NavMapLoadedEvent(false));
@@ -139,4 +140,10 @@ public class NavMapManager extends EventBusProvider {
 			return successful;
 		}
 	}
+
+	/**
+	 * Wird nach jeder Änderung an der geladenen NavMap gesendet.
+	 */
+	public static class NavMapChangedEvent {
+	}
 }
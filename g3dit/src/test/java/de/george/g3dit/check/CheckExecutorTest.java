@@ -0,0 +1,239 @@
+package de.george.g3dit.check;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import de.george.g3dit.check.problem.ProblemConsumer;
+import de.george.lrentnode.archive.ArchiveFile;
+import de.george.lrentnode.template.TemplateFile;
+import de.george.lrentnode.util.FileUtil;
+
+public class CheckExecutorTest {
+	private static final int FILE_COUNT = 12;
+
+	private File folder;
+	private List<File> files;
+
+	private static class RecordingCheck implements Check {
+		private final int archivePasses;
+		private final boolean threadSafe;
+		protected final List<String> processed = Collections.synchronizedList(new ArrayList<>());
+
+		public RecordingCheck(int archivePasses, boolean threadSafe) {
+			this.archivePasses = archivePasses;
+			this.threadSafe = threadSafe;
+		}
+
+		@Override
+		public String getTitle() {
+			return getClass().getSimpleName();
+		}
+
+		@Override
+		public String getDescription() {
+			return getTitle();
+		}
+
+		@Override
+		public PassStatus processTemplate(TemplateFile tple, File dataFile, int pass, ProblemConsumer problemConsumer) {
+			return PassStatus.Done;
+		}
+
+		@Override
+		public PassStatus processArchive(ArchiveFile archiveFile, File dataFile, int pass, ProblemConsumer problemConsumer) {
+			processed.add(pass + ":" + dataFile.getName());
+			return PassStatus.Next;
+		}
+
+		@Override
+		public void reportProblems(ProblemConsumer problemConsumer) {}
+
+		@Override
+		public int getTemplatePasses() {
+			return 0;
+		}
+
+		@Override
+		public int getArchivePasses() {
+			return archivePasses;
+		}
+
+		@Override
+		public void reset() {
+			processed.clear();
+		}
+
+		@Override
+		public boolean isThreadSafe() {
+			return threadSafe;
+		}
+	}
+
+	@Before
+	public void createFiles() throws IOException {
+		folder = Files.createTempDirectory("CheckExecutorTest").toFile();
+		files = new ArrayList<>();
+		for (int i = 0; i < FILE_COUNT; i++) {
+			File file = new File(folder, String.format("file%02d.lrentdat", i));
+			FileUtil.createEmptyLrentdat().save(file);
+			files.add(file);
+		}
+	}
+
+	@After
+	public void deleteFiles() {
+		files.forEach(File::delete);
+		folder.delete();
+	}
+
+	private List<String> expected(int pass) {
+		List<String> expected = new ArrayList<>();
+		for (File file : files) {
+			expected.add(pass + ":" + file.getName());
+		}
+		return expected;
+	}
+
+	@Test
+	public void testPassOrdering() throws InterruptedException {
+		// Gemeinsames Protokoll aller Checks, um Überschneidungen zwischen den Passes zu erkennen
+		List<String> log = Collections.synchronizedList(new ArrayList<>());
+		RecordingCheck sequential = new RecordingCheck(2, false) {
+			@Override
+			public PassStatus processArchive(ArchiveFile archiveFile, File dataFile, int pass, ProblemConsumer problemConsumer) {
+				log.add(pass + ":" + dataFile.getName());
+				return super.processArchive(archiveFile, dataFile, pass, problemConsumer);
+			}
+		};
+		RecordingCheck threadSafe = new RecordingCheck(2, true) {
+			@Override
+			public PassStatus processArchive(ArchiveFile archiveFile, File dataFile, int pass, ProblemConsumer problemConsumer) {
+				log.add(pass + ":" + dataFile.getName());
+				return super.processArchive(archiveFile, dataFile, pass, problemConsumer);
+			}
+		};
+		RecordingCheck onePass = new RecordingCheck(1, false);
+
+		try (CheckExecutor executor = new CheckExecutor(Arrays.asList(sequential, threadSafe, onePass), null, 4)) {
+			executor.executeArchivePass(files, 0);
+			executor.executeArchivePass(files, 1);
+		}
+
+		// Nicht thread-sichere Checks erhalten die Dateien in Dateireihenfolge
+		List<String> expected = expected(0);
+		expected.addAll(expected(1));
+		Assert.assertEquals(expected, sequential.processed);
+		Assert.assertEquals(expected(0), onePass.processed);
+
+		List<String> sorted = new ArrayList<>(threadSafe.processed);
+		sorted.sort(null);
+		Assert.assertEquals(expected, sorted);
+
+		// Pass 1 beginnt erst, nachdem alle Checks Pass 0 abgeschlossen haben
+		Assert.assertEquals(4 * FILE_COUNT, log.size());
+		for (int i = 0; i < log.size(); i++) {
+			Assert.assertEquals(log.get(i), i < 2 * FILE_COUNT ? "0" : "1", log.get(i).substring(0, 1));
+		}
+	}
+
+	@Test
+	public void testDoneStopsCheck() throws InterruptedException {
+		RecordingCheck check = new RecordingCheck(1, false) {
+			@Override
+			public PassStatus processArchive(ArchiveFile archiveFile, File dataFile, int pass, ProblemConsumer problemConsumer) {
+				super.processArchive(archiveFile, dataFile, pass, problemConsumer);
+				return processed.size() == 3 ? PassStatus.Done : PassStatus.Next;
+			}
+		};
+
+		try (CheckExecutor executor = new CheckExecutor(Arrays.asList(check), null, 4)) {
+			executor.executeArchivePass(files, 0);
+		}
+		Assert.assertEquals(expected(0).subList(0, 3), check.processed);
+	}
+
+	@Test
+	public void testExceptionPropagation() throws InterruptedException {
+		IllegalStateException failure = new IllegalStateException("Defekt");
+		RecordingCheck failing = new RecordingCheck(2, false) {
+			@Override
+			public PassStatus processArchive(ArchiveFile archiveFile, File dataFile, int pass, ProblemConsumer problemConsumer) {
+				if (dataFile.equals(files.get(5))) {
+					throw failure;
+				}
+				return super.processArchive(archiveFile, dataFile, pass, problemConsumer);
+			}
+		};
+		RecordingCheck other = new RecordingCheck(1, true);
+
+		try (CheckExecutor executor = new CheckExecutor(Arrays.asList(failing, other), null, 4)) {
+			try {
+				executor.executeArchivePass(files, 0);
+				Assert.fail("Exception erwartet");
+			} catch (IllegalStateException e) {
+				Assert.assertSame(failure, e);
+			}
+		}
+		Assert.assertEquals(expected(0).subList(0, 5), failing.processed);
+	}
+
+	@Test(timeout = 10000)
+	public void testCancellation() throws InterruptedException {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger runningAfterReturn = new AtomicInteger(-1);
+		RecordingCheck blocking = new RecordingCheck(1, true) {
+			@Override
+			public PassStatus processArchive(ArchiveFile archiveFile, File dataFile, int pass, ProblemConsumer problemConsumer) {
+				running.incrementAndGet();
+				try {
+					started.countDown();
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					running.decrementAndGet();
+				}
+				return super.processArchive(archiveFile, dataFile, pass, problemConsumer);
+			}
+		};
+
+		AtomicReference<Throwable> result = new AtomicReference<>();
+		Thread thread = new Thread(() -> {
+			try (CheckExecutor executor = new CheckExecutor(Arrays.asList(blocking), null, 2)) {
+				executor.executeArchivePass(files, 0);
+			} catch (Throwable t) {
+				result.set(t);
+			}
+			runningAfterReturn.set(running.get());
+		});
+		thread.start();
+
+		started.await();
+		thread.interrupt();
+		// Der Executor wartet auf die bereits übergebenen Dateien, bevor er zurückkehrt
+		thread.join(200);
+		Assert.assertTrue(thread.isAlive());
+		release.countDown();
+		thread.join(5000);
+
+		Assert.assertFalse(thread.isAlive());
+		Assert.assertTrue(String.valueOf(result.get()), result.get() instanceof InterruptedException);
+		Assert.assertEquals(0, runningAfterReturn.get());
+		Assert.assertTrue(blocking.processed.size() < FILE_COUNT);
+	}
+}
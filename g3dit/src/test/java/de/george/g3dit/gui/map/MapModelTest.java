@@ -0,0 +1,178 @@
+package de.george.g3dit.gui.map;
+
+import java.awt.Rectangle;
+import java.awt.geom.Point2D;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import ca.odell.glazedlists.BasicEventList;
+import ca.odell.glazedlists.EventList;
+import ca.odell.glazedlists.SortedList;
+import de.george.g3utils.structure.bCVector;
+import de.george.g3utils.structure.bCVector2;
+
+public class MapModelTest {
+	private static final class Item implements MapItem {
+		private final String title;
+		private bCVector position;
+
+		public Item(String title, bCVector position) {
+			this.title = title;
+			this.position = position;
+		}
+
+		@Override
+		public String getTitle() {
+			return title;
+		}
+
+		@Override
+		public bCVector getPosition() {
+			return position;
+		}
+	}
+
+	private final Random random = new Random(42);
+	private int nextId = 0;
+
+	private Item randomItem() {
+		// Auch Items außerhalb der Karte
+		return new Item("Item" + nextId++, randomPosition());
+	}
+
+	private bCVector randomPosition() {
+		return new bCVector(random.nextFloat() * 2200 - 1100, 0, random.nextFloat() * 2200 - 1100);
+	}
+
+	// Die Implementierungen vor der Einführung des SpatialGrid
+
+	private static <T extends MapItem> T bruteForceNearest(MapModel<T> model, List<T> items, int x, int y, float maxDist) {
+		bCVector2 eventCoord = new bCVector2(x, y);
+		T nearest = null;
+		float distNearest = Float.MAX_VALUE;
+		for (T item : items) {
+			bCVector2 p = model.positionToPixels(item.getPosition());
+			float dist = p.getInvTranslated(eventCoord).length();
+			if (dist < distNearest) {
+				distNearest = dist;
+				nearest = item;
+			}
+		}
+
+		return distNearest < maxDist ? nearest : null;
+	}
+
+	private static <T extends MapItem> List<T> bruteForceInRectangle(MapModel<T> model, List<T> items, Rectangle rectangle) {
+		List<T> in = new ArrayList<>();
+		for (T item : items) {
+			bCVector2 p = model.positionToPixels(item.getPosition());
+			if (rectangle.contains(new Point2D.Float(p.getX(), p.getY()))) {
+				in.add(item);
+			}
+		}
+		return in;
+	}
+
+	private void checkQueries(MapModel<Item> model, EventList<Item> items) {
+		for (int i = 0; i < 200; i++) {
+			int x = random.nextInt(540) - 20;
+			int y = random.nextInt(540) - 20;
+			float maxDist = random.nextFloat() * 40;
+			Item expected = bruteForceNearest(model, items, x, y, maxDist);
+			Assert.assertSame(expected, model.getNearest(x, y, maxDist));
+		}
+
+		Comparator<Item> byTitle = Comparator.comparing(Item::getTitle);
+		for (int i = 0; i < 50; i++) {
+			Rectangle rectangle = new Rectangle(random.nextInt(520) - 10, random.nextInt(520) - 10, random.nextInt(200), random.nextInt(200));
+			List<Item> expected = bruteForceInRectangle(model, items, rectangle);
+			List<Item> actual = model.getInRectangle(rectangle);
+			expected.sort(byTitle);
+			actual.sort(byTitle);
+			Assert.assertEquals(expected, actual);
+		}
+	}
+
+	@Test
+	public void testIndexFollowsListEvents() {
+		BasicEventList<Item> source = new BasicEventList<>();
+		for (int i = 0; i < 500; i++) {
+			source.add(randomItem());
+		}
+		SortedList<Item> items = new SortedList<>(source, null);
+		MapModel<Item> model = new MapModel<>(items, new bCVector2(-1000, -1000), new bCVector2(1000, 1000), 500, 500);
+		checkQueries(model, items);
+
+		// Einfügen
+		for (int i = 0; i < 200; i++) {
+			source.add(random.nextInt(source.size() + 1), randomItem());
+		}
+		checkQueries(model, items);
+
+		// Löschen
+		for (int i = 0; i < 200; i++) {
+			source.remove(random.nextInt(source.size()));
+		}
+		checkQueries(model, items);
+
+		// Ersetzen durch andere Items und Verschieben bestehender Items
+		for (int i = 0; i < 100; i++) {
+			source.set(random.nextInt(source.size()), randomItem());
+		}
+		for (int i = 0; i < 100; i++) {
+			int index = random.nextInt(source.size());
+			Item item = source.get(index);
+			item.position = randomPosition();
+			source.set(index, item);
+		}
+		checkQueries(model, items);
+
+		// Sortieren löst ein Reordering aus
+		items.setComparator(Comparator.comparing(item -> item.getPosition().getX()));
+		checkQueries(model, items);
+		items.setComparator(Comparator.comparing(Item::getTitle).reversed());
+		checkQueries(model, items);
+
+		// Änderungen nach dem Sortieren
+		source.add(randomItem());
+		source.remove(0);
+		source.set(0, randomItem());
+		checkQueries(model, items);
+
+		source.clear();
+		Assert.assertNull(model.getNearest(250, 250, 1000));
+		Assert.assertTrue(model.getInRectangle(new Rectangle(0, 0, 500, 500)).isEmpty());
+	}
+
+	@Test
+	public void testStackedItemsInListOrder() {
+		BasicEventList<Item> source = new BasicEventList<>();
+		for (int i = 0; i < 4; i++) {
+			source.add(new Item("Stacked" + i, new bCVector(100, 0, 100)));
+		}
+		SortedList<Item> items = new SortedList<>(source, null);
+		MapModel<Item> model = new MapModel<>(items, new bCVector2(-1000, -1000), new bCVector2(1000, 1000), 500, 500);
+		bCVector2 pixels = model.positionToPixels(new bCVector(100, 0, 100));
+		int x = (int) pixels.getX() + 1;
+		int y = (int) pixels.getY();
+		Assert.assertSame(items.get(0), model.getNearest(x, y, 10));
+
+		// Im Raster am Ende eingefügt, in der Liste aber vorne
+		source.add(0, new Item("Stacked4", new bCVector(100, 0, 100)));
+		Assert.assertSame(items.get(0), model.getNearest(x, y, 10));
+
+		// Entfernen vertauscht die Reihenfolge im Raster
+		source.remove(1);
+		source.remove(0);
+		Assert.assertSame(items.get(0), model.getNearest(x, y, 10));
+
+		items.setComparator(Comparator.comparing(Item::getTitle).reversed());
+		Assert.assertSame(items.get(0), model.getNearest(x, y, 10));
+		checkQueries(model, items);
+	}
+}
@@ -0,0 +1,56 @@
+package de.george.g3dit.gui.map;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SpatialGridTest {
+	private static List<String> query(SpatialGrid<String> grid, float x1, float y1, float x2, float y2) {
+		List<String> result = new ArrayList<>();
+		grid.query(x1, y1, x2, y2, result::add);
+		result.sort(null);
+		return result;
+	}
+
+	@Test
+	public void testQuery() {
+		// Vertauschte Ecken wie bei der Weltkarte
+		SpatialGrid<String> grid = new SpatialGrid<>(-100, 100, 100, -100, 10, 10);
+		grid.insert("a", -95, -95);
+		grid.insert("b", 50, 50);
+		grid.insert("wide", -90, -10, 90, 10);
+		grid.insert("outside", 500, 500);
+
+		Assert.assertEquals(4, grid.size());
+		Assert.assertEquals(Arrays.asList("a"), query(grid, -100, -100, -90, -90));
+		Assert.assertEquals(Arrays.asList("b", "wide"), query(grid, 0, 0, 60, 60));
+		// Mehrere Zellen, dennoch nur einmal gemeldet
+		Assert.assertEquals(Arrays.asList("wide"), query(grid, -100, -20, 100, 20));
+		Assert.assertEquals(Arrays.asList("outside"), query(grid, 400, 400, 600, 600));
+		Assert.assertEquals(Collections.emptyList(), query(grid, 95, 95, 99, 99));
+	}
+
+	@Test
+	public void testRemoveAndReplace() {
+		SpatialGrid<String> grid = new SpatialGrid<>(0, 0, 100, 100, 4, 4);
+		String item = "item";
+		grid.insert(item, 10, 10, 60, 60);
+		grid.insert("other", 12, 12);
+		grid.insert(item, 90, 90);
+
+		Assert.assertEquals(Arrays.asList("other"), query(grid, 0, 0, 50, 50));
+		Assert.assertEquals(Arrays.asList(item), query(grid, 80, 80, 100, 100));
+
+		Assert.assertTrue(grid.remove(item));
+		Assert.assertFalse(grid.remove(item));
+		Assert.assertEquals(Collections.emptyList(), query(grid, 80, 80, 100, 100));
+		Assert.assertEquals(1, grid.size());
+
+		grid.clear();
+		Assert.assertEquals(Collections.emptyList(), query(grid, 0, 0, 100, 100));
+	}
+}
@@ -0,0 +1,310 @@
+package de.george.g3dit.rpc.zmq;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.zeromq.ZMQ;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+
+import de.george.g3dit.rpc.IpcBatch;
+import de.george.g3dit.rpc.proto.G3RemoteControlProtos.EntityRequest;
+import de.george.g3dit.rpc.proto.G3RemoteControlProtos.EntityResponse;
+import de.george.g3dit.rpc.proto.G3RemoteControlProtos.EulerAngles;
+import de.george.g3dit.rpc.proto.G3RemoteControlProtos.HearbeatRequest;
+import de.george.g3dit.rpc.proto.G3RemoteControlProtos.HearbeatResponse;
+import de.george.g3dit.rpc.proto.G3RemoteControlProtos.Position;
+import de.george.g3dit.rpc.proto.G3RemoteControlProtos.PropertyIdentifier;
+import de.george.g3dit.rpc.proto.G3RemoteControlProtos.PropertyRequest;
+import de.george.g3dit.rpc.proto.G3RemoteControlProtos.PropertyResponse;
+import de.george.g3dit.rpc.proto.G3RemoteControlProtos.PropertySerialized;
+import de.george.g3dit.rpc.proto.G3RemoteControlProtos.RequestContainer;
+import de.george.g3dit.rpc.proto.G3RemoteControlProtos.ResponseContainer;
+import de.george.g3dit.rpc.proto.G3RemoteControlProtos.Vector;
+import de.george.g3dit.rpc.zmq.ResponseCallback.Status;
+
+/**
+ * Testet {@link GothicIpc} gegen einen ROUTER Socket, der jede Anfrage sofort beantwortet.
+ * <p>
+ * {@link #testLatency()} und {@link #testThroughput()} protokollieren zusätzlich Latenz und
+ * Durchsatz, um verschiedene Stände des Workers vergleichen zu können. Geprüft wird dabei nur, dass
+ * alle Anfragen beantwortet werden, da die gemessenen Zeiten stark von der Auslastung abhängen.
+ */
+public class GothicIpcLoopbackTest {
+	private static final Logger logger = LoggerFactory.getLogger(GothicIpcLoopbackTest.class);
+
+	private static final class FakeServer implements AutoCloseable {
+		private final ZMQ.Context context = ZMQ.context(1);
+		private final ZMQ.Socket router;
+		private final int port;
+		private final Thread thread;
+		private volatile boolean running = true;
+		private final AtomicInteger received = new AtomicInteger();
+
+		public FakeServer() {
+			router = context.socket(ZMQ.ROUTER);
+			router.setReceiveTimeOut(100);
+			port = router.bindToRandomPort("tcp://127.0.0.1");
+			thread = new Thread(this::serve, "FakeGothicServer");
+			thread.start();
+		}
+
+		private void serve() {
+			while (running) {
+				byte[] identity = router.recv();
+				if (identity == null) {
+					continue;
+				}
+
+				try {
+					RequestContainer request = RequestContainer.parseFrom(router.recv());
+					received.incrementAndGet();
+					router.sendMore(identity);
+					router.send(respond(request).toByteArray());
+				} catch (InvalidProtocolBufferException e) {
+					throw new IllegalStateException(e);
+				}
+			}
+		}
+
+		private ResponseContainer respond(RequestContainer request) {
+			ResponseContainer.Builder response = ResponseContainer.newBuilder().setRequestNumber(request.getRequestNumber())
+					.setStatus(ResponseContainer.Status.SUCCESSFUL);
+			if (request.hasEntityRequest()) {
+				EntityRequest entityRequest = request.getEntityRequest();
+				response.setEntityResponse(EntityResponse.newBuilder().setGuid(entityRequest.getGuid()).setName("")
+						.setPosition(entityRequest.hasMoveto() ? entityRequest.getMoveto() : createPosition(0)));
+			} else if (request.hasPropertyRequest()) {
+				// Gelesene Properties liefern ihren Namen als Daten, geschriebene werden zurückgegeben
+				PropertyRequest propertyRequest = request.getPropertyRequest();
+				PropertyResponse.Builder propertyResponse = PropertyResponse.newBuilder();
+				for (PropertyIdentifier identifier : propertyRequest.getPropertiesGetList()) {
+					propertyResponse.addPropertiesGet(PropertySerialized.newBuilder().setIdentifier(identifier)
+							.setData(ByteString.copyFromUtf8(identifier.getProperty())));
+				}
+				propertyResponse.addAllPropertiesSet(propertyRequest.getPropertiesSetList());
+				response.setPropertyResponse(propertyResponse);
+			} else {
+				response.setHeartbeatResponse(HearbeatResponse.newBuilder().setStatus(HearbeatResponse.Status.INGAME));
+			}
+			return response.build();
+		}
+
+		public int getReceived() {
+			return received.get();
+		}
+
+		public int getPort() {
+			return port;
+		}
+
+		@Override
+		public void close() throws InterruptedException {
+			running = false;
+			thread.join();
+			router.close();
+			context.term();
+		}
+	}
+
+	private FakeServer server;
+	private GothicIpc ipc;
+
+	@Before
+	public void setUp() {
+		server = new FakeServer();
+		ipc = new GothicIpc("127.0.0.1", server.getPort());
+		ipc.start();
+	}
+
+	@After
+	public void tearDown() throws InterruptedException {
+		ipc.stopAndAwaitTermination(5, TimeUnit.SECONDS);
+		server.close();
+	}
+
+	private static Position createPosition(float x) {
+		Vector vector = Vector.newBuilder().setX(x).setY(0).setZ(0).build();
+		return Position.newBuilder().setTranslation(vector).setScale(vector)
+				.setRotation(EulerAngles.newBuilder().setYaw(0).setPitch(0).setRoll(0)).build();
+	}
+
+	private long sendAndAwait() throws Exception {
+		CompletableFuture<Status> result = new CompletableFuture<>();
+		long start = System.nanoTime();
+		ipc.sendRequest(HearbeatRequest.getDefaultInstance(), (status, container, userData) -> result.complete(status));
+		Assert.assertEquals(Status.Successful, result.get(5, TimeUnit.SECONDS));
+		return System.nanoTime() - start;
+	}
+
+	@Test
+	public void testLatency() throws Exception {
+		// Verbindungsaufbau
+		for (int i = 0; i < 20; i++) {
+			sendAndAwait();
+		}
+
+		long[] latencies = new long[500];
+		for (int i = 0; i < latencies.length; i++) {
+			latencies[i] = sendAndAwait();
+		}
+		Arrays.sort(latencies);
+
+		double p50 = latencies[latencies.length / 2] / 1e6;
+		double p90 = latencies[latencies.length * 9 / 10] / 1e6;
+		double p99 = latencies[latencies.length * 99 / 100] / 1e6;
+		logger.info(String.format("GothicIpc Latenz: p50 %.3f ms, p90 %.3f ms, p99 %.3f ms", p50, p90, p99));
+	}
+
+	@Test
+	public void testThroughput() throws Exception {
+		sendAndAwait();
+
+		int count = 10000;
+		// Unterhalb der High Water Mark des DEALER Sockets bleiben, sonst schlägt das Versenden fehl
+		Semaphore inFlight = new Semaphore(500);
+		CountDownLatch latch = new CountDownLatch(count);
+		AtomicInteger successful = new AtomicInteger();
+		long start = System.nanoTime();
+		for (int i = 0; i < count; i++) {
+			inFlight.acquire();
+			ipc.sendRequest(HearbeatRequest.getDefaultInstance(), (status, container, userData) -> {
+				if (status == Status.Successful) {
+					successful.incrementAndGet();
+				}
+				inFlight.release();
+				latch.countDown();
+			});
+		}
+		Assert.assertTrue(latch.await(30, TimeUnit.SECONDS));
+		double seconds = (System.nanoTime() - start) / 1e9;
+
+		logger.info(String.format("GothicIpc Durchsatz: %.0f Requests/s", count / seconds));
+		Assert.assertEquals(count, successful.get());
+	}
+
+	@Test
+	public void testBurst() throws Exception {
+		sendAndAwait();
+
+		// Ohne Begrenzung durch den Aufrufer, das Fenster des Workers verhindert das Überlaufen
+		int count = 10000;
+		CountDownLatch latch = new CountDownLatch(count);
+		AtomicInteger successful = new AtomicInteger();
+		for (int i = 0; i < count; i++) {
+			ipc.sendRequest(HearbeatRequest.getDefaultInstance(), (status, container, userData) -> {
+				if (status == Status.Successful) {
+					successful.incrementAndGet();
+				}
+				latch.countDown();
+			});
+		}
+		Assert.assertTrue(latch.await(30, TimeUnit.SECONDS));
+		Assert.assertEquals(count, successful.get());
+	}
+
+	@Test
+	public void testBatch() throws Exception {
+		sendAndAwait();
+		int receivedBefore = server.getReceived();
+
+		int entities = 1000;
+		int updates = 5;
+		IpcBatch batch = new IpcBatch(ipc);
+		CountDownLatch latch = new CountDownLatch(entities * updates + 3);
+		Map<String, Float> positions = new ConcurrentHashMap<>();
+		for (int u = 0; u < updates; u++) {
+			for (int e = 0; e < entities; e++) {
+				EntityRequest request = EntityRequest.newBuilder().setGuid("Entity" + e).setMoveto(createPosition(u)).build();
+				batch.add(request, (status, container, userData) -> {
+					if (status == Status.Successful) {
+						EntityResponse response = container.getEntityResponse();
+						positions.put(response.getGuid(), response.getPosition().getTranslation().getX());
+					}
+					latch.countDown();
+				});
+			}
+		}
+
+		List<List<String>> properties = new CopyOnWriteArrayList<>();
+		for (String property : Arrays.asList("Color", "Range", "Color")) {
+			PropertyRequest request = PropertyRequest.newBuilder().setEntityGuid("Light")
+					.addPropertiesGet(PropertyIdentifier.newBuilder().setPropertySet("eCPointLight_PS").setProperty(property)).build();
+			batch.add(request, (status, container, userData) -> {
+				List<String> received = new ArrayList<>();
+				for (PropertySerialized serialized : container.getPropertyResponse().getPropertiesGetList()) {
+					received.add(serialized.getData().toStringUtf8());
+				}
+				properties.add(received);
+				latch.countDown();
+			});
+		}
+
+		Assert.assertEquals(entities + 1, batch.size());
+		batch.send();
+		Assert.assertTrue(latch.await(30, TimeUnit.SECONDS));
+
+		Assert.assertEquals(entities + 1, server.getReceived() - receivedBefore);
+		Assert.assertEquals(entities, positions.size());
+		for (Float x : positions.values()) {
+			Assert.assertEquals(updates - 1, x, 0);
+		}
+		// Jeder Callback erhält nur die Properties, die er angefragt hat
+		Assert.assertEquals(3, properties.size());
+		for (List<String> received : properties) {
+			Assert.assertEquals(1, received.size());
+		}
+	}
+
+	@Test
+	public void testBatchKeepsReadWriteOrder() throws Exception {
+		sendAndAwait();
+		int receivedBefore = server.getReceived();
+
+		PropertyIdentifier color = PropertyIdentifier.newBuilder().setPropertySet("eCPointLight_PS").setProperty("Color").build();
+		PropertyIdentifier range = PropertyIdentifier.newBuilder().setPropertySet("eCPointLight_PS").setProperty("Range").build();
+		PropertySerialized newColor = PropertySerialized.newBuilder().setIdentifier(color).setData(ByteString.copyFromUtf8("Red"))
+				.build();
+
+		IpcBatch batch = new IpcBatch(ipc);
+		CountDownLatch latch = new CountDownLatch(9);
+		ResponseCallback countDown = (status, container, userData) -> latch.countDown();
+		// Lesen, Schreiben, Lesen: Der zweite Lesezugriff darf nicht vor das Schreiben gezogen werden
+		batch.add(PropertyRequest.newBuilder().setEntityGuid("Light").addPropertiesGet(color).build(), countDown);
+		batch.add(PropertyRequest.newBuilder().setEntityGuid("Light").addPropertiesSet(newColor).build(), countDown);
+		batch.add(PropertyRequest.newBuilder().setEntityGuid("Light").addPropertiesGet(color).build(), countDown);
+		batch.add(PropertyRequest.newBuilder().setEntityGuid("Light").addPropertiesGet(range).build(), countDown);
+		Assert.assertEquals(3, batch.size());
+
+		// Abfrage der Position und Verschieben derselben Entity werden nicht zusammengefasst
+		batch.add(EntityRequest.newBuilder().setGuid("Light").build(), countDown);
+		batch.add(EntityRequest.newBuilder().setGuid("Light").setMoveto(createPosition(1)).build(), countDown);
+		batch.add(EntityRequest.newBuilder().setGuid("Light").setMoveto(createPosition(2)).build(), countDown);
+		Assert.assertEquals(5, batch.size());
+
+		// Nicht zusammenfassbare Requests wirken als Barriere
+		batch.add(HearbeatRequest.getDefaultInstance(), countDown);
+		batch.add(EntityRequest.newBuilder().setGuid("Light").setMoveto(createPosition(3)).build(), countDown);
+		Assert.assertEquals(7, batch.size());
+
+		batch.send();
+		Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+		Assert.assertEquals(7, server.getReceived() - receivedBefore);
+	}
+}
@@ -0,0 +1,214 @@
+package de.george.g3dit.scripts;
+
+import java.awt.Window;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import de.george.g3dit.EditorContext;
+import de.george.g3dit.cache.CacheManager;
+import de.george.g3dit.settings.Option;
+import de.george.g3dit.util.FileManager;
+
+/**
+ * Läuft nicht auf dem Event Dispatch Thread, {@link ScriptRuntime} verarbeitet die Dateien daher
+ * ohne Dialog direkt im aufrufenden Thread.
+ */
+public class ScriptRuntimeTest {
+	private static final int FILE_COUNT = 20;
+
+	private File folder;
+	private List<File> files;
+
+	private static class TestEnvironment implements IScriptEnvironment {
+		private final List<String> lines = Collections.synchronizedList(new ArrayList<>());
+
+		@Override
+		public void log(String message) {
+			lines.add(message);
+		}
+
+		@Override
+		public void log(String message, Object... arguments) {
+			lines.add(String.format(message, arguments));
+		}
+
+		@Override
+		public EditorContext getEditorContext() {
+			return null;
+		}
+
+		@Override
+		public CacheManager getCacheManager() {
+			return null;
+		}
+
+		@Override
+		public FileManager getFileManager() {
+			return null;
+		}
+
+		@Override
+		public Window getParentWindow() {
+			return null;
+		}
+
+		@Override
+		public <T> T getOption(Option<T> option) {
+			return null;
+		}
+	}
+
+	@Before
+	public void setUp() throws IOException {
+		folder = Files.createTempDirectory("ScriptRuntimeTest").toFile();
+		files = new ArrayList<>();
+		for (int i = 0; i < FILE_COUNT; i++) {
+			File file = new File(folder, "File" + i);
+			Files.write(file.toPath(), Integer.toString(i).getBytes(StandardCharsets.UTF_8));
+			files.add(file);
+		}
+	}
+
+	@After
+	public void tearDown() {
+		for (File file : folder.listFiles()) {
+			file.delete();
+		}
+		folder.delete();
+	}
+
+	private static Integer open(File file) throws IOException {
+		return Integer.valueOf(new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void testMergeInOrder() {
+		TestEnvironment env = new TestEnvironment();
+		Random random = new Random(42);
+		List<Integer> delays = new ArrayList<>();
+		for (int i = 0; i < FILE_COUNT; i++) {
+			delays.add(random.nextInt(20));
+		}
+
+		List<Integer> merged = new ArrayList<>();
+		boolean completed = new ScriptRuntime(env).processFiles("Test", files, file -> true, ScriptRuntimeTest::open,
+				(value, file, log) -> {
+					// Unterschiedliche Laufzeiten, damit die Tasks in anderer Reihenfolge fertig werden
+					Thread.sleep(delays.get(value));
+					log.log("Task %d", value);
+					return value * 2;
+				}, (result, file) -> {
+					merged.add(result);
+					env.log("Merge " + file.getName());
+				});
+
+		Assert.assertTrue(completed);
+		List<Integer> expectedMerged = new ArrayList<>();
+		List<String> expectedLines = new ArrayList<>();
+		for (int i = 0; i < FILE_COUNT; i++) {
+			expectedMerged.add(i * 2);
+			// Die gepufferte Ausgabe eines Tasks erscheint direkt vor dem Zusammenführen seines Ergebnisses
+			expectedLines.add("Task " + i);
+			expectedLines.add("Merge File" + i);
+		}
+		Assert.assertEquals(expectedMerged, merged);
+		Assert.assertEquals(expectedLines, env.lines);
+	}
+
+	@Test
+	public void testErrorsAreReportedPerFile() {
+		TestEnvironment env = new TestEnvironment();
+		List<String> merged = new ArrayList<>();
+		boolean completed = new ScriptRuntime(env).processFiles("Test", files, file -> !file.getName().equals("File5"), file -> {
+			if (file.getName().equals("File7")) {
+				throw new IOException("Nicht lesbar");
+			}
+			return open(file);
+		}, (value, file, log) -> {
+			log.log("Task " + value);
+			if (value == 3) {
+				throw new IllegalStateException("Fehler in Task");
+			}
+			return value % 2 == 0 ? file.getName() : null;
+		}, (result, file) -> merged.add(result));
+
+		Assert.assertTrue(completed);
+		// Ungerade Werte liefern null und werden nicht zusammengeführt
+		List<String> expectedMerged = new ArrayList<>();
+		for (int i = 0; i < FILE_COUNT; i += 2) {
+			expectedMerged.add("File" + i);
+		}
+		Assert.assertEquals(expectedMerged, merged);
+
+		// Ausgaben vor dem Fehler bleiben erhalten, übersprungene Dateien erzeugen keine Ausgabe
+		int taskIndex = env.lines.indexOf("Task 3");
+		Assert.assertEquals("Fehler beim Verarbeiten von File3: Fehler in Task", env.lines.get(taskIndex + 1));
+		Assert.assertFalse(env.lines.contains("Task 5"));
+		Assert.assertFalse(env.lines.contains("Task 7"));
+		Assert.assertEquals(FILE_COUNT - 2 + 1, env.lines.size());
+	}
+
+	@Test
+	public void testCancelFromMerge() {
+		TestEnvironment env = new TestEnvironment();
+		ScriptRuntime runtime = new ScriptRuntime(env);
+		List<Integer> merged = new ArrayList<>();
+		boolean completed = runtime.processFiles("Test", files, file -> true, ScriptRuntimeTest::open, (value, file, log) -> value,
+				(result, file) -> {
+					merged.add(result);
+					if (merged.size() == 5) {
+						runtime.cancel();
+					}
+				});
+
+		Assert.assertFalse(completed);
+		Assert.assertTrue(runtime.isCancelled());
+		Assert.assertEquals(5, merged.size());
+	}
+
+	@Test(timeout = 10000)
+	public void testCancelFromOtherThread() throws Exception {
+		TestEnvironment env = new TestEnvironment();
+		ScriptRuntime runtime = new ScriptRuntime(env);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch blocked = new CountDownLatch(1);
+
+		Thread canceller = new Thread(() -> {
+			try {
+				started.await();
+				runtime.cancel();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		canceller.start();
+
+		List<Integer> merged = new ArrayList<>();
+		boolean completed = runtime.processFiles("Test", files, file -> true, ScriptRuntimeTest::open, (value, file, log) -> {
+			if (value == 2) {
+				started.countDown();
+				// Wird durch den Abbruch unterbrochen
+				blocked.await(5, TimeUnit.SECONDS);
+			}
+			return value;
+		}, (result, file) -> merged.add(result));
+		canceller.join();
+
+		Assert.assertFalse(completed);
+		Assert.assertFalse(merged.contains(2));
+		Assert.assertTrue(merged.size() < FILE_COUNT);
+	}
+}